@@ -1,12 +1,36 @@
 package com.sccon.geocore.config;
 
+import com.sccon.geocore.model.Person;
 import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.MvccPersonRepository;
+import com.sccon.geocore.repository.OffHeapPersonRepository;
 import com.sccon.geocore.repository.PersonRepository;
+import com.sccon.geocore.repository.ShardedPersonRepository;
+import com.sccon.geocore.repository.cdc.ChangeLog;
+import com.sccon.geocore.repository.id.IdAllocator;
+import com.sccon.geocore.repository.id.SequentialIdAllocator;
+import com.sccon.geocore.repository.id.SnowflakeIdAllocator;
+import com.sccon.geocore.repository.wal.CheckpointScheduler;
+import com.sccon.geocore.repository.wal.DurabilityMode;
+import com.sccon.geocore.repository.wal.WriteAheadLog;
+import com.sccon.geocore.service.BusinessDate;
+import com.sccon.geocore.service.CelebrationCalendar;
+import com.sccon.geocore.service.ChangeFeedService;
+import com.sccon.geocore.service.DailyResultCache;
+import com.sccon.geocore.service.PayrollAggregates;
 import com.sccon.geocore.service.PersonService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Classe de configuração que define os beans do Spring.
@@ -27,24 +51,203 @@ public class BeansConfig {
     }
 
     /**
-     * Cria um bean PersonRepository usando implementação em memória.
+     * Cria um bean WriteAheadLog quando o modo durável está habilitado.
      * 
+     * @param directory diretório dos segmentos do log e do snapshot
+     * @param durability modo de durabilidade (per-write, batched, async)
+     * @param asyncFlushIntervalMs intervalo entre fsyncs no modo async, em milissegundos
+     * @return instância de WriteAheadLog
+     * @throws IOException se o diretório do log não puder ser aberto
+     */
+    @Bean
+    @ConditionalOnProperty(name = "geocore.wal.enabled", havingValue = "true")
+    public WriteAheadLog writeAheadLog(@Value("${geocore.wal.directory:data}") String directory,
+                                       @Value("${geocore.wal.durability:batched}") String durability,
+                                       @Value("${geocore.wal.async-flush-interval-ms:10}") long asyncFlushIntervalMs)
+            throws IOException {
+        return new WriteAheadLog(Path.of(directory), DurabilityMode.fromProperty(durability),
+                Duration.ofMillis(asyncFlushIntervalMs));
+    }
+
+    /**
+     * Cria um bean CheckpointScheduler que grava snapshots periódicos do repositório durável.
+     * 
+     * @param repository repositório de pessoas
+     * @param intervalSeconds intervalo entre checkpoints, em segundos
+     * @return instância de CheckpointScheduler
+     * @throws IllegalStateException se o repositório não suportar checkpoints
+     */
+    @Bean
+    @ConditionalOnProperty(name = "geocore.wal.enabled", havingValue = "true")
+    public CheckpointScheduler checkpointScheduler(PersonRepository repository,
+                                                   @Value("${geocore.wal.checkpoint-interval-seconds:300}") long intervalSeconds) {
+        if (!(repository instanceof InMemoryPersonRepository durable)) {
+            throw new IllegalStateException("Checkpoints só são suportados pelo repositório in-memory");
+        }
+        return new CheckpointScheduler(durable::checkpoint, Duration.ofSeconds(intervalSeconds));
+    }
+
+    /**
+     * Cria um bean PersonRepository conforme a implementação configurada.
+     * Use {@code in-memory} para objetos no heap ou {@code off-heap} para o armazenamento
+     * colunar fora do heap, indicado para dezenas de milhões de registros, ou {@code mvcc}
+     * para leituras sobre snapshots consistentes, sem cópia nem bloqueio. Com mais de um
+     * shard, as pessoas são particionadas pelo ID entre repositórios independentes do tipo
+     * configurado e as varreduras são distribuídas entre eles.
+     * 
+     * @param type tipo de repositório (in-memory, off-heap, mvcc)
+     * @param shards quantidade de shards
+     * @param wal log de escrita, presente quando o modo durável está habilitado
      * @return instância de PersonRepository
+     * @throws IllegalArgumentException se o tipo for desconhecido ou não suportar o modo durável
+     */
+    @Bean
+    public PersonRepository personRepository(@Value("${geocore.repository.type:in-memory}") String type,
+                                             @Value("${geocore.repository.shards:1}") int shards,
+                                             Optional<WriteAheadLog> wal) {
+        if (wal.isPresent() && (!type.equalsIgnoreCase("in-memory") || shards != 1)) {
+            throw new IllegalArgumentException("O modo durável (geocore.wal.enabled) só é suportado pelo repositório "
+                    + "in-memory sem shards");
+        }
+        Supplier<PersonRepository> factory = switch (type.toLowerCase()) {
+            case "in-memory" -> () -> new InMemoryPersonRepository(wal.orElse(null));
+            case "off-heap" -> OffHeapPersonRepository::new;
+            case "mvcc" -> MvccPersonRepository::new;
+            default -> throw new IllegalArgumentException("Tipo de repositório inválido: " + type +
+                    ". Valores aceitos: in-memory, off-heap, mvcc");
+        };
+        return shards == 1 ? factory.get() : new ShardedPersonRepository(shards, factory);
+    }
+
+    /**
+     * Cria um bean IdAllocator conforme a estratégia configurada.
+     * Use {@code sequential} para um único nó ou {@code snowflake} quando vários nós
+     * alocam IDs sem coordenação.
+     * 
+     * @param strategy estratégia de alocação (sequential, snowflake)
+     * @param nodeId identificador do nó, usado pela estratégia snowflake
+     * @param clock relógio usado pela estratégia snowflake
+     * @return instância de IdAllocator
+     * @throws IllegalArgumentException se a estratégia for desconhecida
      */
     @Bean
-    public PersonRepository personRepository() {
-        return new InMemoryPersonRepository();
+    public IdAllocator idAllocator(@Value("${geocore.id.allocator:sequential}") String strategy,
+                                   @Value("${geocore.id.node-id:0}") int nodeId,
+                                   Clock clock) {
+        return switch (strategy.toLowerCase()) {
+            case "sequential" -> new SequentialIdAllocator();
+            case "snowflake" -> new SnowflakeIdAllocator(nodeId, clock);
+            default -> throw new IllegalArgumentException("Estratégia de alocação de IDs inválida: " + strategy +
+                    ". Valores aceitos: sequential, snowflake");
+        };
+    }
+
+    /**
+     * Cria um bean BusinessDate sobre o relógio da aplicação, fonte única da data atual
+     * nos cálculos de idade e salário.
+     * 
+     * @param clock relógio da aplicação
+     * @return instância de BusinessDate
+     */
+    @Bean
+    public BusinessDate businessDate(Clock clock) {
+        return new BusinessDate(clock);
+    }
+
+    /**
+     * Cria um bean DailyResultCache registrado como observador do repositório, guardando
+     * idades e salários até a virada do dia ou até a pessoa ser alterada.
+     * 
+     * @param repository repositório de pessoas
+     * @param businessDate provedor da data atual
+     * @param maxPeople quantidade máxima de pessoas guardadas; 0 desativa o cache
+     * @return instância de DailyResultCache
+     */
+    @Bean
+    public DailyResultCache dailyResultCache(PersonRepository repository, BusinessDate businessDate,
+                                             @Value("${geocore.result-cache.max-people:100000}") int maxPeople) {
+        DailyResultCache resultCache = new DailyResultCache(businessDate, maxPeople);
+        repository.addChangeListener(resultCache);
+        return resultCache;
+    }
+
+    /**
+     * Cria um bean PayrollAggregates registrado como observador do repositório e carregado com
+     * as pessoas já cadastradas, como as recuperadas do modo durável.
+     * 
+     * @param repository repositório de pessoas
+     * @param businessDate provedor da data atual
+     * @return instância de PayrollAggregates
+     */
+    @Bean
+    public PayrollAggregates payrollAggregates(PersonRepository repository, BusinessDate businessDate) {
+        PayrollAggregates payrollAggregates = new PayrollAggregates(businessDate);
+        repository.addChangeListener(payrollAggregates);
+        try (Stream<Person> people = repository.snapshot().stream()) {
+            people.forEach(payrollAggregates::add);
+        }
+        return payrollAggregates;
+    }
+
+    /**
+     * Cria um bean CelebrationCalendar registrado como observador do repositório e carregado com
+     * as pessoas já cadastradas, como as recuperadas do modo durável.
+     * 
+     * @param repository repositório de pessoas
+     * @param businessDate provedor da data atual
+     * @return instância de CelebrationCalendar
+     */
+    @Bean
+    public CelebrationCalendar celebrationCalendar(PersonRepository repository, BusinessDate businessDate) {
+        CelebrationCalendar celebrationCalendar = new CelebrationCalendar(businessDate);
+        repository.addChangeListener(celebrationCalendar);
+        try (Stream<Person> people = repository.snapshot().stream()) {
+            people.forEach(celebrationCalendar::add);
+        }
+        return celebrationCalendar;
     }
 
     /**
      * Cria um bean PersonService com suas dependências.
      * 
      * @param repository repositório de pessoas
-     * @param clock relógio para cálculos de data
+     * @param idAllocator alocador de IDs para novas pessoas
+     * @param changeLog fluxo de mudanças, fonte da versão do cadastro
+     * @param businessDate provedor da data atual para cálculos de data
+     * @param resultCache cache de idades e salários
      * @return instância de PersonService
      */
     @Bean
-    public PersonService personService(PersonRepository repository, Clock clock) {
-        return new PersonService(repository, clock);
+    public PersonService personService(PersonRepository repository, IdAllocator idAllocator,
+                                       ChangeLog changeLog, BusinessDate businessDate,
+                                       DailyResultCache resultCache) {
+        return new PersonService(repository, idAllocator, changeLog, businessDate, resultCache);
+    }
+
+    /**
+     * Cria um bean ChangeLog registrado como observador do repositório, numerando cada
+     * alteração de pessoa para a sincronização incremental.
+     * 
+     * @param repository repositório de pessoas
+     * @param capacity quantidade de alterações mantidas em memória
+     * @return instância de ChangeLog
+     */
+    @Bean
+    public ChangeLog changeLog(PersonRepository repository,
+                               @Value("${geocore.cdc.capacity:100000}") int capacity) {
+        ChangeLog changeLog = new ChangeLog(capacity);
+        repository.addChangeListener(changeLog);
+        return changeLog;
+    }
+
+    /**
+     * Cria um bean ChangeFeedService sobre o fluxo de mudanças.
+     * 
+     * @param changeLog fluxo de mudanças do repositório
+     * @return instância de ChangeFeedService
+     */
+    @Bean
+    public ChangeFeedService changeFeedService(ChangeLog changeLog) {
+        return new ChangeFeedService(changeLog);
     }
 }
@@ -0,0 +1,45 @@
+package com.sccon.geocore.controller;
+
+import com.sccon.geocore.service.CelebrationCalendar;
+import com.sccon.geocore.web.dto.UpcomingCelebrationsResponse;
+import com.sccon.geocore.web.mapper.CalendarMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST do calendário de aniversários e tempos de casa.
+ * As comemorações são lidas de um índice por dia do ano mantido pelas escritas do repositório,
+ * sem percorrer o cadastro.
+ */
+@RestController
+@RequestMapping("/people/upcoming")
+public class PeopleCalendarController {
+
+    private final CelebrationCalendar celebrationCalendar;
+
+    /**
+     * Construtor do controlador.
+     *
+     * @param celebrationCalendar calendário de comemorações
+     */
+    public PeopleCalendarController(CelebrationCalendar celebrationCalendar) {
+        this.celebrationCalendar = celebrationCalendar;
+    }
+
+    /**
+     * Lista os aniversários ou tempos de casa de hoje e dos próximos dias.
+     *
+     * @param days quantidade de dias, contando hoje (1 a 366)
+     * @param type tipo de comemoração (birthday, anniversary)
+     * @return comemorações da janela, em ordem de data
+     */
+    @GetMapping
+    public ResponseEntity<UpcomingCelebrationsResponse> getUpcoming(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "birthday") String type) {
+        return ResponseEntity.ok(CalendarMapper.toResponse(celebrationCalendar.upcoming(type, days)));
+    }
+}
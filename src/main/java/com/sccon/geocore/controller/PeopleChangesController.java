@@ -0,0 +1,158 @@
+package com.sccon.geocore.controller;
+
+import com.sccon.geocore.repository.cdc.ChangeBatch;
+import com.sccon.geocore.repository.cdc.ChangeEvent;
+import com.sccon.geocore.repository.cdc.StoreVersion;
+import com.sccon.geocore.service.ChangeFeedService;
+import com.sccon.geocore.web.dto.ChangesResponse;
+import com.sccon.geocore.web.mapper.ChangeMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Controlador REST do fluxo de mudanças de pessoas.
+ * Permite que clientes acompanhem o cadastro por sincronização incremental, lendo apenas as
+ * alterações posteriores à última alteração processada, em vez de consultar a listagem completa.
+ */
+@RestController
+@RequestMapping("/people/changes")
+public class PeopleChangesController {
+
+    /** Quantidade de alterações por leitura quando o limite não é informado */
+    private static final String DEFAULT_CHANGES_LIMIT = "1000";
+    /** Intervalo máximo sem eventos no stream; um comentário é enviado para detectar clientes desconectados */
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final ChangeFeedService changeFeedService;
+    /**
+     * Uma thread por stream aberto, para que clientes lentos não atrasem as escritas nem os demais;
+     * limitado a {@code geocore.cdc.max-streams} threads, sem fila: acima disso o stream é recusado
+     */
+    private final ExecutorService streamers;
+
+    /**
+     * Construtor do controlador.
+     *
+     * @param changeFeedService serviço do fluxo de mudanças
+     * @param maxStreams quantidade máxima de streams abertos ao mesmo tempo
+     */
+    public PeopleChangesController(ChangeFeedService changeFeedService,
+                                   @Value("${geocore.cdc.max-streams:64}") int maxStreams) {
+        this.changeFeedService = changeFeedService;
+        this.streamers = new ThreadPoolExecutor(0, maxStreams, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "people-changes-stream");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Retorna as alterações posteriores a um cursor.
+     * O cliente guarda o {@code cursor} ({@code época-sequência}) e o usa como {@code since} na
+     * próxima consulta. Quando alterações posteriores a {@code since} já foram descartadas do
+     * buffer, ou o cursor é de outra época (a aplicação reiniciou), responde 410 com
+     * {@code resyncRequired}: o cliente deve recarregar {@code GET /people} e continuar a partir
+     * do {@code cursor} informado.
+     *
+     * @param since cursor da última alteração processada (padrão 0, o início do fluxo)
+     * @param limit quantidade máxima de alterações
+     * @return alterações seguintes, com status 200, ou indicação de recarga, com status 410
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    @GetMapping
+    public ResponseEntity<ChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") String since,
+            @RequestParam(defaultValue = DEFAULT_CHANGES_LIMIT) int limit) {
+        ChangeBatch batch = changeFeedService.changesSince(ChangeMapper.parseCursor(since), limit);
+        HttpStatus status = batch.resyncRequired() ? HttpStatus.GONE : HttpStatus.OK;
+        return ResponseEntity.status(status).body(ChangeMapper.toResponse(batch));
+    }
+
+    /**
+     * Abre um stream Server-Sent Events com as alterações posteriores a um cursor.
+     * Cada evento tem como {@code id} o cursor da alteração ({@code época-sequência}) e como nome
+     * o tipo da alteração; ao reconectar, o navegador envia o último {@code id} recebido no
+     * cabeçalho {@code Last-Event-ID}. Se o cliente ficar para trás do buffer, ou o cursor for de
+     * outra época, recebe um evento {@code resync} e o stream é encerrado.
+     * Com todos os streams permitidos já abertos, responde 503.
+     *
+     * @param since cursor da última alteração processada (opcional)
+     * @param lastEventId último evento recebido antes de uma reconexão (opcional)
+     * @return emissor do stream
+     * @throws IllegalArgumentException se o cursor for inválido
+     * @throws RejectedExecutionException se o limite de streams abertos foi atingido
+     */
+    @GetMapping("/stream")
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        StoreVersion start = ChangeMapper.parseCursor(lastEventId != null ? lastEventId : since != null ? since : "0");
+        SseEmitter emitter = new SseEmitter(0L);
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(error -> open.set(false));
+        streamers.execute(() -> pump(emitter, start, open));
+        return emitter;
+    }
+
+    /**
+     * Encerra as threads dos streams abertos.
+     */
+    @PreDestroy
+    public void shutdown() {
+        streamers.shutdownNow();
+    }
+
+    /**
+     * Envia as alterações ao cliente enquanto o stream estiver aberto, aguardando novas
+     * alterações quando não houver pendentes.
+     */
+    private void pump(SseEmitter emitter, StoreVersion since, AtomicBoolean open) {
+        StoreVersion cursor = since;
+        try {
+            while (open.get()) {
+                ChangeBatch batch = changeFeedService.changesSince(cursor, ChangeFeedService.MAX_BATCH_SIZE);
+                if (batch.resyncRequired()) {
+                    emitter.send(SseEmitter.event().name("resync").data(ChangeMapper.toResponse(batch)));
+                    emitter.complete();
+                    return;
+                }
+                for (ChangeEvent event : batch.events()) {
+                    emitter.send(SseEmitter.event()
+                            .id(ChangeMapper.toCursor(batch.epoch(), event.sequence()))
+                            .name(event.type().name().toLowerCase())
+                            .data(ChangeMapper.toResponse(event)));
+                    cursor = new StoreVersion(batch.epoch(), event.sequence());
+                }
+                if (batch.events().isEmpty()
+                        && !changeFeedService.awaitChanges(cursor.sequence(), HEARTBEAT_INTERVAL)) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Cliente desconectado ou stream já encerrado
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+}
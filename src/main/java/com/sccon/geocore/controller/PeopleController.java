@@ -1,15 +1,33 @@
 package com.sccon.geocore.controller;
 
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateKey;
+import com.sccon.geocore.repository.DateRange;
+import com.sccon.geocore.repository.NameKey;
 import com.sccon.geocore.service.PersonService;
+import com.sccon.geocore.web.dto.BatchGetRequest;
+import com.sccon.geocore.web.dto.BatchGetResponse;
+import com.sccon.geocore.web.dto.BatchMetricsRequest;
+import com.sccon.geocore.web.dto.BatchMetricsResponse;
 import com.sccon.geocore.web.dto.CreatePersonRequest;
+import com.sccon.geocore.web.dto.PersonField;
 import com.sccon.geocore.web.dto.PersonResponse;
+import com.sccon.geocore.web.dto.SalaryProjectionResponse;
 import com.sccon.geocore.web.dto.UpdatePersonRequest;
+import com.sccon.geocore.web.mapper.CursorMapper;
+import com.sccon.geocore.web.mapper.ETagMapper;
 import com.sccon.geocore.web.mapper.PersonMapper;
+import com.sccon.geocore.web.mapper.ProjectionMapper;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controlador REST responsável por gerenciar operações relacionadas a pessoas.
@@ -19,6 +37,13 @@ import java.util.List;
 @RequestMapping("/people")
 public class PeopleController {
 
+    /** Cabeçalho que carrega o cursor da próxima página */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    /** Tamanho de página usado quando apenas o cursor é informado */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    /** Quantidade de resultados da busca por nome quando o limite não é informado */
+    private static final String DEFAULT_SEARCH_LIMIT = "20";
+
     private final PersonService personService;
 
     /**
@@ -31,28 +56,163 @@ public class PeopleController {
     }
 
     /**
-     * Retorna todas as pessoas cadastradas no sistema.
+     * Retorna as pessoas cadastradas no sistema, ordenadas por nome.
+     * Sem {@code limit} e {@code after} retorna todas as pessoas. Com paginação, o cursor da
+     * próxima página é devolvido no cabeçalho {@value #NEXT_CURSOR_HEADER} enquanto houver mais itens.
+     * 
+     * <p>Com algum filtro de datas, retorna apenas as pessoas nos intervalos informados (inclusivos),
+     * ordenadas pela data de admissão quando ela é filtrada, ou pela de nascimento, e pelo ID.
+     * 
+     * <p>A resposta traz uma ETag derivada da versão do cadastro.
+     * Se o cabeçalho {@code If-None-Match} a contiver, responde 304 sem consultar nem serializar.
      * 
-     * @return lista de pessoas ordenadas por nome
+     * @param ifNoneMatch ETags já conhecidas pelo cliente (opcional)
+     * @param limit quantidade máxima de pessoas por página (opcional)
+     * @param after cursor devolvido pela página anterior (opcional)
+     * @param fields campos a serem retornados, separados por vírgula (opcional)
+     * @param admittedFrom data de admissão inicial (opcional)
+     * @param admittedTo data de admissão final (opcional)
+     * @param bornFrom data de nascimento inicial (opcional)
+     * @param bornTo data de nascimento final (opcional)
+     * @return lista de pessoas ordenadas por nome, ou pela data filtrada
      */
     @GetMapping
-    public ResponseEntity<List<PersonResponse>> getAllPeople() {
-        var people = personService.findAll().stream()
-                .map(PersonMapper::toResponse)
-                .toList();
-        return ResponseEntity.ok(people);
+    public ResponseEntity<List<PersonResponse>> getAllPeople(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate admittedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate admittedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornTo) {
+        String etag = ETagMapper.forStore(personService.storeVersion());
+        if (ETagMapper.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        Set<PersonField> selectedFields = PersonField.parse(fields);
+        DateRange admitted = new DateRange(admittedFrom, admittedTo);
+        DateRange born = new DateRange(bornFrom, bornTo);
+        if (admitted.isBounded() || born.isBounded()) {
+            return getPeopleByDates(admitted, born, limit, after, selectedFields, etag);
+        }
+        if (limit == null && after == null) {
+            return ResponseEntity.ok().eTag(etag).body(toResponses(personService.findAll(), selectedFields));
+        }
+
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        NameKey cursor = after != null ? CursorMapper.decode(after) : null;
+        var page = personService.findPage(cursor, pageSize);
+        var response = ResponseEntity.ok().eTag(etag);
+        if (page.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, CursorMapper.encode(NameKey.of(page.get(page.size() - 1))));
+        }
+        return response.body(toResponses(page, selectedFields));
+    }
+
+    private ResponseEntity<List<PersonResponse>> getPeopleByDates(DateRange admitted, DateRange born,
+                                                                 Integer limit, String after,
+                                                                 Set<PersonField> selectedFields, String etag) {
+        if (limit == null && after == null) {
+            return ResponseEntity.ok().eTag(etag)
+                    .body(toResponses(personService.findByDates(admitted, born), selectedFields));
+        }
+
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        DateKey cursor = after != null ? CursorMapper.decodeDateKey(after) : null;
+        var page = personService.findPageByDates(admitted, born, cursor, pageSize);
+        var response = ResponseEntity.ok().eTag(etag);
+        if (page.size() == pageSize) {
+            DateKey next = DateKey.of(PersonService.dateOrder(admitted), page.get(page.size() - 1));
+            response.header(NEXT_CURSOR_HEADER, CursorMapper.encode(next));
+        }
+        return response.body(toResponses(page, selectedFields));
+    }
+
+    /**
+     * Busca pessoas pelo nome, sem acentos e sem diferenciar maiúsculas de minúsculas.
+     * No modo {@code prefix}, alguma palavra do nome deve começar com o termo; em
+     * {@code contains}, o nome deve conter o termo; em {@code fuzzy}, o nome deve ser parecido
+     * com o termo, tolerando erros de digitação.
+     * 
+     * @param q termo de busca
+     * @param mode modo de busca (prefix, contains, fuzzy)
+     * @param limit quantidade máxima de pessoas
+     * @param fields campos a serem retornados, separados por vírgula (opcional)
+     * @return pessoas encontradas
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<PersonResponse>> searchPeople(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "prefix") String mode,
+            @RequestParam(defaultValue = DEFAULT_SEARCH_LIMIT) int limit,
+            @RequestParam(required = false) String fields) {
+        Set<PersonField> selectedFields = PersonField.parse(fields);
+        return ResponseEntity.ok(toResponses(personService.search(q, mode, limit), selectedFields));
     }
 
     /**
      * Retorna uma pessoa específica pelo ID.
+     * A resposta traz a versão da pessoa como ETag; se o cabeçalho {@code If-None-Match} a
+     * contiver, responde 304 sem serializar a pessoa.
      * 
      * @param id ID da pessoa
+     * @param ifNoneMatch ETags já conhecidas pelo cliente (opcional)
      * @return dados da pessoa
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PersonResponse> getPersonById(@PathVariable Long id) {
+    public ResponseEntity<PersonResponse> getPersonById(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         var person = personService.get(id);
-        return ResponseEntity.ok(PersonMapper.toResponse(person));
+        String etag = ETagMapper.forPerson(person);
+        if (ETagMapper.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(PersonMapper.toResponse(person));
+    }
+
+    /**
+     * Busca várias pessoas pelos IDs em uma única requisição.
+     * IDs sem pessoa cadastrada não geram erro: são listados em {@code missing}.
+     * 
+     * @param request IDs das pessoas, até {@value PersonService#MAX_BATCH_GET_SIZE}
+     * @param fields campos a serem retornados, separados por vírgula (opcional)
+     * @return pessoas encontradas e IDs ausentes, na ordem em que foram pedidos
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetResponse> batchGetPeople(
+            @Valid @RequestBody BatchGetRequest request,
+            @RequestParam(required = false) String fields) {
+        Set<PersonField> selectedFields = PersonField.parse(fields);
+        var lookup = personService.findAllById(request.ids());
+        return ResponseEntity.ok(new BatchGetResponse(toResponses(lookup.found(), selectedFields), lookup.missing()));
+    }
+
+    /**
+     * Calcula idades e salários de várias pessoas em uma única requisição, com a mesma data
+     * de referência para todas. A resposta vem em colunas, uma por tipo de saída, alinhadas
+     * à coluna {@code ids}. Sem IDs, calcula uma página por intervalos de datas, de até
+     * {@value PersonService#MAX_METRICS_PAGE_SIZE} pessoas; se houver mais, o cursor da
+     * próxima página vem no cabeçalho {@value #NEXT_CURSOR_HEADER}.
+     * 
+     * @param request pessoas (IDs ou intervalos de datas, com página opcional) e tipos de saída
+     * @return colunas calculadas
+     */
+    @PostMapping("/batch-metrics")
+    public ResponseEntity<BatchMetricsResponse> batchMetrics(@Valid @RequestBody BatchMetricsRequest request) {
+        DateKey cursor = request.after() != null ? CursorMapper.decodeDateKey(request.after()) : null;
+        int pageSize = request.limit() != null ? request.limit() : PersonService.MAX_METRICS_PAGE_SIZE;
+        var metrics = personService.computeMetrics(request.ids(),
+                new DateRange(request.admittedFrom(), request.admittedTo()),
+                new DateRange(request.bornFrom(), request.bornTo()),
+                cursor, pageSize, request.age(), request.salary());
+        var response = ResponseEntity.ok();
+        if (metrics.next() != null) {
+            response.header(NEXT_CURSOR_HEADER, CursorMapper.encode(metrics.next()));
+        }
+        return response.body(new BatchMetricsResponse(metrics.date(), metrics.ids(), metrics.ages(),
+                metrics.salaries(), metrics.missing()));
     }
 
     /**
@@ -64,7 +224,7 @@ public class PeopleController {
     @PostMapping
     public ResponseEntity<PersonResponse> createPerson(@Valid @RequestBody CreatePersonRequest request) {
         var person = personService.create(request.name(), request.birthDate(), request.admissionDate());
-        return ResponseEntity.ok(PersonMapper.toResponse(person));
+        return withETag(person);
     }
 
     /**
@@ -76,40 +236,50 @@ public class PeopleController {
      */
     @PostMapping("/{id}")
     public ResponseEntity<PersonResponse> createPersonWithId(
-            @PathVariable Long id,
+            @PathVariable long id,
             @Valid @RequestBody CreatePersonRequest request) {
         var person = personService.createWithId(id, request.name(), request.birthDate(), request.admissionDate());
-        return ResponseEntity.ok(PersonMapper.toResponse(person));
+        return withETag(person);
     }
 
     /**
      * Atualiza todos os dados de uma pessoa.
+     * Com o cabeçalho {@code If-Match}, a atualização só é aplicada se a versão atual da pessoa
+     * for uma das ETags informadas; caso contrário, responde 412.
      * 
      * @param id ID da pessoa
+     * @param ifMatch ETags aceitas (opcional)
      * @param request novos dados da pessoa
      * @return dados atualizados da pessoa
      */
     @PutMapping("/{id}")
     public ResponseEntity<PersonResponse> updatePerson(
-            @PathVariable Long id,
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CreatePersonRequest request) {
-        var person = personService.update(id, request.name(), request.birthDate(), request.admissionDate());
-        return ResponseEntity.ok(PersonMapper.toResponse(person));
+        var person = personService.update(id, request.name(), request.birthDate(), request.admissionDate(),
+                ETagMapper.parseVersions(ifMatch));
+        return withETag(person);
     }
 
     /**
      * Atualiza parcialmente os dados de uma pessoa.
+     * Com o cabeçalho {@code If-Match}, a atualização só é aplicada se a versão atual da pessoa
+     * for uma das ETags informadas; caso contrário, responde 412.
      * 
      * @param id ID da pessoa
+     * @param ifMatch ETags aceitas (opcional)
      * @param request dados parciais para atualização
      * @return dados atualizados da pessoa
      */
     @PatchMapping("/{id}")
     public ResponseEntity<PersonResponse> updatePersonPartially(
-            @PathVariable Long id,
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdatePersonRequest request) {
-        var person = personService.updatePartial(id, request.name(), request.birthDate(), request.admissionDate());
-        return ResponseEntity.ok(PersonMapper.toResponse(person));
+        var person = personService.updatePartial(id, request.name(), request.birthDate(), request.admissionDate(),
+                ETagMapper.parseVersions(ifMatch));
+        return withETag(person);
     }
 
     /**
@@ -119,7 +289,7 @@ public class PeopleController {
      * @return resposta vazia com status 204
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletePerson(@PathVariable Long id) {
+    public ResponseEntity<Void> deletePerson(@PathVariable long id) {
         personService.delete(id);
         return ResponseEntity.noContent().build();
     }
@@ -133,7 +303,7 @@ public class PeopleController {
      */
     @GetMapping("/{id}/age")
     public ResponseEntity<Long> getPersonAge(
-            @PathVariable Long id,
+            @PathVariable long id,
             @RequestParam String output) {
         var age = personService.calculateAge(id, output);
         return ResponseEntity.ok(age);
@@ -141,16 +311,58 @@ public class PeopleController {
 
     /**
      * Calcula o salário de uma pessoa baseado no tempo de serviço.
+     * Com {@code exact=true}, o cálculo usa aritmética decimal exata, para conciliação financeira.
      * 
      * @param id ID da pessoa
      * @param output tipo de saída (full, min)
+     * @param exact se o cálculo deve usar aritmética decimal exata
      * @return salário calculado
      */
     @GetMapping("/{id}/salary")
-    public ResponseEntity<Double> getPersonSalary(
-            @PathVariable Long id,
-            @RequestParam String output) {
-        var salary = personService.calculateSalary(id, output);
+    public ResponseEntity<Number> getPersonSalary(
+            @PathVariable long id,
+            @RequestParam String output,
+            @RequestParam(defaultValue = "false") boolean exact) {
+        Number salary = exact ? personService.calculateExactSalary(id, output) : personService.calculateSalary(id, output);
         return ResponseEntity.ok(salary);
     }
+
+    /**
+     * Projeta o salário de uma pessoa para os próximos aniversários da data atual, com os
+     * mesmos valores que {@code GET /people/{id}/salary} teria em cada data.
+     * 
+     * @param id ID da pessoa
+     * @param years quantidade de anos projetados (1 a 50)
+     * @param output tipo de saída (full, min)
+     * @return salário em cada data da projeção
+     */
+    @GetMapping("/{id}/salary/projection")
+    public ResponseEntity<SalaryProjectionResponse> getPersonSalaryProjection(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "10") int years,
+            @RequestParam(defaultValue = "full") String output) {
+        return ResponseEntity.ok(ProjectionMapper.toResponse(personService.projectSalary(id, output, years)));
+    }
+
+    private static ResponseEntity<PersonResponse> withETag(Person person) {
+        return ResponseEntity.ok().eTag(ETagMapper.forPerson(person)).body(PersonMapper.toResponse(person));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    /**
+     * Converte pessoas em respostas contendo apenas os campos selecionados.
+     * 
+     * @param people pessoas a serem convertidas
+     * @param fields campos selecionados
+     * @return lista de respostas
+     */
+    private static List<PersonResponse> toResponses(List<Person> people, Set<PersonField> fields) {
+        if (fields.size() == PersonField.values().length) {
+            return people.stream().map(PersonMapper::toResponse).toList();
+        }
+        return people.stream().map(person -> PersonMapper.toResponse(person, fields)).toList();
+    }
 }
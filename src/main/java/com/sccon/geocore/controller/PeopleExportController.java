@@ -0,0 +1,191 @@
+package com.sccon.geocore.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.PersonSnapshot;
+import com.sccon.geocore.service.PersonService;
+import com.sccon.geocore.service.SalaryProjection;
+import com.sccon.geocore.service.SalaryProjector;
+import com.sccon.geocore.web.dto.ExportFormat;
+import com.sccon.geocore.web.dto.PersonField;
+import com.sccon.geocore.web.mapper.ExportMapper;
+import com.sccon.geocore.web.mapper.ProjectionMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Controlador REST da exportação de pessoas e das projeções de salário.
+ * As pessoas são lidas de um snapshot do repositório e escritas na resposta uma por vez, sem
+ * montar a lista completa, então a memória usada não depende do tamanho do cadastro. Se o
+ * snapshot for versionado, sua versão é informada no cabeçalho {@value #SNAPSHOT_VERSION_HEADER}.
+ *
+ * <p>O corpo é escrito de forma síncrona, na própria thread da requisição, e não como resposta
+ * assíncrona: uma exportação longa não é interrompida pelo tempo limite global das respostas
+ * assíncronas ({@code spring.mvc.async.request-timeout}), que continua finito para as demais.
+ */
+@RestController
+@RequestMapping("/people/export")
+public class PeopleExportController {
+
+    /** Cabeçalho com a versão do snapshot exportado, quando o repositório é versionado */
+    public static final String SNAPSHOT_VERSION_HEADER = "X-Snapshot-Version";
+
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+    private final PersonService personService;
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Construtor do controlador.
+     *
+     * @param personService serviço de pessoas
+     * @param objectMapper conversor JSON da aplicação, fonte dos geradores JSON
+     */
+    public PeopleExportController(PersonService personService, ObjectMapper objectMapper) {
+        this.personService = personService;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Exporta todas as pessoas em NDJSON ou CSV, sem ordem definida.
+     * Se o cliente aceitar {@code gzip} em {@code Accept-Encoding}, a resposta é comprimida.
+     * A exportação percorre o cadastro enquanto escreve: escritas concorrentes podem ou não
+     * aparecer, exceto no repositório {@code mvcc}, que exporta um único snapshot versionado.
+     *
+     * @param format formato (ndjson, csv)
+     * @param fields campos a serem exportados, separados por vírgula (opcional)
+     * @param acceptEncoding codificações aceitas pelo cliente (opcional)
+     * @param response resposta em que as pessoas são escritas à medida que são lidas
+     * @throws IOException se a escrita da resposta falhar
+     */
+    @GetMapping
+    public void exportPeople(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        Set<PersonField> selectedFields = PersonField.parse(fields);
+        PersonSnapshot snapshot = personService.snapshot();
+        stream(exportFormat, "people", acceptEncoding, snapshot, response,
+                out -> write(snapshot, exportFormat, selectedFields, out));
+    }
+
+    /**
+     * Exporta a projeção de salário de todas as pessoas para os próximos aniversários da data
+     * atual, como em {@code GET /people/{id}/salary/projection}, sem ordem definida. Cada
+     * projeção é calculada e escrita à medida que as pessoas são lidas. No CSV, o cabeçalho traz
+     * as datas; no NDJSON, cada linha traz o ID e os salários na ordem das datas.
+     *
+     * @param years quantidade de anos projetados (1 a 50)
+     * @param output tipo de saída (full, min)
+     * @param format formato (ndjson, csv)
+     * @param acceptEncoding codificações aceitas pelo cliente (opcional)
+     * @param response resposta em que as projeções são escritas à medida que são calculadas
+     * @throws IOException se a escrita da resposta falhar
+     */
+    @GetMapping("/salary-projection")
+    public void exportSalaryProjection(
+            @RequestParam(defaultValue = "10") int years,
+            @RequestParam(defaultValue = "full") String output,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        SalaryProjector projector = personService.salaryProjector(output, years);
+        PersonSnapshot snapshot = personService.snapshot();
+        stream(exportFormat, "salary-projection", acceptEncoding, snapshot, response, out -> {
+            try (Stream<SalaryProjection> projections = snapshot.stream().map(projector::project)) {
+                switch (exportFormat) {
+                    case NDJSON -> ProjectionMapper.writeNdjson(projections, jsonFactory, out);
+                    case CSV -> ProjectionMapper.writeCsv(projections, projector.dates(), out);
+                }
+            }
+        });
+    }
+
+    /**
+     * Escreve os cabeçalhos e o corpo da exportação, comprimindo o corpo se o cliente aceitar
+     * gzip e informando a versão do snapshot, se houver.
+     */
+    private static void stream(ExportFormat format, String baseName, String acceptEncoding,
+                               PersonSnapshot snapshot, HttpServletResponse response, BodyWriter writer)
+            throws IOException {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(format.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(format.fileName(baseName)).build().toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        if (snapshot.version() != PersonSnapshot.UNVERSIONED) {
+            response.setHeader(SNAPSHOT_VERSION_HEADER, Long.toString(snapshot.version()));
+        }
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_BYTES);
+            writer.writeTo(compressed);
+            compressed.finish();
+        } else {
+            writer.writeTo(out);
+        }
+        out.flush();
+    }
+
+    private void write(PersonSnapshot snapshot, ExportFormat format, Set<PersonField> fields, OutputStream out)
+            throws IOException {
+        try (Stream<Person> people = snapshot.stream()) {
+            switch (format) {
+                case NDJSON -> ExportMapper.writeNdjson(people, fields, jsonFactory, out);
+                case CSV -> ExportMapper.writeCsv(people, fields, out);
+            }
+        }
+    }
+
+    /**
+     * Escreve o corpo de uma exportação.
+     */
+    @FunctionalInterface
+    private interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Verifica se o cabeçalho {@code Accept-Encoding} aceita gzip com peso diferente de zero.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!parts[0].trim().equalsIgnoreCase(GZIP)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && Double.parseDouble(parameter.substring(2)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,152 @@
+package com.sccon.geocore.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sccon.geocore.service.PersonImport;
+import com.sccon.geocore.service.PersonService;
+import com.sccon.geocore.web.dto.CreatePersonRequest;
+import com.sccon.geocore.web.dto.ImportPersonRequest;
+import com.sccon.geocore.web.dto.ImportResponse;
+import com.sccon.geocore.web.mapper.ImportMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Controlador REST da importação em lote de pessoas.
+ * O corpo da requisição é lido linha a linha, sem ser carregado inteiro na memória, e as
+ * pessoas válidas são salvas em lotes; linhas inválidas são relatadas na resposta.
+ */
+@RestController
+@RequestMapping("/people/bulk")
+public class PeopleImportController {
+
+    /** Tipo de conteúdo aceito para importação em CSV */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    /** Tamanho do buffer de leitura do corpo da requisição, em caracteres */
+    private static final int READ_BUFFER_CHARS = 64 * 1024;
+
+    private final PersonService personService;
+    private final Validator validator;
+    private final ObjectReader rowReader;
+
+    /**
+     * Construtor do controlador.
+     *
+     * @param personService serviço de pessoas
+     * @param validator validador das linhas, com as regras de {@link CreatePersonRequest}
+     * @param objectMapper conversor JSON da aplicação
+     */
+    public PeopleImportController(PersonService personService, Validator validator, ObjectMapper objectMapper) {
+        this.personService = personService;
+        this.validator = validator;
+        this.rowReader = objectMapper.readerFor(ImportPersonRequest.class);
+    }
+
+    /**
+     * Importa pessoas de um corpo NDJSON: um objeto JSON por linha, com os campos de
+     * {@code POST /people} e, opcionalmente, {@code id}.
+     *
+     * @param body corpo da requisição
+     * @return relatório da importação
+     * @throws IOException se o corpo não puder ser lido
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportResponse> importNdjson(InputStream body) throws IOException {
+        BufferedReader reader = open(body);
+        return ResponseEntity.ok(importRows(reader, 0, this::parseJson));
+    }
+
+    /**
+     * Importa pessoas de um corpo CSV com cabeçalho, contendo as colunas {@code name},
+     * {@code birthDate}, {@code admissionDate} e, opcionalmente, {@code id}.
+     *
+     * @param body corpo da requisição
+     * @return relatório da importação
+     * @throws IOException se o corpo não puder ser lido
+     * @throws IllegalArgumentException se o cabeçalho estiver ausente ou for inválido
+     */
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ImportResponse> importCsv(InputStream body) throws IOException {
+        BufferedReader reader = open(body);
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new IllegalArgumentException("O CSV deve começar com um cabeçalho");
+        }
+        ImportMapper.CsvColumns columns = ImportMapper.parseCsvHeader(header);
+        return ResponseEntity.ok(importRows(reader, 1, line -> ImportMapper.parseCsvRow(line, columns)));
+    }
+
+    /**
+     * Converte, valida e importa as linhas restantes do corpo.
+     *
+     * @param reader corpo da requisição
+     * @param linesRead linhas já consumidas antes da primeira linha de dados
+     * @param parser converte uma linha em DTO, lançando IllegalArgumentException se ela for inválida
+     * @return relatório da importação
+     */
+    private ImportResponse importRows(BufferedReader reader, long linesRead,
+                                      Function<String, ImportPersonRequest> parser) throws IOException {
+        PersonImport personImport = personService.startImport();
+        long lineNumber = linesRead;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ImportPersonRequest row;
+            try {
+                row = parser.apply(line);
+            } catch (IllegalArgumentException ex) {
+                personImport.reject(lineNumber, ex.getMessage());
+                continue;
+            }
+            Set<ConstraintViolation<CreatePersonRequest>> violations = validator.validate(row.toCreateRequest());
+            if (!violations.isEmpty()) {
+                personImport.reject(lineNumber, describe(violations));
+                continue;
+            }
+            personImport.add(lineNumber, row.id(), row.name(), row.birthDate(), row.admissionDate());
+        }
+        return ImportMapper.toResponse(personImport.finish());
+    }
+
+    private ImportPersonRequest parseJson(String line) {
+        try {
+            ImportPersonRequest row = rowReader.readValue(line);
+            if (row == null) {
+                throw new IllegalArgumentException("JSON inválido: a linha deve conter um objeto");
+            }
+            return row;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("JSON inválido: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static BufferedReader open(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), READ_BUFFER_CHARS);
+    }
+
+    private static String describe(Set<ConstraintViolation<CreatePersonRequest>> violations) {
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+}
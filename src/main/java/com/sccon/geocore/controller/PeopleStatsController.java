@@ -0,0 +1,97 @@
+package com.sccon.geocore.controller;
+
+import com.sccon.geocore.service.PayrollAggregates;
+import com.sccon.geocore.service.PersonService;
+import com.sccon.geocore.web.dto.AgeDistributionResponse;
+import com.sccon.geocore.web.dto.PayrollResponse;
+import com.sccon.geocore.web.dto.PayrollSimulationRequest;
+import com.sccon.geocore.web.dto.PayrollSimulationResponse;
+import com.sccon.geocore.web.dto.RankingResponse;
+import com.sccon.geocore.web.mapper.StatsMapper;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST das estatísticas agregadas do cadastro de pessoas.
+ * A folha de pagamento é mantida pelas escritas do repositório, sem percorrer as pessoas; a
+ * distribuição de idades percorre o cadastro uma vez, em colunas de datas; os rankings leem
+ * apenas a ponta dos índices de datas.
+ */
+@RestController
+@RequestMapping("/people/stats")
+public class PeopleStatsController {
+
+    private final PersonService personService;
+    private final PayrollAggregates payrollAggregates;
+
+    /**
+     * Construtor do controlador.
+     *
+     * @param personService serviço de pessoas
+     * @param payrollAggregates agregados da folha de pagamento
+     */
+    public PeopleStatsController(PersonService personService, PayrollAggregates payrollAggregates) {
+        this.personService = personService;
+        this.payrollAggregates = payrollAggregates;
+    }
+
+    /**
+     * Retorna a folha de pagamento na data atual: total, salário médio e quantidade de pessoas,
+     * no geral e por faixa de tempo de serviço, com o salário completo de cada pessoa.
+     *
+     * @return resumo da folha de pagamento
+     */
+    @GetMapping("/payroll")
+    public ResponseEntity<PayrollResponse> getPayroll() {
+        return ResponseEntity.ok(StatsMapper.toResponse(payrollAggregates.summary()));
+    }
+
+    /**
+     * Simula a folha de pagamento na data atual com outras políticas de salário, comparando cada
+     * uma com a política vigente.
+     *
+     * @param request políticas a simular; campos ausentes mantêm o valor vigente
+     * @return folha com a política vigente e com cada política simulada
+     */
+    @PostMapping("/payroll/simulations")
+    public ResponseEntity<PayrollSimulationResponse> simulatePayroll(
+            @Valid @RequestBody PayrollSimulationRequest request) {
+        var policies = request.policies().stream().map(StatsMapper::toPolicy).toList();
+        return ResponseEntity.ok(StatsMapper.toResponse(payrollAggregates.simulate(policies)));
+    }
+
+    /**
+     * Retorna a quantidade de pessoas por faixa de idade em anos completos, na data atual.
+     *
+     * @param bandYears largura de cada faixa, em anos (1 a 100)
+     * @return distribuição das idades
+     */
+    @GetMapping("/age-distribution")
+    public ResponseEntity<AgeDistributionResponse> getAgeDistribution(
+            @RequestParam(defaultValue = "10") int bandYears) {
+        return ResponseEntity.ok(StatsMapper.toResponse(personService.ageDistribution(bandYears)));
+    }
+
+    /**
+     * Retorna as pessoas com os maiores ou menores salários, tempos de serviço ou idades na data
+     * atual, lidas da ponta do índice de datas correspondente.
+     *
+     * @param metric métrica (salary, tenure, age)
+     * @param order ordem (top para os maiores valores, bottom para os menores)
+     * @param limit quantidade máxima de pessoas (1 a 1000)
+     * @return ranking das pessoas
+     */
+    @GetMapping("/top")
+    public ResponseEntity<RankingResponse> getTop(
+            @RequestParam(defaultValue = "salary") String metric,
+            @RequestParam(defaultValue = "top") String order,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(StatsMapper.toResponse(personService.rank(metric, order, limit)));
+    }
+}
@@ -61,6 +61,23 @@ public record Person(
         return new Person(id, name, birthDate, newAdmissionDate);
     }
 
+    /**
+     * Calcula a versão do conteúdo da pessoa: um hash de 64 bits (FNV-1a) de todos os campos.
+     * Estados iguais têm a mesma versão e qualquer alteração produz, com altíssima probabilidade,
+     * uma versão diferente; por não depender de contadores, continua válida após reinicializações.
+     * 
+     * @return versão do conteúdo
+     */
+    public long contentVersion() {
+        long hash = 0xCBF29CE484222325L;
+        hash = (hash ^ id) * 0x100000001B3L;
+        for (int i = 0; i < name.length(); i++) {
+            hash = (hash ^ name.charAt(i)) * 0x100000001B3L;
+        }
+        hash = (hash ^ birthDate.toEpochDay()) * 0x100000001B3L;
+        return (hash ^ admissionDate.toEpochDay()) * 0x100000001B3L;
+    }
+
     /**
      * Calcula os anos de serviço da pessoa baseado na data de admissão.
      * 
@@ -0,0 +1,32 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Datas de uma pessoa que podem ser consultadas por intervalo.
+ */
+public enum DateField {
+    /** Data de nascimento */
+    BIRTH_DATE(Person::birthDate),
+    /** Data de admissão */
+    ADMISSION_DATE(Person::admissionDate);
+
+    private final Function<Person, LocalDate> accessor;
+
+    DateField(Function<Person, LocalDate> accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * Retorna a data correspondente da pessoa.
+     *
+     * @param person pessoa
+     * @return data da pessoa
+     */
+    public LocalDate of(Person person) {
+        return accessor.apply(person);
+    }
+}
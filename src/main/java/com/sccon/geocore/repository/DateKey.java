@@ -0,0 +1,56 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * Posição de uma pessoa na ordenação por uma data, com o ID como desempate.
+ * É a chave dos índices de datas e também o cursor da paginação de consultas por intervalo.
+ *
+ * @param epochDay data em dias desde a época
+ * @param id ID da pessoa
+ */
+public record DateKey(long epochDay, long id) implements Comparable<DateKey> {
+
+    /** Ordem por data e, em caso de empate, por ID */
+    public static final Comparator<DateKey> ORDER = Comparator.comparingLong(DateKey::epochDay)
+            .thenComparingLong(DateKey::id);
+
+    /**
+     * Cria a chave correspondente a uma pessoa.
+     *
+     * @param field data usada na ordenação
+     * @param person pessoa
+     * @return chave de ordenação da pessoa
+     */
+    public static DateKey of(DateField field, Person person) {
+        return new DateKey(field.of(person).toEpochDay(), person.id());
+    }
+
+    /**
+     * Retorna a menor chave possível de uma data, anterior a qualquer pessoa daquele dia.
+     *
+     * @param date data
+     * @return chave inicial do dia
+     */
+    public static DateKey first(LocalDate date) {
+        return new DateKey(date.toEpochDay(), Long.MIN_VALUE);
+    }
+
+    /**
+     * Retorna a maior chave possível de uma data, posterior a qualquer pessoa daquele dia.
+     *
+     * @param date data
+     * @return chave final do dia
+     */
+    public static DateKey last(LocalDate date) {
+        return new DateKey(date.toEpochDay(), Long.MAX_VALUE);
+    }
+
+    @Override
+    public int compareTo(DateKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,40 @@
+package com.sccon.geocore.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Intervalo fechado de datas; um limite nulo deixa o intervalo aberto daquele lado.
+ *
+ * @param from data inicial (inclusiva), ou null
+ * @param to data final (inclusiva), ou null
+ */
+public record DateRange(LocalDate from, LocalDate to) {
+
+    /** Intervalo sem limites */
+    public static final DateRange UNBOUNDED = new DateRange(null, null);
+
+    public DateRange {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Data inicial " + from + " é posterior à data final " + to);
+        }
+    }
+
+    /**
+     * Indica se o intervalo tem ao menos um limite.
+     *
+     * @return true se houver data inicial ou final
+     */
+    public boolean isBounded() {
+        return from != null || to != null;
+    }
+
+    /**
+     * Verifica se a data está dentro do intervalo.
+     *
+     * @param date data a ser verificada
+     * @return true se a data estiver entre os limites, inclusive
+     */
+    public boolean contains(LocalDate date) {
+        return (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+    }
+}
@@ -0,0 +1,29 @@
+package com.sccon.geocore.repository;
+
+/**
+ * Exceção lançada quando uma inserção encontra o ID já ocupado por outra pessoa.
+ * Estende {@link IllegalArgumentException}, tratada como requisição inválida.
+ */
+public class DuplicateIdException extends IllegalArgumentException {
+
+    private final long id;
+
+    /**
+     * Cria a exceção.
+     *
+     * @param id ID já ocupado
+     */
+    public DuplicateIdException(long id) {
+        super("Pessoa com ID " + id + " já existe no sistema");
+        this.id = id;
+    }
+
+    /**
+     * Retorna o ID já ocupado.
+     *
+     * @return ID da pessoa existente
+     */
+    public long getId() {
+        return id;
+    }
+}
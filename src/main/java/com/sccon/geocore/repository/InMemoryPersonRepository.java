@@ -1,29 +1,118 @@
 package com.sccon.geocore.repository;
 
 import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.collection.ConcurrentLongObjectMap;
+import com.sccon.geocore.repository.index.DateIndex;
+import com.sccon.geocore.repository.index.NameIndex;
+import com.sccon.geocore.repository.index.NameSearchIndex;
+import com.sccon.geocore.repository.wal.SnapshotFile;
+import com.sccon.geocore.repository.wal.WriteAheadLog;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
+/**
+ * Implementação de {@link PersonRepository} que mantém as pessoas em memória.
+ *
+ * <p>Opcionalmente registra cada escrita em um {@link WriteAheadLog}; leituras nunca tocam o log.
+ * No modo durável, a escrita é registrada e confirmada no log antes de ser aplicada: só depois
+ * do {@code commit} ela chega ao armazenamento, aos índices e aos observadores. Se o commit
+ * falhar, a escrita não é aplicada nem notificada e o erro chega a quem a pediu. O bloqueio do
+ * ID fica retido durante o commit, então escritas em IDs diferentes continuam compartilhando o
+ * mesmo fsync.
+ *
+ * <p>Na construção, o estado é recuperado carregando o último snapshot e reaplicando apenas os
+ * segmentos do log posteriores a ele. {@link #checkpoint()} grava um novo snapshot sem bloquear
+ * as escritas durante a varredura (checkpoint fuzzy).
+ */
 public class InMemoryPersonRepository implements PersonRepository {
 
-    private final Map<Long, Person> personStore = new ConcurrentHashMap<>();
+    private final ConcurrentLongObjectMap<Person> personStore = new ConcurrentLongObjectMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private final DateIndex birthDateIndex = new DateIndex(DateField.BIRTH_DATE);
+    private final DateIndex admissionDateIndex = new DateIndex(DateField.ADMISSION_DATE);
+    private final NameSearchIndex nameSearchIndex = new NameSearchIndex();
+    private final List<PersonChangeListener> indexes =
+            List.of(nameIndex, birthDateIndex, admissionDateIndex, nameSearchIndex);
+    private final List<PersonChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private final WriteAheadLog wal;
+    /**
+     * Escritas duráveis detêm o bloqueio de leitura; o checkpoint detém o de escrita apenas
+     * enquanto troca o segmento do log, garantindo que nenhuma escrita fique dividida entre
+     * o segmento antigo e o estado ainda não aplicado.
+     */
+    private final ReadWriteLock checkpointGate = new ReentrantReadWriteLock();
+
+    /**
+     * Cria um repositório volátil, sem log de escrita.
+     */
+    public InMemoryPersonRepository() {
+        this(null);
+    }
+
+    /**
+     * Cria um repositório durável, recuperando o estado do snapshot e do log.
+     *
+     * @param wal log de escrita, ou null para um repositório volátil
+     */
+    public InMemoryPersonRepository(WriteAheadLog wal) {
+        this.wal = wal;
+        if (wal != null) {
+            long firstSegment = SnapshotFile.load(wal.snapshotFile(), this::restore);
+            wal.replay(firstSegment, this::restore, this::restoreDeletion);
+        }
+    }
 
     @Override
     public Person save(Person person) {
-        personStore.put(person.id(), person);
+        mutate(person.id(), (key, previous) -> person);
+        return person;
+    }
+
+    @Override
+    public Person insert(Person person) {
+        mutate(person.id(), (key, previous) -> {
+            if (previous != null) {
+                throw new DuplicateIdException(key);
+            }
+            return person;
+        });
         return person;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>No modo durável, o lote inteiro é registrado no log antes de um único {@code commit},
+     * então o lote custa um fsync em vez de um por pessoa; se o commit falhar, nenhuma pessoa do
+     * lote é aplicada.
+     */
+    @Override
+    public void saveAll(List<Person> people) {
+        applyBatch(people, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>No modo durável, o lote inteiro é registrado no log antes de um único {@code commit};
+     * se o commit falhar, nenhuma pessoa do lote é aplicada.
+     */
     @Override
-    public Optional<Person> findById(Long id) {
+    public List<Person> insertAll(List<Person> people) {
+        return applyBatch(people, true);
+    }
+
+    @Override
+    public Optional<Person> findById(long id) {
         return Optional.ofNullable(personStore.get(id));
     }
 
     @Override
-    public Person update(Long id, UnaryOperator<Person> updater) {
-        return personStore.compute(id, (key, existingPerson) -> {
+    public Person update(long id, UnaryOperator<Person> updater) {
+        return mutate(id, (key, existingPerson) -> {
             if (existingPerson == null) {
                 throw new java.util.NoSuchElementException("Person with id %s not found".formatted(id));
             }
@@ -33,27 +122,237 @@ public class InMemoryPersonRepository implements PersonRepository {
 
     @Override
     public List<Person> findAll() {
-        return new ArrayList<>(personStore.values());
+        List<Person> people = new ArrayList<>(personStore.size());
+        personStore.forEachValue(people::add);
+        return people;
     }
 
     @Override
-    public void deleteById(Long id) {
-        if (!personStore.containsKey(id)) {
-            throw new java.util.NoSuchElementException("Person with id %s not found".formatted(id));
-        }
-        personStore.remove(id);
+    public Stream<Person> streamOrderedByName() {
+        return nameIndex.stream();
+    }
+
+    @Override
+    public Stream<Person> streamOrderedByName(NameKey after) {
+        return nameIndex.streamAfter(after);
+    }
+
+    @Override
+    public Stream<Person> streamByDate(DateField field, DateRange range) {
+        return dateIndex(field).range(range, null);
+    }
+
+    @Override
+    public Stream<Person> streamByDate(DateField field, DateRange range, DateKey after) {
+        return dateIndex(field).range(range, after);
+    }
+
+    @Override
+    public List<Person> findFirstByDate(DateField field, boolean descending, int limit) {
+        return dateIndex(field).first(descending, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Usa o índice de busca textual.
+     */
+    @Override
+    public List<Person> searchByName(String query, NameMatch match, int limit) {
+        return nameSearchIndex.search(query, match, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Alterações reaplicadas do log durante a recuperação não são notificadas.
+     */
+    @Override
+    public void addChangeListener(PersonChangeListener listener) {
+        changeListeners.add(listener);
     }
 
     @Override
-    public boolean existsById(Long id) {
+    public void deleteById(long id) {
+        mutate(id, (key, existingPerson) -> {
+            if (existingPerson == null) {
+                throw new java.util.NoSuchElementException("Person with id %s not found".formatted(id));
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsById(long id) {
         return personStore.containsKey(id);
     }
 
     @Override
-    public Long getNextId() {
-        return personStore.keySet().stream()
-                .mapToLong(Long::longValue)
-                .max()
-                .orElse(0L) + 1;
+    public long count() {
+        return personStore.size();
+    }
+
+    /**
+     * Grava um snapshot do estado atual e descarta os segmentos do log cobertos por ele.
+     *
+     * <p>As escritas ficam bloqueadas apenas durante a troca do segmento do log. A varredura
+     * que grava o snapshot corre em paralelo com novas escritas e pode capturar parte delas;
+     * como todas também estão no novo segmento e seus registros são idempotentes, reaplicá-lo
+     * sobre o snapshot reconstrói o estado exato. Os segmentos antigos só são apagados depois
+     * que o snapshot, sua renomeação e o novo segmento estão em disco.
+     *
+     * @throws IllegalStateException se o repositório não estiver no modo durável
+     */
+    public synchronized void checkpoint() {
+        if (wal == null) {
+            throw new IllegalStateException("Checkpoint requer o modo durável (log de escrita)");
+        }
+        long segment;
+        checkpointGate.writeLock().lock();
+        try {
+            segment = wal.rotate();
+        } finally {
+            checkpointGate.writeLock().unlock();
+        }
+        SnapshotFile.write(wal.snapshotFile(), segment, personStore::forEachValue);
+        wal.deleteSegmentsBefore(segment);
+    }
+
+    private DateIndex dateIndex(DateField field) {
+        return switch (field) {
+            case BIRTH_DATE -> birthDateIndex;
+            case ADMISSION_DATE -> admissionDateIndex;
+        };
+    }
+
+    /**
+     * Aplica uma escrita sob o bloqueio do ID. No modo durável, a escrita é registrada e
+     * confirmada no log antes de ser aplicada e notificada; se a função ou o commit lançarem
+     * uma exceção, nada é alterado.
+     *
+     * @param id ID alterado
+     * @param change recebe o estado atual (ou null) e devolve o novo estado (ou null para remover)
+     * @return novo estado, ou null em remoções
+     */
+    private Person mutate(long id, ConcurrentLongObjectMap.Remapper<Person> change) {
+        if (wal == null) {
+            return personStore.compute(id, (key, previous) -> {
+                Person current = change.apply(key, previous);
+                notifyListeners(previous, current);
+                return current;
+            });
+        }
+        checkpointGate.readLock().lock();
+        try {
+            return personStore.compute(id, (key, previous) -> {
+                Person current = change.apply(key, previous);
+                wal.onChange(previous, current);
+                wal.commit();
+                notifyListeners(previous, current);
+                return current;
+            });
+        } finally {
+            checkpointGate.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica um lote. No modo durável, bloqueia os segmentos de todos os IDs do lote, registra
+     * as alterações no log, confirma-as com um único {@code commit} e só então as aplica; se o
+     * commit falhar, nenhuma é aplicada.
+     *
+     * @param people pessoas do lote, na ordem de aplicação
+     * @param insertOnly true para recusar as pessoas cujo ID já existe
+     * @return pessoas recusadas, na ordem do lote
+     */
+    private List<Person> applyBatch(List<Person> people, boolean insertOnly) {
+        List<Person> rejected = new ArrayList<>();
+        if (wal == null) {
+            for (Person person : people) {
+                personStore.compute(person.id(), (key, previous) -> {
+                    if (insertOnly && previous != null) {
+                        rejected.add(person);
+                        return previous;
+                    }
+                    notifyListeners(previous, person);
+                    return person;
+                });
+            }
+            return rejected;
+        }
+        long[] ids = people.stream().mapToLong(Person::id).toArray();
+        checkpointGate.readLock().lock();
+        try {
+            personStore.runLocked(ids, () -> {
+                Map<Long, Person> staged = new HashMap<>();
+                List<Person> previousStates = new ArrayList<>(people.size());
+                List<Person> accepted = new ArrayList<>(people.size());
+                for (Person person : people) {
+                    Person previous = staged.containsKey(person.id())
+                            ? staged.get(person.id()) : personStore.get(person.id());
+                    if (insertOnly && previous != null) {
+                        rejected.add(person);
+                        continue;
+                    }
+                    wal.onChange(previous, person);
+                    staged.put(person.id(), person);
+                    previousStates.add(previous);
+                    accepted.add(person);
+                }
+                wal.commit();
+                for (int i = 0; i < accepted.size(); i++) {
+                    Person person = accepted.get(i);
+                    personStore.put(person.id(), person);
+                    notifyListeners(previousStates.get(i), person);
+                }
+            });
+        } finally {
+            checkpointGate.readLock().unlock();
+        }
+        return rejected;
+    }
+
+    /**
+     * Propaga uma alteração aplicada aos índices e aos observadores enquanto o bloqueio do ID
+     * ainda está retido.
+     *
+     * @param previous estado anterior, ou null em inserções
+     * @param current novo estado, ou null em remoções
+     */
+    private void notifyListeners(Person previous, Person current) {
+        notifyIndexes(previous, current);
+        for (PersonChangeListener listener : changeListeners) {
+            listener.onChange(previous, current);
+        }
+    }
+
+    private void notifyIndexes(Person previous, Person current) {
+        for (PersonChangeListener index : indexes) {
+            index.onChange(previous, current);
+        }
+    }
+
+    /**
+     * Reaplica uma gravação recuperada do log, sem registrá-la novamente.
+     *
+     * @param person estado gravado da pessoa
+     */
+    private void restore(Person person) {
+        personStore.compute(person.id(), (key, previous) -> {
+            notifyIndexes(previous, person);
+            return person;
+        });
+    }
+
+    /**
+     * Reaplica uma remoção recuperada do log, sem registrá-la novamente.
+     *
+     * @param id ID da pessoa removida
+     */
+    private void restoreDeletion(long id) {
+        personStore.compute(id, (key, previous) -> {
+            if (previous != null) {
+                notifyIndexes(previous, null);
+            }
+            return null;
+        });
     }
 }
@@ -0,0 +1,391 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.collection.PersistentLongMap;
+import com.sccon.geocore.repository.collection.PersistentTreeMap;
+import com.sccon.geocore.repository.index.NameSearchIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Implementação de {@link PersonRepository} com controle de concorrência multiversão (MVCC).
+ *
+ * <p>As pessoas ficam em um {@link PersistentLongMap} imutável. Cada escrita cria uma nova
+ * versão do mapa, que compartilha com a anterior tudo o que não mudou, e a publica em uma
+ * referência atômica. Leitores capturam a versão atual com uma única leitura volátil e a
+ * percorrem sem bloqueio nem cópia: um {@link #snapshot()} continua igual mesmo que escritas
+ * sejam confirmadas durante a iteração.
+ *
+ * <p>As escritas são serializadas, então a ordem das versões é a ordem de confirmação. As ordens
+ * por nome e por data também são {@link PersistentTreeMap}s imutáveis, atualizadas pela mesma
+ * escrita em O(log n) e publicadas na mesma versão que o mapa de pessoas. Uma listagem percorre
+ * a ordem da versão capturada: o cursor é localizado em O(log n) e a página avança sob demanda,
+ * sem copiar nem ordenar o cadastro.
+ *
+ * <p>A busca textual por nome usa um {@link NameSearchIndex} atualizado sob o bloqueio de
+ * escrita, logo depois de cada versão ser publicada; ele não é versionado e reflete a última
+ * escrita confirmada, não um snapshot.
+ */
+public class MvccPersonRepository implements PersonRepository {
+
+    private final AtomicReference<Snapshot> head =
+            new AtomicReference<>(Snapshot.EMPTY);
+    private final Object writeLock = new Object();
+    private final List<PersonChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private final NameSearchIndex nameSearchIndex = new NameSearchIndex();
+
+    @Override
+    public Person save(Person person) {
+        return write(person.id(), previous -> person);
+    }
+
+    @Override
+    public Person insert(Person person) {
+        return write(person.id(), previous -> {
+            if (previous != null) {
+                throw new DuplicateIdException(person.id());
+            }
+            return person;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O lote é publicado como uma única versão: leitores veem todas as pessoas do lote
+     * ou nenhuma.
+     */
+    @Override
+    public void saveAll(List<Person> people) {
+        synchronized (writeLock) {
+            Snapshot snapshot = head.get();
+            Person[] previous = new Person[people.size()];
+            for (int i = 0; i < people.size(); i++) {
+                Person person = people.get(i);
+                previous[i] = snapshot.people().get(person.id());
+                snapshot = snapshot.with(previous[i], person);
+            }
+            head.set(snapshot);
+            for (int i = 0; i < people.size(); i++) {
+                notifyListeners(previous[i], people.get(i));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>As pessoas inseridas são publicadas como uma única versão.
+     */
+    @Override
+    public List<Person> insertAll(List<Person> people) {
+        synchronized (writeLock) {
+            Snapshot snapshot = head.get();
+            List<Person> inserted = new ArrayList<>(people.size());
+            List<Person> rejected = new ArrayList<>();
+            for (Person person : people) {
+                if (snapshot.people().get(person.id()) != null) {
+                    rejected.add(person);
+                } else {
+                    snapshot = snapshot.with(null, person);
+                    inserted.add(person);
+                }
+            }
+            head.set(snapshot);
+            for (Person person : inserted) {
+                notifyListeners(null, person);
+            }
+            return rejected;
+        }
+    }
+
+    @Override
+    public Optional<Person> findById(long id) {
+        return head.get().findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Todos os IDs são buscados no mesmo snapshot, então o lote reflete um instante coerente.
+     */
+    @Override
+    public List<Person> findAllById(long[] ids) {
+        PersistentLongMap<Person> people = head.get().people();
+        List<Person> found = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Person person = people.get(id);
+            if (person != null) {
+                found.add(person);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Person update(long id, UnaryOperator<Person> updater) {
+        return write(id, existingPerson -> {
+            if (existingPerson == null) {
+                throw new NoSuchElementException("Person with id %s not found".formatted(id));
+            }
+            return updater.apply(existingPerson);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>A lista é copiada de um único snapshot, então reflete um instante coerente.
+     */
+    @Override
+    public List<Person> findAll() {
+        PersistentLongMap<Person> people = head.get().people();
+        List<Person> copy = new ArrayList<>(people.size());
+        people.forEachValue(copy::add);
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Percorre a ordem por nome do snapshot atual.
+     */
+    @Override
+    public Stream<Person> streamOrderedByName() {
+        return head.get().byName().values();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Localiza o cursor em O(log n) na ordem por nome do snapshot atual.
+     */
+    @Override
+    public Stream<Person> streamOrderedByName(NameKey after) {
+        return head.get().byName().valuesFrom(after, false);
+    }
+
+    @Override
+    public Stream<Person> streamByDate(DateField field, DateRange range) {
+        return streamByDate(field, range, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Localiza o início do intervalo em O(log n) na ordem da data do snapshot atual e para no
+     * fim do intervalo.
+     */
+    @Override
+    public Stream<Person> streamByDate(DateField field, DateRange range, DateKey after) {
+        PersistentTreeMap<DateKey, Person> ordered = head.get().byDate(field);
+        DateKey start = range.from() == null ? null : DateKey.first(range.from());
+        Stream<Person> people;
+        if (after != null && (start == null || after.compareTo(start) >= 0)) {
+            people = ordered.valuesFrom(after, false);
+        } else if (start != null) {
+            people = ordered.valuesFrom(start, true);
+        } else {
+            people = ordered.values();
+        }
+        return range.to() == null ? people
+                : people.takeWhile(person -> !field.of(person).isAfter(range.to()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Lê apenas a ponta da ordem da data do snapshot atual, em O(log n + limit).
+     */
+    @Override
+    public List<Person> findFirstByDate(DateField field, boolean descending, int limit) {
+        PersistentTreeMap<DateKey, Person> ordered = head.get().byDate(field);
+        return (descending ? ordered.descendingValues() : ordered.values()).limit(limit).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Percorre o snapshot atual: o resultado reflete um único instante, mesmo que escritas
+     * sejam confirmadas durante a iteração.
+     */
+    @Override
+    public Stream<Person> streamAll() {
+        return head.get().stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Captura a versão atual sem copiar nem bloquear.
+     */
+    @Override
+    public PersonSnapshot snapshot() {
+        return head.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Usa o índice de busca textual, que reflete a última escrita confirmada.
+     */
+    @Override
+    public List<Person> searchByName(String query, NameMatch match, int limit) {
+        return nameSearchIndex.search(query, match, limit);
+    }
+
+    @Override
+    public void addChangeListener(PersonChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public long count() {
+        return head.get().size();
+    }
+
+    @Override
+    public void deleteById(long id) {
+        write(id, existingPerson -> {
+            if (existingPerson == null) {
+                throw new NoSuchElementException("Person with id %s not found".formatted(id));
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return head.get().people().get(id) != null;
+    }
+
+    /**
+     * Retorna a versão atual: a quantidade de escritas confirmadas.
+     *
+     * @return versão atual
+     */
+    public long version() {
+        return head.get().version();
+    }
+
+    /**
+     * Aplica uma escrita sobre a versão atual, publica a versão resultante e notifica os
+     * observadores, ainda sob o bloqueio de escrita. Se a função lançar uma exceção, nenhuma
+     * versão é publicada.
+     *
+     * @param id ID alterado
+     * @param change recebe o estado atual (ou null) e devolve o novo estado (ou null para remover)
+     * @return novo estado, ou null em remoções
+     */
+    private Person write(long id, UnaryOperator<Person> change) {
+        synchronized (writeLock) {
+            Snapshot base = head.get();
+            Person previous = base.people().get(id);
+            Person current = change.apply(previous);
+            head.set(base.with(previous, current));
+            notifyListeners(previous, current);
+            return current;
+        }
+    }
+
+    /**
+     * Atualiza o índice de busca textual e notifica os observadores; deve ser chamado com o
+     * bloqueio de escrita.
+     */
+    private void notifyListeners(Person previous, Person current) {
+        nameSearchIndex.onChange(previous, current);
+        for (PersonChangeListener listener : changeListeners) {
+            listener.onChange(previous, current);
+        }
+    }
+
+    /**
+     * Versão publicada do repositório: o mapa de pessoas e as ordens por nome e por data, todos
+     * imutáveis e atualizados juntos por {@link #with(Person, Person)}.
+     */
+    private static final class Snapshot implements PersonSnapshot {
+
+        static final Snapshot EMPTY = new Snapshot(0, PersistentLongMap.empty(), PersistentTreeMap.empty(),
+                PersistentTreeMap.empty(), PersistentTreeMap.empty());
+
+        private final long version;
+        private final PersistentLongMap<Person> people;
+        private final PersistentTreeMap<NameKey, Person> byName;
+        private final PersistentTreeMap<DateKey, Person> byBirthDate;
+        private final PersistentTreeMap<DateKey, Person> byAdmissionDate;
+
+        /**
+         * @param version quantidade de escritas confirmadas até esta versão
+         * @param people pessoas desta versão
+         * @param byName pessoas desta versão por nome e ID
+         * @param byBirthDate pessoas desta versão por data de nascimento e ID
+         * @param byAdmissionDate pessoas desta versão por data de admissão e ID
+         */
+        private Snapshot(long version, PersistentLongMap<Person> people, PersistentTreeMap<NameKey, Person> byName,
+                         PersistentTreeMap<DateKey, Person> byBirthDate,
+                         PersistentTreeMap<DateKey, Person> byAdmissionDate) {
+            this.version = version;
+            this.people = people;
+            this.byName = byName;
+            this.byBirthDate = byBirthDate;
+            this.byAdmissionDate = byAdmissionDate;
+        }
+
+        /**
+         * Retorna a versão seguinte, com uma escrita aplicada ao mapa e às ordens, em O(log n).
+         *
+         * @param previous estado anterior, ou null em inserções
+         * @param current novo estado, ou null em remoções
+         * @return próxima versão
+         */
+        Snapshot with(Person previous, Person current) {
+            PersistentLongMap<Person> nextPeople = people;
+            PersistentTreeMap<NameKey, Person> nextByName = byName;
+            PersistentTreeMap<DateKey, Person> nextByBirthDate = byBirthDate;
+            PersistentTreeMap<DateKey, Person> nextByAdmissionDate = byAdmissionDate;
+            if (previous != null) {
+                nextPeople = nextPeople.remove(previous.id());
+                nextByName = nextByName.remove(NameKey.of(previous));
+                nextByBirthDate = nextByBirthDate.remove(DateKey.of(DateField.BIRTH_DATE, previous));
+                nextByAdmissionDate = nextByAdmissionDate.remove(DateKey.of(DateField.ADMISSION_DATE, previous));
+            }
+            if (current != null) {
+                nextPeople = nextPeople.put(current.id(), current);
+                nextByName = nextByName.put(NameKey.of(current), current);
+                nextByBirthDate = nextByBirthDate.put(DateKey.of(DateField.BIRTH_DATE, current), current);
+                nextByAdmissionDate = nextByAdmissionDate.put(DateKey.of(DateField.ADMISSION_DATE, current), current);
+            }
+            return new Snapshot(version + 1, nextPeople, nextByName, nextByBirthDate, nextByAdmissionDate);
+        }
+
+        PersistentLongMap<Person> people() {
+            return people;
+        }
+
+        PersistentTreeMap<NameKey, Person> byName() {
+            return byName;
+        }
+
+        PersistentTreeMap<DateKey, Person> byDate(DateField field) {
+            return switch (field) {
+                case BIRTH_DATE -> byBirthDate;
+                case ADMISSION_DATE -> byAdmissionDate;
+            };
+        }
+        @Override
+        public long version() {
+            return version;
+        }
+
+        @Override
+        public long size() {
+            return people.size();
+        }
+
+        @Override
+        public Optional<Person> findById(long id) {
+            return Optional.ofNullable(people.get(id));
+        }
+
+        @Override
+        public Stream<Person> stream() {
+            return people.values();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Posição de uma pessoa na ordenação por nome, com o ID como desempate.
+ * É a chave do índice de nomes e também o cursor da paginação de listagens ordenadas.
+ *
+ * @param name nome da pessoa
+ * @param id ID da pessoa
+ */
+public record NameKey(String name, long id) implements Comparable<NameKey> {
+
+    /** Ordem por nome e, em caso de empate, por ID */
+    public static final Comparator<NameKey> ORDER = Comparator.comparing(NameKey::name)
+            .thenComparingLong(NameKey::id);
+
+    public NameKey {
+        Objects.requireNonNull(name, "name");
+    }
+
+    /**
+     * Cria a chave correspondente a uma pessoa.
+     *
+     * @param person pessoa
+     * @return chave de ordenação da pessoa
+     */
+    public static NameKey of(Person person) {
+        return new NameKey(person.name(), person.id());
+    }
+
+    @Override
+    public int compareTo(NameKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sccon.geocore.repository;
+
+/**
+ * Modos de busca por nome. Nome e termo são comparados sem acentos e sem diferenciar
+ * maiúsculas de minúsculas.
+ */
+public enum NameMatch {
+    /** Alguma palavra do nome começa com o termo */
+    PREFIX,
+    /** O nome contém o termo em qualquer posição */
+    CONTAINS,
+    /** O nome é parecido com o termo, tolerando erros de digitação (similaridade de trigramas) */
+    FUZZY;
+
+    /**
+     * Converte o valor do parâmetro de requisição no modo correspondente.
+     *
+     * @param value valor do parâmetro (prefix, contains, fuzzy)
+     * @return modo de busca
+     * @throws IllegalArgumentException se o valor for desconhecido
+     */
+    public static NameMatch fromParam(String value) {
+        return switch (value.toLowerCase()) {
+            case "prefix" -> PREFIX;
+            case "contains" -> CONTAINS;
+            case "fuzzy" -> FUZZY;
+            default -> throw new IllegalArgumentException("Modo de busca inválido: " + value +
+                    ". Valores aceitos: prefix, contains, fuzzy");
+        };
+    }
+}
@@ -0,0 +1,674 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.collection.LongIntHashMap;
+import com.sccon.geocore.repository.collection.SortedIntList;
+import com.sccon.geocore.repository.index.NameSearchIndex;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementação colunar de {@link PersonRepository} que mantém os dados fora do heap.
+ *
+ * <p>Cada pessoa ocupa uma linha em colunas primitivas alocadas em {@link ByteBuffer}s diretos:
+ * ID ({@code long}), datas de nascimento e admissão em dias desde a época ({@code int}) e a
+ * posição do nome em uma arena de bytes. Nomes compostos apenas por caracteres Latin-1 usam
+ * um byte por caractere; os demais usam UTF-16. Objetos {@link Person} só são criados ao
+ * devolver dados para o chamador.
+ *
+ * <p>O índice de IDs para linhas usa arrays primitivos no heap e as linhas removidas são
+ * reaproveitadas. Nomes substituídos viram lixo na arena, que é compactada antes de crescer
+ * quando o lixo passa de metade do espaço usado. As ordenações por nome e por data são
+ * listas de linhas em blocos ({@link SortedIntList}) atualizadas a cada escrita, sem nunca
+ * reordenar o repositório inteiro; consultas por cursor ou intervalo localizam o início por
+ * busca binária. A busca textual por nome usa um {@link NameSearchIndex} no heap, atualizado
+ * pelas mesmas escritas; ele guarda os objetos {@link Person} indexados e é o principal custo
+ * de heap por registro.
+ *
+ * <p>Leituras são concorrentes entre si; escritas são exclusivas. Streams ordenados leem lotes
+ * de tamanho crescente, cada um sob o bloqueio de leitura, e retomam o lote seguinte pela chave
+ * da última pessoa lida: escritas entre lotes nunca expõem uma linha removida ou reaproveitada.
+ */
+public class OffHeapPersonRepository implements PersonRepository {
+
+    private static final int INITIAL_ROWS = 1024;
+    private static final int INITIAL_ARENA_BYTES = 16 * 1024;
+    private static final byte LATIN1 = 0;
+    private static final byte UTF16 = 1;
+    /** Marca de linha livre na coluna de tamanho do nome */
+    private static final int FREE_ROW = -1;
+    /** Tamanho do primeiro lote de um stream ordenado, dobrado a cada lote */
+    private static final int FIRST_BATCH = 16;
+    private static final int MAX_BATCH = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowsById = new LongIntHashMap(INITIAL_ROWS);
+    private final List<PersonChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private final NameSearchIndex nameSearchIndex = new NameSearchIndex();
+
+    private ByteBuffer ids = ByteBuffer.allocateDirect(INITIAL_ROWS * Long.BYTES);
+    private ByteBuffer birthDays = ByteBuffer.allocateDirect(INITIAL_ROWS * Integer.BYTES);
+    private ByteBuffer admissionDays = ByteBuffer.allocateDirect(INITIAL_ROWS * Integer.BYTES);
+    private ByteBuffer nameOffsets = ByteBuffer.allocateDirect(INITIAL_ROWS * Integer.BYTES);
+    /** Quantidade de caracteres do nome, ou {@link #FREE_ROW} para linhas livres */
+    private ByteBuffer nameLengths = ByteBuffer.allocateDirect(INITIAL_ROWS * Integer.BYTES);
+    private ByteBuffer nameCoders = ByteBuffer.allocateDirect(INITIAL_ROWS);
+    private ByteBuffer nameArena = ByteBuffer.allocateDirect(INITIAL_ARENA_BYTES);
+
+    private int capacity = INITIAL_ROWS;
+    private int rowCount;
+    private int arenaSize;
+    private int arenaGarbage;
+    private int[] freeRows = new int[16];
+    private int freeCount;
+    /** Linhas ativas ordenadas por nome e ID */
+    private final SortedIntList rowsByName = new SortedIntList(this::compareRows);
+    /** Linhas ativas ordenadas por data de nascimento e ID */
+    private final SortedIntList rowsByBirthDate = new SortedIntList((a, b) -> compareRows(DateField.BIRTH_DATE, a, b));
+    /** Linhas ativas ordenadas por data de admissão e ID */
+    private final SortedIntList rowsByAdmissionDate =
+            new SortedIntList((a, b) -> compareRows(DateField.ADMISSION_DATE, a, b));
+
+    @Override
+    public Person save(Person person) {
+        lock.writeLock().lock();
+        try {
+            int row = rowsById.get(person.id());
+            Person previous = null;
+            if (row == LongIntHashMap.NO_VALUE) {
+                row = allocateRow();
+                rowsById.put(person.id(), row);
+                writeRow(row, person);
+            } else {
+                previous = readRow(row);
+                overwriteRow(row, person);
+            }
+            notifyListeners(previous, person);
+            return person;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Person insert(Person person) {
+        lock.writeLock().lock();
+        try {
+            if (rowsById.get(person.id()) != LongIntHashMap.NO_VALUE) {
+                throw new DuplicateIdException(person.id());
+            }
+            insertRow(person);
+            return person;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O lote inteiro é inserido sob um único bloqueio de escrita.
+     */
+    @Override
+    public List<Person> insertAll(List<Person> people) {
+        List<Person> rejected = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            for (Person person : people) {
+                if (rowsById.get(person.id()) != LongIntHashMap.NO_VALUE) {
+                    rejected.add(person);
+                } else {
+                    insertRow(person);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return rejected;
+    }
+
+    @Override
+    public Optional<Person> findById(long id) {
+        lock.readLock().lock();
+        try {
+            int row = rowsById.get(id);
+            return row == LongIntHashMap.NO_VALUE ? Optional.empty() : Optional.of(readRow(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O lote inteiro é lido sob um único bloqueio de leitura.
+     */
+    @Override
+    public List<Person> findAllById(long[] ids) {
+        List<Person> found = new ArrayList<>(ids.length);
+        lock.readLock().lock();
+        try {
+            for (long id : ids) {
+                int row = rowsById.get(id);
+                if (row != LongIntHashMap.NO_VALUE) {
+                    found.add(readRow(row));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    @Override
+    public Person update(long id, UnaryOperator<Person> updater) {
+        lock.writeLock().lock();
+        try {
+            int row = rowsById.get(id);
+            if (row == LongIntHashMap.NO_VALUE) {
+                throw new NoSuchElementException("Person with id %s not found".formatted(id));
+            }
+            Person existingPerson = readRow(row);
+            Person updated = updater.apply(existingPerson);
+            overwriteRow(row, updated);
+            notifyListeners(existingPerson, updated);
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Person> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Person> people = new ArrayList<>(rowsById.size());
+            for (int row = 0; row < rowCount; row++) {
+                if (isLive(row)) {
+                    people.add(readRow(row));
+                }
+            }
+            return people;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stream<Person> streamOrderedByName() {
+        return streamRows(rowsByName, row -> true, person -> afterName(NameKey.of(person)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Percorre as linhas na ordem de armazenamento, sem ordenar, decodificando uma pessoa
+     * por vez.
+     */
+    @Override
+    public Stream<Person> streamAll() {
+        int rows;
+        lock.readLock().lock();
+        try {
+            rows = rowCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return IntStream.range(0, rows)
+                .mapToObj(this::readLiveRow)
+                .filter(Optional::isPresent)
+                .map(Optional::get);
+    }
+
+    @Override
+    public Stream<Person> streamOrderedByName(NameKey after) {
+        return streamRows(rowsByName, afterName(after), person -> afterName(NameKey.of(person)));
+    }
+
+    @Override
+    public Stream<Person> streamByDate(DateField field, DateRange range) {
+        return streamByDate(field, range, null);
+    }
+
+    @Override
+    public Stream<Person> streamByDate(DateField field, DateRange range, DateKey after) {
+        DateKey start = range.from() != null ? DateKey.first(range.from()) : null;
+        if (after != null && (start == null || after.compareTo(start) > 0)) {
+            start = after;
+        }
+        Stream<Person> people = streamRows(sortedRows(field),
+                start == null ? row -> true : afterDate(field, start),
+                person -> afterDate(field, DateKey.of(field, person)));
+        return range.to() == null ? people : people.takeWhile(person -> !field.of(person).isAfter(range.to()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Lê as pontas da lista ordenada pela data sob um único bloqueio de leitura.
+     */
+    @Override
+    public List<Person> findFirstByDate(DateField field, boolean descending, int limit) {
+        List<Person> first = new ArrayList<>(Math.min(limit, 1024));
+        if (limit <= 0) {
+            return first;
+        }
+        IntPredicate collect = row -> {
+            first.add(readRow(row));
+            return first.size() < limit;
+        };
+        lock.readLock().lock();
+        try {
+            if (descending) {
+                sortedRows(field).forEachDescending(collect);
+            } else {
+                sortedRows(field).forEachFrom(row -> true, collect);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return List.copyOf(first);
+    }
+
+    @Override
+    public void deleteById(long id) {
+        lock.writeLock().lock();
+        try {
+            int row = rowsById.remove(id);
+            if (row == LongIntHashMap.NO_VALUE) {
+                throw new NoSuchElementException("Person with id %s not found".formatted(id));
+            }
+            notifyListeners(readRow(row), null);
+            unindexRow(row);
+            arenaGarbage += nameBytes(row);
+            nameLengths.putInt(row * Integer.BYTES, FREE_ROW);
+            pushFreeRow(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        lock.readLock().lock();
+        try {
+            return rowsById.get(id) != LongIntHashMap.NO_VALUE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Usa o índice de busca textual.
+     */
+    @Override
+    public List<Person> searchByName(String query, NameMatch match, int limit) {
+        return nameSearchIndex.search(query, match, limit);
+    }
+
+    @Override
+    public void addChangeListener(PersonChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return rowsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Grava uma pessoa de ID ainda ausente em uma nova linha; deve ser chamado com o bloqueio de
+     * escrita.
+     */
+    private void insertRow(Person person) {
+        int row = allocateRow();
+        rowsById.put(person.id(), row);
+        writeRow(row, person);
+        notifyListeners(null, person);
+    }
+
+    /**
+     * Atualiza o índice de busca textual e notifica os observadores; deve ser chamado com o
+     * bloqueio de escrita.
+     */
+    private void notifyListeners(Person previous, Person current) {
+        nameSearchIndex.onChange(previous, current);
+        for (PersonChangeListener listener : changeListeners) {
+            listener.onChange(previous, current);
+        }
+    }
+
+    /**
+     * Retorna a quantidade de bytes alocados fora do heap pelas colunas e pela arena de nomes.
+     *
+     * @return bytes alocados fora do heap
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) ids.capacity() + birthDays.capacity() + admissionDays.capacity()
+                    + nameOffsets.capacity() + nameLengths.capacity() + nameCoders.capacity()
+                    + nameArena.capacity();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Materializa em ordem as linhas de uma lista ordenada, em lotes de tamanho crescente.
+     * Cada lote é lido sob o bloqueio de leitura e o seguinte recomeça por busca binária a partir
+     * da última pessoa lida, então o custo de iniciar o stream não depende da posição de partida.
+     *
+     * @param sorted lista ordenada de linhas
+     * @param start indica se a linha está depois do ponto de partida
+     * @param after cria o predicado das linhas posteriores a uma pessoa já lida
+     * @return stream de pessoas
+     */
+    private Stream<Person> streamRows(SortedIntList sorted, IntPredicate start, Function<Person, IntPredicate> after) {
+        Spliterator<Person> batches = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private final ArrayDeque<Person> batch = new ArrayDeque<>();
+            private IntPredicate next = start;
+            private int batchSize = FIRST_BATCH;
+            private boolean exhausted;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Person> action) {
+                if (batch.isEmpty() && !exhausted) {
+                    readBatch();
+                }
+                Person person = batch.poll();
+                if (person == null) {
+                    return false;
+                }
+                action.accept(person);
+                return true;
+            }
+
+            private void readBatch() {
+                lock.readLock().lock();
+                try {
+                    sorted.forEachFrom(next, row -> {
+                        batch.add(readRow(row));
+                        return batch.size() < batchSize;
+                    });
+                } finally {
+                    lock.readLock().unlock();
+                }
+                exhausted = batch.size() < batchSize;
+                if (!batch.isEmpty()) {
+                    next = after.apply(batch.peekLast());
+                }
+                batchSize = Math.min(batchSize << 1, MAX_BATCH);
+            }
+        };
+        return StreamSupport.stream(batches, false);
+    }
+
+    private Optional<Person> readLiveRow(int row) {
+        lock.readLock().lock();
+        try {
+            return isLive(row) ? Optional.of(readRow(row)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SortedIntList sortedRows(DateField field) {
+        return field == DateField.BIRTH_DATE ? rowsByBirthDate : rowsByAdmissionDate;
+    }
+
+    private IntPredicate afterName(NameKey key) {
+        return row -> compareRowTo(row, key) > 0;
+    }
+
+    private IntPredicate afterDate(DateField field, DateKey key) {
+        return row -> compareRowTo(row, field, key) > 0;
+    }
+
+    /**
+     * Insere uma linha recém-escrita nas ordenações. Deve ser chamado com o bloqueio de escrita.
+     */
+    private void indexRow(int row) {
+        rowsByName.add(row);
+        rowsByBirthDate.add(row);
+        rowsByAdmissionDate.add(row);
+    }
+
+    /**
+     * Remove uma linha das ordenações antes que seu conteúdo mude. Deve ser chamado com o
+     * bloqueio de escrita.
+     */
+    private void unindexRow(int row) {
+        rowsByName.remove(row);
+        rowsByBirthDate.remove(row);
+        rowsByAdmissionDate.remove(row);
+    }
+
+    /**
+     * Compara duas linhas pela mesma ordem de {@link NameKey}: nome caractere a caractere
+     * (equivalente a {@link String#compareTo}) e, em caso de empate, ID.
+     */
+    private int compareRows(int a, int b) {
+        int lengthA = nameLength(a);
+        int lengthB = nameLength(b);
+        int common = Math.min(lengthA, lengthB);
+        for (int i = 0; i < common; i++) {
+            char charA = nameCharAt(a, i);
+            char charB = nameCharAt(b, i);
+            if (charA != charB) {
+                return charA - charB;
+            }
+        }
+        if (lengthA != lengthB) {
+            return lengthA - lengthB;
+        }
+        return Long.compare(ids.getLong(a * Long.BYTES), ids.getLong(b * Long.BYTES));
+    }
+
+    private int compareRows(DateField field, int a, int b) {
+        ByteBuffer days = dayColumn(field);
+        int byDay = Integer.compare(days.getInt(a * Integer.BYTES), days.getInt(b * Integer.BYTES));
+        return byDay != 0 ? byDay : Long.compare(ids.getLong(a * Long.BYTES), ids.getLong(b * Long.BYTES));
+    }
+
+    private int compareRowTo(int row, NameKey key) {
+        int length = nameLength(row);
+        String name = key.name();
+        int common = Math.min(length, name.length());
+        for (int i = 0; i < common; i++) {
+            char rowChar = nameCharAt(row, i);
+            char keyChar = name.charAt(i);
+            if (rowChar != keyChar) {
+                return rowChar - keyChar;
+            }
+        }
+        if (length != name.length()) {
+            return length - name.length();
+        }
+        return Long.compare(ids.getLong(row * Long.BYTES), key.id());
+    }
+
+    private int compareRowTo(int row, DateField field, DateKey key) {
+        int byDay = Long.compare(dayColumn(field).getInt(row * Integer.BYTES), key.epochDay());
+        return byDay != 0 ? byDay : Long.compare(ids.getLong(row * Long.BYTES), key.id());
+    }
+
+    private ByteBuffer dayColumn(DateField field) {
+        return field == DateField.BIRTH_DATE ? birthDays : admissionDays;
+    }
+
+    private char nameCharAt(int row, int index) {
+        int offset = nameOffsets.getInt(row * Integer.BYTES);
+        if (nameCoders.get(row) == LATIN1) {
+            return (char) (nameArena.get(offset + index) & 0xFF);
+        }
+        return nameArena.getChar(offset + index * Character.BYTES);
+    }
+
+    private int nameLength(int row) {
+        return nameLengths.getInt(row * Integer.BYTES);
+    }
+
+    private boolean isLive(int row) {
+        return row < rowCount && nameLength(row) != FREE_ROW;
+    }
+
+    private Person readRow(int row) {
+        return new Person(
+                ids.getLong(row * Long.BYTES),
+                readName(row),
+                LocalDate.ofEpochDay(birthDays.getInt(row * Integer.BYTES)),
+                LocalDate.ofEpochDay(admissionDays.getInt(row * Integer.BYTES)));
+    }
+
+    private String readName(int row) {
+        int length = nameLength(row);
+        int offset = nameOffsets.getInt(row * Integer.BYTES);
+        if (nameCoders.get(row) == LATIN1) {
+            byte[] bytes = new byte[length];
+            nameArena.get(offset, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = nameArena.getChar(offset + i * Character.BYTES);
+        }
+        return new String(chars);
+    }
+
+    private void writeRow(int row, Person person) {
+        ids.putLong(row * Long.BYTES, person.id());
+        birthDays.putInt(row * Integer.BYTES, Math.toIntExact(person.birthDate().toEpochDay()));
+        admissionDays.putInt(row * Integer.BYTES, Math.toIntExact(person.admissionDate().toEpochDay()));
+        writeName(row, person.name());
+        indexRow(row);
+    }
+
+    /**
+     * Sobrescreve uma linha ativa; o nome anterior passa a contar como lixo da arena.
+     */
+    private void overwriteRow(int row, Person person) {
+        int releasedBytes = nameBytes(row);
+        unindexRow(row);
+        writeRow(row, person);
+        arenaGarbage += releasedBytes;
+    }
+
+    private void writeName(int row, String name) {
+        boolean latin1 = name.chars().allMatch(c -> c <= 0xFF);
+        int bytes = latin1 ? name.length() : name.length() * Character.BYTES;
+        ensureArenaCapacity(bytes);
+        int offset = arenaSize;
+        if (latin1) {
+            nameArena.put(offset, name.getBytes(StandardCharsets.ISO_8859_1));
+        } else {
+            for (int i = 0; i < name.length(); i++) {
+                nameArena.putChar(offset + i * Character.BYTES, name.charAt(i));
+            }
+        }
+        arenaSize += bytes;
+        nameOffsets.putInt(row * Integer.BYTES, offset);
+        nameLengths.putInt(row * Integer.BYTES, name.length());
+        nameCoders.put(row, latin1 ? LATIN1 : UTF16);
+    }
+
+    private int nameBytes(int row) {
+        return nameCoders.get(row) == LATIN1 ? nameLength(row) : nameLength(row) * Character.BYTES;
+    }
+
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (rowCount == capacity) {
+            growRows();
+        }
+        return rowCount++;
+    }
+
+    private void pushFreeRow(int row) {
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount << 1);
+        }
+        freeRows[freeCount++] = row;
+    }
+
+    private void growRows() {
+        int newCapacity = Math.multiplyExact(capacity, 2);
+        ids = grow(ids, newCapacity * Long.BYTES);
+        birthDays = grow(birthDays, newCapacity * Integer.BYTES);
+        admissionDays = grow(admissionDays, newCapacity * Integer.BYTES);
+        nameOffsets = grow(nameOffsets, newCapacity * Integer.BYTES);
+        nameLengths = grow(nameLengths, newCapacity * Integer.BYTES);
+        nameCoders = grow(nameCoders, newCapacity);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Garante espaço na arena para mais bytes, compactando-a quando mais da metade é lixo
+     * e dobrando sua capacidade quando ainda assim não houver espaço.
+     *
+     * @param bytes quantidade de bytes a serem acrescentados
+     */
+    private void ensureArenaCapacity(int bytes) {
+        if ((long) arenaSize + bytes <= nameArena.capacity()) {
+            return;
+        }
+        if (arenaGarbage > arenaSize / 2) {
+            compactArena();
+            if ((long) arenaSize + bytes <= nameArena.capacity()) {
+                return;
+            }
+        }
+        long required = (long) arenaSize + bytes;
+        long newCapacity = Math.max(required, (long) nameArena.capacity() * 2);
+        if (newCapacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Arena de nomes excedeu o limite de " + Integer.MAX_VALUE + " bytes");
+        }
+        nameArena = grow(nameArena, (int) newCapacity);
+    }
+
+    private void compactArena() {
+        ByteBuffer compacted = ByteBuffer.allocateDirect(nameArena.capacity());
+        int size = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) {
+                int bytes = nameBytes(row);
+                compacted.put(size, nameArena, nameOffsets.getInt(row * Integer.BYTES), bytes);
+                nameOffsets.putInt(row * Integer.BYTES, size);
+                size += bytes;
+            }
+        }
+        nameArena = compacted;
+        arenaSize = size;
+        arenaGarbage = 0;
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int newCapacity) {
+        ByteBuffer grown = ByteBuffer.allocateDirect(newCapacity);
+        grown.put(0, buffer, 0, buffer.capacity());
+        return grown;
+    }
+}
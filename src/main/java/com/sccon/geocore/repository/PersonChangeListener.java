@@ -0,0 +1,20 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+
+/**
+ * Observador das alterações aplicadas a um repositório de pessoas.
+ * É notificado de forma síncrona, enquanto o repositório ainda detém o bloqueio do ID alterado,
+ * de modo que alterações de um mesmo ID chegam sempre na ordem em que foram aplicadas.
+ */
+@FunctionalInterface
+public interface PersonChangeListener {
+
+    /**
+     * Notifica uma alteração.
+     *
+     * @param previous estado anterior da pessoa, ou null em inserções
+     * @param current novo estado da pessoa, ou null em remoções
+     */
+    void onChange(Person previous, Person current);
+}
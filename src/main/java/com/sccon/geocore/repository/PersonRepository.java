@@ -1,10 +1,18 @@
 package com.sccon.geocore.repository;
 
 import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.collection.BoundedHeap;
+import com.sccon.geocore.repository.index.NameNormalizer;
+import com.sccon.geocore.repository.index.Trigrams;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * Interface que define as operações de persistência para a entidade Person.
@@ -19,6 +27,53 @@ public interface PersonRepository {
      * @return pessoa salva
      */
     Person save(Person person);
+
+    /**
+     * Insere uma pessoa cujo ID ainda não está cadastrado. A verificação e a inserção são
+     * atômicas: entre inserções concorrentes com o mesmo ID, apenas uma é aceita, e uma pessoa
+     * existente nunca é sobrescrita.
+     *
+     * @param person pessoa a ser inserida
+     * @return pessoa inserida
+     * @throws DuplicateIdException se já existir uma pessoa com o mesmo ID
+     */
+    Person insert(Person person);
+
+    /**
+     * Insere um lote de pessoas, na ordem da lista, como {@link #insert(Person)}: cada ID é
+     * verificado e inserido atomicamente, e pessoas cujo ID já está cadastrado são devolvidas
+     * em vez de sobrescrever o cadastro. A implementação padrão insere uma a uma;
+     * implementações podem sobrescrevê-la para amortizar no lote os custos de cada escrita.
+     * O lote não é atômico: se uma escrita falhar, as anteriores permanecem salvas.
+     *
+     * @param people pessoas a serem inseridas
+     * @return pessoas não inseridas porque o ID já existia, na ordem da lista
+     */
+    default List<Person> insertAll(List<Person> people) {
+        List<Person> rejected = new ArrayList<>();
+        for (Person person : people) {
+            try {
+                insert(person);
+            } catch (DuplicateIdException e) {
+                rejected.add(person);
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * Salva um lote de pessoas, na ordem da lista.
+     * A implementação padrão salva uma a uma; implementações podem sobrescrevê-la para
+     * amortizar no lote os custos de cada escrita, como o fsync do log. O lote não é atômico:
+     * se uma escrita falhar, as anteriores permanecem salvas.
+     * 
+     * @param people pessoas a serem salvas
+     */
+    default void saveAll(List<Person> people) {
+        for (Person person : people) {
+            save(person);
+        }
+    }
     
     /**
      * Busca uma pessoa pelo ID.
@@ -26,8 +81,44 @@ public interface PersonRepository {
      * @param id ID da pessoa
      * @return Optional contendo a pessoa se encontrada
      */
-    Optional<Person> findById(Long id);
+    Optional<Person> findById(long id);
+
+    /**
+     * Busca uma pessoa pelo ID.
+     * 
+     * @param id ID da pessoa
+     * @return Optional contendo a pessoa se encontrada
+     */
+    default Optional<Person> findById(Long id) {
+        return findById(id.longValue());
+    }
     
+    /**
+     * Busca várias pessoas pelos IDs em uma única chamada.
+     * IDs sem pessoa cadastrada são ignorados, sem lançar exceção. A implementação padrão
+     * chama {@link #findById(long)} para cada ID; implementações podem sobrescrevê-la para
+     * resolver o lote de uma vez, sob um único bloqueio ou snapshot, ou em paralelo.
+     * 
+     * @param ids IDs das pessoas
+     * @return pessoas encontradas, na ordem dos IDs e repetidas se o ID se repetir
+     */
+    default List<Person> findAllById(long[] ids) {
+        List<Person> people = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            findById(id).ifPresent(people::add);
+        }
+        return people;
+    }
+
+    /**
+     * Atualiza uma pessoa existente usando uma função de atualização.
+     * 
+     * @param id ID da pessoa
+     * @param updater função que define como atualizar a pessoa
+     * @return pessoa atualizada
+     */
+    Person update(long id, UnaryOperator<Person> updater);
+
     /**
      * Atualiza uma pessoa existente usando uma função de atualização.
      * 
@@ -35,7 +126,9 @@ public interface PersonRepository {
      * @param updater função que define como atualizar a pessoa
      * @return pessoa atualizada
      */
-    Person update(Long id, UnaryOperator<Person> updater);
+    default Person update(Long id, UnaryOperator<Person> updater) {
+        return update(id.longValue(), updater);
+    }
     
     /**
      * Retorna todas as pessoas cadastradas.
@@ -43,13 +136,193 @@ public interface PersonRepository {
      * @return lista de todas as pessoas
      */
     List<Person> findAll();
+
+    /**
+     * Percorre todas as pessoas ordenadas por nome, usando o ID como desempate.
+     * A implementação padrão ordena uma cópia de {@link #findAll()}; implementações
+     * que mantêm um índice ordenado devem sobrescrevê-la para evitar a ordenação.
+     * 
+     * @return stream de pessoas ordenadas por nome e ID
+     */
+    default Stream<Person> streamOrderedByName() {
+        return findAll().stream()
+                .sorted(Comparator.comparing(NameKey::of));
+    }
+
+    /**
+     * Percorre todas as pessoas, sem ordem definida, à medida que o stream é consumido e sem
+     * copiar o cadastro. A iteração é fracamente consistente, a menos que a implementação
+     * documente o contrário. A implementação padrão usa {@link #streamOrderedByName()}, que é
+     * preguiçoso nas implementações com índice ordenado; as demais devem sobrescrevê-la.
+     * 
+     * @return stream de todas as pessoas
+     */
+    default Stream<Person> streamAll() {
+        return streamOrderedByName();
+    }
+
+    /**
+     * Percorre as pessoas ordenadas por nome posicionadas estritamente depois do cursor.
+     * A implementação padrão descarta os elementos anteriores ao cursor; implementações
+     * com índice ordenado devem posicionar o início diretamente.
+     * 
+     * @param after cursor da última pessoa já retornada (exclusivo)
+     * @return stream de pessoas ordenadas por nome e ID após o cursor
+     */
+    default Stream<Person> streamOrderedByName(NameKey after) {
+        return streamOrderedByName()
+                .dropWhile(person -> NameKey.of(person).compareTo(after) <= 0);
+    }
+    
+    /**
+     * Percorre as pessoas cuja data está no intervalo, ordenadas por essa data e pelo ID.
+     * A implementação padrão filtra e ordena uma cópia de {@link #findAll()}; implementações
+     * que mantêm índices de datas devem sobrescrevê-la para responder em O(log n + k).
+     * 
+     * @param field data consultada
+     * @param range intervalo de datas (inclusivo)
+     * @return stream de pessoas ordenadas pela data e ID
+     */
+    default Stream<Person> streamByDate(DateField field, DateRange range) {
+        return findAll().stream()
+                .filter(person -> range.contains(field.of(person)))
+                .sorted(Comparator.comparing(person -> DateKey.of(field, person)));
+    }
+
+    /**
+     * Percorre as pessoas cuja data está no intervalo posicionadas estritamente depois do cursor.
+     * A implementação padrão descarta os elementos anteriores ao cursor; implementações
+     * com índice de datas devem posicionar o início diretamente.
+     * 
+     * @param field data consultada
+     * @param range intervalo de datas (inclusivo)
+     * @param after cursor da última pessoa já retornada (exclusivo)
+     * @return stream de pessoas ordenadas pela data e ID após o cursor
+     */
+    default Stream<Person> streamByDate(DateField field, DateRange range, DateKey after) {
+        return streamByDate(field, range)
+                .dropWhile(person -> DateKey.of(field, person).compareTo(after) <= 0);
+    }
+    
+    /**
+     * Retorna as primeiras pessoas na ordem de uma data, com o ID como desempate, ou as últimas,
+     * em ordem inversa. A implementação padrão percorre {@link #streamAll()} guardando as
+     * {@code limit} primeiras em um heap limitado, em O(n log k) e sem copiar o cadastro;
+     * implementações com índice de datas devem sobrescrevê-la para ler apenas as pontas do índice.
+     * 
+     * @param field data usada na ordenação
+     * @param descending true para as últimas pessoas, da data mais recente para a mais antiga
+     * @param limit quantidade máxima de pessoas
+     * @return pessoas na ordem pedida
+     */
+    default List<Person> findFirstByDate(DateField field, boolean descending, int limit) {
+        Comparator<Person> order = Comparator.comparing(field::of).thenComparingLong(Person::id);
+        BoundedHeap<Person> first = new BoundedHeap<>(limit, descending ? order.reversed() : order);
+        try (Stream<Person> people = streamAll()) {
+            people.forEach(first::offer);
+        }
+        return first.toSortedList();
+    }
+
+    /**
+     * Busca pessoas pelo nome, sem acentos e sem diferenciar maiúsculas de minúsculas.
+     * Na busca por prefixo, as pessoas vêm em ordem alfabética do nome a partir da palavra
+     * encontrada; por trecho, em ordem de nome; na aproximada, das mais para as menos parecidas.
+     * Na busca por trecho com mais ocorrências que o limite, quais pessoas são devolvidas
+     * depende da implementação. A implementação padrão percorre {@link #streamAll()},
+     * normalizando cada nome; implementações com índice de nomes devem sobrescrevê-la.
+     * 
+     * @param query termo de busca
+     * @param match modo de busca
+     * @param limit quantidade máxima de pessoas
+     * @return pessoas encontradas
+     */
+    default List<Person> searchByName(String query, NameMatch match, int limit) {
+        String normalizedQuery = NameNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+        try (Stream<Person> people = streamAll()) {
+            return switch (match) {
+                case PREFIX -> people
+                        .map(person -> {
+                            String normalized = NameNormalizer.normalize(person.name());
+                            int start = NameNormalizer.matchingWordStart(normalized, normalizedQuery);
+                            return start < 0 ? null : Map.entry(normalized.substring(start), person);
+                        })
+                        .filter(Objects::nonNull)
+                        .sorted(Map.Entry.<String, Person>comparingByKey()
+                                .thenComparing(entry -> entry.getValue().id()))
+                        .limit(limit)
+                        .map(Map.Entry::getValue)
+                        .toList();
+                case CONTAINS -> people
+                        .filter(person -> NameNormalizer.normalize(person.name()).contains(normalizedQuery))
+                        .sorted(Comparator.comparing(NameKey::of))
+                        .limit(limit)
+                        .toList();
+                case FUZZY -> {
+                    long[] queryTrigrams = Trigrams.ofName(normalizedQuery);
+                    yield people
+                            .map(person -> Map.entry(Trigrams.similarity(queryTrigrams,
+                                    Trigrams.ofName(NameNormalizer.normalize(person.name()))), person))
+                            .filter(entry -> entry.getKey() >= Trigrams.DEFAULT_SIMILARITY_THRESHOLD)
+                            .sorted(Map.Entry.<Double, Person>comparingByKey().reversed()
+                                    .thenComparing(entry -> NameKey.of(entry.getValue())))
+                            .limit(limit)
+                            .map(Map.Entry::getValue)
+                            .toList();
+                }
+            };
+        }
+    }
     
+    /**
+     * Registra um observador notificado a cada escrita confirmada ({@code save}, {@code update}
+     * e {@code deleteById}). As notificações são síncronas e ocorrem enquanto a escrita ainda
+     * detém o bloqueio do ID, então o observador deve ser rápido e não pode acessar o repositório.
+     * 
+     * @param listener observador das alterações
+     */
+    void addChangeListener(PersonChangeListener listener);
+
+    /**
+     * Captura as pessoas cadastradas para uma varredura completa.
+     * A implementação padrão não copia o cadastro: devolve uma visão sem versão sobre
+     * {@link #streamAll()}, fracamente consistente; implementações com controle de versões
+     * devem sobrescrevê-la para capturar um instante imutável, também sem copiar.
+     * 
+     * @return snapshot das pessoas
+     */
+    default PersonSnapshot snapshot() {
+        return PersonSnapshot.unversioned(this);
+    }
+
+    /**
+     * Retorna a quantidade de pessoas cadastradas.
+     * A implementação padrão conta as pessoas de {@link #findAll()}.
+     * 
+     * @return quantidade de pessoas
+     */
+    default long count() {
+        return findAll().size();
+    }
+
+    /**
+     * Remove uma pessoa pelo ID.
+     * 
+     * @param id ID da pessoa a ser removida
+     */
+    void deleteById(long id);
+
     /**
      * Remove uma pessoa pelo ID.
      * 
      * @param id ID da pessoa a ser removida
      */
-    void deleteById(Long id);
+    default void deleteById(Long id) {
+        deleteById(id.longValue());
+    }
     
     /**
      * Verifica se uma pessoa existe pelo ID.
@@ -57,12 +330,15 @@ public interface PersonRepository {
      * @param id ID da pessoa
      * @return true se a pessoa existe, false caso contrário
      */
-    boolean existsById(Long id);
-    
+    boolean existsById(long id);
+
     /**
-     * Retorna o próximo ID disponível para uma nova pessoa.
+     * Verifica se uma pessoa existe pelo ID.
      * 
-     * @return próximo ID disponível
+     * @param id ID da pessoa
+     * @return true se a pessoa existe, false caso contrário
      */
-    Long getNextId();
+    default boolean existsById(Long id) {
+        return existsById(id.longValue());
+    }
 }
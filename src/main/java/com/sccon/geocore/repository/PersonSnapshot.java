@@ -0,0 +1,77 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Visão das pessoas de um repositório usada por exportações e agregações que percorrem o
+ * cadastro inteiro. Um snapshot versionado é imutável: reflete um único instante mesmo com
+ * escritas concorrentes. Um snapshot sem versão ({@link #UNVERSIONED}) lê o repositório
+ * diretamente, sem copiá-lo, e pode ou não refletir escritas concorrentes.
+ */
+public interface PersonSnapshot {
+
+    /** Versão de snapshots que não correspondem a uma versão do repositório */
+    long UNVERSIONED = -1;
+
+    /**
+     * Retorna a versão do repositório capturada: cada escrita confirmada incrementa a versão.
+     *
+     * @return versão capturada, ou {@link #UNVERSIONED}
+     */
+    long version();
+
+    /**
+     * Retorna a quantidade de pessoas no snapshot.
+     *
+     * @return quantidade de pessoas
+     */
+    long size();
+
+    /**
+     * Busca uma pessoa pelo ID no snapshot.
+     *
+     * @param id ID da pessoa
+     * @return Optional contendo a pessoa se ela existia no instante capturado
+     */
+    Optional<Person> findById(long id);
+
+    /**
+     * Percorre as pessoas do snapshot, em ordem não especificada.
+     *
+     * @return stream de pessoas
+     */
+    Stream<Person> stream();
+
+    /**
+     * Cria um snapshot sem versão que lê o repositório diretamente, sem copiar o cadastro.
+     *
+     * @param repository repositório lido
+     * @return visão fracamente consistente das pessoas
+     */
+    static PersonSnapshot unversioned(PersonRepository repository) {
+        return new PersonSnapshot() {
+            @Override
+            public long version() {
+                return UNVERSIONED;
+            }
+
+            @Override
+            public long size() {
+                return repository.count();
+            }
+
+            @Override
+            public Optional<Person> findById(long id) {
+                return repository.findById(id);
+            }
+
+            @Override
+            public Stream<Person> stream() {
+                return repository.streamAll();
+            }
+        };
+    }
+}
@@ -0,0 +1,477 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.index.NameNormalizer;
+import com.sccon.geocore.repository.index.Trigrams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementação de {@link PersonRepository} que particiona as pessoas por hash do ID entre
+ * repositórios independentes (shards).
+ *
+ * <p>Operações pontuais tocam apenas o shard dono do ID. Varreduras e agregações são distribuídas
+ * entre os shards em um {@link ForkJoinPool} e seus resultados combinados (scatter-gather); as
+ * listagens ordenadas intercalam as saídas já ordenadas de cada shard (k-way merge), sem
+ * reordenar o conjunto completo.
+ */
+public class ShardedPersonRepository implements PersonRepository {
+
+    private final List<PersonRepository> shards;
+    private final ForkJoinPool pool;
+
+    /**
+     * Cria um repositório com a quantidade de shards informada, distribuindo as varreduras
+     * no pool comum.
+     *
+     * @param shardCount quantidade de shards
+     * @param shardFactory cria cada shard
+     * @throws IllegalArgumentException se a quantidade de shards não for positiva
+     */
+    public ShardedPersonRepository(int shardCount, Supplier<? extends PersonRepository> shardFactory) {
+        this(createShards(shardCount, shardFactory), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cria um repositório sobre shards já construídos.
+     *
+     * @param shards shards, na ordem usada pelo particionamento
+     * @param pool pool em que as varreduras são distribuídas
+     * @throws IllegalArgumentException se não houver shards
+     */
+    public ShardedPersonRepository(List<? extends PersonRepository> shards, ForkJoinPool pool) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("É necessário ao menos um shard");
+        }
+        this.shards = List.copyOf(shards);
+        this.pool = pool;
+    }
+
+    @Override
+    public Person save(Person person) {
+        return shardFor(person.id()).save(person);
+    }
+
+    @Override
+    public Person insert(Person person) {
+        return shardFor(person.id()).insert(person);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O lote é dividido pelo shard dono de cada ID e as partes são salvas em paralelo.
+     */
+    @Override
+    public void saveAll(List<Person> people) {
+        if (shards.size() == 1) {
+            shards.get(0).saveAll(people);
+            return;
+        }
+        List<List<Person>> parts = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            parts.add(new ArrayList<>());
+        }
+        for (Person person : people) {
+            parts.get(shardOf(person.id(), shards.size())).add(person);
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            List<Person> part = parts.get(i);
+            if (!part.isEmpty()) {
+                PersonRepository shard = shards.get(i);
+                tasks.add(pool.submit(() -> shard.saveAll(part)));
+            }
+        }
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O lote é dividido pelo shard dono de cada ID e as partes são inseridas em paralelo;
+     * as pessoas rejeitadas voltam na ordem da lista.
+     */
+    @Override
+    public List<Person> insertAll(List<Person> people) {
+        if (shards.size() == 1) {
+            return shards.get(0).insertAll(people);
+        }
+        List<List<Person>> parts = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            parts.add(new ArrayList<>());
+        }
+        for (Person person : people) {
+            parts.get(shardOf(person.id(), shards.size())).add(person);
+        }
+        List<ForkJoinTask<List<Person>>> tasks = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            List<Person> part = parts.get(i);
+            PersonRepository shard = shards.get(i);
+            tasks.add(part.isEmpty() ? null : pool.submit(() -> shard.insertAll(part)));
+        }
+        Set<Person> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ForkJoinTask<List<Person>> task : tasks) {
+            if (task != null) {
+                rejected.addAll(task.join());
+            }
+        }
+        return rejected.isEmpty() ? List.of() : people.stream().filter(rejected::contains).toList();
+    }
+
+    @Override
+    public Optional<Person> findById(long id) {
+        return shardFor(id).findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Os IDs são divididos pelo shard dono de cada um, as partes são buscadas em paralelo e
+     * os resultados são intercalados de volta na ordem dos IDs.
+     */
+    @Override
+    public List<Person> findAllById(long[] ids) {
+        if (shards.size() == 1) {
+            return shards.get(0).findAllById(ids);
+        }
+        int[] owners = new int[ids.length];
+        int[] sizes = new int[shards.size()];
+        for (int i = 0; i < ids.length; i++) {
+            owners[i] = shardOf(ids[i], shards.size());
+            sizes[owners[i]]++;
+        }
+        long[][] parts = new long[shards.size()][];
+        for (int shard = 0; shard < shards.size(); shard++) {
+            parts[shard] = new long[sizes[shard]];
+            sizes[shard] = 0;
+        }
+        for (int i = 0; i < ids.length; i++) {
+            parts[owners[i]][sizes[owners[i]]++] = ids[i];
+        }
+        List<ForkJoinTask<List<Person>>> tasks = new ArrayList<>(shards.size());
+        for (int shard = 0; shard < shards.size(); shard++) {
+            PersonRepository owner = shards.get(shard);
+            long[] part = parts[shard];
+            tasks.add(part.length == 0 ? null : pool.submit(() -> owner.findAllById(part)));
+        }
+        List<List<Person>> results = new ArrayList<>(shards.size());
+        for (ForkJoinTask<List<Person>> task : tasks) {
+            results.add(task == null ? List.of() : task.join());
+        }
+        // Cada shard devolve sua parte na ordem dos IDs, omitindo os ausentes
+        int[] cursors = new int[shards.size()];
+        List<Person> found = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            List<Person> result = results.get(owners[i]);
+            int cursor = cursors[owners[i]];
+            if (cursor < result.size() && result.get(cursor).id() == ids[i]) {
+                found.add(result.get(cursor));
+                cursors[owners[i]]++;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Person update(long id, UnaryOperator<Person> updater) {
+        return shardFor(id).update(id, updater);
+    }
+
+    @Override
+    public List<Person> findAll() {
+        List<List<Person>> parts = scatter(PersonRepository::findAll);
+        List<Person> people = new ArrayList<>(parts.stream().mapToInt(List::size).sum());
+        parts.forEach(people::addAll);
+        return people;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Intercala os streams ordenados dos shards; cada shard só é percorrido à medida que
+     * o resultado é consumido, então uma página custa o mesmo que em um único repositório.
+     */
+    @Override
+    public Stream<Person> streamOrderedByName() {
+        return merge(shard -> shard.streamOrderedByName(), Comparator.comparing(NameKey::of));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Percorre os shards um após o outro, sem intercalar.
+     */
+    @Override
+    public Stream<Person> streamAll() {
+        if (shards.size() == 1) {
+            return shards.get(0).streamAll();
+        }
+        List<Stream<Person>> streams = shards.stream().map(PersonRepository::streamAll).toList();
+        Iterator<Person> concatenated = new ConcatIterator(streams.stream().map(Stream::iterator).toList());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(concatenated, Spliterator.NONNULL), false)
+                .onClose(() -> streams.forEach(Stream::close));
+    }
+
+    @Override
+    public Stream<Person> streamOrderedByName(NameKey after) {
+        return merge(shard -> shard.streamOrderedByName(after), Comparator.comparing(NameKey::of));
+    }
+
+    @Override
+    public Stream<Person> streamByDate(DateField field, DateRange range) {
+        return merge(shard -> shard.streamByDate(field, range),
+                Comparator.comparing(person -> DateKey.of(field, person)));
+    }
+
+    @Override
+    public Stream<Person> streamByDate(DateField field, DateRange range, DateKey after) {
+        return merge(shard -> shard.streamByDate(field, range, after),
+                Comparator.comparing(person -> DateKey.of(field, person)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Cada shard devolve até {@code limit} pessoas do seu índice; os resultados são
+     * combinados na mesma ordem e cortados no limite.
+     */
+    @Override
+    public List<Person> findFirstByDate(DateField field, boolean descending, int limit) {
+        Comparator<Person> order = Comparator.comparing((Person person) -> DateKey.of(field, person));
+        return scatter(shard -> shard.findFirstByDate(field, descending, limit)).stream()
+                .flatMap(List::stream)
+                .sorted(descending ? order.reversed() : order)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Cada shard devolve até {@code limit} pessoas na ordem do modo de busca; os resultados
+     * são combinados na mesma ordem e cortados no limite.
+     */
+    @Override
+    public List<Person> searchByName(String query, NameMatch match, int limit) {
+        String normalizedQuery = NameNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+        return scatter(shard -> shard.searchByName(query, match, limit)).stream()
+                .flatMap(List::stream)
+                .sorted(searchOrder(normalizedQuery, match))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>O observador é registrado em todos os shards e pode ser notificado por escritas de
+     * shards diferentes ao mesmo tempo.
+     */
+    @Override
+    public void addChangeListener(PersonChangeListener listener) {
+        shards.forEach(shard -> shard.addChangeListener(listener));
+    }
+
+    @Override
+    public long count() {
+        return scatter(PersonRepository::count).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public void deleteById(long id) {
+        shardFor(id).deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return shardFor(id).existsById(id);
+    }
+
+    /**
+     * Retorna a quantidade de shards.
+     *
+     * @return quantidade de shards
+     */
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Define o shard dono de um ID. O ID é misturado antes do módulo para que IDs
+     * sequenciais ou com bits baixos repetidos (snowflake) se espalhem entre os shards.
+     *
+     * @param id ID da pessoa
+     * @param shardCount quantidade de shards
+     * @return índice do shard
+     */
+    static int shardOf(long id, int shardCount) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return Math.floorMod((int) (hash ^ (hash >>> 32)), shardCount);
+    }
+
+    private PersonRepository shardFor(long id) {
+        return shards.get(shardOf(id, shards.size()));
+    }
+
+    /**
+     * Executa uma operação em todos os shards em paralelo e aguarda os resultados.
+     *
+     * @param operation operação aplicada a cada shard
+     * @return resultados, na ordem dos shards
+     */
+    private <T> List<T> scatter(Function<PersonRepository, T> operation) {
+        if (shards.size() == 1) {
+            return List.of(operation.apply(shards.get(0)));
+        }
+        List<ForkJoinTask<T>> tasks = new ArrayList<>(shards.size());
+        for (PersonRepository shard : shards) {
+            tasks.add(pool.submit(() -> operation.apply(shard)));
+        }
+        List<T> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<T> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * Intercala streams ordenados dos shards em um único stream ordenado.
+     *
+     * @param source stream ordenado de cada shard
+     * @param order ordem comum aos streams
+     * @return stream ordenado com os elementos de todos os shards
+     */
+    private Stream<Person> merge(Function<PersonRepository, Stream<Person>> source, Comparator<Person> order) {
+        if (shards.size() == 1) {
+            return source.apply(shards.get(0));
+        }
+        List<Stream<Person>> streams = shards.stream().map(source).toList();
+        Iterator<Person> merged = new MergingIterator(streams.stream().map(Stream::iterator).toList(), order);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> streams.forEach(Stream::close));
+    }
+
+    /**
+     * Ordem dos resultados de uma busca por nome, a mesma da implementação padrão.
+     */
+    private static Comparator<Person> searchOrder(String normalizedQuery, NameMatch match) {
+        return switch (match) {
+            case PREFIX -> Comparator.<Person, String>comparing(person -> {
+                        String normalized = NameNormalizer.normalize(person.name());
+                        return normalized.substring(NameNormalizer.matchingWordStart(normalized, normalizedQuery));
+                    })
+                    .thenComparingLong(Person::id);
+            case CONTAINS -> Comparator.comparing(NameKey::of);
+            case FUZZY -> {
+                long[] queryTrigrams = Trigrams.ofName(normalizedQuery);
+                yield Comparator.<Person>comparingDouble(person -> Trigrams.similarity(queryTrigrams,
+                                Trigrams.ofName(NameNormalizer.normalize(person.name()))))
+                        .reversed()
+                        .thenComparing(NameKey::of);
+            }
+        };
+    }
+
+    private static List<PersonRepository> createShards(int shardCount, Supplier<? extends PersonRepository> shardFactory) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("A quantidade de shards deve ser positiva: " + shardCount);
+        }
+        List<PersonRepository> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(shardFactory.get());
+        }
+        return shards;
+    }
+
+    /**
+     * Iterador que percorre iteradores em sequência, consumindo cada um apenas quando o
+     * anterior se esgota.
+     */
+    private static final class ConcatIterator implements Iterator<Person> {
+
+        private final Iterator<Iterator<Person>> sources;
+        private Iterator<Person> current = Collections.emptyIterator();
+
+        ConcatIterator(List<Iterator<Person>> sources) {
+            this.sources = sources.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && sources.hasNext()) {
+                current = sources.next();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public Person next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    /**
+     * Iterador que intercala iteradores ordenados mantendo o próximo elemento de cada um
+     * em um heap, a um custo de O(log k) por elemento para k shards.
+     */
+    private static final class MergingIterator implements Iterator<Person> {
+
+        private final PriorityQueue<Head> heads;
+
+        MergingIterator(List<Iterator<Person>> sources, Comparator<Person> order) {
+            this.heads = new PriorityQueue<>(sources.size(), (a, b) -> order.compare(a.current, b.current));
+            for (Iterator<Person> source : sources) {
+                if (source.hasNext()) {
+                    heads.add(new Head(source.next(), source));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public Person next() {
+            Head head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            Person next = head.current;
+            if (head.source.hasNext()) {
+                head.current = head.source.next();
+                heads.add(head);
+            }
+            return next;
+        }
+
+        private static final class Head {
+            private Person current;
+            private final Iterator<Person> source;
+
+            Head(Person current, Iterator<Person> source) {
+                this.current = current;
+                this.source = source;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sccon.geocore.repository.cdc;
+
+import java.util.List;
+
+/**
+ * Resultado de uma leitura do fluxo de mudanças.
+ *
+ * @param events alterações posteriores à sequência consultada, em ordem
+ * @param epoch época do fluxo de mudanças a que as sequências pertencem
+ * @param lastSequence sequência da última alteração registrada
+ * @param resyncRequired true se alterações posteriores à sequência consultada já foram descartadas
+ *                       do buffer, ou se a sequência é de outra época; o cliente deve recarregar o
+ *                       estado completo
+ */
+public record ChangeBatch(List<ChangeEvent> events, long epoch, long lastSequence, boolean resyncRequired) {
+}
@@ -0,0 +1,14 @@
+package com.sccon.geocore.repository.cdc;
+
+import com.sccon.geocore.model.Person;
+
+/**
+ * Alteração confirmada no repositório, numerada na ordem em que foi aplicada.
+ *
+ * @param sequence número de sequência, crescente e sem lacunas
+ * @param type tipo da alteração
+ * @param id ID da pessoa alterada
+ * @param person estado da pessoa após a alteração, ou null em remoções
+ */
+public record ChangeEvent(long sequence, ChangeType type, long id, Person person) {
+}
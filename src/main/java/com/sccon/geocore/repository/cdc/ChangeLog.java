@@ -0,0 +1,191 @@
+package com.sccon.geocore.repository.cdc;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.PersonChangeListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fluxo de mudanças (change data capture) mantido em um buffer circular de tamanho fixo.
+ *
+ * <p>Registrado como observador do repositório, numera cada alteração confirmada com uma
+ * sequência crescente e guarda as mais recentes; as mais antigas são sobrescritas. Clientes
+ * leem a partir da última sequência que processaram e recebem apenas as alterações seguintes.
+ * Quando alguma delas já foi sobrescrita, a leitura indica que o cliente deve recarregar o
+ * estado completo.
+ *
+ * <p>O registro não usa bloqueio: cada escrita reserva sua sequência com um incremento atômico
+ * e publica o evento na posição do buffer. A sequência publicada só avança sobre posições já
+ * preenchidas, então leitores nunca veem lacunas; quem preenche uma posição avança a sequência
+ * publicada também pelas escritas anteriores que terminaram depois. Leitores conferem a
+ * sequência de cada evento lido e pedem recarga se ele foi sobrescrito durante a leitura.
+ * Threads em espera são acordadas com {@link LockSupport#unpark}, sem monitor compartilhado
+ * com as escritas.
+ *
+ * <p>A sequência recomeça a cada inicialização do processo, que inicia uma nova época. Posições
+ * de leitura ({@link StoreVersion}) de outra época, ou com sequência maior que a última
+ * registrada, exigem recarga.
+ */
+public class ChangeLog implements PersonChangeListener {
+
+    private final AtomicReferenceArray<ChangeEvent> ring;
+    /** Identifica esta instância do fluxo; sequências só são comparáveis dentro da mesma época */
+    private final long epoch = System.currentTimeMillis();
+    /** Última sequência reservada por uma escrita */
+    private final AtomicLong reserved = new AtomicLong();
+    /** Última sequência publicada: todos os eventos até ela estão no buffer */
+    private final AtomicLong published = new AtomicLong();
+    /** Threads aguardando novas alterações em {@link #awaitAfter} */
+    private final Set<Thread> waiters = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Cria um fluxo vazio.
+     *
+     * @param capacity quantidade de alterações mantidas no buffer
+     * @throws IllegalArgumentException se a capacidade não for positiva
+     */
+    public ChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A capacidade do fluxo de mudanças deve ser positiva: " + capacity);
+        }
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Registra uma alteração. É chamado pelo repositório enquanto o bloqueio do ID ainda está
+     * retido, então a ordem das sequências respeita a ordem das alterações de cada pessoa.
+     */
+    @Override
+    public void onChange(Person previous, Person current) {
+        ChangeType type = previous == null ? ChangeType.CREATED
+                : current == null ? ChangeType.DELETED
+                : ChangeType.UPDATED;
+        long id = current != null ? current.id() : previous.id();
+        long sequence = reserved.incrementAndGet();
+        // Uma escrita atrasada uma volta inteira do buffer não sobrescreve um evento mais novo
+        ring.accumulateAndGet(slot(sequence), new ChangeEvent(sequence, type, id, current),
+                (kept, event) -> kept != null && kept.sequence() > event.sequence() ? kept : event);
+        advancePublished();
+        if (!waiters.isEmpty()) {
+            waiters.forEach(LockSupport::unpark);
+        }
+    }
+
+    /**
+     * Lê as alterações posteriores a uma posição. Uma posição de outra época só é aceita na
+     * sequência 0, o início do fluxo; as demais exigem recarga, já que a mesma sequência
+     * identifica alterações diferentes em cada época.
+     *
+     * @param since última posição já processada pelo cliente
+     * @param limit quantidade máxima de alterações
+     * @return alterações seguintes, ou a indicação de que o cliente deve recarregar o estado
+     */
+    public ChangeBatch read(StoreVersion since, int limit) {
+        if (since.sequence() != 0 && since.epoch() != epoch) {
+            return new ChangeBatch(List.of(), epoch, published.get(), true);
+        }
+        return read(since.sequence(), limit);
+    }
+
+    /**
+     * Lê as alterações posteriores a uma sequência desta época.
+     *
+     * @param since última sequência já processada pelo cliente (0 para começar do início)
+     * @param limit quantidade máxima de alterações
+     * @return alterações seguintes, ou a indicação de que o cliente deve recarregar o estado
+     */
+    public ChangeBatch read(long since, int limit) {
+        long last = published.get();
+        long oldestKept = Math.max(1, last - ring.length() + 1);
+        if (since > last || since < oldestKept - 1) {
+            return new ChangeBatch(List.of(), epoch, last, true);
+        }
+        int count = (int) Math.min(limit, last - since);
+        List<ChangeEvent> events = new ArrayList<>(count);
+        for (long sequence = since + 1; sequence <= since + count; sequence++) {
+            ChangeEvent event = ring.get(slot(sequence));
+            if (event.sequence() != sequence) {
+                // Sobrescrito por escritas posteriores durante a leitura
+                return new ChangeBatch(List.of(), epoch, published.get(), true);
+            }
+            events.add(event);
+        }
+        return new ChangeBatch(events, epoch, last, false);
+    }
+
+    /**
+     * Aguarda até que haja alguma alteração posterior à sequência informada.
+     *
+     * @param since última sequência já processada
+     * @param timeout tempo máximo de espera
+     * @return true se houver alteração posterior, false se o tempo se esgotar
+     * @throws InterruptedException se a thread for interrompida durante a espera
+     */
+    public boolean awaitAfter(long since, Duration timeout) throws InterruptedException {
+        if (published.get() > since) {
+            return true;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Thread waiter = Thread.currentThread();
+        waiters.add(waiter);
+        try {
+            while (published.get() <= since) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return true;
+        } finally {
+            waiters.remove(waiter);
+        }
+    }
+
+    /**
+     * Retorna a versão atual do cadastro: a época deste fluxo e a última sequência registrada.
+     *
+     * @return versão atual
+     */
+    public StoreVersion currentVersion() {
+        return new StoreVersion(epoch, published.get());
+    }
+
+    /**
+     * Retorna a sequência da última alteração registrada.
+     *
+     * @return última sequência, ou 0 se nada foi registrado
+     */
+    public long lastSequence() {
+        return published.get();
+    }
+
+    /**
+     * Avança a sequência publicada enquanto a posição seguinte já estiver preenchida. Uma
+     * posição com sequência maior que a esperada foi preenchida e depois sobrescrita.
+     */
+    private void advancePublished() {
+        long last;
+        while ((last = published.get()) < reserved.get()) {
+            ChangeEvent next = ring.get(slot(last + 1));
+            if (next == null || next.sequence() < last + 1) {
+                return;
+            }
+            published.compareAndSet(last, last + 1);
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length());
+    }
+}
@@ -0,0 +1,10 @@
+package com.sccon.geocore.repository.cdc;
+
+/**
+ * Tipo de alteração registrada no fluxo de mudanças.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,11 @@
+package com.sccon.geocore.repository.cdc;
+
+/**
+ * Versão global do cadastro: muda a cada escrita confirmada e também a cada inicialização,
+ * já que a sequência do fluxo de mudanças recomeça com o processo.
+ *
+ * @param epoch instante de criação do fluxo de mudanças, em milissegundos
+ * @param sequence última sequência registrada no fluxo
+ */
+public record StoreVersion(long epoch, long sequence) {
+}
@@ -0,0 +1,62 @@
+package com.sccon.geocore.repository.collection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Guarda os {@code capacity} primeiros elementos de uma sequência segundo uma ordem, sem
+ * ordenar a sequência inteira: cada elemento custa O(log k) e a memória não passa de k
+ * elementos. A raiz do heap é o último elemento guardado, descartado quando chega um anterior.
+ * Não é thread-safe.
+ *
+ * @param <T> tipo dos elementos
+ */
+public class BoundedHeap<T> {
+
+    private final int capacity;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * Cria um heap vazio.
+     *
+     * @param capacity quantidade máxima de elementos guardados
+     * @param order ordem dos elementos; os primeiros nessa ordem são guardados
+     * @throws IllegalArgumentException se a capacidade for negativa
+     */
+    public BoundedHeap(int capacity, Comparator<? super T> order) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacidade negativa: " + capacity);
+        }
+        this.capacity = capacity;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(capacity, 1024)), order.reversed());
+    }
+
+    /**
+     * Oferece um elemento, guardando-o se estiver entre os primeiros vistos até agora.
+     *
+     * @param element elemento
+     */
+    public void offer(T element) {
+        if (heap.size() < capacity) {
+            heap.add(element);
+        } else if (capacity > 0 && order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    /**
+     * Retorna os elementos guardados na ordem do heap.
+     *
+     * @return até {@code capacity} elementos, do primeiro ao último
+     */
+    public List<T> toSortedList() {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        return sorted;
+    }
+}
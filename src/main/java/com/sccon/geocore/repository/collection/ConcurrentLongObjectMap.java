@@ -0,0 +1,354 @@
+package com.sccon.geocore.repository.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Mapa concorrente de chaves {@code long} para objetos, com endereçamento aberto e segmentos
+ * com bloqueio próprio (lock striping).
+ *
+ * <p>Leituras não usam bloqueio nem alocam: percorrem a tabela do segmento com leituras voláteis
+ * de arrays primitivos, sem boxing da chave. Escritas bloqueiam apenas o segmento da chave.
+ * Remoções deixam uma marca no lugar do valor, e a chave de um slot nunca muda enquanto a tabela
+ * estiver em uso; as marcas são descartadas quando a tabela é reconstruída.
+ *
+ * <p>Valores nulos não são aceitos. A iteração é fracamente consistente.
+ *
+ * @param <V> tipo dos valores
+ */
+public class ConcurrentLongObjectMap<V> {
+
+    private static final int DEFAULT_SEGMENTS = 64;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+    /** Marca de remoção: o slot continua ocupado pela chave, mas sem valor. */
+    private static final Object TOMBSTONE = new Object();
+
+    private final Segment<V>[] segments;
+    private final int segmentShift;
+
+    /**
+     * Cria um mapa com a quantidade padrão de segmentos.
+     */
+    public ConcurrentLongObjectMap() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * Cria um mapa com a quantidade de segmentos informada, arredondada para potência de dois.
+     *
+     * @param concurrencyLevel quantidade desejada de segmentos
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongObjectMap(int concurrencyLevel) {
+        int count = Integer.highestOneBit(Math.max(1, concurrencyLevel - 1)) << 1;
+        this.segments = new Segment[count];
+        this.segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * Função de recálculo que recebe a chave como primitivo.
+     *
+     * @param <V> tipo dos valores
+     */
+    @FunctionalInterface
+    public interface Remapper<V> {
+        /**
+         * Calcula o novo valor de uma chave.
+         *
+         * @param key chave
+         * @param current valor atual, ou null se ausente
+         * @return novo valor, ou null para remover a chave
+         */
+        V apply(long key, V current);
+    }
+
+    /**
+     * Busca o valor associado a uma chave, sem bloqueio e sem alocação.
+     *
+     * @param key chave
+     * @return valor associado, ou null se ausente
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int hash = hash(key);
+        Object value = segmentFor(hash).table.find(key, hash);
+        return value == TOMBSTONE ? null : (V) value;
+    }
+
+    /**
+     * Verifica se existe valor associado a uma chave.
+     *
+     * @param key chave
+     * @return true se a chave estiver presente
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Recalcula atomicamente o valor de uma chave. A função é executada com o segmento bloqueado;
+     * se lançar exceção, o mapa não é alterado.
+     *
+     * @param key chave
+     * @param remapper função que recebe o valor atual e devolve o novo valor (ou null para remover)
+     * @return novo valor, ou null se a chave foi removida ou continuou ausente
+     */
+    public V compute(long key, Remapper<V> remapper) {
+        int hash = hash(key);
+        return segmentFor(hash).compute(key, hash, remapper);
+    }
+
+    /**
+     * Executa uma ação com os segmentos de todas as chaves informadas bloqueados. Os segmentos são
+     * bloqueados em ordem crescente, então chamadas concorrentes não entram em impasse entre si nem
+     * com {@link #compute}, que bloqueia um único segmento. Dentro da ação, escritas nessas chaves
+     * reaproveitam os bloqueios já obtidos; escritas de outras threads nelas aguardam o fim da ação.
+     *
+     * @param keys chaves cujos segmentos são bloqueados
+     * @param action ação executada com os segmentos bloqueados
+     */
+    public void runLocked(long[] keys, Runnable action) {
+        boolean[] needed = new boolean[segments.length];
+        for (long key : keys) {
+            needed[segmentIndex(hash(key))] = true;
+        }
+        int locked = 0;
+        try {
+            for (; locked < segments.length; locked++) {
+                if (needed[locked]) {
+                    segments[locked].lock();
+                }
+            }
+            action.run();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                if (needed[i]) {
+                    segments[i].unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Associa um valor a uma chave.
+     *
+     * @param key chave
+     * @param value valor, não nulo
+     * @return valor anterior, ou null se ausente
+     */
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        Object[] previous = new Object[1];
+        compute(key, (k, current) -> {
+            previous[0] = current;
+            return value;
+        });
+        return castValue(previous[0]);
+    }
+
+    /**
+     * Remove uma chave.
+     *
+     * @param key chave
+     * @return valor removido, ou null se ausente
+     */
+    public V remove(long key) {
+        Object[] previous = new Object[1];
+        compute(key, (k, current) -> {
+            previous[0] = current;
+            return null;
+        });
+        return castValue(previous[0]);
+    }
+
+    /**
+     * Retorna a quantidade de entradas. Sob escritas concorrentes o valor é aproximado.
+     *
+     * @return quantidade de entradas
+     */
+    public int size() {
+        long size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Executa uma ação para cada valor presente, segmento por segmento.
+     *
+     * @param action ação a ser executada
+     */
+    public void forEachValue(Consumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            segment.table.forEachValue(action);
+        }
+    }
+
+    /**
+     * Retorna um stream fracamente consistente dos valores.
+     *
+     * @return stream de valores
+     */
+    public Stream<V> values() {
+        return Stream.of(segments).flatMap(segment -> segment.table.<V>stream());
+    }
+
+    private Segment<V> segmentFor(int hash) {
+        return segments[segmentIndex(hash)];
+    }
+
+    private int segmentIndex(int hash) {
+        return segmentShift == Integer.SIZE ? 0 : hash >>> segmentShift;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V castValue(Object value) {
+        return value == TOMBSTONE ? null : (V) value;
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Segmento com tabela própria; escritas são serializadas pelo bloqueio herdado.
+     */
+    private static final class Segment<V> extends ReentrantLock {
+        private volatile Table table = new Table(INITIAL_SEGMENT_CAPACITY);
+        /** Entradas vivas; escrito apenas com o bloqueio. */
+        private volatile int size;
+        /** Slots ocupados, incluindo marcas de remoção; protegido pelo bloqueio. */
+        private int occupied;
+
+        @SuppressWarnings("unchecked")
+        V compute(long key, int hash, Remapper<V> remapper) {
+            lock();
+            try {
+                Table current = table;
+                int slot = current.slotOf(key, hash);
+                Object existing = current.values.get(slot);
+                V previous = existing == null || existing == TOMBSTONE ? null : (V) existing;
+                V updated = remapper.apply(key, previous);
+                if (updated == null) {
+                    if (previous != null) {
+                        current.values.set(slot, TOMBSTONE);
+                        size--;
+                    }
+                    return null;
+                }
+                if (existing == null) {
+                    if (occupied + 1 > current.threshold) {
+                        current = rehash(current);
+                        slot = current.slotOf(key, hash);
+                    }
+                    current.keys.set(slot, key);
+                    occupied++;
+                }
+                current.values.set(slot, updated);
+                if (previous == null) {
+                    size++;
+                }
+                return updated;
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Reconstrói a tabela sem as marcas de remoção, dobrando-a se as entradas vivas
+         * ocuparem mais da metade do limite.
+         */
+        private Table rehash(Table old) {
+            int capacity = old.length();
+            if (size + 1 > old.threshold / 2) {
+                capacity <<= 1;
+            }
+            Table rebuilt = new Table(capacity);
+            int count = 0;
+            for (int i = 0; i < old.length(); i++) {
+                Object value = old.values.get(i);
+                if (value != null && value != TOMBSTONE) {
+                    long key = old.keys.get(i);
+                    int slot = rebuilt.slotOf(key, hash(key));
+                    rebuilt.keys.set(slot, key);
+                    rebuilt.values.set(slot, value);
+                    count++;
+                }
+            }
+            occupied = count;
+            table = rebuilt;
+            return rebuilt;
+        }
+    }
+
+    /**
+     * Tabela de endereçamento aberto com sondagem linear. Um slot está vazio quando seu valor
+     * é null; a chave é publicada antes do valor, então leitores que veem o valor veem a chave.
+     */
+    private static final class Table {
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<Object> values;
+        private final int mask;
+        private final int threshold;
+
+        Table(int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        int length() {
+            return mask + 1;
+        }
+
+        /** Retorna o valor (ou a marca de remoção) da chave, ou null se ausente. */
+        Object find(long key, int hash) {
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                Object value = values.get(slot);
+                if (value == null || keys.get(slot) == key) {
+                    return value;
+                }
+            }
+        }
+
+        /** Retorna o slot da chave ou o primeiro slot vazio da sua sequência de sondagem. */
+        int slotOf(long key, int hash) {
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                if (values.get(slot) == null || keys.get(slot) == key) {
+                    return slot;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> void forEachValue(Consumer<? super V> action) {
+            for (int i = 0; i <= mask; i++) {
+                Object value = values.get(i);
+                if (value != null && value != TOMBSTONE) {
+                    action.accept((V) value);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> Stream<V> stream() {
+            return IntStream.rangeClosed(0, mask)
+                    .mapToObj(values::get)
+                    .filter(value -> value != null && value != TOMBSTONE)
+                    .map(value -> (V) value);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.sccon.geocore.repository.collection;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de {@code long} para {@code int} com endereçamento aberto e sondagem linear.
+ * Armazena chaves e valores em arrays primitivos, sem boxing nem nós por entrada.
+ * Não é thread-safe: o acesso concorrente deve ser protegido pelo chamador.
+ */
+public class LongIntHashMap {
+
+    /** Valor retornado por {@link #get(long)} quando a chave não existe */
+    public static final int NO_VALUE = -1;
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Cria um mapa com capacidade inicial para a quantidade de entradas informada.
+     *
+     * @param expectedSize quantidade esperada de entradas
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Busca o valor associado a uma chave.
+     *
+     * @param key chave
+     * @return valor associado, ou {@link #NO_VALUE} se a chave não existir
+     */
+    public int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Associa um valor a uma chave, substituindo o valor anterior.
+     *
+     * @param key chave
+     * @param value valor, diferente de {@link #NO_VALUE}
+     */
+    public void put(long key, int value) {
+        if (size >= resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    /**
+     * Remove uma chave, reposicionando as entradas seguintes do agrupamento (backward shift)
+     * para que não sejam necessárias marcas de remoção.
+     *
+     * @param key chave a ser removida
+     * @return valor removido, ou {@link #NO_VALUE} se a chave não existir
+     */
+    public int remove(long key) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (!used[slot]) {
+            return NO_VALUE;
+        }
+        int removed = values[slot];
+        int gap = slot;
+        for (int next = (gap + 1) & mask; used[next]; next = (next + 1) & mask) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        used[gap] = false;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Retorna a quantidade de entradas.
+     *
+     * @return quantidade de entradas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Percorre as entradas, em ordem não especificada.
+     *
+     * @param action ação aplicada a cada chave e valor
+     */
+    public void forEach(LongIntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /** Ação aplicada a uma entrada do mapa */
+    @FunctionalInterface
+    public interface LongIntConsumer {
+
+        /**
+         * Aplica a ação.
+         *
+         * @param key chave
+         * @param value valor
+         */
+        void accept(long key, int value);
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = slot(oldKeys[i], mask);
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        Arrays.fill(values, NO_VALUE);
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(capacity, 16);
+    }
+}
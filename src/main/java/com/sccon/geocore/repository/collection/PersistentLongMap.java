@@ -0,0 +1,291 @@
+package com.sccon.geocore.repository.collection;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Mapa imutável de chaves {@code long} para objetos, implementado como uma trie de hash
+ * persistente (HAMT) com 32 filhos por nó.
+ *
+ * <p>Cada alteração devolve um novo mapa que compartilha com o anterior todos os nós fora do
+ * caminho alterado, copiando apenas O(log<sub>32</sub> n) nós. Versões antigas continuam válidas
+ * e podem ser lidas por qualquer thread sem sincronização.
+ *
+ * <p>O hash é uma mistura bijetora da chave: chaves distintas sempre divergem em algum nível,
+ * então não há listas de colisão. Valores nulos não são aceitos.
+ *
+ * @param <V> tipo dos valores
+ */
+public final class PersistentLongMap<V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    /** Profundidade máxima: 64 bits de hash consumidos 5 a 5 */
+    private static final int MAX_DEPTH = (Long.SIZE + BITS - 1) / BITS;
+    private static final PersistentLongMap<?> EMPTY = new PersistentLongMap<>(Node.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentLongMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Retorna o mapa vazio.
+     *
+     * @param <V> tipo dos valores
+     * @return mapa vazio
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentLongMap<V> empty() {
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    /**
+     * Busca o valor associado a uma chave.
+     *
+     * @param key chave
+     * @return valor associado, ou null se a chave não existir
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        long hash = hash(key);
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = node.slots[node.index(bit)];
+            if (slot instanceof Node child) {
+                node = child;
+            } else {
+                Leaf leaf = (Leaf) slot;
+                return leaf.key == key ? (V) leaf.value : null;
+            }
+        }
+    }
+
+    /**
+     * Retorna um mapa com a chave associada ao valor.
+     *
+     * @param key chave
+     * @param value valor, não nulo
+     * @return novo mapa, ou este mesmo se o valor já estava associado à chave
+     */
+    public PersistentLongMap<V> put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        boolean added = get(key) == null;
+        Node newRoot = root.put(hash(key), key, value, 0);
+        return newRoot == root ? this : new PersistentLongMap<>(newRoot, added ? size + 1 : size);
+    }
+
+    /**
+     * Retorna um mapa sem a chave.
+     *
+     * @param key chave
+     * @return novo mapa, ou este mesmo se a chave não existir
+     */
+    public PersistentLongMap<V> remove(long key) {
+        if (get(key) == null) {
+            return this;
+        }
+        Object newRoot = root.remove(hash(key), key, 0);
+        // A raiz nunca é colapsada em folha
+        Node rootNode = newRoot instanceof Leaf leaf ? Node.EMPTY.put(hash(leaf.key), leaf.key, leaf.value, 0)
+                : (Node) newRoot;
+        return new PersistentLongMap<>(rootNode, size - 1);
+    }
+
+    /**
+     * Retorna a quantidade de entradas.
+     *
+     * @return quantidade de entradas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Percorre os valores, em ordem não especificada.
+     *
+     * @param action ação aplicada a cada valor
+     */
+    public void forEachValue(Consumer<? super V> action) {
+        root.forEachValue(action);
+    }
+
+    /**
+     * Percorre os valores como stream, em ordem não especificada, sem copiá-los.
+     *
+     * @return stream dos valores
+     */
+    public Stream<V> values() {
+        return StreamSupport.stream(Spliterators.spliterator(new ValueIterator<>(root), size,
+                Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    private static long hash(long key) {
+        return key * 0x9E3779B97F4A7C15L;
+    }
+
+    private static int bit(long hash, int shift) {
+        return 1 << ((int) (hash >>> shift) & MASK);
+    }
+
+    /**
+     * Entrada do mapa armazenada diretamente em um slot.
+     */
+    private record Leaf(long key, Object value) {
+    }
+
+    /**
+     * Nó da trie: o bitmap indica quais dos 32 slots existem e o array guarda apenas os
+     * slots presentes, cada um uma {@link Leaf} ou um {@link Node} filho.
+     */
+    private static final class Node {
+
+        static final Node EMPTY = new Node(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] slots;
+
+        Node(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Node put(long hash, long key, Object value, int shift) {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, copy, 0, index);
+                copy[index] = new Leaf(key, value);
+                System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+                return new Node(bitmap | bit, copy);
+            }
+            Object slot = slots[index];
+            Object replacement;
+            if (slot instanceof Node child) {
+                replacement = child.put(hash, key, value, shift + BITS);
+            } else {
+                Leaf leaf = (Leaf) slot;
+                if (leaf.key == key) {
+                    replacement = leaf.value == value ? leaf : new Leaf(key, value);
+                } else {
+                    replacement = EMPTY.put(hash(leaf.key), leaf.key, leaf.value, shift + BITS)
+                            .put(hash, key, value, shift + BITS);
+                }
+            }
+            if (replacement == slot) {
+                return this;
+            }
+            Object[] copy = slots.clone();
+            copy[index] = replacement;
+            return new Node(bitmap, copy);
+        }
+
+        /**
+         * Remove uma chave existente. Um nó que fica com uma única folha é devolvido como
+         * essa folha, para que o pai a guarde diretamente.
+         */
+        Object remove(long hash, long key, int shift) {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            Object slot = slots[index];
+            Object replacement = slot instanceof Node child ? child.remove(hash, key, shift + BITS) : null;
+            if (replacement == null) {
+                if (slots.length == 2 && slots[1 - index] instanceof Leaf remaining) {
+                    return remaining;
+                }
+                Object[] copy = new Object[slots.length - 1];
+                System.arraycopy(slots, 0, copy, 0, index);
+                System.arraycopy(slots, index + 1, copy, index, slots.length - index - 1);
+                return new Node(bitmap & ~bit, copy);
+            }
+            if (slots.length == 1 && replacement instanceof Leaf) {
+                return replacement;
+            }
+            Object[] copy = slots.clone();
+            copy[index] = replacement;
+            return new Node(bitmap, copy);
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> void forEachValue(Consumer<? super V> action) {
+            for (Object slot : slots) {
+                if (slot instanceof Node child) {
+                    child.forEachValue(action);
+                } else {
+                    action.accept((V) ((Leaf) slot).value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterador em profundidade com pilha explícita, sem recursão nem cópia dos valores.
+     */
+    private static final class ValueIterator<V> implements Iterator<V> {
+
+        private final Node[] nodes = new Node[MAX_DEPTH + 1];
+        private final int[] positions = new int[MAX_DEPTH + 1];
+        private int depth;
+        private Leaf next;
+
+        ValueIterator(Node root) {
+            nodes[0] = root;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V value = (V) next.value;
+            advance();
+            return value;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                if (positions[depth] == node.slots.length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = node.slots[positions[depth]++];
+                if (slot instanceof Node child) {
+                    depth++;
+                    nodes[depth] = child;
+                    positions[depth] = 0;
+                } else {
+                    next = (Leaf) slot;
+                    return;
+                }
+            }
+        }
+    }
+}
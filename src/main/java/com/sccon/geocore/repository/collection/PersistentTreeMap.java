@@ -0,0 +1,283 @@
+package com.sccon.geocore.repository.collection;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Mapa ordenado imutável, implementado como uma árvore AVL persistente.
+ *
+ * <p>Cada alteração devolve um novo mapa que compartilha com o anterior todos os nós fora do
+ * caminho alterado, copiando apenas O(log n) nós. Versões antigas continuam válidas e podem ser
+ * lidas por qualquer thread sem sincronização. Os percursos em ordem posicionam o início em
+ * O(log n) e avançam sob demanda, sem copiar os valores.
+ *
+ * <p>Chaves e valores nulos não são aceitos.
+ *
+ * @param <K> tipo das chaves, na ordem natural
+ * @param <V> tipo dos valores
+ */
+public final class PersistentTreeMap<K extends Comparable<? super K>, V> {
+
+    private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null, 0);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentTreeMap(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Retorna o mapa vazio.
+     *
+     * @param <K> tipo das chaves
+     * @param <V> tipo dos valores
+     * @return mapa vazio
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+        return (PersistentTreeMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Busca o valor associado a uma chave.
+     *
+     * @param key chave
+     * @return valor associado, ou null se a chave não existir
+     */
+    public V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Retorna um mapa com a chave associada ao valor.
+     *
+     * @param key chave, não nula
+     * @param value valor, não nulo
+     * @return novo mapa, ou este mesmo se o valor já estava associado à chave
+     */
+    public PersistentTreeMap<K, V> put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException(key == null ? "key" : "value");
+        }
+        boolean added = get(key) == null;
+        Node<K, V> newRoot = put(root, key, value);
+        return newRoot == root ? this : new PersistentTreeMap<>(newRoot, added ? size + 1 : size);
+    }
+
+    /**
+     * Retorna um mapa sem a chave.
+     *
+     * @param key chave
+     * @return novo mapa, ou este mesmo se a chave não existir
+     */
+    public PersistentTreeMap<K, V> remove(K key) {
+        if (get(key) == null) {
+            return this;
+        }
+        return new PersistentTreeMap<>(remove(root, key), size - 1);
+    }
+
+    /**
+     * Retorna a quantidade de entradas.
+     *
+     * @return quantidade de entradas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Percorre os valores em ordem crescente das chaves.
+     *
+     * @return stream dos valores
+     */
+    public Stream<V> values() {
+        return stream(new ValueIterator<>(root, null, false, false));
+    }
+
+    /**
+     * Percorre, em ordem crescente, os valores cujas chaves estão a partir do limite informado.
+     *
+     * @param from limite inferior
+     * @param inclusive true para incluir a chave igual ao limite
+     * @return stream dos valores a partir do limite
+     */
+    public Stream<V> valuesFrom(K from, boolean inclusive) {
+        return stream(new ValueIterator<>(root, from, inclusive, false));
+    }
+
+    /**
+     * Percorre os valores em ordem decrescente das chaves.
+     *
+     * @return stream dos valores, do maior para o menor
+     */
+    public Stream<V> descendingValues() {
+        return stream(new ValueIterator<>(root, null, false, true));
+    }
+
+    private Stream<V> stream(Iterator<V> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison == 0) {
+            return node.value == value ? node : new Node<>(key, value, node.left, node.right);
+        }
+        if (comparison < 0) {
+            Node<K, V> left = put(node.left, key, value);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        Node<K, V> right = put(node.right, key, value);
+        return right == node.right ? node : balance(node.key, node.value, node.left, right);
+    }
+
+    /** Remove uma chave que certamente existe na subárvore. */
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, remove(node.left, key), node.right);
+        }
+        if (comparison > 0) {
+            return balance(node.key, node.value, node.left, remove(node.right, key));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, remove(node.right, successor.key));
+    }
+
+    /**
+     * Cria um nó a partir de subárvores cujas alturas diferem em no máximo 2, com as rotações
+     * necessárias para restaurar a diferença máxima de 1.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> balance(K key, V value,
+                                                                          Node<K, V> left, Node<K, V> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.key, left.value, left.left, left.right);
+            }
+            return rotateRight(key, value, left, right);
+        }
+        if (difference < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.key, right.value, right.left, right.right);
+            }
+            return rotateLeft(key, value, left, right);
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> rotateRight(K key, V value,
+                                                                              Node<K, V> left, Node<K, V> right) {
+        return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> rotateLeft(K key, V value,
+                                                                             Node<K, V> left, Node<K, V> right) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Nó imutável da árvore, com a altura da subárvore que ele enraíza.
+     */
+    private static final class Node<K, V> {
+
+        final K key;
+        final V value;
+        final Node<K, V> left;
+        final Node<K, V> right;
+        final int height;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterador em ordem com pilha explícita: a pilha guarda os ancestrais ainda não visitados,
+     * então cada passo custa O(1) amortizado e o posicionamento inicial, O(log n).
+     */
+    private static final class ValueIterator<K extends Comparable<? super K>, V> implements Iterator<V> {
+
+        private final Deque<Node<K, V>> pending = new ArrayDeque<>();
+        private final boolean descending;
+
+        ValueIterator(Node<K, V> root, K from, boolean inclusive, boolean descending) {
+            this.descending = descending;
+            if (from == null) {
+                pushEdge(root);
+                return;
+            }
+            Node<K, V> node = root;
+            while (node != null) {
+                int comparison = node.key.compareTo(from);
+                if (comparison > 0 || (inclusive && comparison == 0)) {
+                    pending.push(node);
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public V next() {
+            Node<K, V> node = pending.poll();
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            pushEdge(descending ? node.left : node.right);
+            return node.value;
+        }
+
+        /** Empilha o caminho até o primeiro nó da subárvore na direção do percurso. */
+        private void pushEdge(Node<K, V> node) {
+            while (node != null) {
+                pending.push(node);
+                node = descending ? node.right : node.left;
+            }
+        }
+    }
+}
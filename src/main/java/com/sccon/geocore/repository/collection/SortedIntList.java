@@ -0,0 +1,209 @@
+package com.sccon.geocore.repository.collection;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Lista de {@code int}s mantida ordenada segundo uma ordem externa, guardada em blocos de até
+ * {@value #BLOCK_SIZE} elementos. Inserções e remoções localizam o bloco e a posição por busca
+ * binária e deslocam apenas o bloco afetado, custando O(log n + B); a lista nunca é reordenada
+ * por inteiro. Não é thread-safe: o acesso concorrente deve ser protegido pelo chamador.
+ *
+ * <p>A ordem pode consultar dados externos associados a cada valor (por exemplo, as colunas de
+ * uma linha); esses dados não podem mudar enquanto o valor estiver na lista. Para alterá-los,
+ * remova o valor, altere os dados e insira-o de novo.
+ */
+public class SortedIntList {
+
+    /** Quantidade máxima de elementos por bloco */
+    static final int BLOCK_SIZE = 512;
+
+    private final IntOrder order;
+    private int[][] blocks = new int[4][];
+    private int[] lengths = new int[4];
+    private int blockCount;
+    private int size;
+
+    /**
+     * Cria uma lista vazia.
+     *
+     * @param order ordem total entre os valores
+     */
+    public SortedIntList(IntOrder order) {
+        this.order = order;
+    }
+
+    /**
+     * Insere um valor na sua posição, depois dos valores equivalentes já presentes.
+     *
+     * @param value valor
+     */
+    public void add(int value) {
+        if (blockCount == 0) {
+            insertBlock(0, new int[BLOCK_SIZE]);
+            blocks[0][0] = value;
+            lengths[0] = 1;
+            size = 1;
+            return;
+        }
+        int block = firstBlockWhere(last -> order.compare(value, last) < 0);
+        if (block == blockCount) {
+            block--;
+        }
+        if (lengths[block] == BLOCK_SIZE) {
+            splitBlock(block);
+            if (order.compare(value, blocks[block][lengths[block] - 1]) >= 0) {
+                block++;
+            }
+        }
+        int[] values = blocks[block];
+        int position = firstPositionWhere(values, lengths[block], current -> order.compare(value, current) < 0);
+        System.arraycopy(values, position, values, position + 1, lengths[block] - position);
+        values[position] = value;
+        lengths[block]++;
+        size++;
+    }
+
+    /**
+     * Remove um valor, localizando-o pela ordem.
+     *
+     * @param value valor
+     * @return {@code true} se o valor estava na lista
+     */
+    public boolean remove(int value) {
+        int block = firstBlockWhere(last -> order.compare(last, value) >= 0);
+        for (; block < blockCount; block++) {
+            int[] values = blocks[block];
+            int length = lengths[block];
+            int position = firstPositionWhere(values, length, current -> order.compare(current, value) >= 0);
+            for (; position < length && order.compare(values[position], value) == 0; position++) {
+                if (values[position] == value) {
+                    System.arraycopy(values, position + 1, values, position, length - position - 1);
+                    if (--lengths[block] == 0) {
+                        removeBlock(block);
+                    }
+                    size--;
+                    return true;
+                }
+            }
+            if (position < length) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Percorre os valores em ordem a partir do primeiro que satisfaz o predicado, que deve ser
+     * falso para um prefixo da lista e verdadeiro para o restante.
+     *
+     * @param isAfter indica se o valor está depois do ponto de partida
+     * @param action recebe cada valor e retorna {@code false} para interromper
+     */
+    public void forEachFrom(IntPredicate isAfter, IntPredicate action) {
+        int block = firstBlockWhere(isAfter);
+        if (block == blockCount) {
+            return;
+        }
+        int position = firstPositionWhere(blocks[block], lengths[block], isAfter);
+        for (; block < blockCount; block++, position = 0) {
+            int[] values = blocks[block];
+            for (int length = lengths[block]; position < length; position++) {
+                if (!action.test(values[position])) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Percorre os valores em ordem inversa, do último ao primeiro.
+     *
+     * @param action recebe cada valor e retorna {@code false} para interromper
+     */
+    public void forEachDescending(IntPredicate action) {
+        for (int block = blockCount - 1; block >= 0; block--) {
+            int[] values = blocks[block];
+            for (int position = lengths[block] - 1; position >= 0; position--) {
+                if (!action.test(values[position])) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna a quantidade de valores.
+     *
+     * @return quantidade de valores
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Localiza o primeiro bloco cujo último valor satisfaz o predicado monotônico.
+     */
+    private int firstBlockWhere(IntPredicate predicate) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(blocks[middle][lengths[middle] - 1])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static int firstPositionWhere(int[] values, int length, IntPredicate predicate) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(values[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private void splitBlock(int block) {
+        int half = lengths[block] / 2;
+        int[] upper = new int[BLOCK_SIZE];
+        System.arraycopy(blocks[block], half, upper, 0, lengths[block] - half);
+        insertBlock(block + 1, upper);
+        lengths[block + 1] = lengths[block] - half;
+        lengths[block] = half;
+    }
+
+    private void insertBlock(int block, int[] values) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount << 1);
+            lengths = Arrays.copyOf(lengths, blockCount << 1);
+        }
+        System.arraycopy(blocks, block, blocks, block + 1, blockCount - block);
+        System.arraycopy(lengths, block, lengths, block + 1, blockCount - block);
+        blocks[block] = values;
+        lengths[block] = 0;
+        blockCount++;
+    }
+
+    private void removeBlock(int block) {
+        System.arraycopy(blocks, block + 1, blocks, block, blockCount - block - 1);
+        System.arraycopy(lengths, block + 1, lengths, block, blockCount - block - 1);
+        blocks[--blockCount] = null;
+    }
+
+    /**
+     * Ordem entre dois valores, sem encapsulá-los.
+     */
+    @FunctionalInterface
+    public interface IntOrder {
+        int compare(int a, int b);
+    }
+}
@@ -0,0 +1,25 @@
+package com.sccon.geocore.repository.id;
+
+/**
+ * Estratégia de alocação de IDs para novas pessoas.
+ * Implementações devem ser thread-safe e nunca devolver o mesmo ID duas vezes,
+ * sem depender de varrer o repositório a cada criação.
+ */
+public interface IdAllocator {
+
+    /**
+     * Aloca um novo ID ainda não utilizado.
+     *
+     * @return próximo ID disponível
+     */
+    long nextId();
+
+    /**
+     * Informa ao alocador que um ID foi utilizado fora dele (por exemplo, em
+     * {@code createWithId} ou na carga inicial), para que nunca seja devolvido
+     * por {@link #nextId()}.
+     *
+     * @param usedId ID já utilizado
+     */
+    void advance(long usedId);
+}
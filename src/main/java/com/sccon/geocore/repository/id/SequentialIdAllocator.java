@@ -0,0 +1,38 @@
+package com.sccon.geocore.repository.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Alocador de IDs sequenciais baseado em uma marca d'água atômica.
+ * Cada alocação custa um único incremento atômico, independente do tamanho do repositório.
+ */
+public class SequentialIdAllocator implements IdAllocator {
+
+    private final AtomicLong highWaterMark;
+
+    /**
+     * Cria um alocador que começa a partir do ID 1.
+     */
+    public SequentialIdAllocator() {
+        this(0L);
+    }
+
+    /**
+     * Cria um alocador a partir de uma marca d'água inicial.
+     *
+     * @param initialHighWaterMark maior ID já utilizado
+     */
+    public SequentialIdAllocator(long initialHighWaterMark) {
+        this.highWaterMark = new AtomicLong(initialHighWaterMark);
+    }
+
+    @Override
+    public long nextId() {
+        return highWaterMark.incrementAndGet();
+    }
+
+    @Override
+    public void advance(long usedId) {
+        highWaterMark.accumulateAndGet(usedId, Math::max);
+    }
+}
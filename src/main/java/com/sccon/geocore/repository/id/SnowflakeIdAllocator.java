@@ -0,0 +1,134 @@
+package com.sccon.geocore.repository.id;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Alocador de IDs no estilo Snowflake, baseado no arrendamento de blocos.
+ * Permite que vários nós aloquem IDs sem coordenação, pois o ID do nó faz parte do ID gerado.
+ *
+ * <p>Layout do ID (63 bits positivos):
+ * <pre>
+ * [ bloco: 41 bits ][ nó: 10 bits ][ deslocamento: 12 bits ]
+ * </pre>
+ * O número do bloco é derivado do relógio (milissegundos desde {@link #EPOCH_MILLIS}) e nunca
+ * retrocede dentro do processo. Cada bloco arrendado fornece {@link #BLOCK_SIZE} IDs que são
+ * distribuídos com um único incremento atômico; o lock só é tomado ao trocar de bloco.
+ */
+public class SnowflakeIdAllocator implements IdAllocator {
+
+    /** Início da contagem de blocos: 2024-01-01T00:00:00Z */
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    /** Quantidade de bits reservados ao ID do nó */
+    public static final int NODE_BITS = 10;
+    /** Quantidade de bits reservados ao deslocamento dentro do bloco */
+    public static final int OFFSET_BITS = 12;
+    /** Maior ID de nó aceito */
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    /** Quantidade de IDs em cada bloco arrendado */
+    public static final long BLOCK_SIZE = 1L << OFFSET_BITS;
+
+    private static final int BLOCK_SHIFT = NODE_BITS + OFFSET_BITS;
+    private static final long MAX_BLOCK = (1L << (Long.SIZE - 1 - BLOCK_SHIFT)) - 1;
+
+    private final long nodeId;
+    private final Clock clock;
+    private volatile Lease lease;
+    /** Último bloco arrendado; protegido por {@code this}. */
+    private long lastBlock = -1;
+
+    /**
+     * Cria um alocador para o nó informado.
+     *
+     * @param nodeId identificador do nó, entre 0 e {@link #MAX_NODE_ID}
+     * @param clock relógio usado para derivar o número dos blocos
+     * @throws IllegalArgumentException se o ID do nó estiver fora do intervalo permitido
+     */
+    public SnowflakeIdAllocator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("ID do nó deve estar entre 0 e " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        synchronized (this) {
+            this.lease = leaseBlock();
+        }
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            Lease current = lease;
+            long id = current.cursor.getAndIncrement();
+            if (id < current.limit) {
+                return id;
+            }
+            renewLease(current);
+        }
+    }
+
+    @Override
+    public synchronized void advance(long usedId) {
+        if (usedId < 0 || nodeOf(usedId) != nodeId) {
+            return;
+        }
+        long block = usedId >>> BLOCK_SHIFT;
+        if (block >= lease.block) {
+            lastBlock = Math.max(lastBlock, block);
+            lease = leaseBlock();
+        }
+    }
+
+    /**
+     * Extrai o ID do nó que gerou um ID.
+     *
+     * @param id ID gerado por este alocador
+     * @return ID do nó
+     */
+    public static int nodeOf(long id) {
+        return (int) ((id >>> OFFSET_BITS) & MAX_NODE_ID);
+    }
+
+    /**
+     * Troca o bloco esgotado por um novo, caso outra thread ainda não o tenha feito.
+     *
+     * @param exhausted bloco que se esgotou
+     */
+    private synchronized void renewLease(Lease exhausted) {
+        if (lease == exhausted) {
+            lease = leaseBlock();
+        }
+    }
+
+    /**
+     * Arrenda o próximo bloco: o maior entre o sucessor do último bloco e o instante atual.
+     *
+     * @return novo bloco arrendado
+     * @throws IllegalStateException se o espaço de blocos se esgotar
+     */
+    private Lease leaseBlock() {
+        long block = Math.max(lastBlock + 1, clock.millis() - EPOCH_MILLIS);
+        if (block > MAX_BLOCK) {
+            throw new IllegalStateException("Espaço de IDs esgotado para o nó " + nodeId);
+        }
+        lastBlock = block;
+        long base = (block << BLOCK_SHIFT) | (nodeId << OFFSET_BITS);
+        return new Lease(block, base, base + BLOCK_SIZE);
+    }
+
+    /**
+     * Bloco de IDs arrendado por este nó.
+     */
+    private static final class Lease {
+        private final long block;
+        private final long limit;
+        private final AtomicLong cursor;
+
+        private Lease(long block, long base, long limit) {
+            this.block = block;
+            this.limit = limit;
+            this.cursor = new AtomicLong(base);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sccon.geocore.repository.index;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateField;
+import com.sccon.geocore.repository.PersonChangeListener;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Índice concorrente que agrupa as pessoas pelo dia e mês de uma data, em uma roda de 366
+ * posições, uma por dia do ano bissexto. As pessoas de um dia do calendário são encontradas
+ * em O(1), sem percorrer o cadastro nem fazer contas de datas por pessoa.
+ *
+ * <p>Em anos não bissextos, as datas de 29 de fevereiro são listadas em 1º de março, o dia em
+ * que {@code Period.between} passa a contar mais um ano completo.
+ */
+public class AnniversaryWheel implements PersonChangeListener {
+
+    /** Quantidade de posições da roda, uma por dia do ano bissexto */
+    public static final int SLOTS = 366;
+    private static final int FEBRUARY_29 = slot(Month.FEBRUARY.getValue(), 29);
+
+    private final DateField field;
+    private final ConcurrentSkipListMap<Long, Person>[] slots;
+
+    /**
+     * Cria uma roda vazia.
+     *
+     * @param field data indexada
+     */
+    @SuppressWarnings("unchecked")
+    public AnniversaryWheel(DateField field) {
+        this.field = Objects.requireNonNull(field, "field");
+        this.slots = new ConcurrentSkipListMap[SLOTS];
+        for (int slot = 0; slot < SLOTS; slot++) {
+            slots[slot] = new ConcurrentSkipListMap<>();
+        }
+    }
+
+    @Override
+    public void onChange(Person previous, Person current) {
+        if (previous != null) {
+            slots[slot(field.of(previous))].remove(previous.id());
+        }
+        if (current != null) {
+            slots[slot(field.of(current))].put(current.id(), current);
+        }
+    }
+
+    /**
+     * Percorre as pessoas cuja data cai no dia e mês informados, em ordem de ID. Em 1º de março
+     * de anos não bissextos, inclui em seguida as pessoas de 29 de fevereiro.
+     * A iteração é fracamente consistente: reflete escritas concorrentes sem lançar exceções.
+     *
+     * @param date dia do calendário
+     * @return pessoas do dia
+     */
+    public Stream<Person> on(LocalDate date) {
+        return slotsOn(date).boxed().flatMap(slot -> slots[slot].values().stream());
+    }
+
+    /**
+     * Retorna a posição do dia e mês de uma data, contados como em um ano bissexto.
+     *
+     * @param date data
+     * @return posição na roda, de 0 a {@link #SLOTS} - 1
+     */
+    public static int slot(LocalDate date) {
+        return slot(date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Retorna as posições das datas que fazem aniversário no dia informado: a do próprio dia e,
+     * em 1º de março de anos não bissextos, a de 29 de fevereiro.
+     *
+     * @param date dia do calendário
+     * @return posições na roda, a do próprio dia primeiro
+     */
+    public static IntStream slotsOn(LocalDate date) {
+        int slot = slot(date);
+        if (date.getMonth() == Month.MARCH && date.getDayOfMonth() == 1 && !date.isLeapYear()) {
+            return IntStream.of(slot, FEBRUARY_29);
+        }
+        return IntStream.of(slot);
+    }
+
+    private static int slot(int month, int dayOfMonth) {
+        return Month.of(month).firstDayOfYear(true) - 1 + dayOfMonth - 1;
+    }
+}
@@ -0,0 +1,90 @@
+package com.sccon.geocore.repository.index;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateField;
+import com.sccon.geocore.repository.DateKey;
+import com.sccon.geocore.repository.DateRange;
+import com.sccon.geocore.repository.PersonChangeListener;
+
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Índice secundário concorrente que mantém as pessoas ordenadas por uma data, com o ID como
+ * desempate. Consultas por intervalo localizam o início em O(log n) e percorrem apenas as
+ * pessoas do intervalo.
+ */
+public class DateIndex implements PersonChangeListener {
+
+    private final DateField field;
+    private final ConcurrentNavigableMap<DateKey, Person> index = new ConcurrentSkipListMap<>();
+
+    /**
+     * Cria um índice vazio.
+     *
+     * @param field data indexada
+     */
+    public DateIndex(DateField field) {
+        this.field = Objects.requireNonNull(field, "field");
+    }
+
+    @Override
+    public void onChange(Person previous, Person current) {
+        if (previous != null) {
+            index.remove(DateKey.of(field, previous));
+        }
+        if (current != null) {
+            index.put(DateKey.of(field, current), current);
+        }
+    }
+
+    /**
+     * Percorre as pessoas cuja data está no intervalo, em ordem de data e ID.
+     * A iteração é fracamente consistente: reflete escritas concorrentes sem lançar exceções.
+     *
+     * @param range intervalo de datas
+     * @param after cursor a partir do qual a iteração começa (exclusivo), ou null
+     * @return stream ordenado de pessoas
+     */
+    public Stream<Person> range(DateRange range, DateKey after) {
+        DateKey lower = range.from() != null ? DateKey.first(range.from()) : null;
+        boolean lowerInclusive = true;
+        if (after != null && (lower == null || after.compareTo(lower) >= 0)) {
+            lower = after;
+            lowerInclusive = false;
+        }
+        DateKey upper = range.to() != null ? DateKey.last(range.to()) : null;
+
+        NavigableMap<DateKey, Person> view;
+        if (lower != null && upper != null) {
+            if (lower.compareTo(upper) > 0) {
+                return Stream.empty();
+            }
+            view = index.subMap(lower, lowerInclusive, upper, true);
+        } else if (lower != null) {
+            view = index.tailMap(lower, lowerInclusive);
+        } else if (upper != null) {
+            view = index.headMap(upper, true);
+        } else {
+            view = index;
+        }
+        return view.values().stream();
+    }
+
+    /**
+     * Retorna as primeiras pessoas em ordem de data e ID, ou as últimas em ordem inversa,
+     * lendo apenas a ponta correspondente do índice.
+     *
+     * @param descending true para as últimas pessoas
+     * @param limit quantidade máxima de pessoas
+     * @return pessoas na ordem pedida
+     */
+    public List<Person> first(boolean descending, int limit) {
+        NavigableMap<DateKey, Person> view = descending ? index.descendingMap() : index;
+        return view.values().stream().limit(limit).toList();
+    }
+}
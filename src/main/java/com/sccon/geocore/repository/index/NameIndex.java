@@ -0,0 +1,50 @@
+package com.sccon.geocore.repository.index;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.NameKey;
+import com.sccon.geocore.repository.PersonChangeListener;
+
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Índice secundário concorrente que mantém as pessoas ordenadas por nome, com o ID como desempate.
+ * É atualizado pelas operações de escrita do repositório, permitindo listar em ordem
+ * percorrendo o índice, sem cópia nem ordenação por requisição.
+ */
+public class NameIndex implements PersonChangeListener {
+
+    private final ConcurrentNavigableMap<NameKey, Person> index = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void onChange(Person previous, Person current) {
+        if (previous != null) {
+            index.remove(NameKey.of(previous));
+        }
+        if (current != null) {
+            index.put(NameKey.of(current), current);
+        }
+    }
+
+    /**
+     * Percorre as pessoas indexadas em ordem de nome e ID.
+     * A iteração é fracamente consistente: reflete escritas concorrentes sem lançar exceções.
+     *
+     * @return stream ordenado de pessoas
+     */
+    public Stream<Person> stream() {
+        return index.values().stream();
+    }
+
+    /**
+     * Percorre as pessoas posicionadas estritamente depois da chave informada.
+     * O início é localizado em O(log n), então páginas profundas custam o mesmo que a primeira.
+     *
+     * @param after chave a partir da qual a iteração começa (exclusiva)
+     * @return stream ordenado de pessoas
+     */
+    public Stream<Person> streamAfter(NameKey after) {
+        return index.tailMap(after, false).values().stream();
+    }
+}
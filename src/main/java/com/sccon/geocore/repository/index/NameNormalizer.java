@@ -0,0 +1,106 @@
+package com.sccon.geocore.repository.index;
+
+import java.text.Normalizer;
+
+/**
+ * Classe utilitária que normaliza nomes para busca: remove acentos, converte para minúsculas
+ * e reduz qualquer sequência de caracteres que não sejam letras ou dígitos a um único espaço.
+ * Assim, "João  D'Ávila" e "joao d avila" têm a mesma forma normalizada.
+ */
+public final class NameNormalizer {
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private NameNormalizer() {
+    }
+
+    /**
+     * Normaliza um nome ou termo de busca.
+     *
+     * @param text texto original
+     * @return texto sem acentos, em minúsculas, com palavras separadas por um espaço
+     */
+    public static String normalize(String text) {
+        String decomposed = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Localiza a palavra do nome normalizado que começa com o termo, também normalizado.
+     * O termo pode se estender às palavras seguintes. Se várias palavras servirem, é escolhida
+     * aquela cujo restante do nome vem primeiro em ordem alfabética, que é a posição em que a
+     * pessoa aparece na busca por prefixo.
+     *
+     * @param normalizedName nome normalizado
+     * @param normalizedQuery termo normalizado
+     * @return início da palavra encontrada, ou -1 se nenhuma palavra começar com o termo
+     */
+    public static int matchingWordStart(String normalizedName, String normalizedQuery) {
+        int best = -1;
+        for (int start = 0; start >= 0; start = nextWordStart(normalizedName, start)) {
+            if (normalizedName.startsWith(normalizedQuery, start)
+                    && (best < 0 || compareSuffixes(normalizedName, start, normalizedName, best) < 0)) {
+                best = start;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Compara dois textos a partir das posições informadas, como {@link String#compareTo}.
+     *
+     * @return negativo, zero ou positivo conforme o primeiro restante seja menor, igual ou maior
+     */
+    static int compareSuffixes(String a, int offsetA, String b, int offsetB) {
+        int lengthA = a.length() - offsetA;
+        int lengthB = b.length() - offsetB;
+        int common = Math.min(lengthA, lengthB);
+        for (int i = 0; i < common; i++) {
+            char charA = a.charAt(offsetA + i);
+            char charB = b.charAt(offsetB + i);
+            if (charA != charB) {
+                return charA - charB;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    /**
+     * Retorna a posição da palavra seguinte à que começa em {@code start}.
+     *
+     * @param normalizedName nome normalizado
+     * @param start início de uma palavra
+     * @return início da próxima palavra, ou -1 se não houver
+     */
+    static int nextWordStart(String normalizedName, int start) {
+        int space = normalizedName.indexOf(' ', start);
+        return space < 0 ? -1 : space + 1;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,402 @@
+package com.sccon.geocore.repository.index;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.NameKey;
+import com.sccon.geocore.repository.NameMatch;
+import com.sccon.geocore.repository.PersonChangeListener;
+import com.sccon.geocore.repository.PersonRepository;
+import com.sccon.geocore.repository.collection.ConcurrentLongObjectMap;
+import com.sccon.geocore.repository.collection.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Índice de busca textual por nome, sem acentos e sem diferenciar maiúsculas de minúsculas.
+ *
+ * <p>A busca por prefixo usa um mapa ordenado com uma entrada por palavra de cada nome, cuja
+ * chave é o restante do nome normalizado a partir daquela palavra: os nomes com uma palavra
+ * iniciada pelo termo ficam contíguos, como em uma trie, e são encontrados em O(log n + k).
+ * As chaves referenciam o nome normalizado e a posição da palavra, sem copiar substrings.
+ *
+ * <p>As buscas por trecho e aproximada usam listas invertidas de trigramas (ver {@link Trigrams})
+ * e, como um buscador, priorizam a latência: a busca por trecho para ao reunir o limite e a
+ * aproximada percorre um número limitado de entradas, começando pelos trigramas mais raros.
+ * As listas só recebem acréscimos; remoções e renomeações apenas contam entradas obsoletas, que
+ * são descartadas quando passam de metade da lista. Todo candidato é conferido contra o nome
+ * atual da pessoa, então entradas obsoletas nunca aparecem nos resultados.
+ */
+public class NameSearchIndex implements PersonChangeListener {
+
+    /** Entradas obsoletas toleradas em uma lista antes de considerar compactá-la */
+    private static final int MIN_STALE_TO_COMPACT = 64;
+    /** Máximo de entradas de listas invertidas contadas por busca aproximada, limitando a latência */
+    public static final int FUZZY_POSTINGS_BUDGET = 100_000;
+
+    private static final Comparator<Person> BY_NAME = Comparator.comparing(NameKey::of);
+
+    private final ConcurrentLongObjectMap<Entry> entries = new ConcurrentLongObjectMap<>();
+    private final ConcurrentNavigableMap<SuffixKey, Person> suffixes = new ConcurrentSkipListMap<>();
+    private final Map<Long, PostingList> postings = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Person previous, Person current) {
+        Entry old = previous != null ? entries.get(previous.id()) : null;
+        boolean sameName = old != null && current != null && old.person().name().equals(current.name());
+        if (old != null && !sameName) {
+            forEachWordStart(old.normalized(), start -> suffixes.remove(new SuffixKey(old.normalized(), start, old.person().id())));
+            for (long trigram : Trigrams.ofName(old.normalized())) {
+                PostingList list = postings.get(trigram);
+                if (list != null) {
+                    list.markStale(trigram, entries);
+                }
+            }
+        }
+        if (current == null) {
+            if (previous != null) {
+                entries.remove(previous.id());
+            }
+            return;
+        }
+        if (sameName) {
+            entries.put(current.id(), new Entry(current, old.normalized(), old.trigramCount()));
+            forEachWordStart(old.normalized(), start -> suffixes.put(new SuffixKey(old.normalized(), start, current.id()), current));
+            return;
+        }
+        String normalized = NameNormalizer.normalize(current.name());
+        long[] trigrams = Trigrams.ofName(normalized);
+        entries.put(current.id(), new Entry(current, normalized, trigrams.length));
+        forEachWordStart(normalized, start -> suffixes.put(new SuffixKey(normalized, start, current.id()), current));
+        for (long trigram : trigrams) {
+            postings.computeIfAbsent(trigram, key -> new PostingList()).add(current.id());
+        }
+    }
+
+    /**
+     * Busca pessoas pelo nome conforme o modo, com a mesma semântica de
+     * {@link PersonRepository#searchByName(String, NameMatch, int)}. Trechos com menos de
+     * 3 caracteres não formam trigramas: a busca por trecho confere então o nome normalizado
+     * já guardado de cada pessoa indexada, sem normalizá-lo de novo.
+     *
+     * @param query termo de busca, ainda não normalizado
+     * @param match modo de busca
+     * @param limit quantidade máxima de pessoas
+     * @return pessoas encontradas
+     */
+    public List<Person> search(String query, NameMatch match, int limit) {
+        String normalizedQuery = NameNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+        return switch (match) {
+            case PREFIX -> prefix(normalizedQuery, limit);
+            case CONTAINS -> normalizedQuery.length() < 3
+                    ? scanContains(normalizedQuery, limit)
+                    : contains(normalizedQuery, limit);
+            case FUZZY -> fuzzy(normalizedQuery, limit, Trigrams.DEFAULT_SIMILARITY_THRESHOLD);
+        };
+    }
+
+    /**
+     * Busca as pessoas com alguma palavra do nome iniciada pelo termo, em ordem alfabética
+     * do nome a partir dessa palavra.
+     *
+     * @param query termo normalizado
+     * @param limit quantidade máxima de pessoas
+     * @return pessoas encontradas
+     */
+    public List<Person> prefix(String query, int limit) {
+        List<Person> found = new ArrayList<>(Math.min(limit, 64));
+        Set<Long> seen = new HashSet<>();
+        for (var entry : suffixes.tailMap(new SuffixKey(query, 0, Long.MIN_VALUE)).entrySet()) {
+            SuffixKey key = entry.getKey();
+            if (!key.normalized().startsWith(query, key.offset())) {
+                break;
+            }
+            if (seen.add(key.id())) {
+                found.add(entry.getValue());
+                if (found.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Busca as pessoas cujo nome contém o termo. Percorre a lista do trigrama mais raro do
+     * termo, conferindo cada candidato, e para ao reunir o limite; as pessoas encontradas são
+     * devolvidas em ordem de nome. Quando há mais ocorrências que o limite, quais delas são
+     * devolvidas não é especificado.
+     *
+     * @param query termo normalizado com ao menos 3 caracteres
+     * @param limit quantidade máxima de pessoas
+     * @return pessoas encontradas
+     */
+    public List<Person> contains(String query, int limit) {
+        PostingView rarest = null;
+        for (long trigram : Trigrams.ofFragment(query)) {
+            PostingList list = postings.get(trigram);
+            if (list == null) {
+                return List.of();
+            }
+            PostingView view = list.view();
+            if (rarest == null || view.size() < rarest.size()) {
+                rarest = view;
+            }
+        }
+        if (rarest == null) {
+            throw new IllegalArgumentException("A busca por trecho exige ao menos 3 caracteres");
+        }
+        List<Person> found = new ArrayList<>(Math.min(limit, 64));
+        LongIntHashMap seen = new LongIntHashMap(64);
+        for (int i = 0; i < rarest.size() && found.size() < limit; i++) {
+            long id = rarest.ids()[i];
+            if (seen.get(id) != LongIntHashMap.NO_VALUE) {
+                continue;
+            }
+            seen.put(id, 0);
+            Entry entry = entries.get(id);
+            if (entry != null && entry.normalized().contains(query)) {
+                found.add(entry.person());
+            }
+        }
+        found.sort(BY_NAME);
+        return found;
+    }
+
+    /**
+     * Busca as pessoas com nome parecido com o termo, das mais para as menos parecidas.
+     * A similaridade é o índice de Jaccard entre os trigramas do termo e do nome.
+     *
+     * <p>As listas dos trigramas do termo são percorridas da mais rara para a mais frequente,
+     * contando os trigramas compartilhados por cada nome. Um nome ausente das listas já
+     * percorridas compartilha no máximo os trigramas restantes, então a contagem para quando
+     * nenhum nome novo pode atingir o mínimo, ou quando o orçamento de
+     * {@value #FUZZY_POSTINGS_BUDGET} entradas é esgotado. Os candidatos são então avaliados
+     * da maior para a menor contagem, até que o limite superior da similaridade dos restantes
+     * fique abaixo do pior resultado selecionado; a similaridade exata só é calculada para
+     * quem, pela quantidade de trigramas do próprio nome, ainda pode entrar no resultado.
+     *
+     * @param query termo normalizado
+     * @param limit quantidade máxima de pessoas
+     * @param threshold similaridade mínima, entre 0 e 1
+     * @return pessoas encontradas
+     */
+    public List<Person> fuzzy(String query, int limit, double threshold) {
+        long[] queryTrigrams = Trigrams.ofName(query);
+        List<PostingView> views = new ArrayList<>(queryTrigrams.length);
+        for (long trigram : queryTrigrams) {
+            PostingList list = postings.get(trigram);
+            if (list != null) {
+                views.add(list.view());
+            }
+        }
+        views.sort(Comparator.comparingInt(PostingView::size));
+
+        // entradas obsoletas repetidas só aumentam a contagem, mantendo o limite superior válido
+        LongIntHashMap shared = new LongIntHashMap(1 << 10);
+        int processed = 0;
+        long scanned = 0;
+        for (PostingView view : views) {
+            double unseenBound = (double) (views.size() - processed) / queryTrigrams.length;
+            if (unseenBound < threshold || (processed > 0 && scanned + view.size() > FUZZY_POSTINGS_BUDGET)) {
+                break;
+            }
+            for (int i = 0; i < view.size(); i++) {
+                long id = view.ids()[i];
+                int count = shared.get(id);
+                shared.put(id, count == LongIntHashMap.NO_VALUE ? 1 : count + 1);
+            }
+            scanned += view.size();
+            processed++;
+        }
+
+        int remaining = views.size() - processed;
+        List<long[]> byCount = bucketByCount(shared, processed);
+        TopK<Scored> top = new TopK<>(limit, Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(scored -> NameKey.of(scored.person())));
+        for (int count = processed; count >= 1; count--) {
+            double upperBound = (double) (count + remaining) / queryTrigrams.length;
+            if (upperBound < threshold || (top.isFull() && upperBound < top.worst().score())) {
+                break;
+            }
+            for (long id : byCount.get(count)) {
+                Entry entry = entries.get(id);
+                if (entry == null) {
+                    continue;
+                }
+                double entryBound = Trigrams.similarity(Math.min(count + remaining, entry.trigramCount()),
+                        queryTrigrams.length, entry.trigramCount());
+                if (entryBound < threshold || (top.isFull() && entryBound < top.worst().score())) {
+                    continue;
+                }
+                double score = Trigrams.similarity(queryTrigrams, Trigrams.ofName(entry.normalized()));
+                if (score >= threshold) {
+                    top.offer(new Scored(entry.person(), score));
+                }
+            }
+        }
+        return top.toSortedList().stream().map(Scored::person).toList();
+    }
+
+    /**
+     * Busca por trecho curto demais para as listas de trigramas: percorre as entradas e guarda
+     * as primeiras na ordem de nome, em O(n log k).
+     */
+    private List<Person> scanContains(String query, int limit) {
+        TopK<Person> first = new TopK<>(limit, BY_NAME);
+        entries.forEachValue(entry -> {
+            if (entry.normalized().contains(query)) {
+                first.offer(entry.person());
+            }
+        });
+        return first.toSortedList();
+    }
+
+    private static List<long[]> bucketByCount(LongIntHashMap shared, int maxCount) {
+        int[] sizes = new int[maxCount + 1];
+        shared.forEach((id, count) -> sizes[Math.min(count, maxCount)]++);
+        List<long[]> buckets = new ArrayList<>(maxCount + 1);
+        for (int size : sizes) {
+            buckets.add(new long[size]);
+        }
+        int[] filled = new int[maxCount + 1];
+        shared.forEach((id, count) -> {
+            int bucket = Math.min(count, maxCount);
+            buckets.get(bucket)[filled[bucket]++] = id;
+        });
+        return buckets;
+    }
+
+    private static void forEachWordStart(String normalized, IntConsumer action) {
+        for (int start = 0; start >= 0; start = NameNormalizer.nextWordStart(normalized, start)) {
+            action.accept(start);
+        }
+    }
+
+    /**
+     * Pessoa indexada, seu nome normalizado e a quantidade de trigramas distintos do nome.
+     */
+    private record Entry(Person person, String normalized, int trigramCount) {
+    }
+
+    private record Scored(Person person, double score) {
+    }
+
+    /**
+     * Posição de uma palavra de um nome: ordena pelo restante do nome normalizado a partir da
+     * palavra e, em caso de empate, pelo ID.
+     */
+    private record SuffixKey(String normalized, int offset, long id) implements Comparable<SuffixKey> {
+        @Override
+        public int compareTo(SuffixKey other) {
+            int bySuffix = NameNormalizer.compareSuffixes(normalized, offset, other.normalized, other.offset);
+            return bySuffix != 0 ? bySuffix : Long.compare(id, other.id);
+        }
+    }
+
+    /**
+     * Visão imutável de uma lista invertida: as posições abaixo de {@code size} nunca mudam
+     * no array, pois a compactação cria um novo.
+     */
+    private record PostingView(long[] ids, int size) {
+    }
+
+    /**
+     * Lista invertida de IDs de um trigrama, apenas com acréscimos.
+     */
+    private static final class PostingList {
+        private long[] ids = new long[4];
+        private int size;
+        private int stale;
+
+        synchronized void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+            }
+            ids[size++] = id;
+        }
+
+        synchronized PostingView view() {
+            return new PostingView(ids, size);
+        }
+
+        /**
+         * Registra que uma entrada deixou de valer e compacta a lista quando mais da metade
+         * dela está obsoleta, mantendo uma única entrada por ID cujo nome atual tem o trigrama.
+         */
+        synchronized void markStale(long trigram, ConcurrentLongObjectMap<Entry> entries) {
+            stale++;
+            if (stale < MIN_STALE_TO_COMPACT || stale * 2 < size) {
+                return;
+            }
+            long[] compacted = new long[Math.max(4, size - stale)];
+            LongIntHashMap kept = new LongIntHashMap(compacted.length);
+            int keptSize = 0;
+            for (int i = 0; i < size; i++) {
+                long id = ids[i];
+                Entry entry = entries.get(id);
+                if (kept.get(id) == LongIntHashMap.NO_VALUE && entry != null
+                        && Trigrams.occursIn(entry.normalized(), trigram)) {
+                    kept.put(id, 0);
+                    if (keptSize == compacted.length) {
+                        compacted = Arrays.copyOf(compacted, keptSize << 1);
+                    }
+                    compacted[keptSize++] = id;
+                }
+            }
+            ids = compacted;
+            size = keptSize;
+            stale = 0;
+        }
+    }
+
+    /**
+     * Seleciona os {@code limit} menores elementos segundo uma ordem, sem ordenar todos.
+     */
+    private static final class TopK<T> {
+        private final int limit;
+        private final Comparator<T> order;
+        private final PriorityQueue<T> worstFirst;
+
+        TopK(int limit, Comparator<T> order) {
+            this.limit = limit;
+            this.order = order;
+            this.worstFirst = new PriorityQueue<>(Math.min(limit, 64) + 1, order.reversed());
+        }
+
+        boolean isFull() {
+            return worstFirst.size() == limit;
+        }
+
+        T worst() {
+            return worstFirst.peek();
+        }
+
+        void offer(T element) {
+            if (worstFirst.size() < limit) {
+                worstFirst.add(element);
+            } else if (order.compare(element, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.add(element);
+            }
+        }
+
+        List<T> toSortedList() {
+            List<T> sorted = new ArrayList<>(worstFirst);
+            sorted.sort(order);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.sccon.geocore.repository.index;
+
+import java.util.Arrays;
+
+/**
+ * Classe utilitária para trigramas de nomes normalizados por {@link NameNormalizer}.
+ *
+ * <p>Os trigramas de um nome são extraídos do texto com um espaço de cada lado, de modo que
+ * o início e o fim de cada palavra geram trigramas próprios (" jo", "ao "). Cada trigrama é
+ * codificado em um {@code long} com os três caracteres de 16 bits.
+ */
+public final class Trigrams {
+
+    /** Similaridade mínima para que um nome seja considerado na busca aproximada */
+    public static final double DEFAULT_SIMILARITY_THRESHOLD = 0.3;
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private Trigrams() {
+    }
+
+    /**
+     * Retorna os trigramas distintos de um nome normalizado, incluindo os de borda de palavra.
+     *
+     * @param normalized nome normalizado
+     * @return trigramas distintos em ordem crescente
+     */
+    public static long[] ofName(String normalized) {
+        return distinct(" " + normalized + " ");
+    }
+
+    /**
+     * Retorna os trigramas distintos de um trecho, sem bordas: um nome contém o trecho apenas
+     * se contiver todos eles.
+     *
+     * @param normalized trecho normalizado
+     * @return trigramas distintos em ordem crescente, vazio se o trecho tiver menos de 3 caracteres
+     */
+    public static long[] ofFragment(String normalized) {
+        return distinct(normalized);
+    }
+
+    /**
+     * Calcula a similaridade de Jaccard entre os conjuntos de trigramas de dois nomes.
+     *
+     * @param a trigramas distintos e ordenados
+     * @param b trigramas distintos e ordenados
+     * @return similaridade entre 0 e 1
+     */
+    public static double similarity(long[] a, long[] b) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return similarity(shared, a.length, b.length);
+    }
+
+    /**
+     * Calcula a similaridade de Jaccard a partir da quantidade de trigramas em comum.
+     *
+     * @param shared trigramas em comum
+     * @param sizeA trigramas distintos do primeiro nome
+     * @param sizeB trigramas distintos do segundo nome
+     * @return similaridade entre 0 e 1
+     */
+    public static double similarity(int shared, int sizeA, int sizeB) {
+        int union = sizeA + sizeB - shared;
+        return union == 0 ? 0 : (double) shared / union;
+    }
+
+    /**
+     * Verifica se o trigrama ocorre no nome normalizado, considerando as bordas.
+     *
+     * @param normalized nome normalizado
+     * @param trigram trigrama codificado
+     * @return true se o nome contiver o trigrama
+     */
+    static boolean occursIn(String normalized, long trigram) {
+        String padded = " " + normalized + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            if (encode(padded, i) == trigram) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long[] distinct(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] trigrams = new long[text.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = encode(text, i);
+        }
+        Arrays.sort(trigrams);
+        int size = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (size == 0 || trigrams[size - 1] != trigrams[i]) {
+                trigrams[size++] = trigrams[i];
+            }
+        }
+        return size == trigrams.length ? trigrams : Arrays.copyOf(trigrams, size);
+    }
+
+    private static long encode(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
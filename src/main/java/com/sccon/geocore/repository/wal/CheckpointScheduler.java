@@ -0,0 +1,59 @@
+package com.sccon.geocore.repository.wal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executa checkpoints periódicos em uma thread própria, limitando o tamanho do log de escrita
+ * e, portanto, o tempo de recuperação na inicialização.
+ */
+@Slf4j
+public class CheckpointScheduler implements AutoCloseable {
+
+    private final Runnable checkpoint;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Agenda o checkpoint informado a cada intervalo.
+     *
+     * @param checkpoint ação que grava o snapshot e descarta os segmentos cobertos
+     * @param interval intervalo entre o fim de um checkpoint e o início do próximo
+     */
+    public CheckpointScheduler(Runnable checkpoint, Duration interval) {
+        this.checkpoint = Objects.requireNonNull(checkpoint, "checkpoint");
+        long intervalMillis = Math.max(1, interval.toMillis());
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wal-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::runQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Interrompe os checkpoints agendados, aguardando o término de um checkpoint em andamento.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runQuietly() {
+        try {
+            checkpoint.run();
+        } catch (RuntimeException ex) {
+            // O log continua íntegro; o próximo checkpoint tentará novamente
+            log.warn("Falha ao executar checkpoint", ex);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.sccon.geocore.repository.wal;
+
+import java.util.Arrays;
+
+/**
+ * Modos de durabilidade do {@link WriteAheadLog}.
+ */
+public enum DurabilityMode {
+    /** Cada escrita executa seu próprio fsync antes de retornar. */
+    PER_WRITE("per-write"),
+    /** Escritas concorrentes compartilham um único fsync (group commit) antes de retornar. */
+    BATCHED("batched"),
+    /** Escritas retornam imediatamente; o fsync ocorre periodicamente em segundo plano. */
+    ASYNC("async");
+
+    private final String propertyValue;
+
+    DurabilityMode(String propertyValue) {
+        this.propertyValue = propertyValue;
+    }
+
+    /**
+     * Converte o valor usado na configuração.
+     *
+     * @param value valor da propriedade (per-write, batched, async)
+     * @return modo correspondente
+     * @throws IllegalArgumentException se o valor for desconhecido
+     */
+    public static DurabilityMode fromProperty(String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.propertyValue.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Modo de durabilidade inválido: " + value +
+                        ". Valores aceitos: per-write, batched, async"));
+    }
+}
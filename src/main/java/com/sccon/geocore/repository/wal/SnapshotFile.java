@@ -0,0 +1,241 @@
+package com.sccon.geocore.repository.wal;
+
+import com.sccon.geocore.model.Person;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot binário do estado de um repositório, usado para acelerar a recuperação.
+ *
+ * <p>Layout do arquivo:
+ * <pre>
+ * cabeçalho (32 bytes): [magic: int][versão: int][primeiro segmento do log: long]
+ *                       [quantidade de registros: long][crc32c do corpo: int][reservado: int]
+ * registro:             [id: long][nascimento: int][admissão: int][bytes do nome: int][nome UTF-8]
+ * </pre>
+ * As datas são gravadas em dias desde a época. O snapshot é gravado em um arquivo temporário e
+ * só substitui o anterior, por renomeação atômica, depois do fsync; em seguida, o fsync do
+ * diretório torna a renomeação durável. Um snapshot corrompido é rejeitado pelo checksum.
+ *
+ * <p>Na carga, o arquivo é mapeado em memória ({@code mmap}) em janelas de até
+ * {@value #MAX_WINDOW_BYTES} bytes e os registros são lidos diretamente das páginas mapeadas.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x47534E50;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_FIXED_BYTES = Long.BYTES + Integer.BYTES * 3;
+    private static final int MAX_WINDOW_BYTES = 1 << 30;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private SnapshotFile() {
+    }
+
+    /**
+     * Fonte dos registros de um snapshot.
+     */
+    @FunctionalInterface
+    public interface Source {
+        /**
+         * Entrega cada pessoa a ser gravada.
+         *
+         * @param sink consumidor que grava a pessoa no snapshot
+         */
+        void forEach(Consumer<Person> sink);
+    }
+
+    /**
+     * Grava um snapshot de forma atômica e durável: ao retornar, o novo snapshot sobrevive a uma
+     * queda do sistema, então os segmentos do log cobertos por ele já podem ser descartados.
+     *
+     * @param file caminho final do snapshot
+     * @param firstSegment primeiro segmento do log que deve ser reaplicado após o snapshot
+     * @param source fonte das pessoas a serem gravadas
+     * @throws UncheckedIOException se a gravação falhar
+     */
+    public static void write(Path file, long firstSegment, Source source) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_BYTES);
+            RecordWriter writer = new RecordWriter(channel);
+            source.forEach(writer);
+            writer.finish();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(firstSegment)
+                    .putLong(writer.count)
+                    .putInt((int) writer.crc.getValue())
+                    .putInt(0)
+                    .flip();
+            channel.write(header, 0);
+            channel.force(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao gravar o snapshot", ex);
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory(file.toAbsolutePath().getParent());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao publicar o snapshot", ex);
+        }
+    }
+
+    /**
+     * Executa o fsync de um diretório, tornando duráveis as entradas criadas, renomeadas ou
+     * removidas nele, como a renomeação do snapshot e o segmento do log aberto no checkpoint.
+     * Sem ele, uma queda do sistema pode desfazer a renomeação depois que os segmentos antigos
+     * já foram apagados.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Carrega um snapshot, entregando cada pessoa gravada.
+     *
+     * @param file caminho do snapshot
+     * @param sink consumidor de cada pessoa carregada
+     * @return primeiro segmento do log a ser reaplicado, ou 0 se não houver snapshot
+     * @throws UncheckedIOException se o snapshot existir mas estiver corrompido ou ilegível
+     */
+    public static long load(Path file, Consumer<Person> sink) {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Cabeçalho de snapshot inválido: " + file);
+            }
+            long firstSegment = header.getLong();
+            long count = header.getLong();
+            int expectedCrc = header.getInt();
+
+            CRC32C crc = new CRC32C();
+            long position = HEADER_BYTES;
+            long size = channel.size();
+            long loaded = 0;
+            while (loaded < count) {
+                long windowBytes = Math.min(size - position, MAX_WINDOW_BYTES);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowBytes);
+                long records = readRecords(window, count - loaded, sink);
+                if (records == 0) {
+                    throw new IOException("Snapshot truncado: " + file);
+                }
+                int consumed = window.position();
+                crc.update(window.duplicate().position(0).limit(consumed));
+                loaded += records;
+                position += consumed;
+            }
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("Checksum de snapshot inválido: " + file);
+            }
+            return firstSegment;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao carregar o snapshot", ex);
+        }
+    }
+
+    /**
+     * Lê os registros completos contidos na janela mapeada, deixando a posição da janela
+     * no fim do último registro lido.
+     *
+     * @return quantidade de registros lidos
+     */
+    private static long readRecords(MappedByteBuffer window, long remaining, Consumer<Person> sink) {
+        long records = 0;
+        while (records < remaining && window.remaining() >= RECORD_FIXED_BYTES) {
+            int start = window.position();
+            long id = window.getLong();
+            int birthDay = window.getInt();
+            int admissionDay = window.getInt();
+            int nameBytes = window.getInt();
+            if (window.remaining() < nameBytes) {
+                window.position(start);
+                break;
+            }
+            byte[] name = new byte[nameBytes];
+            window.get(name);
+            sink.accept(new Person(id, new String(name, StandardCharsets.UTF_8),
+                    LocalDate.ofEpochDay(birthDay), LocalDate.ofEpochDay(admissionDay)));
+            records++;
+        }
+        return records;
+    }
+
+    /**
+     * Serializa pessoas em um buffer e o descarrega no arquivo quando enche.
+     */
+    private static final class RecordWriter implements Consumer<Person> {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+        private final CRC32C crc = new CRC32C();
+        private long count;
+
+        private RecordWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void accept(Person person) {
+            byte[] name = person.name().getBytes(StandardCharsets.UTF_8);
+            int recordBytes = RECORD_FIXED_BYTES + name.length;
+            if (buffer.remaining() < recordBytes) {
+                drain();
+            }
+            ByteBuffer target = buffer.remaining() >= recordBytes ? buffer : ByteBuffer.allocate(recordBytes);
+            target.putLong(person.id())
+                    .putInt(Math.toIntExact(person.birthDate().toEpochDay()))
+                    .putInt(Math.toIntExact(person.admissionDate().toEpochDay()))
+                    .putInt(name.length)
+                    .put(name);
+            if (target != buffer) {
+                write(target.flip());
+            }
+            count++;
+        }
+
+        private void finish() {
+            drain();
+        }
+
+        private void drain() {
+            write(buffer.flip());
+            buffer.clear();
+        }
+
+        private void write(ByteBuffer data) {
+            crc.update(data.duplicate());
+            try {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Falha ao gravar o snapshot", ex);
+            }
+        }
+    }
+}
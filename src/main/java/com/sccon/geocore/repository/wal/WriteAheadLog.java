@@ -0,0 +1,530 @@
+package com.sccon.geocore.repository.wal;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.PersonChangeListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Log de escrita antecipada (write-ahead log) das alterações de um repositório em memória.
+ *
+ * <p>Cada alteração é registrada como um registro binário compacto:
+ * <pre>
+ * [tamanho: int][crc32c: int][tipo: byte][id: long]                                  (remoção)
+ * [tamanho: int][crc32c: int][tipo: byte][id: long][nascimento: int][admissão: int]
+ *     [bytes do nome: int][nome UTF-8]                                               (gravação)
+ * </pre>
+ * As datas são gravadas em dias desde a época. Registros de gravação guardam o estado completo
+ * da pessoa, então reaplicá-los é idempotente.
+ *
+ * <p>Os registros são acumulados em um buffer em memória e gravados no {@link FileChannel} por
+ * quem chamar {@link #commit()}, conforme o {@link DurabilityMode}. No modo {@code BATCHED}, a
+ * primeira thread a chegar grava e executa o fsync de tudo o que estiver pendente, e as threads
+ * cujos registros já foram cobertos por esse fsync retornam sem gravar (group commit).
+ *
+ * <p>O log é dividido em segmentos numerados ({@code wal-<número>.log}) dentro de um diretório.
+ * Um checkpoint inicia um novo segmento com {@link #rotate()} e, depois de gravar o snapshot,
+ * descarta os segmentos anteriores com {@link #deleteSegmentsBefore(long)}.
+ *
+ * <p>Se a gravação ou o fsync de um lote falharem nos modos {@code PER_WRITE} e {@code BATCHED},
+ * o lote é descartado, o segmento é truncado na posição anterior a ele e o log passa a recusar
+ * todos os commits até ser reaberto: cada escrita do lote recebe o erro e, como o repositório só
+ * aplica uma escrita depois do commit, nenhuma delas fica visível. Depois de um fsync com falha
+ * não há como saber o que chegou ao disco, então o log não tenta de novo. No modo {@code ASYNC},
+ * em que ninguém aguarda o commit, o lote volta para o início do buffer e é gravado de novo na
+ * próxima execução; se nem o truncamento for possível, o log também passa a recusar os commits.
+ * Em todos os casos, um registro parcial nunca fica no meio do segmento.
+ */
+public class WriteAheadLog implements PersonChangeListener, AutoCloseable {
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int INITIAL_BUFFER_BYTES = 64 * 1024;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private final Path directory;
+    private final DurabilityMode mode;
+    private final ScheduledExecutorService asyncFlusher;
+
+    private final Object appendLock = new Object();
+    /** Registros ainda não gravados; protegido por {@code appendLock}. */
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    /** Total de bytes registrados; protegido por {@code appendLock}. */
+    private long appendedLsn;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    /** Buffer reaproveitado na próxima troca; protegido por {@code flushLock}. */
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    /** Segmento ativo; protegido por {@code flushLock}. */
+    private FileChannel channel;
+    private volatile long activeSegment;
+    private volatile long durableLsn;
+    /** Falha que deixou o segmento ativo em estado desconhecido; o log precisa ser reaberto. */
+    private volatile IOException failure;
+    private final SegmentOpener segmentOpener;
+
+    /**
+     * Abre o arquivo de um segmento para leitura e escrita; substituível nos testes.
+     */
+    @FunctionalInterface
+    interface SegmentOpener {
+        FileChannel open(Path path) throws IOException;
+    }
+
+    /**
+     * Abre (ou cria) o log no diretório informado, posicionando as próximas gravações após o
+     * último registro íntegro do segmento mais recente.
+     *
+     * @param directory diretório dos segmentos do log e do snapshot
+     * @param mode modo de durabilidade
+     * @param asyncFlushInterval intervalo entre fsyncs no modo {@code ASYNC}
+     * @throws IOException se o diretório ou o segmento ativo não puderem ser abertos
+     */
+    public WriteAheadLog(Path directory, DurabilityMode mode, Duration asyncFlushInterval) throws IOException {
+        this(directory, mode, asyncFlushInterval, path -> FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Abre o log abrindo os segmentos com a função informada.
+     */
+    WriteAheadLog(Path directory, DurabilityMode mode, Duration asyncFlushInterval, SegmentOpener segmentOpener)
+            throws IOException {
+        this.segmentOpener = Objects.requireNonNull(segmentOpener, "segmentOpener");
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.directory = Files.createDirectories(directory);
+        List<Long> segments = segments();
+        this.activeSegment = segments.isEmpty() ? 1 : segments.get(segments.size() - 1);
+        this.channel = openSegment(activeSegment);
+        long validEnd = scan(channel, null, null);
+        channel.truncate(validEnd);
+        channel.position(validEnd);
+        this.appendedLsn = validEnd;
+        this.durableLsn = validEnd;
+        if (mode == DurabilityMode.ASYNC) {
+            long intervalMillis = Math.max(1, asyncFlushInterval.toMillis());
+            this.asyncFlusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wal-async-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            asyncFlusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.asyncFlusher = null;
+        }
+    }
+
+    /**
+     * Reaplica, em ordem, os registros íntegros de todos os segmentos a partir do informado.
+     *
+     * @param fromSegment primeiro segmento a ser reaplicado
+     * @param onPut chamado com o estado gravado de cada pessoa
+     * @param onDelete chamado com o ID de cada pessoa removida
+     * @throws UncheckedIOException se algum segmento não puder ser lido
+     */
+    public void replay(long fromSegment, Consumer<Person> onPut, LongConsumer onDelete) {
+        try {
+            for (long segment : segments()) {
+                if (segment < fromSegment) {
+                    continue;
+                }
+                try (FileChannel reader = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+                    scan(reader, onPut, onDelete);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao reaplicar o log de escrita", ex);
+        }
+    }
+
+    /**
+     * Grava os registros pendentes no segmento ativo e inicia um novo segmento.
+     * O chamador deve garantir que nenhuma alteração esteja em andamento, para que os
+     * segmentos anteriores reflitam exatamente o estado aplicado até aqui.
+     *
+     * @return número do novo segmento ativo
+     * @throws UncheckedIOException se a troca de segmento falhar
+     */
+    public long rotate() {
+        flushLock.lock();
+        try {
+            flush();
+            channel.close();
+            long next = activeSegment + 1;
+            channel = openSegment(next);
+            activeSegment = next;
+            return next;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao iniciar um novo segmento do log de escrita", ex);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Remove os segmentos anteriores ao informado, já cobertos por um snapshot.
+     *
+     * @param segment primeiro segmento a ser mantido
+     * @throws UncheckedIOException se algum segmento não puder ser removido
+     */
+    public void deleteSegmentsBefore(long segment) {
+        try {
+            for (long existing : segments()) {
+                if (existing < segment) {
+                    Files.deleteIfExists(segmentPath(existing));
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao remover segmentos do log de escrita", ex);
+        }
+    }
+
+    /**
+     * Retorna o caminho do snapshot mantido junto aos segmentos do log.
+     *
+     * @return caminho do arquivo de snapshot
+     */
+    public Path snapshotFile() {
+        return directory.resolve(SNAPSHOT_FILE);
+    }
+
+    /**
+     * Registra a alteração no buffer do log. Deve ser chamado sob o bloqueio do ID alterado,
+     * para que a ordem dos registros de um mesmo ID seja a ordem de aplicação.
+     */
+    @Override
+    public void onChange(Person previous, Person current) {
+        ByteBuffer record = current != null ? encodePut(current) : encodeDelete(previous.id());
+        synchronized (appendLock) {
+            if (pending.remaining() < record.remaining()) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2,
+                        pending.position() + record.remaining()));
+                grown.put(pending.flip());
+                pending = grown;
+            }
+            appendedLsn += record.remaining();
+            pending.put(record);
+        }
+    }
+
+    /**
+     * Garante a durabilidade dos registros feitos até aqui, conforme o modo configurado.
+     * Deve ser chamado antes de a alteração ser aplicada; se lançar uma exceção, a alteração
+     * não deve ser aplicada.
+     *
+     * @throws UncheckedIOException se a gravação ou o fsync falharem, ou se uma falha anterior
+     *         tiver deixado o log inutilizável
+     */
+    public void commit() {
+        checkUsable();
+        switch (mode) {
+            case ASYNC -> {
+            }
+            case PER_WRITE -> {
+                flushLock.lock();
+                try {
+                    flush();
+                } finally {
+                    flushLock.unlock();
+                }
+            }
+            case BATCHED -> {
+                long target;
+                synchronized (appendLock) {
+                    target = appendedLsn;
+                }
+                awaitDurable(target);
+            }
+        }
+    }
+
+    /**
+     * Retorna a posição até a qual o log está garantidamente persistido.
+     *
+     * @return LSN durável, em bytes; contínuo entre segmentos, a partir do tamanho íntegro do
+     *         segmento ativo na abertura
+     */
+    public long durableLsn() {
+        return durableLsn;
+    }
+
+    /**
+     * Grava os registros pendentes, executa o fsync e fecha o arquivo. Se o log estiver
+     * inutilizável, apenas fecha o arquivo, descartando os registros pendentes.
+     *
+     * @throws IOException se a gravação ou o fechamento falharem
+     */
+    @Override
+    public void close() throws IOException {
+        if (asyncFlusher != null) {
+            // Sem interromper: uma interrupção durante a escrita fecharia o canal e perderia o lote
+            asyncFlusher.shutdown();
+            try {
+                asyncFlusher.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushLock.lock();
+        try {
+            if (channel.isOpen()) {
+                try {
+                    if (failure == null) {
+                        flush();
+                    }
+                } finally {
+                    channel.close();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Aguarda até que o LSN alvo seja durável. A thread que obtém o bloqueio grava tudo o que
+     * estiver pendente; as demais encontram seus registros já cobertos e retornam.
+     */
+    private void awaitDurable(long target) {
+        while (durableLsn < target) {
+            flushLock.lock();
+            try {
+                if (durableLsn < target) {
+                    flush();
+                }
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Troca o buffer pendente pelo sobressalente, grava-o e executa o fsync. Se a gravação
+     * falhar, o segmento é truncado no início do lote; no modo {@code ASYNC} o lote volta ao
+     * buffer, nos demais é descartado e o log fica inutilizável.
+     * Deve ser chamado com {@code flushLock}.
+     */
+    private void flush() {
+        checkUsable();
+        ByteBuffer batch;
+        long batchLsn;
+        synchronized (appendLock) {
+            batch = pending;
+            batchLsn = appendedLsn;
+            pending = spare.clear();
+        }
+        long start = -1;
+        try {
+            start = channel.position();
+            batch.flip();
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            channel.force(false);
+            durableLsn = batchLsn;
+            spare = batch.clear();
+        } catch (IOException ex) {
+            if (mode == DurabilityMode.ASYNC) {
+                restore(batch, start);
+            } else {
+                discard(batch, start, ex);
+            }
+            throw new UncheckedIOException("Falha ao gravar o log de escrita", ex);
+        }
+    }
+
+    /**
+     * Descarta um lote que não foi confirmado, remove do segmento o que tiver sido gravado dele
+     * e deixa o log inutilizável. Deve ser chamado com {@code flushLock}.
+     *
+     * @param batch lote que falhou
+     * @param start posição do segmento antes do lote, ou -1 se nada foi gravado
+     * @param cause falha da gravação
+     */
+    private void discard(ByteBuffer batch, long start, IOException cause) {
+        spare = batch.clear();
+        failure = cause;
+        if (start < 0) {
+            return;
+        }
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+
+    /**
+     * Devolve um lote que não foi gravado ao início do buffer pendente, antes dos registros
+     * feitos durante a tentativa, e remove do segmento o que tiver sido gravado dele.
+     * Deve ser chamado com {@code flushLock}.
+     *
+     * @param batch lote que falhou
+     * @param start posição do segmento antes do lote, ou -1 se nada foi gravado
+     */
+    private void restore(ByteBuffer batch, long start) {
+        batch.rewind();
+        ByteBuffer duringFlush;
+        synchronized (appendLock) {
+            duringFlush = pending;
+            ByteBuffer merged = ByteBuffer.allocate(Math.max(batch.capacity(), batch.remaining() + duringFlush.position()));
+            merged.put(batch).put(duringFlush.flip());
+            pending = merged;
+        }
+        spare = duringFlush.clear();
+        if (start < 0) {
+            return;
+        }
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException ex) {
+            failure = ex;
+        }
+    }
+
+    private void checkUsable() {
+        IOException cause = failure;
+        if (cause != null) {
+            throw new UncheckedIOException("O log de escrita ficou inutilizável após uma falha e precisa ser reaberto",
+                    cause);
+        }
+    }
+
+    private void flushQuietly() {
+        flushLock.lock();
+        try {
+            if (channel.isOpen()) {
+                flush();
+            }
+        } catch (UncheckedIOException ignored) {
+            // O lote voltou para o buffer pendente: a próxima execução o grava de novo
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(SEGMENT_PREFIX + "%016d".formatted(segment) + SEGMENT_SUFFIX);
+    }
+
+    private FileChannel openSegment(long segment) throws IOException {
+        return segmentOpener.open(segmentPath(segment));
+    }
+
+    /**
+     * Percorre os registros de um segmento a partir do início, parando no primeiro registro
+     * incompleto ou corrompido (por exemplo, uma gravação interrompida por queda do processo).
+     *
+     * @return posição do fim do último registro íntegro
+     */
+    private static long scan(FileChannel channel, Consumer<Person> onPut, LongConsumer onDelete) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        CRC32C crc = new CRC32C();
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length <= 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            channel.read(payload, position + HEADER_BYTES);
+            payload.flip();
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            if (onPut != null) {
+                decode(payload, onPut, onDelete);
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private static void decode(ByteBuffer payload, Consumer<Person> onPut, LongConsumer onDelete) {
+        byte type = payload.get();
+        long id = payload.getLong();
+        if (type == DELETE) {
+            onDelete.accept(id);
+            return;
+        }
+        LocalDate birthDate = LocalDate.ofEpochDay(payload.getInt());
+        LocalDate admissionDate = LocalDate.ofEpochDay(payload.getInt());
+        byte[] name = new byte[payload.getInt()];
+        payload.get(name);
+        onPut.accept(new Person(id, new String(name, StandardCharsets.UTF_8), birthDate, admissionDate));
+    }
+
+    private static ByteBuffer encodePut(Person person) {
+        byte[] name = person.name().getBytes(StandardCharsets.UTF_8);
+        int length = 1 + Long.BYTES + Integer.BYTES * 3 + name.length;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + length);
+        record.putInt(length).putInt(0)
+                .put(PUT)
+                .putLong(person.id())
+                .putInt(Math.toIntExact(person.birthDate().toEpochDay()))
+                .putInt(Math.toIntExact(person.admissionDate().toEpochDay()))
+                .putInt(name.length)
+                .put(name);
+        return seal(record);
+    }
+
+    private static ByteBuffer encodeDelete(long id) {
+        int length = 1 + Long.BYTES;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + length);
+        record.putInt(length).putInt(0)
+                .put(DELETE)
+                .putLong(id);
+        return seal(record);
+    }
+
+    /** Calcula o checksum do conteúdo e o grava no cabeçalho. */
+    private static ByteBuffer seal(ByteBuffer record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), HEADER_BYTES, record.position() - HEADER_BYTES);
+        record.putInt(Integer.BYTES, (int) crc.getValue());
+        return record.flip();
+    }
+}
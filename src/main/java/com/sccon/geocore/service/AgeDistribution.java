@@ -0,0 +1,24 @@
+package com.sccon.geocore.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Distribuição das pessoas por faixa de idade em anos completos.
+ *
+ * @param date data de referência das idades
+ * @param headcount quantidade de pessoas
+ * @param bandYears largura de cada faixa, em anos
+ * @param bands faixas de idade, em ordem crescente, da primeira até a última com pessoas
+ */
+public record AgeDistribution(LocalDate date, long headcount, int bandYears, List<AgeBand> bands) {
+
+    /**
+     * Faixa de idade.
+     *
+     * @param minYears idade em anos completos no início da faixa (inclusivo)
+     * @param maxYears idade em anos completos no fim da faixa (inclusivo)
+     * @param headcount quantidade de pessoas na faixa
+     */
+    public record AgeBand(int minYears, int maxYears, long headcount) {}
+}
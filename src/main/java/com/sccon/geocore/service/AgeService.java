@@ -2,7 +2,9 @@ package com.sccon.geocore.service;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.Month;
 import java.time.Period;
+import java.time.Year;
 import java.util.Objects;
 
 /**
@@ -11,7 +13,10 @@ import java.util.Objects;
  */
 public class AgeService {
 
-    private final Clock clock;
+    /** Idade, em anos, coberta pela tabela do cálculo em lote */
+    static final int TABLE_YEARS = 200;
+
+    private final BusinessDate businessDate;
 
     /**
      * Construtor do serviço de idade.
@@ -19,7 +24,16 @@ public class AgeService {
      * @param clock relógio para obter a data atual
      */
     public AgeService(Clock clock) {
-        this.clock = Objects.requireNonNull(clock, "clock");
+        this(new BusinessDate(Objects.requireNonNull(clock, "clock")));
+    }
+
+    /**
+     * Construtor do serviço de idade sobre um provedor de data compartilhado.
+     * 
+     * @param businessDate provedor da data atual
+     */
+    public AgeService(BusinessDate businessDate) {
+        this.businessDate = Objects.requireNonNull(businessDate, "businessDate");
     }
 
     /**
@@ -39,14 +53,118 @@ public class AgeService {
      * @throws IllegalArgumentException se a data de nascimento for no futuro
      */
     public Age diff(LocalDate birthDate) {
+        return diff(birthDate, businessDate.today());
+    }
+
+    /**
+     * Calcula a diferença entre a data de nascimento e uma data de referência.
+     * Usado nos cálculos em lote, que resolvem a data atual uma única vez.
+     * 
+     * @param birthDate data de nascimento
+     * @param today data de referência
+     * @return objeto Age contendo anos, meses e dias
+     * @throws IllegalArgumentException se a data de nascimento for posterior à data de referência
+     */
+    public Age diff(LocalDate birthDate, LocalDate today) {
         Objects.requireNonNull(birthDate, "birthDate");
-        validateBirthDateIsNotInFuture(birthDate);
+        validateBirthDateIsNotInFuture(birthDate, today);
 
-        LocalDate today = LocalDate.now(clock);
         Period period = Period.between(birthDate, today);
         return new Age(period.getYears(), period.getMonths(), period.getDays());
     }
 
+    /**
+     * Calcula, em uma única passada, as idades de várias datas de nascimento em dias desde
+     * 1970-01-01 ({@link LocalDate#toEpochDay()}), com os mesmos valores de {@link #diff}.
+     *
+     * <p>Para a data de referência, a quantidade de meses completos só muda em datas fixas: há
+     * ao menos {@code k} meses completos se o nascimento não for posterior à referência menos
+     * {@code k} meses. Essas datas e o primeiro dia de cada mês são calculados uma vez para o
+     * lote; cada idade é então uma estimativa por divisão, corrigida por comparações com a
+     * tabela, e os dias vêm da posição no mês, sem criar objetos por pessoa. A tabela vai até
+     * o nascimento mais antigo do lote; idades de {@value #TABLE_YEARS} anos ou mais usam
+     * {@link #diff}.
+     * 
+     * @param birthEpochDays datas de nascimento em dias desde 1970-01-01
+     * @param count quantidade de datas a calcular, a partir do início do array
+     * @param today data de referência
+     * @param years coluna de saída dos anos, ou null se não for necessária
+     * @param months coluna de saída dos meses, ou null se não for necessária
+     * @param days coluna de saída dos dias, ou null se não for necessária
+     * @throws IllegalArgumentException se alguma data de nascimento for posterior à data de referência
+     */
+    public void diffAll(int[] birthEpochDays, int count, LocalDate today, int[] years, int[] months, int[] days) {
+        Objects.requireNonNull(birthEpochDays, "birthEpochDays");
+        int todayEpochDay = Math.toIntExact(today.toEpochDay());
+        int todayDay = today.getDayOfMonth();
+        int previousMonthLength = today.minusMonths(1).lengthOfMonth();
+        int oldest = todayEpochDay;
+        for (int i = 0; i < count; i++) {
+            oldest = Math.min(oldest, birthEpochDays[i]);
+        }
+        int tableMonths = (int) Math.min(((long) todayEpochDay - oldest) * 4_800 / 146_097 + 2, TABLE_YEARS * 12);
+
+        // latestBirth[k]: último nascimento com ao menos k meses completos
+        // monthStart[k]: primeiro dia do mês k meses antes da referência
+        int[] latestBirth = new int[tableMonths + 2];
+        int[] monthStart = new int[tableMonths + 2];
+        int year = today.getYear();
+        int month = today.getMonthValue();
+        int start = todayEpochDay - todayDay + 1;
+        for (int k = 0; k < latestBirth.length; k++) {
+            monthStart[k] = start;
+            latestBirth[k] = start + Math.min(todayDay, Month.of(month).length(Year.isLeap(year))) - 1;
+            if (--month == 0) {
+                month = 12;
+                year--;
+            }
+            start -= Month.of(month).length(Year.isLeap(year));
+        }
+
+        for (int i = 0; i < count; i++) {
+            int epochDay = birthEpochDays[i];
+            if (epochDay > todayEpochDay) {
+                throw new IllegalArgumentException("Data de nascimento não pode ser no futuro");
+            }
+            if (epochDay <= latestBirth[tableMonths]) {
+                Age age = diff(LocalDate.ofEpochDay(epochDay), today);
+                if (years != null) {
+                    years[i] = age.years();
+                }
+                if (months != null) {
+                    months[i] = age.months();
+                }
+                if (days != null) {
+                    days[i] = age.days();
+                }
+                continue;
+            }
+            // 146097 dias a cada 4800 meses: como a soma dos tamanhos dos meses se afasta da média
+            // em poucos dias, a estimativa erra no máximo um mês
+            int totalMonths = (int) Math.min(((long) todayEpochDay - epochDay) * 4_800 / 146_097, tableMonths);
+            if (epochDay > latestBirth[totalMonths]) {
+                totalMonths--;
+            } else if (epochDay <= latestBirth[totalMonths + 1]) {
+                totalMonths++;
+            }
+            if (years != null) {
+                years[i] = totalMonths / 12;
+            }
+            if (months != null) {
+                months[i] = totalMonths % 12;
+            }
+            if (days != null) {
+                // Nascimento no mês k meses antes da referência: o dia do mês já chegou. Senão,
+                // no mês anterior: os dias contam a partir do mesmo dia no mês anterior à
+                // referência, limitado ao tamanho desse mês, como em Period.between
+                days[i] = epochDay >= monthStart[totalMonths]
+                        ? todayDay - 1 - (epochDay - monthStart[totalMonths])
+                        : previousMonthLength + todayDay
+                                - Math.min(epochDay - monthStart[totalMonths + 1] + 1, previousMonthLength);
+            }
+        }
+    }
+
     /**
      * Calcula os anos de serviço baseado na data de admissão.
      * 
@@ -58,18 +176,18 @@ public class AgeService {
         Objects.requireNonNull(admissionDate, "admissionDate");
         validateAdmissionDateIsNotInFuture(admissionDate);
 
-        LocalDate today = LocalDate.now(clock);
-        return Period.between(admissionDate, today).getYears();
+        return Period.between(admissionDate, businessDate.today()).getYears();
     }
 
     /**
      * Valida se a data de nascimento não está no futuro.
      * 
      * @param birthDate data de nascimento a ser validada
+     * @param today data atual
      * @throws IllegalArgumentException se a data for no futuro
      */
-    private void validateBirthDateIsNotInFuture(LocalDate birthDate) {
-        if (birthDate.isAfter(LocalDate.now(clock))) {
+    private void validateBirthDateIsNotInFuture(LocalDate birthDate, LocalDate today) {
+        if (birthDate.isAfter(today)) {
             throw new IllegalArgumentException("Data de nascimento não pode ser no futuro");
         }
     }
@@ -81,7 +199,7 @@ public class AgeService {
      * @throws IllegalArgumentException se a data for no futuro
      */
     private void validateAdmissionDateIsNotInFuture(LocalDate admissionDate) {
-        if (admissionDate.isAfter(LocalDate.now(clock))) {
+        if (admissionDate.isAfter(businessDate.today())) {
             throw new IllegalArgumentException("Data de admissão não pode ser no futuro");
         }
     }
@@ -0,0 +1,13 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+
+import java.util.List;
+
+/**
+ * Resultado de uma busca de várias pessoas pelos IDs.
+ *
+ * @param found pessoas encontradas, na ordem em que os IDs foram pedidos
+ * @param missing IDs sem pessoa cadastrada, na ordem em que foram pedidos
+ */
+public record BatchLookup(List<Person> found, List<Long> missing) {}
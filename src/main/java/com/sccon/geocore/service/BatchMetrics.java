@@ -0,0 +1,21 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.repository.DateKey;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Idades e salários calculados em lote, em colunas: a posição {@code i} de cada coluna
+ * corresponde à pessoa {@code ids[i]}.
+ *
+ * @param date data de referência usada em todos os cálculos
+ * @param ids IDs das pessoas calculadas
+ * @param ages coluna de idades por tipo de saída (days, months, years), na ordem pedida
+ * @param salaries coluna de salários por tipo de saída (full, min), na ordem pedida
+ * @param missing IDs pedidos sem pessoa cadastrada
+ * @param next cursor da próxima página por intervalos de datas, ou null se não houver
+ */
+public record BatchMetrics(LocalDate date, long[] ids, Map<String, long[]> ages, Map<String, double[]> salaries,
+                           List<Long> missing, DateKey next) {}
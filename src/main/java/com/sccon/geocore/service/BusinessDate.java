@@ -0,0 +1,63 @@
+package com.sccon.geocore.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Fornece a data de negócio, isto é, a data atual no fuso do relógio, para os cálculos que só
+ * mudam na virada do dia, como idade e salário.
+ *
+ * <p>A data é calculada uma vez e reaproveitada até a meia-noite seguinte: cada consulta custa
+ * apenas uma leitura do relógio em milissegundos e uma comparação, sem converter o instante
+ * em data. Se o relógio voltar para antes do início do dia guardado, a data é recalculada.
+ */
+public class BusinessDate {
+
+    private final Clock clock;
+    private volatile Day current;
+
+    /**
+     * Cria o provedor sobre o relógio informado.
+     *
+     * @param clock relógio da aplicação; o fuso dele define a virada do dia
+     */
+    public BusinessDate(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.current = dayOf(clock.millis());
+    }
+
+    /**
+     * Retorna a data atual no fuso do relógio.
+     *
+     * @return data de negócio
+     */
+    public LocalDate today() {
+        Day day = current;
+        long now = clock.millis();
+        if (now < day.start() || now >= day.end()) {
+            day = dayOf(now);
+            current = day;
+        }
+        return day.date();
+    }
+
+    private Day dayOf(long millis) {
+        ZoneId zone = clock.getZone();
+        LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(millis), zone);
+        long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long end = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Day(date, start, end);
+    }
+
+    /**
+     * Data guardada e o intervalo, em milissegundos, em que ela vale.
+     *
+     * @param date data
+     * @param start início do dia (inclusivo)
+     * @param end início do dia seguinte (exclusivo)
+     */
+    private record Day(LocalDate date, long start, long end) {}
+}
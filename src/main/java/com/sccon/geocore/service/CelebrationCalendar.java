@@ -0,0 +1,82 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.PersonChangeListener;
+import com.sccon.geocore.repository.index.AnniversaryWheel;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Calendário de aniversários e tempos de casa dos próximos dias, mantido pelas escritas do
+ * repositório em uma {@link AnniversaryWheel} por data. Cada escrita move a pessoa de posição
+ * em O(log k); a consulta visita uma posição por dia da janela, em O(dias + k), sem percorrer o
+ * cadastro.
+ */
+public class CelebrationCalendar implements PersonChangeListener {
+
+    /** Quantidade máxima de dias de uma consulta */
+    public static final int MAX_DAYS = 366;
+
+    private final BusinessDate businessDate;
+    private final AnniversaryWheel birthdays = new AnniversaryWheel(CelebrationType.BIRTHDAY.field());
+    private final AnniversaryWheel workAnniversaries =
+            new AnniversaryWheel(CelebrationType.WORK_ANNIVERSARY.field());
+
+    /**
+     * Cria um calendário vazio.
+     *
+     * @param businessDate provedor da data atual, primeiro dia das consultas
+     */
+    public CelebrationCalendar(BusinessDate businessDate) {
+        this.businessDate = Objects.requireNonNull(businessDate, "businessDate");
+    }
+
+    /**
+     * Inclui uma pessoa já cadastrada antes do registro como observador, na carga inicial.
+     *
+     * @param person pessoa
+     */
+    public void add(Person person) {
+        onChange(null, person);
+    }
+
+    @Override
+    public void onChange(Person previous, Person current) {
+        birthdays.onChange(previous, current);
+        workAnniversaries.onChange(previous, current);
+    }
+
+    /**
+     * Lista as comemorações de hoje e dos dias seguintes. Datas de 29 de fevereiro são
+     * comemoradas em 1º de março nos anos não bissextos, quando a idade e o tempo de serviço
+     * calculados pela aplicação passam a contar mais um ano; datas do próprio dia, sem ano
+     * completo, não são listadas.
+     *
+     * @param type tipo de comemoração (birthday, anniversary)
+     * @param days quantidade de dias da janela, contando hoje
+     * @return comemorações da janela, em ordem de data
+     * @throws IllegalArgumentException se o tipo for inválido ou os dias estiverem fora do intervalo permitido
+     */
+    public UpcomingCelebrations upcoming(String type, int days) {
+        CelebrationType celebrationType = CelebrationType.fromParam(type);
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("A quantidade de dias deve estar entre 1 e " + MAX_DAYS);
+        }
+        AnniversaryWheel wheel = celebrationType == CelebrationType.BIRTHDAY ? birthdays : workAnniversaries;
+        LocalDate today = businessDate.today();
+        List<UpcomingCelebrations.Celebration> celebrations = new ArrayList<>();
+        for (int offset = 0; offset < days; offset++) {
+            LocalDate date = today.plusDays(offset);
+            wheel.on(date).forEach(person -> {
+                int years = date.getYear() - celebrationType.field().of(person).getYear();
+                if (years > 0) {
+                    celebrations.add(new UpcomingCelebrations.Celebration(person, date, years));
+                }
+            });
+        }
+        return new UpcomingCelebrations(today, celebrationType, days, List.copyOf(celebrations));
+    }
+}
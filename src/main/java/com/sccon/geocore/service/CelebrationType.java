@@ -0,0 +1,44 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.repository.DateField;
+
+/**
+ * Tipos de comemoração do calendário de pessoas.
+ */
+public enum CelebrationType {
+    /** Aniversário da data de nascimento */
+    BIRTHDAY(DateField.BIRTH_DATE),
+    /** Aniversário da data de admissão */
+    WORK_ANNIVERSARY(DateField.ADMISSION_DATE);
+
+    private final DateField field;
+
+    CelebrationType(DateField field) {
+        this.field = field;
+    }
+
+    /**
+     * Retorna a data comemorada.
+     *
+     * @return data da pessoa cujo aniversário é comemorado
+     */
+    public DateField field() {
+        return field;
+    }
+
+    /**
+     * Converte o valor do parâmetro de requisição no tipo correspondente.
+     *
+     * @param value valor do parâmetro (birthday, anniversary)
+     * @return tipo de comemoração
+     * @throws IllegalArgumentException se o valor for desconhecido
+     */
+    public static CelebrationType fromParam(String value) {
+        return switch (value.toLowerCase()) {
+            case "birthday" -> BIRTHDAY;
+            case "anniversary" -> WORK_ANNIVERSARY;
+            default -> throw new IllegalArgumentException("Tipo de comemoração inválido: " + value +
+                    ". Valores aceitos: birthday, anniversary");
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.repository.cdc.ChangeBatch;
+import com.sccon.geocore.repository.cdc.ChangeLog;
+import com.sccon.geocore.repository.cdc.StoreVersion;
+
+import java.time.Duration;
+
+/**
+ * Serviço de sincronização incremental: entrega as alterações de pessoas posteriores a uma
+ * sequência, para que clientes acompanhem o cadastro sem recarregar a listagem completa.
+ */
+public class ChangeFeedService {
+    /** Quantidade máxima de alterações por leitura */
+    public static final int MAX_BATCH_SIZE = PersonService.MAX_PAGE_SIZE;
+
+    private final ChangeLog changeLog;
+
+    /**
+     * Construtor do serviço.
+     * 
+     * @param changeLog fluxo de mudanças do repositório
+     */
+    public ChangeFeedService(ChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Retorna as alterações posteriores a uma posição, em ordem.
+     * 
+     * @param since última posição processada pelo cliente (sequência 0 para começar do início)
+     * @param limit quantidade máxima de alterações
+     * @return alterações seguintes, ou a indicação de que o cliente deve recarregar o estado
+     * @throws IllegalArgumentException se a sequência for negativa ou o limite estiver fora do intervalo permitido
+     */
+    public ChangeBatch changesSince(StoreVersion since, int limit) {
+        if (since.sequence() < 0) {
+            throw new IllegalArgumentException("Sequência inicial não pode ser negativa: " + since.sequence());
+        }
+        if (limit < 1 || limit > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Limite de alterações deve estar entre 1 e " + MAX_BATCH_SIZE);
+        }
+        return changeLog.read(since, limit);
+    }
+
+    /**
+     * Aguarda até que haja alguma alteração posterior à sequência informada.
+     * 
+     * @param since última sequência processada
+     * @param timeout tempo máximo de espera
+     * @return true se houver alteração posterior, false se o tempo se esgotar
+     * @throws InterruptedException se a thread for interrompida durante a espera
+     */
+    public boolean awaitChanges(long since, Duration timeout) throws InterruptedException {
+        return changeLog.awaitAfter(since, timeout);
+    }
+}
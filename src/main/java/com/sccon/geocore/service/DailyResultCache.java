@@ -0,0 +1,120 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.PersonChangeListener;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Cache dos resultados por pessoa que só mudam na virada do dia, como idade e salário,
+ * indexado por (ID, tipo de resultado) e válido apenas na data de negócio em que foi calculado.
+ *
+ * <p>Na virada do dia todo o cache é descartado. Cada entrada guarda a pessoa usada no cálculo
+ * e só é reaproveitada para uma pessoa igual, então um resultado calculado com dados antigos
+ * durante uma atualização concorrente nunca é devolvido para os dados novos. Registrado como
+ * observador do repositório, o cache também descarta as entradas de uma pessoa assim que ela é
+ * alterada ou removida, liberando a memória.
+ *
+ * <p>O cache guarda no máximo {@code maxPeople} pessoas; acima disso, os resultados de pessoas
+ * novas são calculados sem serem guardados até a próxima virada do dia.
+ */
+public class DailyResultCache implements PersonChangeListener {
+
+    private final BusinessDate businessDate;
+    private final int maxPeople;
+    private final AtomicReference<Day> day;
+
+    /**
+     * Cria o cache.
+     *
+     * @param businessDate provedor da data de negócio
+     * @param maxPeople quantidade máxima de pessoas guardadas; 0 desativa o cache
+     * @throws IllegalArgumentException se o limite for negativo
+     */
+    public DailyResultCache(BusinessDate businessDate, int maxPeople) {
+        if (maxPeople < 0) {
+            throw new IllegalArgumentException("O limite do cache não pode ser negativo: " + maxPeople);
+        }
+        this.businessDate = Objects.requireNonNull(businessDate, "businessDate");
+        this.maxPeople = maxPeople;
+        this.day = new AtomicReference<>(new Day(businessDate.today()));
+    }
+
+    /**
+     * Retorna o resultado guardado para a pessoa e o tipo de resultado na data de negócio atual,
+     * calculando-o e guardando-o se necessário. Exceções do cálculo são propagadas e nada é guardado.
+     *
+     * @param person pessoa, no estado atual
+     * @param key tipo de resultado, como {@code age:years}
+     * @param compute cálculo do resultado a partir da data de negócio
+     * @return resultado
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Number> T get(Person person, String key, Function<LocalDate, T> compute) {
+        Day current = currentDay();
+        Entry entry = current.entries.get(person.id());
+        if (entry == null || !entry.person.equals(person)) {
+            if (entry == null && current.entries.size() >= maxPeople) {
+                return compute.apply(current.date);
+            }
+            entry = new Entry(person);
+            current.entries.put(person.id(), entry);
+        }
+        return (T) entry.results.computeIfAbsent(key, ignored -> compute.apply(current.date));
+    }
+
+    /**
+     * Descarta os resultados da pessoa alterada ou removida.
+     */
+    @Override
+    public void onChange(Person previous, Person current) {
+        if (previous != null) {
+            day.get().entries.remove(previous.id());
+        }
+    }
+
+    /**
+     * Retorna a quantidade de pessoas com resultados guardados na data atual.
+     *
+     * @return quantidade de pessoas
+     */
+    public int size() {
+        return currentDay().entries.size();
+    }
+
+    /**
+     * Retorna os resultados da data de negócio atual, descartando os de outra data.
+     */
+    private Day currentDay() {
+        LocalDate today = businessDate.today();
+        Day current = day.get();
+        if (!current.date.equals(today)) {
+            Day next = new Day(today);
+            current = day.compareAndSet(current, next) ? next : day.get();
+        }
+        return current;
+    }
+
+    private static final class Day {
+        private final LocalDate date;
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+        Day(LocalDate date) {
+            this.date = date;
+        }
+    }
+
+    private static final class Entry {
+        private final Person person;
+        private final Map<String, Number> results = new ConcurrentHashMap<>(4);
+
+        Entry(Person person) {
+            this.person = person;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.sccon.geocore.service;
+
+/**
+ * Linha rejeitada em uma importação em lote.
+ *
+ * @param line número da linha no arquivo importado, a partir de 1
+ * @param message motivo da rejeição
+ */
+public record ImportError(long line, String message) {
+}
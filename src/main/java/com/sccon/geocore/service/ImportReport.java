@@ -0,0 +1,23 @@
+package com.sccon.geocore.service;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em lote.
+ *
+ * @param received quantidade de linhas recebidas, sem contar cabeçalho e linhas em branco
+ * @param imported quantidade de pessoas salvas
+ * @param failed quantidade de linhas rejeitadas
+ * @param errors linhas rejeitadas, em ordem, limitadas a {@link PersonImport#MAX_REPORTED_ERRORS}
+ */
+public record ImportReport(long received, long imported, long failed, List<ImportError> errors) {
+
+    /**
+     * Indica se há linhas rejeitadas que não constam em {@link #errors()}.
+     *
+     * @return true se a lista de erros foi truncada
+     */
+    public boolean errorsTruncated() {
+        return failed > errors.size();
+    }
+}
@@ -0,0 +1,378 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.PersonChangeListener;
+import com.sccon.geocore.repository.index.AnniversaryWheel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Agregados da folha de pagamento (total, média e quantidade de pessoas por faixa de tempo de
+ * serviço), mantidos incrementalmente pelas escritas do repositório.
+ *
+ * <p>Como o salário depende apenas dos anos completos de serviço, cada escrita ajusta, em O(1),
+ * a quantidade de pessoas da sua data de admissão e, com ela, os contadores ({@link LongAdder})
+ * de pessoas por anos de serviço e de pessoas e total em centavos por faixa. O ajuste de uma data
+ * de admissão usa o monitor dessa data, disputado apenas por escritas da mesma data e pela
+ * virada do dia; datas que ficam sem pessoas são descartadas.
+ *
+ * <p>As datas de admissão são agrupadas pelo dia e mês, como na {@link AnniversaryWheel}. Na
+ * virada do dia, o primeiro leitor move para o ano de serviço seguinte apenas as datas que fazem
+ * aniversário no novo dia, sem percorrer as demais. Fora da virada, o leitor devolve o resumo
+ * guardado ou, depois de uma escrita, monta um novo a partir dos contadores das faixas, em O(1).
+ * As mesmas contagens permitem simular a folha com outras políticas de salário, calculando um
+ * salário por quantidade de anos de serviço.
+ */
+public class PayrollAggregates implements PersonChangeListener {
+
+    /** Anos de serviço em que começa cada faixa; a última não tem limite superior */
+    static final int[] BUCKET_START_YEARS = {0, 1, 2, 5, 10, 20, 30};
+    /** Quantidade máxima de políticas em uma simulação */
+    public static final int MAX_SIMULATION_POLICIES = 100;
+    /** Quantidade de políticas a partir da qual a simulação é dividida entre os núcleos */
+    static final int PARALLEL_SIMULATION_THRESHOLD = 16;
+    /** Anos de serviço com o salário em centavos pré-calculado */
+    private static final int CACHED_SALARY_YEARS = 128;
+
+    private final BusinessDate businessDate;
+    private final SalaryService salaryService;
+    private final long[] salaryCentsByYears = new long[CACHED_SALARY_YEARS];
+    /** Contagem por data de admissão, em uma posição por dia e mês da data */
+    private final Map<LocalDate, AdmissionCount>[] admissionsByAnniversary;
+    private final Map<Integer, LongAdder> headcountByYears = new ConcurrentHashMap<>();
+    private final LongAdder[] bucketHeadcounts = new LongAdder[BUCKET_START_YEARS.length];
+    private final LongAdder[] bucketCents = new LongAdder[BUCKET_START_YEARS.length];
+    /** Escritas e viradas do dia aplicadas às contagens, incrementado depois de cada ajuste */
+    private final LongAdder changes = new LongAdder();
+    private final Object rolloverLock = new Object();
+    /** Data dos anos de serviço das contagens, publicada antes de a virada do dia começar */
+    private volatile LocalDate rolledTo;
+    /** Data da última virada do dia concluída */
+    private volatile LocalDate settledOn;
+    /** Resumo montado pelo último leitor */
+    private volatile Totals totals;
+
+    /**
+     * Cria agregados vazios.
+     *
+     * @param businessDate provedor da data atual, que define o tempo de serviço
+     */
+    @SuppressWarnings("unchecked")
+    public PayrollAggregates(BusinessDate businessDate) {
+        this.businessDate = Objects.requireNonNull(businessDate, "businessDate");
+        this.salaryService = new SalaryService(businessDate);
+        for (int years = 0; years < CACHED_SALARY_YEARS; years++) {
+            salaryCentsByYears[years] = cents(salaryService.salaryForYearsOfService(years));
+        }
+        this.admissionsByAnniversary = new Map[AnniversaryWheel.SLOTS];
+        for (int slot = 0; slot < AnniversaryWheel.SLOTS; slot++) {
+            admissionsByAnniversary[slot] = new ConcurrentHashMap<>();
+        }
+        for (int bucket = 0; bucket < BUCKET_START_YEARS.length; bucket++) {
+            bucketHeadcounts[bucket] = new LongAdder();
+            bucketCents[bucket] = new LongAdder();
+        }
+        LocalDate today = businessDate.today();
+        this.rolledTo = today;
+        this.settledOn = today;
+    }
+
+    /**
+     * Soma uma pessoa já cadastrada antes do registro como observador, na carga inicial.
+     *
+     * @param person pessoa
+     */
+    public void add(Person person) {
+        adjust(person.admissionDate(), 1);
+        changes.increment();
+    }
+
+    @Override
+    public void onChange(Person previous, Person current) {
+        if (previous != null && current != null && previous.admissionDate().equals(current.admissionDate())) {
+            return;
+        }
+        if (previous != null) {
+            adjust(previous.admissionDate(), -1);
+        }
+        if (current != null) {
+            adjust(current.admissionDate(), 1);
+        }
+        changes.increment();
+    }
+
+    /**
+     * Retorna o resumo da folha de pagamento na data atual.
+     *
+     * @return resumo da folha
+     */
+    public PayrollSummary summary() {
+        return totals().summary();
+    }
+
+    /**
+     * Calcula a folha de pagamento na data atual com cada política informada e com a vigente.
+     * As contagens por anos de serviço são lidas uma vez, então cada política calcula um
+     * salário por quantidade distinta de anos de serviço, e não um por pessoa; com muitas
+     * políticas, elas são calculadas em paralelo.
+     *
+     * @param policies políticas a simular
+     * @return folha com a política vigente e com cada política simulada
+     * @throws IllegalArgumentException se não houver políticas, houver mais de
+     *         {@link #MAX_SIMULATION_POLICIES} ou alguma resultar em salários fora do intervalo numérico
+     */
+    public PayrollSimulation simulate(List<SalaryPolicy> policies) {
+        if (policies.isEmpty() || policies.size() > MAX_SIMULATION_POLICIES) {
+            throw new IllegalArgumentException("Informe de 1 a " + MAX_SIMULATION_POLICIES + " políticas de salário");
+        }
+        LocalDate simulationDate = totals().date();
+        long[] counts = headcountByYears();
+        int maxYears = counts.length - 1;
+        while (maxYears > 0 && counts[maxYears] == 0) {
+            maxYears--;
+        }
+        long headcount = Arrays.stream(counts).sum();
+
+        int lastYear = maxYears;
+        BigDecimal currentTotal = totalPayroll(SalaryPolicy.CURRENT, counts, lastYear);
+        Stream<SalaryPolicy> candidates = policies.size() >= PARALLEL_SIMULATION_THRESHOLD
+                ? policies.parallelStream() : policies.stream();
+        List<PayrollSimulation.PolicyResult> results = candidates
+                .map(policy -> result(policy, totalPayroll(policy, counts, lastYear), headcount, currentTotal))
+                .toList();
+        return new PayrollSimulation(simulationDate, headcount,
+                result(SalaryPolicy.CURRENT, currentTotal, headcount, currentTotal), results);
+    }
+
+    private static BigDecimal totalPayroll(SalaryPolicy policy, long[] counts, int maxYears) {
+        double[] salaries = SalaryService.fullSalaryTable(policy, maxYears);
+        BigDecimal total = BigDecimal.ZERO.setScale(2);
+        for (int years = 0; years <= maxYears; years++) {
+            if (counts[years] != 0) {
+                total = total.add(money(salaries[years]).multiply(BigDecimal.valueOf(counts[years])));
+            }
+        }
+        return total;
+    }
+
+    private static PayrollSimulation.PolicyResult result(SalaryPolicy policy, BigDecimal total, long headcount,
+                                                         BigDecimal currentTotal) {
+        return new PayrollSimulation.PolicyResult(policy, total, average(total, headcount),
+                total.divide(policy.minimumWage(), 2, RoundingMode.HALF_EVEN), total.subtract(currentTotal));
+    }
+
+    /**
+     * Ajusta a quantidade de pessoas de uma data de admissão e os contadores dos anos de serviço
+     * dela. Se a data ficar sem pessoas, é descartada; quem a encontrar descartada tenta de novo
+     * com uma nova.
+     */
+    private void adjust(LocalDate admissionDate, long delta) {
+        Map<LocalDate, AdmissionCount> slot = admissionsByAnniversary[AnniversaryWheel.slot(admissionDate)];
+        while (true) {
+            AdmissionCount count = slot.computeIfAbsent(admissionDate, AdmissionCount::new);
+            synchronized (count) {
+                if (count.discarded) {
+                    continue;
+                }
+                // lida depois de a data estar na roda: uma virada que não a encontrou já foi publicada
+                moveTo(count, rolledTo);
+                count.headcount += delta;
+                addToYears(count.years, delta);
+                if (count.headcount == 0) {
+                    count.discarded = true;
+                    slot.remove(admissionDate, count);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Atualiza os anos de serviço de uma data de admissão para a data informada, movendo suas
+     * pessoas de contador se eles mudaram. Deve ser chamado com o monitor da data de admissão.
+     */
+    private void moveTo(AdmissionCount count, LocalDate date) {
+        if (date.equals(count.asOf)) {
+            return;
+        }
+        int years = Math.max(SalaryService.calculateYearsWorked(count.admissionDate, date), 0);
+        if (count.asOf != null && years != count.years && count.headcount != 0) {
+            addToYears(count.years, -count.headcount);
+            addToYears(years, count.headcount);
+        }
+        count.years = years;
+        count.asOf = date;
+    }
+
+    private void addToYears(int years, long delta) {
+        headcountByYears.computeIfAbsent(years, key -> new LongAdder()).add(delta);
+        int bucket = bucketOf(years);
+        bucketHeadcounts[bucket].add(delta);
+        bucketCents[bucket].add(delta * salaryCents(years));
+    }
+
+    /**
+     * Retorna o resumo na data atual. Na virada do dia, aplica-a antes; depois, reaproveita o
+     * resumo do último leitor se a quantidade de escritas não mudou. A quantidade de escritas é
+     * lida antes dos contadores e cada escrita a incrementa depois de ajustá-los, então uma
+     * escrita que o resumo não viu sempre o invalida.
+     */
+    private Totals totals() {
+        LocalDate today = businessDate.today();
+        if (!today.equals(settledOn)) {
+            rollover(today);
+        }
+        long observedChanges = changes.sum();
+        Totals current = totals;
+        if (current != null && current.changes() == observedChanges && current.date().equals(today)) {
+            return current;
+        }
+        current = new Totals(today, observedChanges, summarize(today));
+        totals = current;
+        return current;
+    }
+
+    /**
+     * Leva as contagens para a data informada. Avançando menos de um ano, visita apenas as datas
+     * de admissão que fazem aniversário nos dias percorridos; caso contrário, ou se a data voltou,
+     * visita todas.
+     */
+    private void rollover(LocalDate today) {
+        synchronized (rolloverLock) {
+            LocalDate from = settledOn;
+            if (today.equals(from)) {
+                return;
+            }
+            rolledTo = today;
+            if (today.isBefore(from) || !today.isBefore(from.plusYears(1))) {
+                for (int slot = 0; slot < AnniversaryWheel.SLOTS; slot++) {
+                    moveSlotTo(slot, today);
+                }
+            } else {
+                for (LocalDate day = from.plusDays(1); !day.isAfter(today); day = day.plusDays(1)) {
+                    AnniversaryWheel.slotsOn(day).forEach(slot -> moveSlotTo(slot, today));
+                }
+            }
+            changes.increment();
+            settledOn = today;
+        }
+    }
+
+    private void moveSlotTo(int slot, LocalDate date) {
+        for (AdmissionCount count : admissionsByAnniversary[slot].values()) {
+            synchronized (count) {
+                if (!count.discarded) {
+                    moveTo(count, date);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lê a quantidade de pessoas por anos completos de serviço.
+     *
+     * @return contagens indexadas pelos anos de serviço
+     */
+    private long[] headcountByYears() {
+        long[] counts = new long[1];
+        for (Map.Entry<Integer, LongAdder> entry : headcountByYears.entrySet()) {
+            int years = entry.getKey();
+            if (years >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(years + 1, counts.length * 2));
+            }
+            counts[years] += entry.getValue().sum();
+        }
+        return counts;
+    }
+
+    private PayrollSummary summarize(LocalDate date) {
+        List<PayrollSummary.TenureBucket> buckets = new ArrayList<>(BUCKET_START_YEARS.length);
+        long headcount = 0;
+        long cents = 0;
+        for (int bucket = 0; bucket < BUCKET_START_YEARS.length; bucket++) {
+            boolean last = bucket == BUCKET_START_YEARS.length - 1;
+            long bucketHeadcount = bucketHeadcounts[bucket].sum();
+            long bucketTotalCents = bucketCents[bucket].sum();
+            BigDecimal bucketTotal = BigDecimal.valueOf(bucketTotalCents, 2);
+            buckets.add(new PayrollSummary.TenureBucket(BUCKET_START_YEARS[bucket],
+                    last ? null : BUCKET_START_YEARS[bucket + 1] - 1, bucketHeadcount,
+                    bucketTotal, average(bucketTotal, bucketHeadcount)));
+            headcount += bucketHeadcount;
+            cents += bucketTotalCents;
+        }
+        BigDecimal total = BigDecimal.valueOf(cents, 2);
+        return new PayrollSummary(date, headcount, total, average(total, headcount), List.copyOf(buckets));
+    }
+
+    private static int bucketOf(int years) {
+        int bucket = BUCKET_START_YEARS.length - 1;
+        while (years < BUCKET_START_YEARS[bucket]) {
+            bucket--;
+        }
+        return bucket;
+    }
+
+    private long salaryCents(int years) {
+        return years < CACHED_SALARY_YEARS ? salaryCentsByYears[years]
+                : cents(salaryService.salaryForYearsOfService(years));
+    }
+
+    private static long cents(double salary) {
+        return money(salary).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converte um salário em reais para decimal em centavos.
+     *
+     * @throws IllegalArgumentException se o salário não for finito
+     */
+    private static BigDecimal money(double salary) {
+        if (!Double.isFinite(salary)) {
+            throw new IllegalArgumentException("A política de salário resulta em salários fora do intervalo numérico");
+        }
+        return new BigDecimal(salary).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private static BigDecimal average(BigDecimal total, long headcount) {
+        return headcount == 0 ? BigDecimal.ZERO.setScale(2)
+                : total.divide(BigDecimal.valueOf(headcount), 2, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Resumo montado por um leitor.
+     *
+     * @param date data de referência
+     * @param changes quantidade de escritas e viradas observada antes de ler os contadores
+     * @param summary resumo da folha
+     */
+    private record Totals(LocalDate date, long changes, PayrollSummary summary) {}
+
+    /**
+     * Quantidade de pessoas de uma data de admissão e os anos de serviço em que elas estão
+     * contadas; protegida pelo monitor do próprio objeto.
+     */
+    private static final class AdmissionCount {
+
+        final LocalDate admissionDate;
+        long headcount;
+        int years;
+        /** Data dos anos de serviço, ou null antes do primeiro ajuste */
+        LocalDate asOf;
+        /** Verdadeiro depois de a data ficar sem pessoas e sair da roda */
+        boolean discarded;
+
+        AdmissionCount(LocalDate admissionDate) {
+            this.admissionDate = admissionDate;
+        }
+    }
+}
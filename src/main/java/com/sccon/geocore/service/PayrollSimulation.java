@@ -0,0 +1,29 @@
+package com.sccon.geocore.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Resultado da simulação da folha de pagamento com outras políticas de salário, sobre as
+ * mesmas pessoas e a mesma data.
+ *
+ * @param date data de referência do tempo de serviço
+ * @param headcount quantidade de pessoas
+ * @param current folha com a política vigente
+ * @param candidates folha com cada política simulada, na ordem pedida
+ */
+public record PayrollSimulation(LocalDate date, long headcount, PolicyResult current, List<PolicyResult> candidates) {
+
+    /**
+     * Folha de pagamento com uma política de salário.
+     *
+     * @param policy política de salário
+     * @param totalPayroll soma dos salários completos
+     * @param averageSalary salário médio, arredondado em centavos
+     * @param totalInMinimumWages soma dos salários em salários mínimos da política, arredondada em centésimos
+     * @param difference diferença da soma dos salários em relação à política vigente
+     */
+    public record PolicyResult(SalaryPolicy policy, BigDecimal totalPayroll, BigDecimal averageSalary,
+                               BigDecimal totalInMinimumWages, BigDecimal difference) {}
+}
@@ -0,0 +1,30 @@
+package com.sccon.geocore.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Resumo da folha de pagamento, com o salário completo de cada pessoa.
+ *
+ * @param date data de referência do tempo de serviço
+ * @param headcount quantidade de pessoas
+ * @param totalPayroll soma dos salários
+ * @param averageSalary salário médio, arredondado em centavos
+ * @param buckets faixas de tempo de serviço, em ordem crescente
+ */
+public record PayrollSummary(LocalDate date, long headcount, BigDecimal totalPayroll, BigDecimal averageSalary,
+                             List<TenureBucket> buckets) {
+
+    /**
+     * Faixa de tempo de serviço.
+     *
+     * @param minYears anos completos de serviço no início da faixa (inclusivo)
+     * @param maxYears anos completos de serviço no fim da faixa (inclusivo), ou null se não houver limite
+     * @param headcount quantidade de pessoas na faixa
+     * @param totalPayroll soma dos salários da faixa
+     * @param averageSalary salário médio da faixa, arredondado em centavos
+     */
+    public record TenureBucket(int minYears, Integer maxYears, long headcount, BigDecimal totalPayroll,
+                               BigDecimal averageSalary) {}
+}
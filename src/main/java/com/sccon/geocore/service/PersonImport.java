@@ -0,0 +1,157 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.PersonRepository;
+import com.sccon.geocore.repository.id.IdAllocator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Importação em lote de pessoas, alimentada linha a linha.
+ *
+ * <p>Cada linha aceita é validada com as mesmas regras da criação individual e acumulada em um
+ * lote, inserido com {@link PersonRepository#insertAll(List)} ao atingir {@link #BATCH_SIZE}
+ * linhas; a memória usada não depende do tamanho do arquivo. A existência do ID é verificada
+ * atomicamente na inserção, então uma pessoa criada durante a importação nunca é sobrescrita:
+ * a linha é rejeitada. Linhas inválidas são registradas no relatório e não interrompem a
+ * importação. Não é segura para uso concorrente: cada
+ * importação pertence a uma única requisição.
+ */
+public class PersonImport {
+
+    /** Quantidade de pessoas por chamada a {@link PersonRepository#insertAll(List)} */
+    public static final int BATCH_SIZE = 1000;
+    /** Quantidade máxima de linhas rejeitadas detalhadas no relatório */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final PersonRepository repo;
+    private final IdAllocator idAllocator;
+    private final LocalDate today;
+    private final List<Person> batch = new ArrayList<>(BATCH_SIZE);
+    /** Linha de origem de cada ID do lote pendente */
+    private final Map<Long, Long> batchLines = new HashMap<>();
+    /** IDs do lote pendente que foram alocados, e não informados na linha */
+    private final Set<Long> allocatedIds = new HashSet<>();
+    private final List<ImportError> errors = new ArrayList<>();
+    private long received;
+    private long imported;
+    private long failed;
+
+    PersonImport(PersonRepository repo, IdAllocator idAllocator, LocalDate today) {
+        this.repo = repo;
+        this.idAllocator = idAllocator;
+        this.today = today;
+    }
+
+    /**
+     * Adiciona uma linha já convertida e validada quanto ao formato.
+     * Sem ID, um novo é alocado; com ID, ele não pode existir nem se repetir na importação.
+     *
+     * @param line número da linha
+     * @param id ID desejado, ou null para gerar
+     * @param name nome
+     * @param birthDate data de nascimento
+     * @param admissionDate data de admissão
+     */
+    public void add(long line, Long id, String name, LocalDate birthDate, LocalDate admissionDate) {
+        received++;
+        if (id != null && id <= 0) {
+            addError(line, "ID deve ser positivo: " + id);
+            return;
+        }
+        if (id != null && batchLines.containsKey(id)) {
+            addError(line, "Pessoa com ID " + id + " já existe no sistema");
+            return;
+        }
+        if (birthDate.isAfter(today)) {
+            addError(line, "Data de nascimento não pode ser no futuro");
+            return;
+        }
+        if (admissionDate.isBefore(birthDate)) {
+            addError(line, "Data de admissão não pode ser anterior à data de nascimento");
+            return;
+        }
+        long personId;
+        if (id != null) {
+            idAllocator.advance(id);
+            personId = id;
+        } else {
+            personId = idAllocator.nextId();
+            allocatedIds.add(personId);
+        }
+        batch.add(new Person(personId, name, birthDate, admissionDate));
+        batchLines.put(personId, line);
+        if (batch.size() == BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Registra uma linha que não pôde ser convertida ou não passou na validação de formato.
+     *
+     * @param line número da linha
+     * @param message motivo da rejeição
+     */
+    public void reject(long line, String message) {
+        received++;
+        addError(line, message);
+    }
+
+    /**
+     * Salva o lote pendente e encerra a importação.
+     *
+     * @return relatório da importação
+     */
+    public ImportReport finish() {
+        flush();
+        errors.sort(Comparator.comparingLong(ImportError::line));
+        return new ImportReport(received, imported, failed, List.copyOf(errors));
+    }
+
+    /**
+     * Insere o lote pendente. Linhas com ID informado que já existe são rejeitadas; linhas com
+     * ID alocado que foi ocupado nesse meio tempo recebem um novo ID e são inseridas de novo.
+     */
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Person> pending = batch;
+        while (!pending.isEmpty()) {
+            List<Person> retry = new ArrayList<>();
+            List<Person> rejected = repo.insertAll(pending);
+            for (Person person : rejected) {
+                long line = batchLines.get(person.id());
+                if (allocatedIds.contains(person.id())) {
+                    // O ID alocado foi ocupado por uma criação concorrente com ID específico
+                    Person renumbered = new Person(idAllocator.nextId(), person.name(), person.birthDate(),
+                            person.admissionDate());
+                    batchLines.put(renumbered.id(), line);
+                    allocatedIds.add(renumbered.id());
+                    retry.add(renumbered);
+                } else {
+                    addError(line, "Pessoa com ID " + person.id() + " já existe no sistema");
+                }
+            }
+            imported += pending.size() - rejected.size();
+            pending = retry;
+        }
+        batch.clear();
+        batchLines.clear();
+        allocatedIds.clear();
+    }
+
+    private void addError(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportError(line, message));
+        }
+    }
+}
@@ -1,36 +1,153 @@
 package com.sccon.geocore.service;
 
 import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateField;
+import com.sccon.geocore.repository.DateKey;
+import com.sccon.geocore.repository.DateRange;
+import com.sccon.geocore.repository.DuplicateIdException;
+import com.sccon.geocore.repository.NameKey;
+import com.sccon.geocore.repository.NameMatch;
 import com.sccon.geocore.repository.PersonRepository;
+import com.sccon.geocore.repository.PersonSnapshot;
+import com.sccon.geocore.repository.cdc.ChangeLog;
+import com.sccon.geocore.repository.cdc.StoreVersion;
+import com.sccon.geocore.repository.id.IdAllocator;
+import com.sccon.geocore.repository.id.SequentialIdAllocator;
+import com.sccon.geocore.repository.index.NameNormalizer;
 
+import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Serviço principal para gerenciamento de pessoas.
  * Fornece operações CRUD e funcionalidades específicas como cálculo de idade e salário.
  */
 public class PersonService {
+    /** Tamanho máximo de uma página de listagem */
+    public static final int MAX_PAGE_SIZE = 1000;
+    /** Quantidade máxima de IDs em uma busca em lote */
+    public static final int MAX_BATCH_GET_SIZE = 10_000;
+    /** Quantidade máxima de pessoas calculadas por página nos cálculos em lote por intervalos de datas */
+    public static final int MAX_METRICS_PAGE_SIZE = 50_000;
+    /** Quantidade de pessoas a partir da qual os cálculos em lote são divididos entre os núcleos */
+    static final int PARALLEL_METRICS_THRESHOLD = 10_000;
+    private static final List<String> AGE_OUTPUTS = List.of("days", "months", "years");
+    private static final List<String> SALARY_OUTPUTS = List.of("full", "min");
+    /** Quantidade de pessoas no cache de idades e salários criado pelo próprio serviço */
+    static final int DEFAULT_RESULT_CACHE_PEOPLE = 100_000;
+    /** Largura máxima de uma faixa da distribuição de idades, em anos */
+    public static final int MAX_AGE_BAND_YEARS = 100;
+    /** Quantidade máxima de anos em uma projeção de salários */
+    public static final int MAX_PROJECTION_YEARS = 50;
+    /** Quantidade máxima de pessoas em um ranking */
+    public static final int MAX_RANKING_SIZE = 1000;
+    /** Tamanho mínimo do termo na busca por trecho, em caracteres normalizados */
+    public static final int MIN_CONTAINS_QUERY_LENGTH = 3;
+
     private final PersonRepository repo;
+    private final IdAllocator idAllocator;
+    private final ChangeLog changeLog;
     private final AgeService ageService;
     private final SalaryService salaryService;
+    private final BusinessDate businessDate;
+    private final DailyResultCache resultCache;
 
     /**
-     * Construtor do serviço de pessoas.
+     * Construtor do serviço de pessoas usando alocação sequencial de IDs.
      * 
      * @param repo repositório de pessoas
      * @param clock relógio para cálculos de data
      */
     public PersonService(PersonRepository repo, Clock clock){
+        this(repo, new SequentialIdAllocator(), clock);
+    }
+
+    /**
+     * Construtor do serviço de pessoas que acompanha a versão do cadastro com um fluxo de
+     * mudanças próprio, sem histórico.
+     * 
+     * @param repo repositório de pessoas
+     * @param idAllocator alocador de IDs para novas pessoas
+     * @param clock relógio para cálculos de data
+     */
+    public PersonService(PersonRepository repo, IdAllocator idAllocator, Clock clock){
+        this(repo, idAllocator, trackVersions(repo), clock);
+    }
+
+    /**
+     * Construtor do serviço de pessoas com um cache de resultados próprio, de tamanho padrão.
+     * 
+     * @param repo repositório de pessoas
+     * @param idAllocator alocador de IDs para novas pessoas
+     * @param changeLog fluxo de mudanças registrado no repositório, fonte da versão do cadastro
+     * @param clock relógio para cálculos de data
+     */
+    public PersonService(PersonRepository repo, IdAllocator idAllocator, ChangeLog changeLog, Clock clock){
+        this(repo, idAllocator, changeLog, new BusinessDate(clock));
+    }
+
+    private PersonService(PersonRepository repo, IdAllocator idAllocator, ChangeLog changeLog,
+                          BusinessDate businessDate){
+        this(repo, idAllocator, changeLog, businessDate, trackResults(repo, businessDate));
+    }
+
+    /**
+     * Construtor do serviço de pessoas.
+     * 
+     * @param repo repositório de pessoas
+     * @param idAllocator alocador de IDs para novas pessoas
+     * @param changeLog fluxo de mudanças registrado no repositório, fonte da versão do cadastro
+     * @param businessDate provedor da data atual para cálculos de data
+     * @param resultCache cache de idades e salários registrado no repositório
+     */
+    public PersonService(PersonRepository repo, IdAllocator idAllocator, ChangeLog changeLog,
+                         BusinessDate businessDate, DailyResultCache resultCache){
         this.repo = repo;
-        this.ageService = new AgeService(clock);
-        this.salaryService = new SalaryService();
-        initializeSampleData();
+        this.idAllocator = idAllocator;
+        this.changeLog = changeLog;
+        this.ageService = new AgeService(businessDate);
+        this.salaryService = new SalaryService(businessDate);
+        this.businessDate = businessDate;
+        this.resultCache = resultCache;
+        initializeData();
+    }
+
+    private static ChangeLog trackVersions(PersonRepository repo) {
+        ChangeLog changeLog = new ChangeLog(1);
+        repo.addChangeListener(changeLog);
+        return changeLog;
+    }
+
+    private static DailyResultCache trackResults(PersonRepository repo, BusinessDate businessDate) {
+        DailyResultCache resultCache = new DailyResultCache(businessDate, DEFAULT_RESULT_CACHE_PEOPLE);
+        repo.addChangeListener(resultCache);
+        return resultCache;
+    }
+
+    /**
+     * Prepara o repositório na inicialização. Um repositório vazio recebe os dados de exemplo;
+     * um repositório recuperado de armazenamento durável é mantido e o alocador de IDs avança
+     * além dos IDs existentes.
+     */
+    private void initializeData() {
+        if (repo.count() == 0) {
+            initializeSampleData();
+            return;
+        }
+        repo.findAll().forEach(person -> idAllocator.advance(person.id()));
     }
 
     /**
@@ -50,13 +167,15 @@ public class PersonService {
                 LocalDate.of(1988, 12, 3), 
                 LocalDate.of(2021, 1, 15));
         
-        repo.save(jose);
-        repo.save(maria);
-        repo.save(joao);
+        for (Person person : List.of(jose, maria, joao)) {
+            repo.save(person);
+            idAllocator.advance(person.id());
+        }
     }
 
     /**
-     * Cria uma nova pessoa com ID gerado automaticamente.
+     * Cria uma nova pessoa com ID gerado automaticamente. Se o ID alocado for ocupado por uma
+     * criação concorrente com ID específico, outro ID é alocado.
      * 
      * @param name nome da pessoa
      * @param birthDate data de nascimento
@@ -65,9 +184,14 @@ public class PersonService {
      */
     public Person create(String name, LocalDate birthDate, LocalDate admissionDate) {
         validateBirthDateIsNotInFuture(birthDate);
-        Long nextId = repo.getNextId();
-        var person = new Person(nextId, name, birthDate, admissionDate);
-        return repo.save(person);
+        while (true) {
+            var person = new Person(idAllocator.nextId(), name, birthDate, admissionDate);
+            try {
+                return repo.insert(person);
+            } catch (DuplicateIdException e) {
+                idAllocator.advance(e.getId());
+            }
+        }
     }
 
     /**
@@ -78,13 +202,23 @@ public class PersonService {
      * @param birthDate data de nascimento
      * @param admissionDate data de admissão
      * @return pessoa criada
-     * @throws IllegalArgumentException se já existir uma pessoa com o ID fornecido
+     * @throws DuplicateIdException se já existir uma pessoa com o ID fornecido
      */
-    public Person createWithId(Long id, String name, LocalDate birthDate, LocalDate admissionDate) {
-        validatePersonDoesNotExist(id);
+    public Person createWithId(long id, String name, LocalDate birthDate, LocalDate admissionDate) {
         validateBirthDateIsNotInFuture(birthDate);
         Person newPerson = new Person(id, name, birthDate, admissionDate);
-        return repo.save(newPerson);
+        idAllocator.advance(id);
+        return repo.insert(newPerson);
+    }
+
+    /**
+     * Inicia uma importação em lote. As linhas são validadas como em {@link #createWithId}
+     * e {@link #create}, e salvas em lotes à medida que chegam.
+     * 
+     * @return importação a ser alimentada linha a linha e encerrada com {@link PersonImport#finish()}
+     */
+    public PersonImport startImport() {
+        return new PersonImport(repo, idAllocator, businessDate.today());
     }
 
     /**
@@ -97,9 +231,31 @@ public class PersonService {
      * @return pessoa atualizada
      * @throws NoSuchElementException se a pessoa não for encontrada
      */
-    public Person update(Long id, String name, LocalDate birthDate, LocalDate admissionDate) {
+    public Person update(long id, String name, LocalDate birthDate, LocalDate admissionDate) {
+        return update(id, name, birthDate, admissionDate, null);
+    }
+
+    /**
+     * Atualiza todos os dados de uma pessoa se a versão atual for uma das esperadas
+     * (controle de concorrência otimista). A versão é conferida sob o bloqueio da escrita,
+     * então nenhuma alteração concorrente pode ocorrer entre a conferência e a atualização.
+     * 
+     * @param id ID da pessoa
+     * @param name novo nome
+     * @param birthDate nova data de nascimento
+     * @param admissionDate nova data de admissão
+     * @param expectedVersions versões aceitas (ver {@link Person#contentVersion()}), ou null para não conferir
+     * @return pessoa atualizada
+     * @throws NoSuchElementException se a pessoa não for encontrada
+     * @throws VersionConflictException se a versão atual não for uma das esperadas
+     */
+    public Person update(long id, String name, LocalDate birthDate, LocalDate admissionDate,
+                         Set<Long> expectedVersions) {
         validateBirthDateIsNotInFuture(birthDate);
-        return repo.update(id, current -> new Person(id, name, birthDate, admissionDate));
+        return repo.update(id, current -> {
+            validateVersion(current, expectedVersions);
+            return new Person(id, name, birthDate, admissionDate);
+        });
     }
 
     /**
@@ -112,9 +268,29 @@ public class PersonService {
      * @return pessoa atualizada
      * @throws NoSuchElementException se a pessoa não for encontrada
      */
-    public Person updatePartial(Long id, Optional<String> name, Optional<LocalDate> birthDate,
+    public Person updatePartial(long id, Optional<String> name, Optional<LocalDate> birthDate,
                                 Optional<LocalDate> admissionDate) {
-        return repo.update(id, current -> applyPartialUpdates(current, name, birthDate, admissionDate));
+        return updatePartial(id, name, birthDate, admissionDate, null);
+    }
+
+    /**
+     * Atualiza parcialmente os dados de uma pessoa se a versão atual for uma das esperadas.
+     * 
+     * @param id ID da pessoa
+     * @param name novo nome (opcional)
+     * @param birthDate nova data de nascimento (opcional)
+     * @param admissionDate nova data de admissão (opcional)
+     * @param expectedVersions versões aceitas (ver {@link Person#contentVersion()}), ou null para não conferir
+     * @return pessoa atualizada
+     * @throws NoSuchElementException se a pessoa não for encontrada
+     * @throws VersionConflictException se a versão atual não for uma das esperadas
+     */
+    public Person updatePartial(long id, Optional<String> name, Optional<LocalDate> birthDate,
+                                Optional<LocalDate> admissionDate, Set<Long> expectedVersions) {
+        return repo.update(id, current -> {
+            validateVersion(current, expectedVersions);
+            return applyPartialUpdates(current, name, birthDate, admissionDate);
+        });
     }
 
     /**
@@ -124,19 +300,142 @@ public class PersonService {
      * @return pessoa encontrada
      * @throws NoSuchElementException se a pessoa não for encontrada
      */
-    public Person get(Long id) {
+    public Person get(long id) {
         return repo.findById(id).orElseThrow(() -> new NoSuchElementException("Pessoa com ID " + id + " não encontrada"));
     }
 
+    /**
+     * Busca várias pessoas pelos IDs de uma vez. IDs sem pessoa cadastrada são devolvidos em
+     * {@link BatchLookup#missing()}, sem lançar exceção. O repositório resolve o lote em uma
+     * única chamada.
+     * 
+     * @param ids IDs das pessoas
+     * @return pessoas encontradas e IDs ausentes, na ordem em que foram pedidos
+     * @throws IllegalArgumentException se houver mais de {@link #MAX_BATCH_GET_SIZE} IDs
+     */
+    public BatchLookup findAllById(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_GET_SIZE) {
+            throw new IllegalArgumentException("A busca em lote aceita no máximo " + MAX_BATCH_GET_SIZE + " IDs");
+        }
+        long[] wanted = new long[ids.size()];
+        for (int i = 0; i < wanted.length; i++) {
+            wanted[i] = ids.get(i);
+        }
+        List<Person> found = repo.findAllById(wanted);
+        List<Long> missing = new ArrayList<>(wanted.length - found.size());
+        int next = 0;
+        for (int i = 0; i < wanted.length; i++) {
+            if (next < found.size() && found.get(next).id() == wanted[i]) {
+                next++;
+            } else {
+                missing.add(ids.get(i));
+            }
+        }
+        return new BatchLookup(found, missing);
+    }
+
+    /**
+     * Retorna a versão atual do cadastro, alterada a cada escrita confirmada.
+     * Deve ser lida antes da consulta que ela identifica: assim, uma escrita concorrente
+     * pode no máximo tornar a versão antiga demais, nunca nova demais.
+     * 
+     * @return versão atual do cadastro
+     */
+    public StoreVersion storeVersion() {
+        return changeLog.currentVersion();
+    }
+
     /**
      * Retorna todas as pessoas cadastradas, ordenadas por nome.
      * 
      * @return lista de pessoas ordenadas por nome
      */
     public List<Person> findAll() {
-        return repo.findAll().stream()
-                .sorted(Comparator.comparing(Person::name))
-                .toList();
+        return repo.streamOrderedByName().toList();
+    }
+
+    /**
+     * Captura as pessoas para exportação, sem copiar o cadastro. No repositório {@code mvcc}, o
+     * snapshot é versionado e reflete um único instante; nos demais, é percorrido à medida que
+     * é lido, sem versão.
+     * 
+     * @return snapshot das pessoas
+     */
+    public PersonSnapshot snapshot() {
+        return repo.snapshot();
+    }
+
+    /**
+     * Retorna uma página de pessoas ordenadas por nome, a partir de um cursor.
+     * O início da página é localizado pelo índice ordenado, sem percorrer as páginas anteriores.
+     * 
+     * @param after cursor da última pessoa da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de pessoas na página
+     * @return pessoas da página, ordenadas por nome
+     * @throws IllegalArgumentException se o limite estiver fora do intervalo permitido
+     */
+    public List<Person> findPage(NameKey after, int limit) {
+        validatePageSize(limit);
+        var people = after == null ? repo.streamOrderedByName() : repo.streamOrderedByName(after);
+        return people.limit(limit).toList();
+    }
+
+    /**
+     * Retorna as pessoas cujas datas de admissão e de nascimento estão nos intervalos informados.
+     * A consulta percorre o índice da data definida por {@link #dateOrder(DateRange)}, cobrindo
+     * apenas as pessoas do intervalo, e filtra a outra data durante o percurso.
+     * 
+     * @param admitted intervalo de datas de admissão
+     * @param born intervalo de datas de nascimento
+     * @return pessoas ordenadas pela data consultada e ID
+     */
+    public List<Person> findByDates(DateRange admitted, DateRange born) {
+        return streamByDates(admitted, born, null).toList();
+    }
+
+    /**
+     * Retorna uma página das pessoas cujas datas estão nos intervalos informados, a partir de um cursor.
+     * 
+     * @param admitted intervalo de datas de admissão
+     * @param born intervalo de datas de nascimento
+     * @param after cursor da última pessoa da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de pessoas na página
+     * @return pessoas da página, ordenadas pela data consultada e ID
+     * @throws IllegalArgumentException se o limite estiver fora do intervalo permitido
+     */
+    public List<Person> findPageByDates(DateRange admitted, DateRange born, DateKey after, int limit) {
+        validatePageSize(limit);
+        return streamByDates(admitted, born, after).limit(limit).toList();
+    }
+
+    /**
+     * Define a data que ordena uma consulta por intervalos: a admissão, quando filtrada,
+     * ou o nascimento.
+     * 
+     * @param admitted intervalo de datas de admissão
+     * @return data usada na ordenação e nos cursores da consulta
+     */
+    public static DateField dateOrder(DateRange admitted) {
+        return admitted.isBounded() ? DateField.ADMISSION_DATE : DateField.BIRTH_DATE;
+    }
+
+    /**
+     * Busca pessoas pelo nome, sem acentos e sem diferenciar maiúsculas de minúsculas.
+     * 
+     * @param query termo de busca
+     * @param mode modo de busca (prefix, contains, fuzzy)
+     * @param limit quantidade máxima de pessoas
+     * @return pessoas encontradas, na ordem definida pelo modo de busca
+     * @throws IllegalArgumentException se o modo, o limite ou o termo forem inválidos
+     */
+    public List<Person> search(String query, String mode, int limit) {
+        validatePageSize(limit);
+        NameMatch match = NameMatch.fromParam(mode);
+        if (match == NameMatch.CONTAINS && NameNormalizer.normalize(query).length() < MIN_CONTAINS_QUERY_LENGTH) {
+            throw new IllegalArgumentException("A busca por trecho exige ao menos " + MIN_CONTAINS_QUERY_LENGTH
+                    + " letras ou dígitos");
+        }
+        return repo.searchByName(query, match, limit);
     }
 
     /**
@@ -145,12 +444,13 @@ public class PersonService {
      * @param id ID da pessoa a ser removida
      * @throws NoSuchElementException se a pessoa não for encontrada
      */
-    public void delete(Long id) {
+    public void delete(long id) {
         repo.deleteById(id);
     }
 
     /**
-     * Calcula a idade de uma pessoa.
+     * Calcula a idade de uma pessoa na data de negócio. O resultado é guardado em cache até a
+     * virada do dia ou até a pessoa ser alterada.
      * 
      * @param id ID da pessoa
      * @param outputType tipo de saída (days, months, years)
@@ -158,22 +458,19 @@ public class PersonService {
      * @throws NoSuchElementException se a pessoa não for encontrada
      * @throws IllegalArgumentException se o tipo de saída for inválido
      */
-    public long calculateAge(Long id, String outputType) {
+    public long calculateAge(long id, String outputType) {
         Person person = get(id);
         LocalDate birthDate = person.birthDate();
         validateBirthDateIsNotNull(birthDate);
         
-        return switch (outputType.toLowerCase()) {
-            case "days" -> ChronoUnit.DAYS.between(birthDate, LocalDate.now());
-            case "months" -> ChronoUnit.MONTHS.between(birthDate, LocalDate.now());
-            case "years" -> ageService.diff(birthDate).years();
-            default -> throw new IllegalArgumentException("Tipo de saída inválido: " + outputType + 
-                    ". Valores aceitos: days, months, years");
-        };
+        String output = outputType.toLowerCase();
+        Long age = resultCache.get(person, "age:" + output, today -> ageIn(birthDate, output, today));
+        return age;
     }
 
     /**
-     * Calcula o salário de uma pessoa baseado no tempo de serviço.
+     * Calcula o salário de uma pessoa baseado no tempo de serviço, na data de negócio. O
+     * resultado é guardado em cache até a virada do dia ou até a pessoa ser alterada.
      * 
      * @param id ID da pessoa
      * @param outputType tipo de saída (full, min)
@@ -181,23 +478,304 @@ public class PersonService {
      * @throws NoSuchElementException se a pessoa não for encontrada
      * @throws IllegalArgumentException se o tipo de saída for inválido
      */
-    public double calculateSalary(Long id, String outputType) {
+    public double calculateSalary(long id, String outputType) {
+        Person person = get(id);
+        LocalDate admissionDate = person.admissionDate();
+        validateAdmissionDateIsNotNull(admissionDate);
+        
+        String output = outputType.toLowerCase();
+        Double salary = resultCache.get(person, "salary:" + output,
+                today -> salaryService.calculateSalary(admissionDate, output, today));
+        return salary;
+    }
+
+    /**
+     * Calcula o salário de uma pessoa em aritmética decimal exata, para conciliação financeira.
+     * 
+     * @param id ID da pessoa
+     * @param outputType tipo de saída (full, min)
+     * @return salário calculado, com duas casas decimais
+     * @throws NoSuchElementException se a pessoa não for encontrada
+     * @throws IllegalArgumentException se o tipo de saída for inválido
+     */
+    public BigDecimal calculateExactSalary(long id, String outputType) {
         Person person = get(id);
         LocalDate admissionDate = person.admissionDate();
         validateAdmissionDateIsNotNull(admissionDate);
         
-        return salaryService.calculateSalary(admissionDate, outputType);
+        String output = outputType.toLowerCase();
+        return resultCache.get(person, "exact-salary:" + output,
+                today -> salaryService.calculateExactSalary(admissionDate, output, today));
+    }
+
+    /**
+     * Projeta o salário de uma pessoa para os próximos aniversários da data de negócio.
+     * 
+     * @param id ID da pessoa
+     * @param outputType tipo de saída (full, min)
+     * @param years quantidade de anos projetados
+     * @return salários projetados
+     * @throws NoSuchElementException se a pessoa não for encontrada
+     * @throws IllegalArgumentException se o tipo de saída ou a quantidade de anos forem inválidos
+     */
+    public SalaryProjection projectSalary(long id, String outputType, int years) {
+        SalaryProjector projector = salaryProjector(outputType, years);
+        Person person = get(id);
+        validateAdmissionDateIsNotNull(person.admissionDate());
+        return projector.project(person);
+    }
+
+    /**
+     * Prepara a projeção de salários de várias pessoas, com a data de negócio resolvida uma
+     * única vez para todas.
+     * 
+     * @param outputType tipo de saída (full, min)
+     * @param years quantidade de anos projetados
+     * @return projeção a ser aplicada a cada pessoa
+     * @throws IllegalArgumentException se o tipo de saída ou a quantidade de anos forem inválidos
+     */
+    public SalaryProjector salaryProjector(String outputType, int years) {
+        if (years < 1 || years > MAX_PROJECTION_YEARS) {
+            throw new IllegalArgumentException("A quantidade de anos deve estar entre 1 e " + MAX_PROJECTION_YEARS);
+        }
+        String output = normalizeOutputs(List.of(outputType), SALARY_OUTPUTS).get(0);
+        return new SalaryProjector(salaryService, output, businessDate.today(), years);
+    }
+
+    /**
+     * Calcula idades e salários de várias pessoas de uma vez, em colunas. A data atual é
+     * resolvida uma única vez para todo o lote e, a partir de
+     * {@value #PARALLEL_METRICS_THRESHOLD} pessoas, os cálculos são divididos entre os núcleos.
+     * 
+     * <p>Com {@code ids}, calcula as pessoas desses IDs, na ordem pedida, e relata os ausentes;
+     * sem eles, calcula uma página das pessoas nos intervalos de datas informados, ou de todas
+     * se nenhum intervalo for limitado, na ordem de {@link #dateOrder(DateRange)}. A página é lida
+     * do índice de datas a partir do cursor, então nunca carrega mais que {@code limit} pessoas;
+     * se vier cheia, {@link BatchMetrics#next()} é o cursor da próxima.
+     * 
+     * @param ids IDs das pessoas, ou null para usar os intervalos de datas
+     * @param admitted intervalo de datas de admissão
+     * @param born intervalo de datas de nascimento
+     * @param after cursor da última pessoa da página anterior, ou null para a primeira página;
+     *        ignorado com {@code ids}
+     * @param limit quantidade máxima de pessoas na página; ignorado com {@code ids}
+     * @param ageOutputs tipos de saída da idade (days, months, years)
+     * @param salaryOutputs tipos de saída do salário (full, min)
+     * @return colunas calculadas
+     * @throws IllegalArgumentException se nenhum tipo de saída for informado, algum for inválido,
+     *         houver mais de {@link #MAX_BATCH_GET_SIZE} IDs ou, sem IDs, o limite estiver fora
+     *         do intervalo de 1 a {@link #MAX_METRICS_PAGE_SIZE}
+     */
+    public BatchMetrics computeMetrics(List<Long> ids, DateRange admitted, DateRange born, DateKey after, int limit,
+                                       List<String> ageOutputs, List<String> salaryOutputs) {
+        List<String> ages = normalizeOutputs(ageOutputs, AGE_OUTPUTS);
+        List<String> salaries = normalizeOutputs(salaryOutputs, SALARY_OUTPUTS);
+        if (ages.isEmpty() && salaries.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um tipo de saída de idade ou salário");
+        }
+        List<Person> people;
+        List<Long> missing = List.of();
+        DateKey next = null;
+        if (ids != null) {
+            BatchLookup lookup = findAllById(ids);
+            people = lookup.found();
+            missing = lookup.missing();
+        } else {
+            if (limit < 1 || limit > MAX_METRICS_PAGE_SIZE) {
+                throw new IllegalArgumentException("Limite de página deve estar entre 1 e " + MAX_METRICS_PAGE_SIZE);
+            }
+            try (Stream<Person> page = streamByDates(admitted, born, after)) {
+                people = page.limit(limit).toList();
+            }
+            if (people.size() == limit) {
+                next = DateKey.of(dateOrder(admitted), people.get(limit - 1));
+            }
+        }
+
+        LocalDate today = businessDate.today();
+        int size = people.size();
+        long[] idColumn = new long[size];
+        long[][] ageColumns = new long[ages.size()][size];
+        double[][] salaryColumns = new double[salaries.size()][size];
+        IntStream rows = IntStream.range(0, size);
+        if (size >= PARALLEL_METRICS_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(row -> {
+            Person person = people.get(row);
+            idColumn[row] = person.id();
+            for (int column = 0; column < ageColumns.length; column++) {
+                ageColumns[column][row] = ageIn(person.birthDate(), ages.get(column), today);
+            }
+            for (int column = 0; column < salaryColumns.length; column++) {
+                salaryColumns[column][row] = salaryService.calculateSalary(
+                        person.admissionDate(), salaries.get(column), today);
+            }
+        });
+
+        Map<String, long[]> ageMap = new LinkedHashMap<>();
+        for (int column = 0; column < ageColumns.length; column++) {
+            ageMap.put(ages.get(column), ageColumns[column]);
+        }
+        Map<String, double[]> salaryMap = new LinkedHashMap<>();
+        for (int column = 0; column < salaryColumns.length; column++) {
+            salaryMap.put(salaries.get(column), salaryColumns[column]);
+        }
+        return new BatchMetrics(today, idColumn, ageMap, salaryMap, missing, next);
+    }
+
+    /**
+     * Conta as pessoas por faixa de idade em anos completos, na data de negócio.
+     * As datas de nascimento são extraídas de um único {@link PersonRepository#snapshot()} para
+     * um array de dias desde 1970-01-01 e as idades calculadas em uma única passada por
+     * {@link AgeService#diffAll}, sem criar objetos por pessoa. Nascimentos posteriores à data de
+     * negócio, possíveis quando o fuso da validação difere do relógio da aplicação, contam com
+     * idade zero, na primeira faixa.
+     * 
+     * @param bandYears largura de cada faixa, em anos
+     * @return distribuição das idades
+     * @throws IllegalArgumentException se a largura estiver fora do intervalo permitido
+     */
+    public AgeDistribution ageDistribution(int bandYears) {
+        if (bandYears < 1 || bandYears > MAX_AGE_BAND_YEARS) {
+            throw new IllegalArgumentException("A largura da faixa deve estar entre 1 e " + MAX_AGE_BAND_YEARS);
+        }
+        LocalDate today = businessDate.today();
+        int todayEpochDay = Math.toIntExact(today.toEpochDay());
+        int[] birthEpochDays;
+        try (Stream<Person> people = repo.snapshot().stream()) {
+            birthEpochDays = people
+                    .mapToInt(person -> Math.min(Math.toIntExact(person.birthDate().toEpochDay()), todayEpochDay))
+                    .toArray();
+        }
+        int[] years = new int[birthEpochDays.length];
+        ageService.diffAll(birthEpochDays, birthEpochDays.length, today, years, null, null);
+
+        long[] counts = new long[1];
+        for (int age : years) {
+            int band = age / bandYears;
+            if (band >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(band + 1, counts.length * 2));
+            }
+            counts[band]++;
+        }
+        int lastBand = counts.length - 1;
+        while (lastBand >= 0 && counts[lastBand] == 0) {
+            lastBand--;
+        }
+        List<AgeDistribution.AgeBand> bands = new ArrayList<>(lastBand + 1);
+        for (int band = 0; band <= lastBand; band++) {
+            bands.add(new AgeDistribution.AgeBand(band * bandYears, (band + 1) * bandYears - 1, counts[band]));
+        }
+        return new AgeDistribution(today, years.length, bandYears, List.copyOf(bands));
+    }
+
+    /**
+     * Retorna as pessoas com os maiores ou menores valores de uma métrica na data de negócio.
+     * Cada métrica cresce à medida que sua data recua, então o ranking é lido da ponta do índice
+     * dessa data em O(log n + k), sem calcular a métrica de todo o cadastro; empates ficam com
+     * a data e o ID mais antigos entre os maiores valores, e com os mais recentes entre os menores.
+     * 
+     * @param metric métrica (salary, tenure, age)
+     * @param order ordem (top para os maiores valores, bottom para os menores)
+     * @param limit quantidade máxima de pessoas
+     * @return ranking das pessoas
+     * @throws IllegalArgumentException se a métrica, a ordem ou o limite forem inválidos
+     */
+    public Ranking rank(String metric, String order, int limit) {
+        RankingMetric rankingMetric = RankingMetric.fromParam(metric);
+        boolean top = switch (order.toLowerCase()) {
+            case "top" -> true;
+            case "bottom" -> false;
+            default -> throw new IllegalArgumentException("Ordem inválida: " + order + ". Valores aceitos: top, bottom");
+        };
+        if (limit < 1 || limit > MAX_RANKING_SIZE) {
+            throw new IllegalArgumentException("O limite do ranking deve estar entre 1 e " + MAX_RANKING_SIZE);
+        }
+        LocalDate today = businessDate.today();
+        List<Ranking.RankedPerson> people = repo.findFirstByDate(rankingMetric.field(), !top, limit).stream()
+                .map(person -> new Ranking.RankedPerson(person,
+                        ageService.diff(person.birthDate(), today).years(),
+                        SalaryService.calculateYearsWorked(person.admissionDate(), today),
+                        salaryService.calculateSalary(person.admissionDate(), "full", today)))
+                .toList();
+        return new Ranking(today, rankingMetric, top, people);
+    }
+
+    /**
+     * Calcula a idade em uma data de referência.
+     * 
+     * @param birthDate data de nascimento
+     * @param outputType tipo de saída em minúsculas (days, months, years)
+     * @param today data de referência
+     * @return idade calculada
+     * @throws IllegalArgumentException se o tipo de saída for inválido
+     */
+    private long ageIn(LocalDate birthDate, String outputType, LocalDate today) {
+        return switch (outputType) {
+            case "days" -> ChronoUnit.DAYS.between(birthDate, today);
+            case "months" -> ChronoUnit.MONTHS.between(birthDate, today);
+            case "years" -> ageService.diff(birthDate, today).years();
+            default -> throw new IllegalArgumentException("Tipo de saída inválido: " + outputType + 
+                    ". Valores aceitos: days, months, years");
+        };
+    }
+
+    /**
+     * Normaliza os tipos de saída pedidos, descartando repetições.
+     * 
+     * @param outputs tipos de saída pedidos, ou null
+     * @param accepted tipos de saída aceitos
+     * @return tipos de saída em minúsculas, na ordem pedida
+     * @throws IllegalArgumentException se algum tipo de saída for inválido
+     */
+    private static List<String> normalizeOutputs(List<String> outputs, List<String> accepted) {
+        if (outputs == null) {
+            return List.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String output : outputs) {
+            String value = output == null ? "" : output.toLowerCase();
+            if (!accepted.contains(value)) {
+                throw new IllegalArgumentException("Tipo de saída inválido: " + output
+                        + ". Valores aceitos: " + String.join(", ", accepted));
+            }
+            normalized.add(value);
+        }
+        return List.copyOf(normalized);
+    }
+
+    private Stream<Person> streamByDates(DateRange admitted, DateRange born, DateKey after) {
+        DateField order = dateOrder(admitted);
+        DateRange indexed = order == DateField.ADMISSION_DATE ? admitted : born;
+        var people = after == null ? repo.streamByDate(order, indexed) : repo.streamByDate(order, indexed, after);
+        return order == DateField.ADMISSION_DATE && born.isBounded()
+                ? people.filter(person -> born.contains(person.birthDate()))
+                : people;
+    }
+
+    /**
+     * Valida se o tamanho da página está dentro do intervalo permitido.
+     * 
+     * @param limit tamanho da página
+     * @throws IllegalArgumentException se o tamanho for menor que 1 ou maior que {@link #MAX_PAGE_SIZE}
+     */
+    private void validatePageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limite de página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
     }
 
     /**
-     * Valida se uma pessoa com o ID fornecido não existe.
+     * Valida se a versão atual da pessoa é uma das esperadas.
      * 
-     * @param id ID a ser validado
-     * @throws IllegalArgumentException se já existir uma pessoa com o ID
+     * @param current estado atual da pessoa
+     * @param expectedVersions versões aceitas, ou null para não conferir
+     * @throws VersionConflictException se a versão atual não for uma das esperadas
      */
-    private void validatePersonDoesNotExist(Long id) {
-        if (repo.existsById(id)) {
-            throw new IllegalArgumentException("Pessoa com ID " + id + " já existe no sistema");
+    private void validateVersion(Person current, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(current.contentVersion())) {
+            throw new VersionConflictException(current.id(), current.contentVersion());
         }
     }
 
@@ -250,7 +828,7 @@ public class PersonService {
      * @throws IllegalArgumentException se a data for no futuro
      */
     private void validateBirthDateIsNotInFuture(LocalDate birthDate) {
-        if (birthDate.isAfter(LocalDate.now())) {
+        if (birthDate.isAfter(businessDate.today())) {
             throw new IllegalArgumentException("Data de nascimento não pode ser no futuro");
         }
     }
@@ -0,0 +1,27 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Ranking das pessoas com os maiores ou menores valores de uma métrica.
+ *
+ * @param date data de referência das idades e salários
+ * @param metric métrica do ranking
+ * @param top true para os maiores valores, false para os menores
+ * @param people pessoas do ranking, do primeiro ao último colocado
+ */
+public record Ranking(LocalDate date, RankingMetric metric, boolean top, List<RankedPerson> people) {
+
+    /**
+     * Pessoa de um ranking, com os valores de todas as métricas na data de referência.
+     *
+     * @param person pessoa
+     * @param age idade em anos completos
+     * @param yearsOfService anos completos de serviço
+     * @param salary salário completo
+     */
+    public record RankedPerson(Person person, int age, int yearsOfService, double salary) {}
+}
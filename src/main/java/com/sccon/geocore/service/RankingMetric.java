@@ -0,0 +1,49 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.repository.DateField;
+
+/**
+ * Métricas dos rankings de pessoas. Todas crescem à medida que a data correspondente recua:
+ * o salário só depende dos anos completos de serviço e não diminui com eles, então as pessoas
+ * de maior valor são as de data mais antiga e o ranking é lido do índice dessa data.
+ */
+public enum RankingMetric {
+    /** Salário completo na data atual, ordenado pela data de admissão */
+    SALARY(DateField.ADMISSION_DATE),
+    /** Anos completos de serviço, ordenados pela data de admissão */
+    TENURE(DateField.ADMISSION_DATE),
+    /** Idade em anos completos, ordenada pela data de nascimento */
+    AGE(DateField.BIRTH_DATE);
+
+    private final DateField field;
+
+    RankingMetric(DateField field) {
+        this.field = field;
+    }
+
+    /**
+     * Retorna a data cuja ordem crescente corresponde à ordem decrescente da métrica.
+     *
+     * @return data que ordena o ranking
+     */
+    public DateField field() {
+        return field;
+    }
+
+    /**
+     * Converte o valor do parâmetro de requisição na métrica correspondente.
+     *
+     * @param value valor do parâmetro (salary, tenure, age)
+     * @return métrica do ranking
+     * @throws IllegalArgumentException se o valor for desconhecido
+     */
+    public static RankingMetric fromParam(String value) {
+        return switch (value.toLowerCase()) {
+            case "salary" -> SALARY;
+            case "tenure" -> TENURE;
+            case "age" -> AGE;
+            default -> throw new IllegalArgumentException("Métrica inválida: " + value +
+                    ". Valores aceitos: salary, tenure, age");
+        };
+    }
+}
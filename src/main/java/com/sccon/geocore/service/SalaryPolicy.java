@@ -0,0 +1,40 @@
+package com.sccon.geocore.service;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Parâmetros do cálculo de salário: o salário parte do salário base e, a cada ano completo de
+ * serviço, recebe o aumento percentual seguido do aumento fixo.
+ *
+ * @param baseSalary salário base inicial, em reais
+ * @param minimumWage salário mínimo de referência, em reais
+ * @param annualIncreasePercentage percentual de aumento anual, como fração (0.18 = 18%)
+ * @param annualFixedIncrease aumento fixo anual, em reais
+ */
+public record SalaryPolicy(BigDecimal baseSalary, BigDecimal minimumWage, BigDecimal annualIncreasePercentage,
+                           BigDecimal annualFixedIncrease) {
+
+    /** Política vigente, conforme a especificação */
+    public static final SalaryPolicy CURRENT = new SalaryPolicy(new BigDecimal("1558.00"),
+            new BigDecimal("1302.00"), new BigDecimal("0.18"), new BigDecimal("500.00"));
+
+    /**
+     * Cria uma política de salário.
+     *
+     * @throws IllegalArgumentException se o salário base ou o salário mínimo não forem positivos
+     *         ou algum aumento for negativo
+     */
+    public SalaryPolicy {
+        Objects.requireNonNull(baseSalary, "baseSalary");
+        Objects.requireNonNull(minimumWage, "minimumWage");
+        Objects.requireNonNull(annualIncreasePercentage, "annualIncreasePercentage");
+        Objects.requireNonNull(annualFixedIncrease, "annualFixedIncrease");
+        if (baseSalary.signum() <= 0 || minimumWage.signum() <= 0) {
+            throw new IllegalArgumentException("O salário base e o salário mínimo devem ser positivos");
+        }
+        if (annualIncreasePercentage.signum() < 0 || annualFixedIncrease.signum() < 0) {
+            throw new IllegalArgumentException("Os aumentos anuais não podem ser negativos");
+        }
+    }
+}
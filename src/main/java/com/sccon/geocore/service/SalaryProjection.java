@@ -0,0 +1,13 @@
+package com.sccon.geocore.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Salários projetados de uma pessoa.
+ *
+ * @param id ID da pessoa
+ * @param dates datas da projeção, em ordem crescente
+ * @param salaries salários projetados: a posição {@code i} corresponde a {@code dates.get(i)}
+ */
+public record SalaryProjection(long id, List<LocalDate> dates, double[] salaries) {}
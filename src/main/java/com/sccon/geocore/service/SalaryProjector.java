@@ -0,0 +1,62 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projeção de salários para os próximos aniversários da data de negócio, com a data de
+ * referência e as datas da projeção fixadas na criação: todas as pessoas projetadas pela mesma
+ * instância usam as mesmas datas, mesmo que o dia vire durante uma exportação.
+ */
+public class SalaryProjector {
+
+    private final SalaryService salaryService;
+    private final String outputType;
+    private final LocalDate today;
+    private final List<LocalDate> dates;
+
+    SalaryProjector(SalaryService salaryService, String outputType, LocalDate today, int years) {
+        this.salaryService = salaryService;
+        this.outputType = outputType;
+        this.today = today;
+        List<LocalDate> projectionDates = new ArrayList<>(years);
+        for (int year = 1; year <= years; year++) {
+            projectionDates.add(today.plusYears(year));
+        }
+        this.dates = List.copyOf(projectionDates);
+    }
+
+    /**
+     * Retorna a data de referência da projeção.
+     *
+     * @return data de referência
+     */
+    public LocalDate date() {
+        return today;
+    }
+
+    /**
+     * Retorna as datas da projeção: os aniversários da data de referência, em ordem crescente.
+     *
+     * @return datas da projeção
+     */
+    public List<LocalDate> dates() {
+        return dates;
+    }
+
+    /**
+     * Projeta o salário de uma pessoa em cada data da projeção.
+     *
+     * @param person pessoa
+     * @return salários projetados
+     * @throws IllegalArgumentException se a data de admissão for nula
+     */
+    public SalaryProjection project(Person person) {
+        double[] salaries = new double[dates.size()];
+        salaryService.projectSalary(person.admissionDate(), outputType, today, dates, salaries);
+        return new SalaryProjection(person.id(), dates, salaries);
+    }
+}
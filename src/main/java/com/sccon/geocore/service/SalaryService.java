@@ -1,22 +1,82 @@
 package com.sccon.geocore.service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.time.Period;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Serviço responsável por cálculos de salário.
  * Calcula salários baseados no tempo de serviço com aumentos anuais.
+ *
+ * <p>O salário depende apenas dos anos completos de serviço, então os valores de cada saída
+ * são pré-calculados em uma tabela indexada pelos anos, até {@value #TABLE_YEARS} anos. A tabela
+ * é preenchida aplicando os aumentos ano a ano, na mesma ordem de operações do cálculo direto,
+ * e por isso devolve exatamente os mesmos valores; acima do limite, o cálculo é feito ano a ano.
+ * Os parâmetros são os da política vigente, {@link SalaryPolicy#CURRENT}.
  */
 public class SalaryService {
 
     /** Salário base inicial */
-    private static final double BASE_SALARY = 1558.00;
+    private static final double BASE_SALARY = SalaryPolicy.CURRENT.baseSalary().doubleValue();
     /** Salário mínimo de referência */
-    private static final double MINIMUM_WAGE = 1302.00;
+    private static final double MINIMUM_WAGE = SalaryPolicy.CURRENT.minimumWage().doubleValue();
     /** Percentual de aumento anual */
-    private static final double ANNUAL_INCREASE_PERCENTAGE = 0.18;
+    private static final double ANNUAL_INCREASE_PERCENTAGE = SalaryPolicy.CURRENT.annualIncreasePercentage().doubleValue();
     /** Aumento fixo anual */
-    private static final double ANNUAL_FIXED_INCREASE = 500.00;
+    private static final double ANNUAL_FIXED_INCREASE = SalaryPolicy.CURRENT.annualFixedIncrease().doubleValue();
+    /** Anos de serviço cobertos pelas tabelas pré-calculadas */
+    static final int TABLE_YEARS = 150;
+
+    private static final BigDecimal EXACT_BASE_SALARY = SalaryPolicy.CURRENT.baseSalary();
+    private static final BigDecimal EXACT_MINIMUM_WAGE = SalaryPolicy.CURRENT.minimumWage();
+    private static final BigDecimal EXACT_ANNUAL_FACTOR = BigDecimal.ONE.add(SalaryPolicy.CURRENT.annualIncreasePercentage());
+    private static final BigDecimal EXACT_ANNUAL_FIXED_INCREASE = SalaryPolicy.CURRENT.annualFixedIncrease();
+
+    /** Salário por anos de serviço, sem arredondamento, ponto de partida das projeções */
+    private static final double[] RAW_BY_YEARS = new double[TABLE_YEARS + 1];
+    /** Salário completo por anos de serviço, já arredondado */
+    private static final double[] FULL_BY_YEARS = new double[TABLE_YEARS + 1];
+    /** Salário em salários mínimos por anos de serviço, já arredondado */
+    private static final double[] MIN_BY_YEARS = new double[TABLE_YEARS + 1];
+    /** Salário completo exato por anos de serviço, arredondado para cima em centavos */
+    private static final BigDecimal[] EXACT_FULL_BY_YEARS = new BigDecimal[TABLE_YEARS + 1];
+    /** Salário exato em salários mínimos por anos de serviço, arredondado para cima em centésimos */
+    private static final BigDecimal[] EXACT_MIN_BY_YEARS = new BigDecimal[TABLE_YEARS + 1];
+
+    static {
+        double salary = BASE_SALARY;
+        BigDecimal exactSalary = EXACT_BASE_SALARY;
+        for (int years = 0; years <= TABLE_YEARS; years++) {
+            RAW_BY_YEARS[years] = salary;
+            FULL_BY_YEARS[years] = roundUpToTwoDecimals(salary);
+            MIN_BY_YEARS[years] = roundUpToTwoDecimals(salary / MINIMUM_WAGE);
+            EXACT_FULL_BY_YEARS[years] = exactSalary.setScale(2, RoundingMode.CEILING);
+            EXACT_MIN_BY_YEARS[years] = exactSalary.divide(EXACT_MINIMUM_WAGE, 2, RoundingMode.CEILING);
+            salary = applySingleYearIncrease(salary);
+            exactSalary = exactSalary.multiply(EXACT_ANNUAL_FACTOR).add(EXACT_ANNUAL_FIXED_INCREASE);
+        }
+    }
+
+    private final BusinessDate businessDate;
+
+    /**
+     * Construtor do serviço de salário usando o relógio do sistema no fuso padrão.
+     */
+    public SalaryService() {
+        this(new BusinessDate(Clock.systemDefaultZone()));
+    }
+
+    /**
+     * Construtor do serviço de salário sobre um provedor de data compartilhado.
+     * 
+     * @param businessDate provedor da data atual
+     */
+    public SalaryService(BusinessDate businessDate) {
+        this.businessDate = Objects.requireNonNull(businessDate, "businessDate");
+    }
 
     /**
      * Calcula o salário baseado na data de admissão e tipo de saída.
@@ -27,14 +87,112 @@ public class SalaryService {
      * @throws IllegalArgumentException se a data de admissão for nula ou tipo de saída inválido
      */
     public double calculateSalary(LocalDate admissionDate, String outputType) {
+        return calculateSalary(admissionDate, outputType, businessDate.today());
+    }
+
+    /**
+     * Calcula o salário na data de referência informada.
+     * Usado nos cálculos em lote, que resolvem a data atual uma única vez.
+     * 
+     * @param admissionDate data de admissão
+     * @param outputType tipo de saída (full, min)
+     * @param today data de referência
+     * @return salário calculado
+     * @throws IllegalArgumentException se a data de admissão for nula ou tipo de saída inválido
+     */
+    public double calculateSalary(LocalDate admissionDate, String outputType, LocalDate today) {
         validateAdmissionDate(admissionDate);
         
-        double currentSalary = BASE_SALARY;
-        int yearsWorked = calculateYearsWorked(admissionDate);
+        int yearsWorked = calculateYearsWorked(admissionDate, today);
         
-        currentSalary = applyAnnualIncreases(currentSalary, yearsWorked);
+        return formatSalaryOutput(yearsWorked, outputType);
+    }
+
+    /**
+     * Retorna o salário completo, em reais, de quem tem a quantidade informada de anos
+     * completos de serviço; o mesmo valor de {@link #calculateSalary} com saída {@code full}.
+     * 
+     * @param yearsWorked anos completos de serviço; valores negativos equivalem a zero
+     * @return salário completo, arredondado para cima com duas casas decimais
+     */
+    public double salaryForYearsOfService(int yearsWorked) {
+        return formatSalaryOutput(yearsWorked, "full");
+    }
+
+    /**
+     * Projeta o salário em datas futuras, com os mesmos valores de {@link #calculateSalary} em
+     * cada data. O salário da data de referência é o ponto de partida e, de uma data para a
+     * seguinte, recebe apenas os aumentos dos anos completados entre elas, sem recalcular a
+     * partir do salário base.
+     * 
+     * @param admissionDate data de admissão
+     * @param outputType tipo de saída (full, min)
+     * @param today data de referência
+     * @param dates datas da projeção, em ordem crescente e posteriores à data de referência
+     * @param salaries destino: a posição {@code i} recebe o salário em {@code dates.get(i)}
+     * @throws IllegalArgumentException se a data de admissão for nula ou tipo de saída inválido
+     */
+    public void projectSalary(LocalDate admissionDate, String outputType, LocalDate today, List<LocalDate> dates,
+                              double[] salaries) {
+        validateAdmissionDate(admissionDate);
+        boolean full = isFullOutput(outputType);
+
+        int years = Math.max(calculateYearsWorked(admissionDate, today), 0);
+        double salary = years <= TABLE_YEARS ? RAW_BY_YEARS[years] : applyAnnualIncreases(BASE_SALARY, years);
+        for (int i = 0; i < dates.size(); i++) {
+            int yearsAtDate = Math.max(calculateYearsWorked(admissionDate, dates.get(i)), 0);
+            for (; years < yearsAtDate; years++) {
+                salary = applySingleYearIncrease(salary);
+            }
+            salaries[i] = full ? roundUpToTwoDecimals(salary) : roundUpToTwoDecimals(salary / MINIMUM_WAGE);
+        }
+    }
+
+    /**
+     * Calcula o salário completo de cada quantidade de anos de serviço com outra política, com
+     * as mesmas operações e o mesmo arredondamento do cálculo em ponto flutuante.
+     * 
+     * @param policy política de salário
+     * @param maxYears maior quantidade de anos de serviço
+     * @return salários completos, indexados pelos anos de serviço, de 0 a {@code maxYears}
+     */
+    public static double[] fullSalaryTable(SalaryPolicy policy, int maxYears) {
+        double salary = policy.baseSalary().doubleValue();
+        double factor = 1 + policy.annualIncreasePercentage().doubleValue();
+        double fixedIncrease = policy.annualFixedIncrease().doubleValue();
+        double[] table = new double[maxYears + 1];
+        for (int years = 0; years <= maxYears; years++) {
+            table[years] = roundUpToTwoDecimals(salary);
+            salary = salary * factor + fixedIncrease;
+        }
+        return table;
+    }
+
+    /**
+     * Calcula o salário em aritmética decimal exata, para conciliação financeira.
+     * Os aumentos são aplicados sem arredondamento intermediário e o resultado é arredondado
+     * para cima com duas casas decimais; em raros casos, difere do cálculo em ponto flutuante
+     * no último centavo.
+     * 
+     * @param admissionDate data de admissão
+     * @param outputType tipo de saída (full, min)
+     * @param today data de referência
+     * @return salário calculado, com duas casas decimais
+     * @throws IllegalArgumentException se a data de admissão for nula ou tipo de saída inválido
+     */
+    public BigDecimal calculateExactSalary(LocalDate admissionDate, String outputType, LocalDate today) {
+        validateAdmissionDate(admissionDate);
         
-        return formatSalaryOutput(currentSalary, outputType);
+        int yearsWorked = Math.max(calculateYearsWorked(admissionDate, today), 0);
+        boolean full = isFullOutput(outputType);
+        if (yearsWorked <= TABLE_YEARS) {
+            return full ? EXACT_FULL_BY_YEARS[yearsWorked] : EXACT_MIN_BY_YEARS[yearsWorked];
+        }
+        BigDecimal salary = EXACT_BASE_SALARY;
+        for (int year = 0; year < yearsWorked; year++) {
+            salary = salary.multiply(EXACT_ANNUAL_FACTOR).add(EXACT_ANNUAL_FIXED_INCREASE);
+        }
+        return full ? salary.setScale(2, RoundingMode.CEILING) : salary.divide(EXACT_MINIMUM_WAGE, 2, RoundingMode.CEILING);
     }
 
     /**
@@ -50,13 +208,22 @@ public class SalaryService {
     }
 
     /**
-     * Calcula o número de anos trabalhados desde a admissão.
+     * Calcula o número de anos completos trabalhados desde a admissão, com o mesmo resultado
+     * de {@code Period.between(admissionDate, today).getYears()} quando a admissão não é
+     * posterior à data de referência, mas sem criar um {@code Period}.
      * 
      * @param admissionDate data de admissão
-     * @return número de anos trabalhados
+     * @param today data de referência
+     * @return número de anos trabalhados, negativo se a admissão for posterior à data de referência
      */
-    private int calculateYearsWorked(LocalDate admissionDate) {
-        return Period.between(admissionDate, LocalDate.now()).getYears();
+    static int calculateYearsWorked(LocalDate admissionDate, LocalDate today) {
+        int years = today.getYear() - admissionDate.getYear();
+        if (today.getMonthValue() < admissionDate.getMonthValue()
+                || (today.getMonthValue() == admissionDate.getMonthValue()
+                && today.getDayOfMonth() < admissionDate.getDayOfMonth())) {
+            years--;
+        }
+        return years;
     }
 
     /**
@@ -66,7 +233,7 @@ public class SalaryService {
      * @param years número de anos para aplicar aumentos
      * @return salário com aumentos aplicados
      */
-    private double applyAnnualIncreases(double salary, int years) {
+    private static double applyAnnualIncreases(double salary, int years) {
         for (int year = 0; year < years; year++) {
             salary = applySingleYearIncrease(salary);
         }
@@ -79,22 +246,40 @@ public class SalaryService {
      * @param salary salário atual
      * @return salário com aumento aplicado
      */
-    private double applySingleYearIncrease(double salary) {
+    private static double applySingleYearIncrease(double salary) {
         return salary * (1 + ANNUAL_INCREASE_PERCENTAGE) + ANNUAL_FIXED_INCREASE;
     }
 
     /**
-     * Formata a saída do salário baseado no tipo solicitado.
+     * Formata a saída do salário baseado no tipo solicitado, consultando a tabela
+     * pré-calculada quando os anos de serviço estão dentro dela.
      * 
-     * @param salary salário calculado
+     * @param yearsWorked anos completos de serviço
      * @param outputType tipo de saída (full, min)
      * @return salário formatado
      * @throws IllegalArgumentException se o tipo de saída for inválido
      */
-    private double formatSalaryOutput(double salary, String outputType) {
+    private double formatSalaryOutput(int yearsWorked, String outputType) {
+        boolean full = isFullOutput(outputType);
+        int years = Math.max(yearsWorked, 0);
+        if (years <= TABLE_YEARS) {
+            return full ? FULL_BY_YEARS[years] : MIN_BY_YEARS[years];
+        }
+        double salary = applyAnnualIncreases(BASE_SALARY, years);
+        return full ? roundUpToTwoDecimals(salary) : roundUpToTwoDecimals(salary / MINIMUM_WAGE);
+    }
+
+    /**
+     * Identifica o tipo de saída.
+     * 
+     * @param outputType tipo de saída (full, min)
+     * @return true para {@code full}, false para {@code min}
+     * @throws IllegalArgumentException se o tipo de saída for inválido
+     */
+    private static boolean isFullOutput(String outputType) {
         return switch (outputType.toLowerCase()) {
-            case "full" -> roundUpToTwoDecimals(salary);
-            case "min" -> roundUpToTwoDecimals(salary / MINIMUM_WAGE);
+            case "full" -> true;
+            case "min" -> false;
             default -> throw new IllegalArgumentException("Tipo de saída inválido: " + outputType + 
                     ". Valores aceitos: full, min");
         };
@@ -106,7 +291,7 @@ public class SalaryService {
      * @param value valor a ser arredondado
      * @return valor arredondado
      */
-    private double roundUpToTwoDecimals(double value) {
+    private static double roundUpToTwoDecimals(double value) {
         return Math.ceil(value * 100) / 100;
     }
 }
@@ -0,0 +1,26 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Comemorações dos próximos dias.
+ *
+ * @param date data de referência, primeiro dia da janela
+ * @param type tipo de comemoração
+ * @param days quantidade de dias da janela, a partir da data de referência
+ * @param celebrations comemorações da janela, em ordem de data
+ */
+public record UpcomingCelebrations(LocalDate date, CelebrationType type, int days, List<Celebration> celebrations) {
+
+    /**
+     * Comemoração de uma pessoa.
+     *
+     * @param person pessoa
+     * @param date dia da comemoração
+     * @param years anos completados no dia
+     */
+    public record Celebration(Person person, LocalDate date, int years) {}
+}
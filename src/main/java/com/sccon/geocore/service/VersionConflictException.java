@@ -0,0 +1,30 @@
+package com.sccon.geocore.service;
+
+/**
+ * Exceção lançada quando uma atualização condicional encontra a pessoa em uma versão
+ * diferente da esperada, indicando que ela foi alterada desde a última leitura do cliente.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    private final long currentVersion;
+
+    /**
+     * Cria a exceção.
+     * 
+     * @param id ID da pessoa
+     * @param currentVersion versão atual da pessoa
+     */
+    public VersionConflictException(long id, long currentVersion) {
+        super("Pessoa com ID " + id + " foi alterada desde a última leitura");
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * Retorna a versão atual da pessoa.
+     * 
+     * @return versão atual
+     */
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
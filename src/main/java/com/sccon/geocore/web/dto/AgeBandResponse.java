@@ -0,0 +1,14 @@
+package com.sccon.geocore.web.dto;
+
+/**
+ * DTO que representa uma faixa da distribuição de idades.
+ * 
+ * @param minYears idade em anos completos no início da faixa (inclusivo)
+ * @param maxYears idade em anos completos no fim da faixa (inclusivo)
+ * @param headcount quantidade de pessoas na faixa
+ */
+public record AgeBandResponse(
+        int minYears,
+        int maxYears,
+        long headcount
+) {}
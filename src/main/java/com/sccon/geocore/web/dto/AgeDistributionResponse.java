@@ -0,0 +1,19 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO que representa a distribuição das pessoas por faixa de idade.
+ * 
+ * @param date data de referência das idades
+ * @param headcount quantidade de pessoas
+ * @param bandYears largura de cada faixa, em anos
+ * @param bands faixas de idade, em ordem crescente
+ */
+public record AgeDistributionResponse(
+        LocalDate date,
+        long headcount,
+        int bandYears,
+        List<AgeBandResponse> bands
+) {}
@@ -0,0 +1,14 @@
+package com.sccon.geocore.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO para busca de várias pessoas pelos IDs.
+ * 
+ * @param ids IDs das pessoas (obrigatório)
+ */
+public record BatchGetRequest(
+        @NotNull(message = "A lista de IDs é obrigatória") List<@NotNull(message = "ID não pode ser nulo") Long> ids
+) {}
@@ -0,0 +1,14 @@
+package com.sccon.geocore.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO que representa o resultado de uma busca de várias pessoas pelos IDs.
+ * 
+ * @param found pessoas encontradas, na ordem em que os IDs foram pedidos
+ * @param missing IDs sem pessoa cadastrada, na ordem em que foram pedidos
+ */
+public record BatchGetResponse(
+        List<PersonResponse> found,
+        List<Long> missing
+) {}
@@ -0,0 +1,32 @@
+package com.sccon.geocore.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO para cálculo de idades e salários em lote.
+ * Sem {@code ids}, calcula uma página das pessoas nos intervalos de datas informados, ou de todas.
+ * 
+ * @param ids IDs das pessoas (opcional)
+ * @param admittedFrom data de admissão inicial (opcional)
+ * @param admittedTo data de admissão final (opcional)
+ * @param bornFrom data de nascimento inicial (opcional)
+ * @param bornTo data de nascimento final (opcional)
+ * @param limit quantidade máxima de pessoas na página, sem {@code ids} (opcional)
+ * @param after cursor da última pessoa da página anterior, sem {@code ids} (opcional)
+ * @param age tipos de saída da idade: days, months, years (opcional)
+ * @param salary tipos de saída do salário: full, min (opcional)
+ */
+public record BatchMetricsRequest(
+        List<@NotNull(message = "ID não pode ser nulo") Long> ids,
+        LocalDate admittedFrom,
+        LocalDate admittedTo,
+        LocalDate bornFrom,
+        LocalDate bornTo,
+        Integer limit,
+        String after,
+        List<String> age,
+        List<String> salary
+) {}
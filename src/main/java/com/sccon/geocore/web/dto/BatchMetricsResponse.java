@@ -0,0 +1,23 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO que representa idades e salários calculados em lote, em colunas: a posição {@code i}
+ * de cada coluna corresponde à pessoa {@code ids[i]}.
+ * 
+ * @param date data de referência dos cálculos
+ * @param ids IDs das pessoas calculadas
+ * @param age colunas de idade por tipo de saída
+ * @param salary colunas de salário por tipo de saída
+ * @param missing IDs pedidos sem pessoa cadastrada
+ */
+public record BatchMetricsResponse(
+        LocalDate date,
+        long[] ids,
+        Map<String, long[]> age,
+        Map<String, double[]> salary,
+        List<Long> missing
+) {}
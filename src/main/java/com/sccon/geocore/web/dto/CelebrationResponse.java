@@ -0,0 +1,18 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO que representa a comemoração de uma pessoa.
+ * 
+ * @param id ID da pessoa
+ * @param name nome da pessoa
+ * @param date dia da comemoração
+ * @param years anos completados no dia
+ */
+public record CelebrationResponse(
+        long id,
+        String name,
+        LocalDate date,
+        int years
+) {}
@@ -0,0 +1,20 @@
+package com.sccon.geocore.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO que representa uma alteração de pessoa no fluxo de mudanças.
+ * Em remoções, a pessoa é omitida do JSON.
+ * 
+ * @param sequence número de sequência da alteração
+ * @param type tipo da alteração (CREATED, UPDATED, DELETED)
+ * @param id ID da pessoa alterada
+ * @param person estado da pessoa após a alteração
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeEventResponse(
+        long sequence,
+        String type,
+        long id,
+        PersonResponse person
+) {}
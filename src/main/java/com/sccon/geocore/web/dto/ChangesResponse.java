@@ -0,0 +1,20 @@
+package com.sccon.geocore.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO que representa uma leitura do fluxo de mudanças.
+ * 
+ * @param events alterações posteriores à posição consultada, em ordem
+ * @param cursor posição a ser enviada como {@code since} na próxima consulta: a da última
+ *               alteração devolvida ou, sem alterações, a última registrada
+ * @param lastSequence sequência da última alteração registrada
+ * @param resyncRequired true se o cliente ficou para trás do buffer ou a posição é de outra
+ *                       época, e deve recarregar as pessoas
+ */
+public record ChangesResponse(
+        List<ChangeEventResponse> events,
+        String cursor,
+        long lastSequence,
+        boolean resyncRequired
+) {}
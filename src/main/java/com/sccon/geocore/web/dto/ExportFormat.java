@@ -0,0 +1,55 @@
+package com.sccon.geocore.web.dto;
+
+/**
+ * Formatos da exportação de pessoas ({@code GET /people/export}) e das projeções de salário
+ * ({@code GET /people/export/salary-projection}).
+ */
+public enum ExportFormat {
+    /** Um objeto JSON por linha */
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson"),
+    /** CSV com cabeçalho */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Retorna o tipo de conteúdo da resposta.
+     * 
+     * @return tipo de conteúdo
+     */
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Retorna o nome sugerido para o arquivo exportado.
+     * 
+     * @param baseName nome do arquivo, sem extensão
+     * @return nome do arquivo com a extensão do formato
+     */
+    public String fileName(String baseName) {
+        return baseName + "." + extension;
+    }
+
+    /**
+     * Converte o valor do parâmetro de requisição no formato correspondente.
+     * 
+     * @param value valor do parâmetro (ndjson, csv)
+     * @return formato de exportação
+     * @throws IllegalArgumentException se o valor for desconhecido
+     */
+    public static ExportFormat fromParam(String value) {
+        return switch (value.toLowerCase()) {
+            case "ndjson" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw new IllegalArgumentException("Formato de exportação inválido: " + value +
+                    ". Valores aceitos: ndjson, csv");
+        };
+    }
+}
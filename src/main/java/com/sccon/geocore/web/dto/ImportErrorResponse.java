@@ -0,0 +1,12 @@
+package com.sccon.geocore.web.dto;
+
+/**
+ * DTO que representa uma linha rejeitada na importação em lote.
+ * 
+ * @param line número da linha no corpo da requisição, a partir de 1
+ * @param message motivo da rejeição
+ */
+public record ImportErrorResponse(
+        long line,
+        String message
+) {}
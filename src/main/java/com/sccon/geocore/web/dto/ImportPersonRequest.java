@@ -0,0 +1,29 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de uma linha da importação em lote.
+ * Os campos são validados com as regras de {@link CreatePersonRequest}.
+ * 
+ * @param id ID desejado (opcional; gerado quando ausente)
+ * @param name nome da pessoa
+ * @param birthDate data de nascimento
+ * @param admissionDate data de admissão
+ */
+public record ImportPersonRequest(
+        Long id,
+        String name,
+        LocalDate birthDate,
+        LocalDate admissionDate
+) {
+
+    /**
+     * Converte a linha na requisição de criação individual, para validação.
+     * 
+     * @return requisição de criação com os mesmos dados
+     */
+    public CreatePersonRequest toCreateRequest() {
+        return new CreatePersonRequest(name, birthDate, admissionDate);
+    }
+}
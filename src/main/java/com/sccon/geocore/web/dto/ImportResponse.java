@@ -0,0 +1,20 @@
+package com.sccon.geocore.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO que representa o relatório de uma importação em lote.
+ * 
+ * @param received quantidade de linhas recebidas, sem contar cabeçalho e linhas em branco
+ * @param imported quantidade de pessoas salvas
+ * @param failed quantidade de linhas rejeitadas
+ * @param errors linhas rejeitadas, em ordem
+ * @param errorsTruncated true se há mais linhas rejeitadas do que as listadas em {@code errors}
+ */
+public record ImportResponse(
+        long received,
+        long imported,
+        long failed,
+        List<ImportErrorResponse> errors,
+        boolean errorsTruncated
+) {}
@@ -0,0 +1,22 @@
+package com.sccon.geocore.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO que representa o resumo da folha de pagamento.
+ * 
+ * @param date data de referência do tempo de serviço
+ * @param headcount quantidade de pessoas
+ * @param totalPayroll soma dos salários
+ * @param averageSalary salário médio
+ * @param tenureBuckets faixas de tempo de serviço, em ordem crescente
+ */
+public record PayrollResponse(
+        LocalDate date,
+        long headcount,
+        BigDecimal totalPayroll,
+        BigDecimal averageSalary,
+        List<TenureBucketResponse> tenureBuckets
+) {}
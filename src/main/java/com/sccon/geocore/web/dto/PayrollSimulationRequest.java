@@ -0,0 +1,16 @@
+package com.sccon.geocore.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO para simulação da folha de pagamento com outras políticas de salário.
+ * 
+ * @param policies políticas a simular (obrigatório, de 1 a 100)
+ */
+public record PayrollSimulationRequest(
+        @NotNull(message = "A lista de políticas é obrigatória")
+        List<@NotNull(message = "Política não pode ser nula") @Valid SalaryPolicyRequest> policies
+) {}
@@ -0,0 +1,19 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO que representa o resultado da simulação da folha de pagamento.
+ * 
+ * @param date data de referência do tempo de serviço
+ * @param headcount quantidade de pessoas
+ * @param current folha com a política vigente
+ * @param candidates folha com cada política simulada, na ordem pedida
+ */
+public record PayrollSimulationResponse(
+        LocalDate date,
+        long headcount,
+        PolicyResultResponse current,
+        List<PolicyResultResponse> candidates
+) {}
@@ -0,0 +1,63 @@
+package com.sccon.geocore.web.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de {@link PersonResponse} que podem ser selecionados por projeção ({@code fields=}).
+ */
+public enum PersonField {
+    ID("id"),
+    NAME("name"),
+    BIRTH_DATE("birthDate"),
+    ADMISSION_DATE("admissionDate");
+
+    private final String jsonName;
+
+    PersonField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /**
+     * Retorna o nome do campo no JSON e no cabeçalho do CSV.
+     * 
+     * @return nome do campo
+     */
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Converte uma lista de campos separados por vírgula, como {@code id,name}.
+     * 
+     * @param fields nomes dos campos no JSON, ou null/vazio para todos os campos
+     * @return conjunto de campos selecionados
+     * @throws IllegalArgumentException se algum campo for desconhecido
+     */
+    public static Set<PersonField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(PersonField.class);
+        }
+        Set<PersonField> selected = EnumSet.noneOf(PersonField.class);
+        for (String name : fields.split(",")) {
+            selected.add(fromJsonName(name.trim()));
+        }
+        return selected;
+    }
+
+    /**
+     * Busca o campo pelo nome usado no JSON.
+     * 
+     * @param jsonName nome do campo no JSON
+     * @return campo correspondente
+     * @throws IllegalArgumentException se o campo for desconhecido
+     */
+    private static PersonField fromJsonName(String jsonName) {
+        return Arrays.stream(values())
+                .filter(field -> field.jsonName.equals(jsonName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Campo inválido: " + jsonName +
+                        ". Valores aceitos: id, name, birthDate, admissionDate"));
+    }
+}
@@ -1,16 +1,20 @@
 package com.sccon.geocore.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDate;
 
 /**
  * DTO que representa uma resposta de pessoa.
  * Contém os dados de uma pessoa para retorno em APIs.
+ * Campos não selecionados por projeção ficam nulos e são omitidos do JSON.
  * 
  * @param id identificador único da pessoa
  * @param name nome da pessoa
  * @param birthDate data de nascimento
  * @param admissionDate data de admissão
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PersonResponse(
         Long id,
         String name,
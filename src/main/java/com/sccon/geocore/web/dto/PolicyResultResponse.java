@@ -0,0 +1,20 @@
+package com.sccon.geocore.web.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO que representa a folha de pagamento com uma política de salário.
+ * 
+ * @param policy política de salário
+ * @param totalPayroll soma dos salários completos
+ * @param averageSalary salário médio
+ * @param totalInMinimumWages soma dos salários em salários mínimos da política
+ * @param difference diferença da soma dos salários em relação à política vigente
+ */
+public record PolicyResultResponse(
+        SalaryPolicyResponse policy,
+        BigDecimal totalPayroll,
+        BigDecimal averageSalary,
+        BigDecimal totalInMinimumWages,
+        BigDecimal difference
+) {}
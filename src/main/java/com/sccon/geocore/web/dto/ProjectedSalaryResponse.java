@@ -0,0 +1,14 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO que representa o salário projetado em uma data.
+ * 
+ * @param date data da projeção
+ * @param salary salário projetado
+ */
+public record ProjectedSalaryResponse(
+        LocalDate date,
+        double salary
+) {}
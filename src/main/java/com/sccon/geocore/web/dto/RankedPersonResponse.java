@@ -0,0 +1,24 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO que representa uma pessoa de um ranking.
+ * 
+ * @param id ID da pessoa
+ * @param name nome da pessoa
+ * @param birthDate data de nascimento
+ * @param admissionDate data de admissão
+ * @param age idade em anos completos
+ * @param yearsOfService anos completos de serviço
+ * @param salary salário completo
+ */
+public record RankedPersonResponse(
+        long id,
+        String name,
+        LocalDate birthDate,
+        LocalDate admissionDate,
+        int age,
+        int yearsOfService,
+        double salary
+) {}
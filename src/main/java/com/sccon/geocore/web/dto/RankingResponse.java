@@ -0,0 +1,19 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO que representa um ranking de pessoas por uma métrica.
+ * 
+ * @param date data de referência das idades e salários
+ * @param metric métrica do ranking (salary, tenure, age)
+ * @param order ordem do ranking (top, bottom)
+ * @param people pessoas do ranking, do primeiro ao último colocado
+ */
+public record RankingResponse(
+        LocalDate date,
+        String metric,
+        String order,
+        List<RankedPersonResponse> people
+) {}
@@ -0,0 +1,20 @@
+package com.sccon.geocore.web.dto;
+
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO de uma política de salário a simular. Campos ausentes mantêm o valor da política vigente.
+ * 
+ * @param baseSalary salário base inicial, em reais (opcional, positivo)
+ * @param minimumWage salário mínimo de referência, em reais (opcional, positivo)
+ * @param annualIncreasePercentage percentual de aumento anual, como fração (opcional, 0.18 = 18%)
+ * @param annualFixedIncrease aumento fixo anual, em reais (opcional)
+ */
+public record SalaryPolicyRequest(
+        @Positive(message = "Salário base deve ser positivo") BigDecimal baseSalary,
+        @Positive(message = "Salário mínimo deve ser positivo") BigDecimal minimumWage,
+        @PositiveOrZero(message = "Percentual de aumento anual não pode ser negativo") BigDecimal annualIncreasePercentage,
+        @PositiveOrZero(message = "Aumento fixo anual não pode ser negativo") BigDecimal annualFixedIncrease
+) {}
@@ -0,0 +1,18 @@
+package com.sccon.geocore.web.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO que representa uma política de salário.
+ * 
+ * @param baseSalary salário base inicial, em reais
+ * @param minimumWage salário mínimo de referência, em reais
+ * @param annualIncreasePercentage percentual de aumento anual, como fração
+ * @param annualFixedIncrease aumento fixo anual, em reais
+ */
+public record SalaryPolicyResponse(
+        BigDecimal baseSalary,
+        BigDecimal minimumWage,
+        BigDecimal annualIncreasePercentage,
+        BigDecimal annualFixedIncrease
+) {}
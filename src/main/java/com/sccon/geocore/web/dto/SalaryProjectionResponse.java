@@ -0,0 +1,14 @@
+package com.sccon.geocore.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO que representa os salários projetados de uma pessoa.
+ * 
+ * @param id ID da pessoa
+ * @param projection salário em cada data da projeção, em ordem crescente
+ */
+public record SalaryProjectionResponse(
+        long id,
+        List<ProjectedSalaryResponse> projection
+) {}
@@ -0,0 +1,20 @@
+package com.sccon.geocore.web.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO que representa uma faixa de tempo de serviço no resumo da folha de pagamento.
+ * 
+ * @param minYears anos completos de serviço no início da faixa (inclusivo)
+ * @param maxYears anos completos de serviço no fim da faixa (inclusivo), ou null se não houver limite
+ * @param headcount quantidade de pessoas na faixa
+ * @param totalPayroll soma dos salários da faixa
+ * @param averageSalary salário médio da faixa
+ */
+public record TenureBucketResponse(
+        int minYears,
+        Integer maxYears,
+        long headcount,
+        BigDecimal totalPayroll,
+        BigDecimal averageSalary
+) {}
@@ -0,0 +1,19 @@
+package com.sccon.geocore.web.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO que representa as comemorações dos próximos dias.
+ * 
+ * @param date data de referência, primeiro dia da janela
+ * @param type tipo de comemoração (birthday, anniversary)
+ * @param days quantidade de dias da janela
+ * @param celebrations comemorações da janela, em ordem de data
+ */
+public record UpcomingCelebrationsResponse(
+        LocalDate date,
+        String type,
+        int days,
+        List<CelebrationResponse> celebrations
+) {}
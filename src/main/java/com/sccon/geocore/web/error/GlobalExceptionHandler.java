@@ -1,15 +1,19 @@
 package com.sccon.geocore.web.error;
 
+import com.sccon.geocore.service.VersionConflictException;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Handler global para tratamento de exceções na aplicação.
@@ -33,6 +37,21 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Trata atualizações condicionais cuja versão esperada não é mais a atual.
+     * 
+     * @param ex exceção de conflito de versão
+     * @return detalhes do problema com status 412
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ProblemDetail handleVersionConflict(VersionConflictException ex){
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+        problemDetail.setTitle("Versão desatualizada");
+        problemDetail.setProperty("errorCode", "VERSION_CONFLICT");
+        problemDetail.setProperty("message", "A pessoa foi alterada por outra requisição; consulte-a novamente antes de atualizar");
+        return problemDetail;
+    }
+
     /**
      * Trata exceções de parâmetros inválidos.
      * 
@@ -48,6 +67,38 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Trata parâmetros de requisição que não puderam ser convertidos, como datas fora do formato ISO.
+     * 
+     * @param ex exceção de conversão de parâmetro
+     * @return detalhes do problema com status 400
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ProblemDetail handleTypeMismatch(MethodArgumentTypeMismatchException ex){
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                "Valor inválido para o parâmetro " + ex.getName() + ": " + ex.getValue());
+        problemDetail.setTitle("Parâmetro inválido");
+        problemDetail.setProperty("errorCode", "INVALID_PARAMETER");
+        problemDetail.setProperty("message", "Os parâmetros fornecidos são inválidos");
+        return problemDetail;
+    }
+
+    /**
+     * Trata requisições sem um parâmetro obrigatório.
+     * 
+     * @param ex exceção de parâmetro ausente
+     * @return detalhes do problema com status 400
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ProblemDetail handleMissingParameter(MissingServletRequestParameterException ex){
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                "Parâmetro obrigatório ausente: " + ex.getParameterName());
+        problemDetail.setTitle("Parâmetro inválido");
+        problemDetail.setProperty("errorCode", "INVALID_PARAMETER");
+        problemDetail.setProperty("message", "Os parâmetros fornecidos são inválidos");
+        return problemDetail;
+    }
+
     /**
      * Trata exceções de validação de argumentos de método.
      * 
@@ -86,6 +137,23 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Trata tarefas recusadas porque o limite de trabalhos simultâneos foi atingido, como
+     * streams de alterações abertos.
+     * 
+     * @param ex exceção de execução recusada
+     * @return detalhes do problema com status 503
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ProblemDetail handleRejectedExecution(RejectedExecutionException ex){
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problemDetail.setTitle("Serviço sobrecarregado");
+        problemDetail.setDetail("O limite de requisições simultâneas foi atingido");
+        problemDetail.setProperty("errorCode", "SERVICE_UNAVAILABLE");
+        problemDetail.setProperty("message", "Tente novamente mais tarde");
+        return problemDetail;
+    }
+
     /**
      * Trata exceções não esperadas.
      * 
@@ -0,0 +1,35 @@
+package com.sccon.geocore.web.mapper;
+
+import com.sccon.geocore.service.CelebrationType;
+import com.sccon.geocore.service.UpcomingCelebrations;
+import com.sccon.geocore.web.dto.CelebrationResponse;
+import com.sccon.geocore.web.dto.UpcomingCelebrationsResponse;
+
+import java.util.List;
+
+/**
+ * Classe utilitária para converter o calendário de comemorações em DTOs de resposta.
+ */
+public final class CalendarMapper {
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private CalendarMapper() {
+    }
+
+    /**
+     * Converte as comemorações dos próximos dias em DTO de resposta.
+     *
+     * @param upcoming comemorações dos próximos dias
+     * @return DTO de resposta
+     */
+    public static UpcomingCelebrationsResponse toResponse(UpcomingCelebrations upcoming) {
+        List<CelebrationResponse> celebrations = upcoming.celebrations().stream()
+                .map(celebration -> new CelebrationResponse(celebration.person().id(), celebration.person().name(),
+                        celebration.date(), celebration.years()))
+                .toList();
+        String type = upcoming.type() == CelebrationType.BIRTHDAY ? "birthday" : "anniversary";
+        return new UpcomingCelebrationsResponse(upcoming.date(), type, upcoming.days(), celebrations);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sccon.geocore.web.mapper;
+
+import com.sccon.geocore.repository.cdc.ChangeBatch;
+import com.sccon.geocore.repository.cdc.ChangeEvent;
+import com.sccon.geocore.repository.cdc.StoreVersion;
+import com.sccon.geocore.web.dto.ChangeEventResponse;
+import com.sccon.geocore.web.dto.ChangesResponse;
+
+/**
+ * Classe utilitária para mapeamento entre alterações do fluxo de mudanças e DTOs.
+ */
+public final class ChangeMapper {
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private ChangeMapper() {
+    }
+
+    /**
+     * Converte uma alteração para ChangeEventResponse.
+     * 
+     * @param event alteração a ser convertida
+     * @return ChangeEventResponse correspondente
+     */
+    public static ChangeEventResponse toResponse(ChangeEvent event) {
+        return new ChangeEventResponse(
+                event.sequence(),
+                event.type().name(),
+                event.id(),
+                PersonMapper.toResponse(event.person())
+        );
+    }
+
+    /**
+     * Converte uma leitura do fluxo para ChangesResponse.
+     * 
+     * @param batch leitura a ser convertida
+     * @return ChangesResponse correspondente
+     */
+    public static ChangesResponse toResponse(ChangeBatch batch) {
+        long cursor = batch.events().isEmpty()
+                ? batch.lastSequence()
+                : batch.events().get(batch.events().size() - 1).sequence();
+        return new ChangesResponse(
+                batch.events().stream().map(ChangeMapper::toResponse).toList(),
+                toCursor(batch.epoch(), cursor),
+                batch.lastSequence(),
+                batch.resyncRequired()
+        );
+    }
+
+    /**
+     * Converte uma posição do fluxo para o texto do cursor, no formato {@code época-sequência}.
+     * 
+     * @param epoch época do fluxo de mudanças
+     * @param sequence sequência da alteração
+     * @return cursor correspondente
+     */
+    public static String toCursor(long epoch, long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Converte o texto de um cursor para a posição no fluxo. Aceita {@code época-sequência} ou
+     * apenas a sequência, sem época; sem época, só a sequência 0 (início do fluxo) é lida sem
+     * exigir recarga.
+     * 
+     * @param cursor texto do cursor
+     * @return posição correspondente
+     * @throws IllegalArgumentException se o cursor não estiver em um dos formatos aceitos
+     */
+    public static StoreVersion parseCursor(String cursor) {
+        int separator = cursor.indexOf('-');
+        try {
+            if (separator < 0) {
+                return new StoreVersion(0, parseSequence(cursor));
+            }
+            return new StoreVersion(Long.parseLong(cursor.substring(0, separator)),
+                    parseSequence(cursor.substring(separator + 1)));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Cursor do fluxo de mudanças inválido: " + cursor);
+        }
+    }
+
+    private static long parseSequence(String sequence) {
+        long parsed = Long.parseLong(sequence);
+        if (parsed < 0) {
+            throw new NumberFormatException(sequence);
+        }
+        return parsed;
+    }
+}
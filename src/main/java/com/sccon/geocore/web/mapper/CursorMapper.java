@@ -0,0 +1,79 @@
+package com.sccon.geocore.web.mapper;
+
+import com.sccon.geocore.repository.DateKey;
+import com.sccon.geocore.repository.NameKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Classe utilitária para converter cursores de paginação em tokens opacos e vice-versa.
+ * O token codifica em Base64 URL-safe a posição da última pessoa retornada: ID e nome nas
+ * listagens por nome, ou data e ID nas consultas por intervalo de datas.
+ */
+public final class CursorMapper {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private CursorMapper() {
+    }
+
+    /**
+     * Converte um cursor em token opaco.
+     * 
+     * @param cursor cursor de paginação
+     * @return token para o parâmetro {@code after}
+     */
+    public static String encode(NameKey cursor) {
+        String raw = Long.toString(cursor.id()) + SEPARATOR + cursor.name();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converte um token opaco em cursor.
+     * 
+     * @param token token recebido no parâmetro {@code after}
+     * @return cursor de paginação
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static NameKey decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new NameKey(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + token);
+        }
+    }
+
+    /**
+     * Converte um cursor de consulta por datas em token opaco.
+     * 
+     * @param cursor cursor de paginação
+     * @return token para o parâmetro {@code after}
+     */
+    public static String encode(DateKey cursor) {
+        String raw = Long.toString(cursor.epochDay()) + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converte um token opaco em cursor de consulta por datas.
+     * 
+     * @param token token recebido no parâmetro {@code after}
+     * @return cursor de paginação
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static DateKey decodeDateKey(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new DateKey(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + token);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.sccon.geocore.web.mapper;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.cdc.StoreVersion;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Classe utilitária para converter versões em ETags e interpretar os cabeçalhos condicionais
+ * {@code If-None-Match} e {@code If-Match}.
+ * A ETag de uma pessoa é a sua versão de conteúdo em hexadecimal; a de uma listagem é a versão
+ * do cadastro. Os parâmetros da consulta não entram na ETag: ela é comparada apenas com a
+ * mesma URL, que já os inclui.
+ */
+public final class ETagMapper {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private ETagMapper() {
+    }
+
+    /**
+     * Retorna a ETag de uma pessoa.
+     *
+     * @param person pessoa
+     * @return ETag entre aspas
+     */
+    public static String forPerson(Person person) {
+        return quote(Long.toHexString(person.contentVersion()));
+    }
+
+    /**
+     * Retorna a ETag de uma consulta sobre o cadastro.
+     *
+     * @param version versão do cadastro lida antes da consulta
+     * @return ETag entre aspas
+     */
+    public static String forStore(StoreVersion version) {
+        return quote(Long.toHexString(version.epoch()) + '-' + Long.toHexString(version.sequence()));
+    }
+
+    /**
+     * Verifica se um cabeçalho {@code If-None-Match} corresponde à ETag atual, usando a
+     * comparação fraca: o prefixo {@code W/} é ignorado.
+     *
+     * @param ifNoneMatch valor do cabeçalho (ou null)
+     * @param etag ETag atual
+     * @return true se o cliente já tem a representação atual
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = stripWeak(candidate.trim());
+            if (tag.equals(ANY) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converte um cabeçalho {@code If-Match} nas versões de pessoa aceitas. ETags fracas e
+     * valores que não são versões de pessoa nunca correspondem, como exige a comparação forte.
+     *
+     * @param ifMatch valor do cabeçalho (ou null)
+     * @return versões aceitas, ou null se o cabeçalho estiver ausente ou for {@code *}
+     */
+    public static Set<Long> parseVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.length() < 2 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+                continue;
+            }
+            try {
+                versions.add(Long.parseUnsignedLong(tag.substring(1, tag.length() - 1), 16));
+            } catch (NumberFormatException ex) {
+                // Não é uma versão de pessoa, então não corresponde a nenhuma
+            }
+        }
+        return versions;
+    }
+
+    private static String quote(String value) {
+        return '"' + value + '"';
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,181 @@
+package com.sccon.geocore.web.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.web.dto.PersonField;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Classe utilitária para escrever pessoas diretamente em um {@link OutputStream}, em NDJSON
+ * ou CSV, uma por vez. Nenhuma representação intermediária da lista é criada, então a memória
+ * usada não depende da quantidade de pessoas exportadas.
+ *
+ * <p>Os nomes e o formato dos campos são os de {@link com.sccon.geocore.web.dto.PersonResponse};
+ * no CSV, o cabeçalho traz os campos selecionados e valores com vírgula, aspas ou quebra de
+ * linha ficam entre aspas.
+ */
+public final class ExportMapper {
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final int WRITE_BUFFER_CHARS = 64 * 1024;
+    /** Cabe qualquer data ISO, inclusive anos com sinal e mais de 4 dígitos */
+    private static final int DATE_BUFFER_CHARS = 16;
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private ExportMapper() {
+    }
+
+    /**
+     * Escreve as pessoas em NDJSON: um objeto JSON por linha.
+     *
+     * @param people pessoas a serem escritas
+     * @param fields campos selecionados
+     * @param jsonFactory fábrica de geradores JSON
+     * @param out destino
+     * @return quantidade de pessoas escritas
+     * @throws IOException se a escrita falhar
+     */
+    public static long writeNdjson(Stream<Person> people, Set<PersonField> fields, JsonFactory jsonFactory,
+                                   OutputStream out) throws IOException {
+        long written = 0;
+        char[] date = new char[DATE_BUFFER_CHARS];
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(LINE_SEPARATOR));
+            Iterator<Person> iterator = people.iterator();
+            while (iterator.hasNext()) {
+                Person person = iterator.next();
+                generator.writeStartObject();
+                for (PersonField field : fields) {
+                    switch (field) {
+                        case ID -> generator.writeNumberField(field.jsonName(), person.id());
+                        case NAME -> generator.writeStringField(field.jsonName(), person.name());
+                        case BIRTH_DATE -> {
+                            generator.writeFieldName(field.jsonName());
+                            generator.writeString(date, 0, formatIsoDate(person.birthDate(), date));
+                        }
+                        case ADMISSION_DATE -> {
+                            generator.writeFieldName(field.jsonName());
+                            generator.writeString(date, 0, formatIsoDate(person.admissionDate(), date));
+                        }
+                    }
+                }
+                generator.writeEndObject();
+                written++;
+            }
+            if (written > 0) {
+                generator.writeRaw(LINE_SEPARATOR);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Escreve as pessoas em CSV, com cabeçalho.
+     *
+     * @param people pessoas a serem escritas
+     * @param fields campos selecionados
+     * @param out destino
+     * @return quantidade de pessoas escritas
+     * @throws IOException se a escrita falhar
+     */
+    public static long writeCsv(Stream<Person> people, Set<PersonField> fields, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+        StringBuilder line = new StringBuilder();
+        for (PersonField field : fields) {
+            line.append(line.isEmpty() ? "" : ",").append(field.jsonName());
+        }
+        writer.append(line).append(LINE_SEPARATOR);
+        char[] date = new char[DATE_BUFFER_CHARS];
+        char[] chars = new char[WRITE_BUFFER_CHARS];
+        long written = 0;
+        Iterator<Person> iterator = people.iterator();
+        while (iterator.hasNext()) {
+            Person person = iterator.next();
+            line.setLength(0);
+            for (PersonField field : fields) {
+                if (!line.isEmpty()) {
+                    line.append(',');
+                }
+                switch (field) {
+                    case ID -> line.append(person.id());
+                    case NAME -> appendCsvValue(line, person.name());
+                    case BIRTH_DATE -> line.append(date, 0, formatIsoDate(person.birthDate(), date));
+                    case ADMISSION_DATE -> line.append(date, 0, formatIsoDate(person.admissionDate(), date));
+                }
+            }
+            line.append(LINE_SEPARATOR);
+            // Copia para um buffer reaproveitado: Writer.append(CharSequence) criaria uma String por linha
+            if (line.length() > chars.length) {
+                chars = new char[line.length()];
+            }
+            line.getChars(0, line.length(), chars, 0);
+            writer.write(chars, 0, line.length());
+            written++;
+        }
+        writer.flush();
+        return written;
+    }
+
+    /**
+     * Escreve uma data no formato ISO ({@code yyyy-MM-dd}) sem criar uma String.
+     *
+     * @param date data
+     * @param buffer destino, com ao menos {@value #DATE_BUFFER_CHARS} posições
+     * @return quantidade de caracteres escritos
+     */
+    static int formatIsoDate(LocalDate date, char[] buffer) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            String iso = date.toString();
+            iso.getChars(0, iso.length(), buffer, 0);
+            return iso.length();
+        }
+        buffer[0] = (char) ('0' + year / 1000);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        buffer[5] = (char) ('0' + date.getMonthValue() / 10);
+        buffer[6] = (char) ('0' + date.getMonthValue() % 10);
+        buffer[7] = '-';
+        buffer[8] = (char) ('0' + date.getDayOfMonth() / 10);
+        buffer[9] = (char) ('0' + date.getDayOfMonth() % 10);
+        return 10;
+    }
+
+    private static void appendCsvValue(StringBuilder line, String value) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
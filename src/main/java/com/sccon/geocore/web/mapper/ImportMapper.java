@@ -0,0 +1,164 @@
+package com.sccon.geocore.web.mapper;
+
+import com.sccon.geocore.service.ImportError;
+import com.sccon.geocore.service.ImportReport;
+import com.sccon.geocore.web.dto.ImportErrorResponse;
+import com.sccon.geocore.web.dto.ImportPersonRequest;
+import com.sccon.geocore.web.dto.ImportResponse;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Classe utilitária para a importação em lote: converte linhas CSV em DTOs e o relatório
+ * da importação em resposta.
+ *
+ * <p>O CSV começa com um cabeçalho que nomeia as colunas {@code id} (opcional), {@code name},
+ * {@code birthDate} e {@code admissionDate}, em qualquer ordem. Valores podem estar entre aspas,
+ * com aspas internas duplicadas, mas não podem ocupar mais de uma linha. Datas usam o formato ISO.
+ */
+public final class ImportMapper {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private ImportMapper() {
+    }
+
+    /**
+     * Posição de cada coluna no CSV, ou -1 para colunas ausentes.
+     *
+     * @param id coluna do ID
+     * @param name coluna do nome
+     * @param birthDate coluna da data de nascimento
+     * @param admissionDate coluna da data de admissão
+     */
+    public record CsvColumns(int id, int name, int birthDate, int admissionDate) {
+    }
+
+    /**
+     * Interpreta o cabeçalho do CSV.
+     *
+     * @param header primeira linha do CSV
+     * @return posições das colunas
+     * @throws IllegalArgumentException se faltar alguma coluna obrigatória ou houver coluna desconhecida
+     */
+    public static CsvColumns parseCsvHeader(String header) {
+        int id = -1, name = -1, birthDate = -1, admissionDate = -1;
+        List<String> columns = splitCsv(header);
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "id" -> id = i;
+                case "name" -> name = i;
+                case "birthdate" -> birthDate = i;
+                case "admissiondate" -> admissionDate = i;
+                default -> throw new IllegalArgumentException("Coluna desconhecida no cabeçalho do CSV: "
+                        + columns.get(i) + ". Valores aceitos: id, name, birthDate, admissionDate");
+            }
+        }
+        if (name < 0 || birthDate < 0 || admissionDate < 0) {
+            throw new IllegalArgumentException(
+                    "O cabeçalho do CSV deve conter as colunas name, birthDate e admissionDate");
+        }
+        return new CsvColumns(id, name, birthDate, admissionDate);
+    }
+
+    /**
+     * Converte uma linha do CSV em DTO. Valores vazios são convertidos em null.
+     *
+     * @param line linha do CSV
+     * @param columns posições das colunas
+     * @return DTO da linha
+     * @throws IllegalArgumentException se a linha não tiver todas as colunas ou algum valor
+     *         não puder ser convertido
+     */
+    public static ImportPersonRequest parseCsvRow(String line, CsvColumns columns) {
+        List<String> values = splitCsv(line);
+        int required = Math.max(Math.max(columns.id(), columns.name()),
+                Math.max(columns.birthDate(), columns.admissionDate())) + 1;
+        if (values.size() < required) {
+            throw new IllegalArgumentException("Linha com " + values.size() + " colunas; esperadas " + required);
+        }
+        String id = columns.id() >= 0 ? emptyToNull(values.get(columns.id())) : null;
+        try {
+            return new ImportPersonRequest(
+                    id != null ? Long.valueOf(id.trim()) : null,
+                    emptyToNull(values.get(columns.name())),
+                    parseDate(values.get(columns.birthDate())),
+                    parseDate(values.get(columns.admissionDate())));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("ID inválido: " + id);
+        }
+    }
+
+    /**
+     * Converte o relatório da importação em ImportResponse.
+     *
+     * @param report relatório da importação
+     * @return ImportResponse correspondente
+     */
+    public static ImportResponse toResponse(ImportReport report) {
+        List<ImportErrorResponse> errors = new ArrayList<>(report.errors().size());
+        for (ImportError error : report.errors()) {
+            errors.add(new ImportErrorResponse(error.line(), error.message()));
+        }
+        return new ImportResponse(report.received(), report.imported(), report.failed(), errors,
+                report.errorsTruncated());
+    }
+
+    private static LocalDate parseDate(String value) {
+        String date = emptyToNull(value);
+        if (date == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Data inválida: " + date);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Separa os valores de uma linha CSV, removendo as aspas dos valores entre aspas.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>(4);
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != QUOTE) {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Aspas não fechadas na linha");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -1,8 +1,11 @@
 package com.sccon.geocore.web.mapper;
 
 import com.sccon.geocore.model.Person;
+import com.sccon.geocore.web.dto.PersonField;
 import com.sccon.geocore.web.dto.PersonResponse;
 
+import java.util.Set;
+
 /**
  * Classe utilitária para mapeamento entre entidades Person e DTOs.
  * Fornece métodos estáticos para conversão de objetos.
@@ -32,4 +35,24 @@ public final class PersonMapper {
                 person.admissionDate()
         );
     }
+
+    /**
+     * Converte uma entidade Person para PersonResponse contendo apenas os campos selecionados.
+     * Campos não selecionados ficam nulos e não são serializados.
+     * 
+     * @param person entidade Person a ser convertida
+     * @param fields campos a serem incluídos
+     * @return PersonResponse projetado, ou null se person for null
+     */
+    public static PersonResponse toResponse(Person person, Set<PersonField> fields) {
+        if (person == null) {
+            return null;
+        }
+        return new PersonResponse(
+                fields.contains(PersonField.ID) ? person.id() : null,
+                fields.contains(PersonField.NAME) ? person.name() : null,
+                fields.contains(PersonField.BIRTH_DATE) ? person.birthDate() : null,
+                fields.contains(PersonField.ADMISSION_DATE) ? person.admissionDate() : null
+        );
+    }
 }
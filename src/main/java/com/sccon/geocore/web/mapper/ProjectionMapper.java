@@ -0,0 +1,128 @@
+package com.sccon.geocore.web.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.sccon.geocore.service.SalaryProjection;
+import com.sccon.geocore.web.dto.ProjectedSalaryResponse;
+import com.sccon.geocore.web.dto.SalaryProjectionResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Classe utilitária para converter projeções de salário em DTOs de resposta e para escrevê-las
+ * diretamente em um {@link OutputStream}, em NDJSON ou CSV, uma pessoa por vez.
+ *
+ * <p>Na exportação, todas as pessoas têm as mesmas datas de projeção: no CSV, elas formam o
+ * cabeçalho; no NDJSON, cada linha traz apenas o ID e os salários, na ordem das datas.
+ */
+public final class ProjectionMapper {
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final int WRITE_BUFFER_CHARS = 64 * 1024;
+    private static final int DATE_BUFFER_CHARS = 16;
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private ProjectionMapper() {
+    }
+
+    /**
+     * Converte a projeção de uma pessoa em DTO de resposta.
+     *
+     * @param projection projeção
+     * @return DTO de resposta
+     */
+    public static SalaryProjectionResponse toResponse(SalaryProjection projection) {
+        List<ProjectedSalaryResponse> points = new ArrayList<>(projection.dates().size());
+        for (int i = 0; i < projection.dates().size(); i++) {
+            points.add(new ProjectedSalaryResponse(projection.dates().get(i), projection.salaries()[i]));
+        }
+        return new SalaryProjectionResponse(projection.id(), points);
+    }
+
+    /**
+     * Escreve as projeções em NDJSON: um objeto {@code {"id", "salaries"}} por linha.
+     *
+     * @param projections projeções a serem escritas
+     * @param jsonFactory fábrica de geradores JSON
+     * @param out destino
+     * @return quantidade de pessoas escritas
+     * @throws IOException se a escrita falhar
+     */
+    public static long writeNdjson(Stream<SalaryProjection> projections, JsonFactory jsonFactory,
+                                   OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(LINE_SEPARATOR));
+            Iterator<SalaryProjection> iterator = projections.iterator();
+            while (iterator.hasNext()) {
+                SalaryProjection projection = iterator.next();
+                generator.writeStartObject();
+                generator.writeNumberField("id", projection.id());
+                generator.writeFieldName("salaries");
+                generator.writeArray(projection.salaries(), 0, projection.salaries().length);
+                generator.writeEndObject();
+                written++;
+            }
+            if (written > 0) {
+                generator.writeRaw(LINE_SEPARATOR);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Escreve as projeções em CSV, com o cabeçalho {@code id} seguido das datas da projeção.
+     *
+     * @param projections projeções a serem escritas
+     * @param dates datas da projeção, comuns a todas as pessoas
+     * @param out destino
+     * @return quantidade de pessoas escritas
+     * @throws IOException se a escrita falhar
+     */
+    public static long writeCsv(Stream<SalaryProjection> projections, List<LocalDate> dates, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+        char[] date = new char[DATE_BUFFER_CHARS];
+        writer.write("id");
+        for (LocalDate projectionDate : dates) {
+            writer.write(',');
+            writer.write(date, 0, ExportMapper.formatIsoDate(projectionDate, date));
+        }
+        writer.write(LINE_SEPARATOR);
+        StringBuilder line = new StringBuilder();
+        char[] chars = new char[WRITE_BUFFER_CHARS];
+        long written = 0;
+        Iterator<SalaryProjection> iterator = projections.iterator();
+        while (iterator.hasNext()) {
+            SalaryProjection projection = iterator.next();
+            line.setLength(0);
+            line.append(projection.id());
+            for (double salary : projection.salaries()) {
+                line.append(',').append(salary);
+            }
+            line.append(LINE_SEPARATOR);
+            if (line.length() > chars.length) {
+                chars = new char[line.length()];
+            }
+            line.getChars(0, line.length(), chars, 0);
+            writer.write(chars, 0, line.length());
+            written++;
+        }
+        writer.flush();
+        return written;
+    }
+}
@@ -0,0 +1,119 @@
+package com.sccon.geocore.web.mapper;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.service.AgeDistribution;
+import com.sccon.geocore.service.PayrollSimulation;
+import com.sccon.geocore.service.PayrollSummary;
+import com.sccon.geocore.service.Ranking;
+import com.sccon.geocore.service.SalaryPolicy;
+import com.sccon.geocore.web.dto.AgeBandResponse;
+import com.sccon.geocore.web.dto.AgeDistributionResponse;
+import com.sccon.geocore.web.dto.PayrollResponse;
+import com.sccon.geocore.web.dto.PayrollSimulationResponse;
+import com.sccon.geocore.web.dto.PolicyResultResponse;
+import com.sccon.geocore.web.dto.RankedPersonResponse;
+import com.sccon.geocore.web.dto.RankingResponse;
+import com.sccon.geocore.web.dto.SalaryPolicyRequest;
+import com.sccon.geocore.web.dto.SalaryPolicyResponse;
+import com.sccon.geocore.web.dto.TenureBucketResponse;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Classe utilitária para converter as estatísticas do cadastro em DTOs de resposta.
+ */
+public final class StatsMapper {
+
+    /**
+     * Construtor privado para evitar instanciação da classe utilitária.
+     */
+    private StatsMapper() {
+    }
+
+    /**
+     * Converte o resumo da folha de pagamento em DTO de resposta.
+     *
+     * @param summary resumo da folha
+     * @return DTO de resposta
+     */
+    public static PayrollResponse toResponse(PayrollSummary summary) {
+        List<TenureBucketResponse> buckets = summary.buckets().stream()
+                .map(bucket -> new TenureBucketResponse(bucket.minYears(), bucket.maxYears(), bucket.headcount(),
+                        bucket.totalPayroll(), bucket.averageSalary()))
+                .toList();
+        return new PayrollResponse(summary.date(), summary.headcount(), summary.totalPayroll(),
+                summary.averageSalary(), buckets);
+    }
+
+    /**
+     * Converte a distribuição de idades em DTO de resposta.
+     *
+     * @param distribution distribuição de idades
+     * @return DTO de resposta
+     */
+    public static AgeDistributionResponse toResponse(AgeDistribution distribution) {
+        List<AgeBandResponse> bands = distribution.bands().stream()
+                .map(band -> new AgeBandResponse(band.minYears(), band.maxYears(), band.headcount()))
+                .toList();
+        return new AgeDistributionResponse(distribution.date(), distribution.headcount(), distribution.bandYears(),
+                bands);
+    }
+
+    /**
+     * Converte o ranking de pessoas em DTO de resposta.
+     *
+     * @param ranking ranking de pessoas
+     * @return DTO de resposta
+     */
+    public static RankingResponse toResponse(Ranking ranking) {
+        List<RankedPersonResponse> people = ranking.people().stream()
+                .map(ranked -> {
+                    Person person = ranked.person();
+                    return new RankedPersonResponse(person.id(), person.name(), person.birthDate(),
+                            person.admissionDate(), ranked.age(), ranked.yearsOfService(), ranked.salary());
+                })
+                .toList();
+        return new RankingResponse(ranking.date(), ranking.metric().name().toLowerCase(),
+                ranking.top() ? "top" : "bottom", people);
+    }
+
+    /**
+     * Converte a política pedida em política de salário, completando os campos ausentes com os
+     * da política vigente.
+     *
+     * @param request política pedida
+     * @return política de salário
+     */
+    public static SalaryPolicy toPolicy(SalaryPolicyRequest request) {
+        SalaryPolicy current = SalaryPolicy.CURRENT;
+        return new SalaryPolicy(orElse(request.baseSalary(), current.baseSalary()),
+                orElse(request.minimumWage(), current.minimumWage()),
+                orElse(request.annualIncreasePercentage(), current.annualIncreasePercentage()),
+                orElse(request.annualFixedIncrease(), current.annualFixedIncrease()));
+    }
+
+    /**
+     * Converte o resultado da simulação da folha em DTO de resposta.
+     *
+     * @param simulation resultado da simulação
+     * @return DTO de resposta
+     */
+    public static PayrollSimulationResponse toResponse(PayrollSimulation simulation) {
+        return new PayrollSimulationResponse(simulation.date(), simulation.headcount(),
+                toResponse(simulation.current()),
+                simulation.candidates().stream().map(StatsMapper::toResponse).toList());
+    }
+
+    private static PolicyResultResponse toResponse(PayrollSimulation.PolicyResult result) {
+        SalaryPolicy policy = result.policy();
+        return new PolicyResultResponse(
+                new SalaryPolicyResponse(policy.baseSalary(), policy.minimumWage(),
+                        policy.annualIncreasePercentage(), policy.annualFixedIncrease()),
+                result.totalPayroll(), result.averageSalary(), result.totalInMinimumWages(), result.difference());
+    }
+
+    private static BigDecimal orElse(BigDecimal value, BigDecimal fallback) {
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,71 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.service.AgeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a contagem de pessoas por faixa de idade ({@code GET /people/stats/age-distribution})
+ * calculando a idade de cada pessoa com {@link AgeService#diff}, que cria um {@code Period} e
+ * um {@code Age} por pessoa, comparada ao cálculo em colunas de {@link AgeService#diffAll}
+ * sobre um array de dias desde 1970-01-01. A extração das datas do repositório não é medida.
+ * Use {@code -prof gc} para comparar a alocação.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=AgeDistributionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AgeDistributionBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+    private static final int BAND_YEARS = 10;
+
+    @Param({"100000", "1000000"})
+    public int records;
+
+    private final AgeService ageService = new AgeService(Clock.systemUTC());
+    private LocalDate[] birthDates;
+    private int[] birthEpochDays;
+    private int[] years;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        long first = LocalDate.of(1930, 1, 1).toEpochDay();
+        int span = (int) (LocalDate.of(2007, 12, 31).toEpochDay() - first);
+        birthDates = new LocalDate[records];
+        birthEpochDays = new int[records];
+        for (int i = 0; i < records; i++) {
+            birthDates[i] = LocalDate.ofEpochDay(first + random.nextInt(span));
+            birthEpochDays[i] = (int) birthDates[i].toEpochDay();
+        }
+        years = new int[records];
+    }
+
+    @Benchmark
+    public long[] perPersonDiff() {
+        long[] counts = new long[16];
+        for (LocalDate birthDate : birthDates) {
+            counts[ageService.diff(birthDate, TODAY).years() / BAND_YEARS]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public long[] columnar() {
+        ageService.diffAll(birthEpochDays, records, TODAY, years, null, null);
+        long[] counts = new long[16];
+        for (int age : years) {
+            counts[age / BAND_YEARS]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,85 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.OffHeapPersonRepository;
+import com.sccon.geocore.repository.ShardedPersonRepository;
+import com.sccon.geocore.service.PersonService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a busca de um lote de IDs, parte deles inexistente, com {@code POST /people/batch-get}
+ * comparada a uma chamada de {@code GET /people/{id}} por ID, que lança e trata uma exceção a
+ * cada ID ausente. A requisição HTTP não é medida, então a diferença real é maior: cada chamada
+ * individual também paga uma ida e volta na rede.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=BatchGetBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=2g"})
+public class BatchGetBenchmark {
+
+    private static final int RECORDS = 1_000_000;
+    private static final int BATCH = 5_000;
+    /** Primeiro ID cadastrado, acima dos IDs dos dados de exemplo */
+    private static final long FIRST_ID = 1_000;
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1990, 1, 1);
+
+    @Param({"1", "4"})
+    public int shards;
+
+    /** Fração dos IDs do lote que não existem */
+    @Param({"0.0", "0.2"})
+    public double missingRatio;
+
+    private PersonService service;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ShardedPersonRepository repository = new ShardedPersonRepository(shards, OffHeapPersonRepository::new);
+        for (int i = 0; i < RECORDS; i++) {
+            repository.save(new Person(FIRST_ID + i, "Pessoa Número " + i,
+                    EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 12_000)));
+        }
+        service = new PersonService(repository, Clock.systemUTC());
+
+        Random random = new Random(42);
+        ids = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            long id = FIRST_ID + random.nextInt(RECORDS);
+            ids.add(random.nextDouble() < missingRatio ? -id : id);
+        }
+    }
+
+    @Benchmark
+    public int perIdGet() {
+        int found = 0;
+        for (long id : ids) {
+            try {
+                service.get(id);
+                found++;
+            } catch (NoSuchElementException ex) {
+                // GET /people/{id} responde 404 com um ProblemDetail
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int batchGet() {
+        return service.findAllById(ids).found().size();
+    }
+}
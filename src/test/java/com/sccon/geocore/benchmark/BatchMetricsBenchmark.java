@@ -0,0 +1,76 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateKey;
+import com.sccon.geocore.repository.DateRange;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.service.BatchMetrics;
+import com.sccon.geocore.service.PersonService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o cálculo de idade (em anos) e salário (completo) de todo o cadastro com
+ * {@code POST /people/batch-metrics}, página a página, comparado a uma chamada de {@code GET /people/{id}/age} e
+ * de {@code GET /people/{id}/salary} por pessoa. A requisição HTTP não é medida; o ganho do
+ * paralelismo depende dos núcleos disponíveis ao pool comum.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=BatchMetricsBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BatchMetricsBenchmark {
+
+    /** Primeiro ID cadastrado, acima dos IDs dos dados de exemplo */
+    private static final long FIRST_ID = 1_000;
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1990, 1, 1);
+
+    @Param({"100000", "1000000"})
+    public int records;
+
+    private PersonService service;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryPersonRepository repository = new InMemoryPersonRepository();
+        ids = new long[records];
+        for (int i = 0; i < records; i++) {
+            ids[i] = FIRST_ID + i;
+            repository.save(new Person(ids[i], "Pessoa Número " + i,
+                    EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 12_000)));
+        }
+        service = new PersonService(repository, Clock.systemUTC());
+    }
+
+    @Benchmark
+    public double perIdCalls() {
+        double total = 0;
+        for (long id : ids) {
+            total += service.calculateAge(id, "years") + service.calculateSalary(id, "full");
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int batchMetrics() {
+        int calculated = 0;
+        DateKey after = null;
+        do {
+            BatchMetrics page = service.computeMetrics(null, DateRange.UNBOUNDED, DateRange.UNBOUNDED,
+                    after, PersonService.MAX_METRICS_PAGE_SIZE, List.of("years"), List.of("full"));
+            calculated += page.ids().length;
+            after = page.next();
+        } while (after != null);
+        return calculated;
+    }
+}
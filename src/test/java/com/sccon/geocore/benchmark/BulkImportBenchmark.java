@@ -0,0 +1,123 @@
+package com.sccon.geocore.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sccon.geocore.controller.PeopleImportController;
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.wal.DurabilityMode;
+import com.sccon.geocore.repository.wal.WriteAheadLog;
+import com.sccon.geocore.service.PersonService;
+import com.sccon.geocore.web.dto.ImportResponse;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão, em linhas por segundo, da importação em lote ({@code POST /people/bulk}) em CSV
+ * e NDJSON, comparada à criação de uma pessoa por chamada, como em {@code POST /people/{id}}.
+ * A requisição HTTP não é medida: o corpo é lido de um array em memória. No modo durável, o
+ * lote paga um fsync por {@code saveAll}, enquanto a criação individual paga um por pessoa.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=BulkImportBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BulkImportBenchmark {
+
+    private static final int ROWS = 20_000;
+    /** Primeiro ID importado, acima dos IDs dos dados de exemplo */
+    private static final long FIRST_ID = 1_000;
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1990, 1, 1);
+
+    @Param({"false", "true"})
+    public boolean durable;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private byte[] csv;
+    private byte[] ndjson;
+    private Person[] people;
+
+    private Path directory;
+    private WriteAheadLog wal;
+    private PersonService service;
+    private PeopleImportController controller;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        StringBuilder csvBuilder = new StringBuilder("id,name,birthDate,admissionDate\n");
+        StringBuilder ndjsonBuilder = new StringBuilder();
+        people = new Person[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            Person person = new Person(FIRST_ID + i, "Pessoa Número " + i,
+                    EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 12_000));
+            people[i] = person;
+            csvBuilder.append(person.id()).append(',').append(person.name()).append(',')
+                    .append(person.birthDate()).append(',').append(person.admissionDate()).append('\n');
+            ndjsonBuilder.append("{\"id\":").append(person.id())
+                    .append(",\"name\":\"").append(person.name())
+                    .append("\",\"birthDate\":\"").append(person.birthDate())
+                    .append("\",\"admissionDate\":\"").append(person.admissionDate()).append("\"}\n");
+        }
+        csv = csvBuilder.toString().getBytes(StandardCharsets.UTF_8);
+        ndjson = ndjsonBuilder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() throws IOException {
+        InMemoryPersonRepository repository;
+        if (durable) {
+            directory = Files.createTempDirectory("bulk-import-benchmark");
+            wal = new WriteAheadLog(directory, DurabilityMode.BATCHED, Duration.ofMillis(10));
+            repository = new InMemoryPersonRepository(wal);
+        } else {
+            repository = new InMemoryPersonRepository();
+        }
+        service = new PersonService(repository, Clock.systemUTC());
+        controller = new PeopleImportController(service, validator, objectMapper);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws IOException {
+        if (durable) {
+            wal.close();
+            RecoveryBenchmark.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ImportResponse bulkCsv() throws IOException {
+        return controller.importCsv(new ByteArrayInputStream(csv)).getBody();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ImportResponse bulkNdjson() throws IOException {
+        return controller.importNdjson(new ByteArrayInputStream(ndjson)).getBody();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long perRowCreate() {
+        for (Person person : people) {
+            service.createWithId(person.id(), person.name(), person.birthDate(), person.admissionDate());
+        }
+        return service.storeVersion().sequence();
+    }
+}
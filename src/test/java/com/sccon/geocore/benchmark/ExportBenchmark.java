@@ -0,0 +1,74 @@
+package com.sccon.geocore.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.web.dto.PersonField;
+import com.sccon.geocore.web.mapper.ExportMapper;
+import com.sccon.geocore.web.mapper.PersonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compara a serialização de todas as pessoas como em {@code GET /people}, que monta a lista
+ * completa de respostas antes de escrever, com a exportação em streaming de
+ * {@code GET /people/export}, que escreve uma pessoa por vez. A saída é descartada.
+ * Executar com {@code -prof gc} mostra a alocação por exportação; o pico de memória da
+ * listagem cresce com o cadastro, o da exportação não.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark="ExportBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExportBenchmark {
+
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1990, 1, 1);
+    private static final Set<PersonField> ALL_FIELDS = EnumSet.allOf(PersonField.class);
+
+    @Param({"100000", "1000000"})
+    public int records;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private InMemoryPersonRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new InMemoryPersonRepository();
+        for (int i = 0; i < records; i++) {
+            repository.save(new Person((long) i + 1, "Pessoa Número " + i,
+                    EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 12_000)));
+        }
+    }
+
+    @Benchmark
+    public void listThenSerialize() throws IOException {
+        var responses = repository.streamOrderedByName().toList().stream().map(PersonMapper::toResponse).toList();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), responses);
+    }
+
+    @Benchmark
+    public long streamNdjson() throws IOException {
+        try (Stream<Person> people = repository.streamAll()) {
+            return ExportMapper.writeNdjson(people, ALL_FIELDS, objectMapper.getFactory(), OutputStream.nullOutputStream());
+        }
+    }
+
+    @Benchmark
+    public long streamCsv() throws IOException {
+        try (Stream<Person> people = repository.streamAll()) {
+            return ExportMapper.writeCsv(people, ALL_FIELDS, OutputStream.nullOutputStream());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.index.NameNormalizer;
+import com.sccon.geocore.repository.index.NameSearchIndex;
+import com.sccon.geocore.repository.index.Trigrams;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a latência da busca por nome no {@link NameSearchIndex} para cada modo de busca.
+ * O modo {@code SampleTime} do JMH reporta os percentis, incluindo o p99.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=NameSearchBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+public class NameSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Ana", "João", "José", "Maria", "Antônio", "Francisca",
+            "Carlos", "Paulo", "Lúcia", "Pedro", "Luís", "Márcia", "Raimundo", "Sebastião", "Adriana", "Fábio"};
+    private static final String[] SURNAMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+            "Alves", "Pereira", "Lima", "Gomes", "Conceição", "Araújo", "Ribeiro", "Carvalho", "Almeida", "Simões"};
+    private static final List<String> PREFIX_QUERIES = List.of("jo", "maria s", "conc", "sebastiao", "ara", "fab");
+    private static final List<String> CONTAINS_QUERIES = List.of("ceic", "raujo", "bastiao", "a silva", "imoes");
+    private static final List<String> FUZZY_QUERIES = List.of("Sebastiao Simoes 41", "Marcia Conceicao 7",
+            "Antonio Ferreria 123", "Raimundo Carvalo 99");
+
+    @Param({"1000000", "10000000"})
+    public int records;
+
+    @Param({"prefix", "contains", "fuzzy"})
+    public String mode;
+
+    private NameSearchIndex index;
+    private List<String> queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new NameSearchIndex();
+        Random random = new Random(42);
+        LocalDate birthDate = LocalDate.of(1990, 1, 1);
+        LocalDate admissionDate = LocalDate.of(2015, 1, 1);
+        for (int i = 0; i < records; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + SURNAMES[random.nextInt(SURNAMES.length)] + " "
+                    + SURNAMES[random.nextInt(SURNAMES.length)] + " " + random.nextInt(1000);
+            index.onChange(null, new Person((long) i + 1, name, birthDate, admissionDate));
+        }
+        queries = switch (mode) {
+            case "prefix" -> PREFIX_QUERIES;
+            case "contains" -> CONTAINS_QUERIES;
+            default -> FUZZY_QUERIES;
+        };
+        queries = queries.stream().map(NameNormalizer::normalize).toList();
+    }
+
+    @Benchmark
+    public List<Person> search() {
+        String query = queries.get(next++ % queries.size());
+        return switch (mode) {
+            case "prefix" -> index.prefix(query, 20);
+            case "contains" -> index.contains(query, 20);
+            default -> index.fuzzy(query, 20, Trigrams.DEFAULT_SIMILARITY_THRESHOLD);
+        };
+    }
+}
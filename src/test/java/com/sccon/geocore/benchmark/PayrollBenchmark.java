@@ -0,0 +1,136 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.service.BusinessDate;
+import com.sccon.geocore.service.PayrollAggregates;
+import com.sccon.geocore.service.PayrollSimulation;
+import com.sccon.geocore.service.PayrollSummary;
+import com.sccon.geocore.service.SalaryPolicy;
+import com.sccon.geocore.service.SalaryService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Mede a folha de pagamento lida dos agregados mantidos pelas escritas
+ * ({@code GET /people/stats/payroll}), comparada ao cálculo do salário de cada pessoa em uma
+ * varredura do cadastro, e o custo que os agregados acrescentam a cada escrita. A simulação
+ * com {@value #POLICIES} políticas de salário é comparada ao cálculo de cada política por pessoa.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=PayrollBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PayrollBenchmark {
+
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1950, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1980, 1, 1);
+    private static final int POLICIES = 16;
+
+    @Param({"100000", "1000000"})
+    public int records;
+
+    private final BusinessDate businessDate = new BusinessDate(Clock.systemUTC());
+    private final SalaryService salaryService = new SalaryService(businessDate);
+    private InMemoryPersonRepository repository;
+    private InMemoryPersonRepository observedRepository;
+    private PayrollAggregates aggregates;
+    private Person[] updates;
+    private List<SalaryPolicy> policies;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> people = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            people.add(new Person((long) i + 1, "Pessoa " + i,
+                    EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 15_000)));
+        }
+        repository = new InMemoryPersonRepository();
+        repository.saveAll(people);
+        observedRepository = new InMemoryPersonRepository();
+        aggregates = new PayrollAggregates(businessDate);
+        observedRepository.addChangeListener(aggregates);
+        observedRepository.saveAll(people);
+
+        policies = new ArrayList<>(POLICIES);
+        for (int i = 0; i < POLICIES; i++) {
+            policies.add(new SalaryPolicy(BigDecimal.valueOf(1500 + 10 * i), new BigDecimal("1302.00"),
+                    BigDecimal.valueOf(10 + i, 2), new BigDecimal("500.00")));
+        }
+
+        updates = new Person[4_096];
+        for (int i = 0; i < updates.length; i++) {
+            Person person = people.get((i * 7919) % records);
+            updates[i] = new Person(person.id(), person.name(), person.birthDate(),
+                    EPOCH_ADMISSION.plusDays((i * 31L) % 15_000));
+        }
+    }
+
+    /** Resumo dos agregados; após a primeira leitura, reaproveitado até a próxima escrita */
+    @Benchmark
+    public PayrollSummary aggregateRead() {
+        return aggregates.summary();
+    }
+
+    /** Total calculado do zero, um salário por pessoa */
+    @Benchmark
+    public BigDecimal fullScan() {
+        long cents = 0;
+        try (Stream<Person> people = repository.streamAll()) {
+            for (Person person : (Iterable<Person>) people::iterator) {
+                cents += Math.round(salaryService.calculateSalary(person.admissionDate(), "full") * 100);
+            }
+        }
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /** Simulação agrupada por anos de serviço */
+    @Benchmark
+    public PayrollSimulation simulate() {
+        return aggregates.simulate(policies);
+    }
+
+    /** A mesma simulação, calculando o salário de cada pessoa em cada política */
+    @Benchmark
+    public BigDecimal[] simulatePerPerson() {
+        LocalDate today = businessDate.today();
+        BigDecimal[] totals = new BigDecimal[POLICIES];
+        for (int i = 0; i < POLICIES; i++) {
+            double[] salaries = SalaryService.fullSalaryTable(policies.get(i), 100);
+            long cents = 0;
+            try (Stream<Person> people = repository.streamAll()) {
+                for (Person person : (Iterable<Person>) people::iterator) {
+                    int years = Period.between(person.admissionDate(), today).getYears();
+                    cents += Math.round(salaries[years] * 100);
+                }
+            }
+            totals[i] = BigDecimal.valueOf(cents, 2);
+        }
+        return totals;
+    }
+
+    /** Atualização da data de admissão com os agregados observando o repositório */
+    @Benchmark
+    public Person updateWithAggregates() {
+        return observedRepository.save(updates[next++ & (updates.length - 1)]);
+    }
+
+    /** A mesma atualização sem observadores */
+    @Benchmark
+    public Person updateWithoutAggregates() {
+        return repository.save(updates[next++ & (updates.length - 1)]);
+    }
+}
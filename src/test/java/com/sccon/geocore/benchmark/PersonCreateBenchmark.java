@@ -0,0 +1,59 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.id.IdAllocator;
+import com.sccon.geocore.repository.id.SequentialIdAllocator;
+import com.sccon.geocore.repository.id.SnowflakeIdAllocator;
+import com.sccon.geocore.service.PersonService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão de {@link PersonService#create} em função do tamanho do repositório.
+ * Com a alocação de IDs desacoplada do repositório, a vazão deve permanecer estável
+ * de 1 mil a 10 milhões de registros.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=PersonCreateBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersonCreateBenchmark {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2015, 6, 1);
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int records;
+
+    @Param({"sequential", "snowflake"})
+    public String allocator;
+
+    private PersonService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryPersonRepository repository = new InMemoryPersonRepository();
+        IdAllocator idAllocator = allocator.equals("snowflake")
+                ? new SnowflakeIdAllocator(1, Clock.systemUTC())
+                : new SequentialIdAllocator();
+        service = new PersonService(repository, idAllocator, Clock.systemUTC());
+        for (int i = 0; i < records; i++) {
+            long id = idAllocator.nextId();
+            repository.save(new Person(id, "Pessoa " + id, BIRTH_DATE, ADMISSION_DATE));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Person create() {
+        return service.create("Nova Pessoa", BIRTH_DATE, ADMISSION_DATE);
+    }
+}
@@ -0,0 +1,86 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.wal.DurabilityMode;
+import com.sccon.geocore.repository.wal.WriteAheadLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Mede o tempo de inicialização do repositório durável: recuperação a partir de um snapshot
+ * ({@code snapshot}) contra a reaplicação de todo o log de escrita ({@code wal}).
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=RecoveryBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RecoveryBenchmark {
+
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1990, 1, 1);
+
+    @Param({"1000000", "10000000"})
+    public int records;
+
+    @Param({"snapshot", "wal"})
+    public String source;
+
+    private Path directory;
+    private InMemoryPersonRepository recovered;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("recovery-benchmark");
+        try (WriteAheadLog wal = new WriteAheadLog(directory, DurabilityMode.ASYNC, Duration.ofMillis(10))) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            for (int i = 0; i < records; i++) {
+                repository.save(new Person((long) i + 1, "Pessoa Número " + i,
+                        EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 12_000)));
+            }
+            if (source.equals("snapshot")) {
+                repository.checkpoint();
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void release() {
+        recovered = null;
+        System.gc();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        recovered = null;
+        deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public long recover() throws IOException {
+        try (WriteAheadLog wal = new WriteAheadLog(directory, DurabilityMode.ASYNC, Duration.ofMillis(10))) {
+            recovered = new InMemoryPersonRepository(wal);
+            return recovered.count();
+        }
+    }
+
+    static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
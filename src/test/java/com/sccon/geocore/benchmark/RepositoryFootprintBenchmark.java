@@ -0,0 +1,87 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.MvccPersonRepository;
+import com.sccon.geocore.repository.OffHeapPersonRepository;
+import com.sccon.geocore.repository.PersonRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o consumo de memória de {@link InMemoryPersonRepository}, {@link OffHeapPersonRepository}
+ * e {@link MvccPersonRepository}.
+ * Cada iteração carrega o repositório do zero; ao final, o heap retido (após GC) e a memória direta
+ * são impressos por registro junto ao tempo de carga medido pelo JMH.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=RepositoryFootprintBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+public class RepositoryFootprintBenchmark {
+
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1990, 1, 1);
+
+    @Param({"1000000", "10000000"})
+    public int records;
+
+    @Param({"in-memory", "off-heap", "mvcc"})
+    public String type;
+
+    private PersonRepository repository;
+    private long baselineHeap;
+    private long baselineDirect;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        repository = null;
+        baselineHeap = usedHeapAfterGc();
+        baselineDirect = usedDirect();
+    }
+
+    @Benchmark
+    public PersonRepository load() {
+        repository = switch (type) {
+            case "off-heap" -> new OffHeapPersonRepository();
+            case "mvcc" -> new MvccPersonRepository();
+            default -> new InMemoryPersonRepository();
+        };
+        for (int i = 0; i < records; i++) {
+            repository.save(new Person((long) i + 1, "Pessoa Número " + i,
+                    EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 12_000)));
+        }
+        return repository;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long heap = usedHeapAfterGc() - baselineHeap;
+        long direct = usedDirect() - baselineDirect;
+        System.out.printf("%n[footprint] %s, %,d registros: heap %.1f B/registro, fora do heap %.1f B/registro%n",
+                type, records, (double) heap / records, (double) direct / records);
+        repository = null;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long usedDirect() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+}
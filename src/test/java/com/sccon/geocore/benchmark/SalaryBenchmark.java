@@ -0,0 +1,111 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.service.SalaryService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Mede o cálculo de salário para admissões espalhadas por várias décadas: a tabela
+ * pré-calculada do {@link SalaryService}, o cálculo ano a ano com {@code Period.between} que
+ * ela substituiu, e o modo decimal exato. Também compara a projeção de {@value #PROJECTION_YEARS}
+ * anos, que aplica um aumento por ano sobre o valor anterior, a um cálculo completo por data.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=SalaryBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SalaryBenchmark {
+
+    private static final int DATES = 4_096;
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+    private static final int PROJECTION_YEARS = 30;
+
+    @Param({"full", "min"})
+    public String output;
+
+    private final SalaryService salaryService = new SalaryService();
+    private LocalDate[] admissionDates;
+    private List<LocalDate> projectionDates;
+    private double[] projected;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        admissionDates = new LocalDate[DATES];
+        for (int i = 0; i < DATES; i++) {
+            admissionDates[i] = TODAY.minusDays(random.nextInt(45 * 365));
+        }
+        projectionDates = IntStream.rangeClosed(1, PROJECTION_YEARS).mapToObj(TODAY::plusYears).toList();
+        projected = new double[PROJECTION_YEARS];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void precomputedTable(Blackhole blackhole) {
+        for (LocalDate admissionDate : admissionDates) {
+            blackhole.consume(salaryService.calculateSalary(admissionDate, output, TODAY));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void yearByYear(Blackhole blackhole) {
+        for (LocalDate admissionDate : admissionDates) {
+            blackhole.consume(yearByYearSalary(admissionDate, output));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void exactDecimal(Blackhole blackhole) {
+        for (LocalDate admissionDate : admissionDates) {
+            blackhole.consume(salaryService.calculateExactSalary(admissionDate, output, TODAY));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void incrementalProjection(Blackhole blackhole) {
+        for (LocalDate admissionDate : admissionDates) {
+            salaryService.projectSalary(admissionDate, output, TODAY, projectionDates, projected);
+            blackhole.consume(projected);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void projectionPerDate(Blackhole blackhole) {
+        for (LocalDate admissionDate : admissionDates) {
+            for (LocalDate date : projectionDates) {
+                blackhole.consume(salaryService.calculateSalary(admissionDate, output, date));
+            }
+        }
+    }
+
+    /**
+     * Cálculo anterior à tabela: um {@code Period} por chamada e um aumento por ano trabalhado.
+     */
+    private static double yearByYearSalary(LocalDate admissionDate, String outputType) {
+        double salary = 1558.00;
+        int years = Period.between(admissionDate, TODAY).getYears();
+        for (int year = 0; year < years; year++) {
+            salary = salary * (1 + 0.18) + 500.00;
+        }
+        return switch (outputType.toLowerCase()) {
+            case "full" -> Math.ceil(salary * 100) / 100;
+            case "min" -> Math.ceil(salary / 1302.00 * 100) / 100;
+            default -> throw new IllegalArgumentException(outputType);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.NameMatch;
+import com.sccon.geocore.repository.OffHeapPersonRepository;
+import com.sccon.geocore.repository.PersonRepository;
+import com.sccon.geocore.repository.ShardedPersonRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede varreduras no {@link ShardedPersonRepository} com shards {@code off-heap}, variando a
+ * quantidade de shards. Com um shard, as operações vão direto ao repositório, servindo de base;
+ * o ganho das demais configurações depende dos núcleos disponíveis ao pool comum.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=ShardedScanBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-XX:MaxDirectMemorySize=4g"})
+public class ShardedScanBenchmark {
+
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1990, 1, 1);
+
+    @Param({"1000000", "10000000"})
+    public int records;
+
+    @Param({"1", "4", "16"})
+    public int shards;
+
+    private PersonRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new ShardedPersonRepository(shards, OffHeapPersonRepository::new);
+        for (int i = 0; i < records; i++) {
+            repository.save(new Person((long) i + 1, "Pessoa Número " + i,
+                    EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 12_000)));
+        }
+        // Ordena as linhas de cada shard antes da medição
+        repository.streamOrderedByName().findFirst();
+    }
+
+    @Benchmark
+    public int findAll() {
+        return repository.findAll().size();
+    }
+
+    @Benchmark
+    public long firstPage() {
+        return repository.streamOrderedByName().limit(100).count();
+    }
+
+    @Benchmark
+    public int searchContains() {
+        return repository.searchByName("mero 12345", NameMatch.CONTAINS, 20).size();
+    }
+}
@@ -0,0 +1,61 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.MvccPersonRepository;
+import com.sccon.geocore.repository.PersonRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara uma varredura completa que copia {@link PersonRepository#findAll()} com a iteração
+ * de um snapshot do {@link MvccPersonRepository}, que não copia as pessoas.
+ * Executar com {@code -prof gc} mostra a alocação por varredura.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark="SnapshotScanBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SnapshotScanBenchmark {
+
+    private static final LocalDate EPOCH_BIRTH = LocalDate.of(1960, 1, 1);
+    private static final LocalDate EPOCH_ADMISSION = LocalDate.of(1990, 1, 1);
+
+    @Param({"1000000"})
+    public int records;
+
+    private InMemoryPersonRepository inMemory;
+    private MvccPersonRepository mvcc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inMemory = new InMemoryPersonRepository();
+        mvcc = new MvccPersonRepository();
+        for (int i = 0; i < records; i++) {
+            Person person = new Person((long) i + 1, "Pessoa Número " + i,
+                    EPOCH_BIRTH.plusDays(i % 10_000), EPOCH_ADMISSION.plusDays(i % 12_000));
+            inMemory.save(person);
+            mvcc.save(person);
+        }
+    }
+
+    @Benchmark
+    public long copyFindAll() {
+        long sum = 0;
+        for (Person person : inMemory.findAll()) {
+            sum += person.birthDate().toEpochDay();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateSnapshot() {
+        return mvcc.snapshot().stream().mapToLong(person -> person.birthDate().toEpochDay()).sum();
+    }
+}
@@ -0,0 +1,83 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateField;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.MvccPersonRepository;
+import com.sccon.geocore.repository.collection.BoundedHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Mede o ranking das 100 pessoas admitidas há mais tempo ({@code GET /people/stats/top}): lido
+ * da ponta do índice de datas do repositório {@code in-memory}, da ponta da ordem persistente
+ * do snapshot do {@code mvcc}, com o heap limitado da implementação padrão sobre esse snapshot,
+ * e ordenando uma cópia de todo o cadastro, como fazia o cliente.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=TopKBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TopKBenchmark {
+
+    private static final int K = 100;
+
+    @Param({"100000", "1000000"})
+    public int records;
+
+    private InMemoryPersonRepository indexed;
+    private MvccPersonRepository snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        indexed = new InMemoryPersonRepository();
+        snapshot = new MvccPersonRepository();
+        LocalDate firstBirth = LocalDate.of(1940, 1, 1);
+        LocalDate firstAdmission = LocalDate.of(1980, 1, 1);
+        for (long id = 1; id <= records; id++) {
+            Person person = new Person(id, "Pessoa " + id, firstBirth.plusDays(random.nextInt(14_000)),
+                    firstAdmission.plusDays(random.nextInt(16_000)));
+            indexed.save(person);
+            snapshot.save(person);
+        }
+    }
+
+    @Benchmark
+    public List<Person> dateIndex() {
+        return indexed.findFirstByDate(DateField.ADMISSION_DATE, false, K);
+    }
+
+    @Benchmark
+    public List<Person> persistentOrder() {
+        return snapshot.findFirstByDate(DateField.ADMISSION_DATE, false, K);
+    }
+
+    @Benchmark
+    public List<Person> boundedHeap() {
+        BoundedHeap<Person> first = new BoundedHeap<>(K,
+                Comparator.comparing(Person::admissionDate).thenComparingLong(Person::id));
+        try (Stream<Person> people = snapshot.streamAll()) {
+            people.forEach(first::offer);
+        }
+        return first.toSortedList();
+    }
+
+    @Benchmark
+    public List<Person> sortAll() {
+        return indexed.findAll().stream()
+                .sorted(Comparator.comparing(Person::admissionDate).thenComparingLong(Person::id))
+                .limit(K)
+                .toList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateField;
+import com.sccon.geocore.repository.index.AnniversaryWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a lista de aniversários dos próximos 7 dias ({@code GET /people/upcoming}) lida da
+ * {@link AnniversaryWheel}, uma posição por dia, comparada à varredura de todo o cadastro
+ * calculando, para cada pessoa e dia, se os anos completos aumentam naquele dia.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=UpcomingCelebrationsBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UpcomingCelebrationsBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 2, 25);
+    private static final int DAYS = 7;
+
+    @Param({"100000", "1000000"})
+    public int records;
+
+    private Person[] people;
+    private AnniversaryWheel wheel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate firstBirth = LocalDate.of(1940, 1, 1);
+        people = new Person[records];
+        wheel = new AnniversaryWheel(DateField.BIRTH_DATE);
+        for (int i = 0; i < records; i++) {
+            LocalDate birthDate = firstBirth.plusDays(random.nextInt(24_000));
+            people[i] = new Person(i + 1L, "Pessoa " + i, birthDate, birthDate.plusYears(20));
+            wheel.onChange(null, people[i]);
+        }
+    }
+
+    @Benchmark
+    public List<Person> wheel() {
+        List<Person> upcoming = new ArrayList<>();
+        for (int offset = 0; offset < DAYS; offset++) {
+            LocalDate date = TODAY.plusDays(offset);
+            wheel.on(date).forEach(person -> {
+                if (date.getYear() > person.birthDate().getYear()) {
+                    upcoming.add(person);
+                }
+            });
+        }
+        return upcoming;
+    }
+
+    @Benchmark
+    public List<Person> fullScan() {
+        List<Person> upcoming = new ArrayList<>();
+        for (Person person : people) {
+            int previousYears = Period.between(person.birthDate(), TODAY.minusDays(1)).getYears();
+            for (int offset = 0; offset < DAYS; offset++) {
+                int years = Period.between(person.birthDate(), TODAY.plusDays(offset)).getYears();
+                if (years > previousYears && years > 0) {
+                    upcoming.add(person);
+                    break;
+                }
+                previousYears = years;
+            }
+        }
+        return upcoming;
+    }
+}
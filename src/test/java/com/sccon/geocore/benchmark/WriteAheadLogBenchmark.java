@@ -0,0 +1,61 @@
+package com.sccon.geocore.benchmark;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.wal.DurabilityMode;
+import com.sccon.geocore.repository.wal.WriteAheadLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mede a vazão de escritas no repositório durável para cada {@link DurabilityMode},
+ * com várias threads concorrentes para evidenciar o efeito do group commit.
+ *
+ * <p>Uso: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=WriteAheadLogBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class WriteAheadLogBenchmark {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2015, 6, 1);
+
+    @Param({"PER_WRITE", "BATCHED", "ASYNC"})
+    public DurabilityMode mode;
+
+    private final AtomicLong ids = new AtomicLong();
+    private Path directory;
+    private WriteAheadLog wal;
+    private InMemoryPersonRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wal-benchmark");
+        wal = new WriteAheadLog(directory, mode, Duration.ofMillis(10));
+        repository = new InMemoryPersonRepository(wal);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        wal.close();
+        RecoveryBenchmark.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Person save() {
+        long id = ids.incrementAndGet();
+        return repository.save(new Person(id, "Pessoa " + id, BIRTH_DATE, ADMISSION_DATE));
+    }
+}
@@ -0,0 +1,58 @@
+package com.sccon.geocore.controller;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.service.CelebrationCalendar;
+import com.sccon.geocore.service.CelebrationType;
+import com.sccon.geocore.service.UpcomingCelebrations;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para o PeopleCalendarController.
+ */
+@WebMvcTest(PeopleCalendarController.class)
+class PeopleCalendarControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CelebrationCalendar celebrationCalendar;
+
+    @Test
+    void testGetUpcoming_ShouldReturnCelebrations() throws Exception {
+        Person person = new Person(1L, "José da Silva", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 2, 29));
+        when(celebrationCalendar.upcoming("anniversary", 3)).thenReturn(new UpcomingCelebrations(
+                LocalDate.of(2023, 2, 27), CelebrationType.WORK_ANNIVERSARY, 3,
+                List.of(new UpcomingCelebrations.Celebration(person, LocalDate.of(2023, 3, 1), 3))));
+
+        mockMvc.perform(get("/people/upcoming").param("days", "3").param("type", "anniversary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2023-02-27"))
+                .andExpect(jsonPath("$.type").value("anniversary"))
+                .andExpect(jsonPath("$.days").value(3))
+                .andExpect(jsonPath("$.celebrations[0].id").value(1))
+                .andExpect(jsonPath("$.celebrations[0].name").value("José da Silva"))
+                .andExpect(jsonPath("$.celebrations[0].date").value("2023-03-01"))
+                .andExpect(jsonPath("$.celebrations[0].years").value(3));
+    }
+
+    @Test
+    void testGetUpcoming_InvalidDays_ShouldReturnBadRequest() throws Exception {
+        when(celebrationCalendar.upcoming("birthday", 0))
+                .thenThrow(new IllegalArgumentException("A quantidade de dias deve estar entre 1 e 366"));
+
+        mockMvc.perform(get("/people/upcoming").param("days", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,146 @@
+package com.sccon.geocore.controller;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.cdc.ChangeBatch;
+import com.sccon.geocore.repository.cdc.ChangeEvent;
+import com.sccon.geocore.repository.cdc.ChangeType;
+import com.sccon.geocore.repository.cdc.StoreVersion;
+import com.sccon.geocore.service.ChangeFeedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para o PeopleChangesController.
+ */
+@WebMvcTest(PeopleChangesController.class)
+@TestPropertySource(properties = "geocore.cdc.max-streams=1")
+class PeopleChangesControllerTest {
+
+    private static final long EPOCH = 1_700_000_000_000L;
+    private static final Person ANA = new Person(1L, "Ana", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ChangeFeedService changeFeedService;
+
+    @Test
+    void testGetChanges_ShouldReturnEventsAfterSince() throws Exception {
+        when(changeFeedService.changesSince(eq(new StoreVersion(EPOCH, 4)), eq(1000))).thenReturn(new ChangeBatch(List.of(
+                new ChangeEvent(5, ChangeType.UPDATED, 1L, ANA),
+                new ChangeEvent(6, ChangeType.DELETED, 2L, null)), EPOCH, 8, false));
+
+        mockMvc.perform(get("/people/changes").param("since", EPOCH + "-4").param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor").value(EPOCH + "-6"))
+                .andExpect(jsonPath("$.lastSequence").value(8))
+                .andExpect(jsonPath("$.resyncRequired").value(false))
+                .andExpect(jsonPath("$.events[0].sequence").value(5))
+                .andExpect(jsonPath("$.events[0].type").value("UPDATED"))
+                .andExpect(jsonPath("$.events[0].person.name").value("Ana"))
+                .andExpect(jsonPath("$.events[1].type").value("DELETED"))
+                .andExpect(jsonPath("$.events[1].person").doesNotExist());
+    }
+
+    @Test
+    void testGetChanges_BehindBuffer_ShouldReturnGone() throws Exception {
+        when(changeFeedService.changesSince(any(), anyInt())).thenReturn(new ChangeBatch(List.of(), EPOCH, 900, true));
+
+        mockMvc.perform(get("/people/changes").param("since", "1"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.resyncRequired").value(true))
+                .andExpect(jsonPath("$.cursor").value(EPOCH + "-900"))
+                .andExpect(jsonPath("$.lastSequence").value(900));
+    }
+
+    @Test
+    void testGetChanges_CursorFromOtherEpoch_ShouldPassEpochToFeed() throws Exception {
+        when(changeFeedService.changesSince(eq(new StoreVersion(EPOCH - 1, 4)), anyInt()))
+                .thenReturn(new ChangeBatch(List.of(), EPOCH, 2, true));
+
+        mockMvc.perform(get("/people/changes").param("since", (EPOCH - 1) + "-4"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.cursor").value(EPOCH + "-2"));
+    }
+
+    @Test
+    void testGetChanges_InvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/people/changes").param("since", "-4"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/people/changes").param("since", EPOCH + "-abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetChanges_InvalidLimit_ShouldReturnBadRequest() throws Exception {
+        when(changeFeedService.changesSince(any(), eq(0)))
+                .thenThrow(new IllegalArgumentException("Limite de alterações deve estar entre 1 e 1000"));
+
+        mockMvc.perform(get("/people/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStreamChanges_ShouldSendEventsFromLastEventId() throws Exception {
+        when(changeFeedService.changesSince(eq(new StoreVersion(EPOCH, 4)), anyInt())).thenReturn(new ChangeBatch(List.of(
+                new ChangeEvent(5, ChangeType.CREATED, 1L, ANA)), EPOCH, 5, false));
+        when(changeFeedService.changesSince(eq(new StoreVersion(EPOCH, 5)), anyInt()))
+                .thenReturn(new ChangeBatch(List.of(), EPOCH, 9000, true));
+
+        MvcResult result = mockMvc.perform(get("/people/changes/stream").header("Last-Event-ID", EPOCH + "-4"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitContent(result, "event:resync");
+        assertTrue(body.contains("id:" + EPOCH + "-5\nevent:created\n"), body);
+        assertTrue(body.contains("\"name\":\"Ana\""), body);
+    }
+
+    @Test
+    void testStreamChanges_LimitReached_ShouldReturnServiceUnavailable() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(changeFeedService.changesSince(eq(new StoreVersion(EPOCH, 100)), anyInt()))
+                .thenReturn(new ChangeBatch(List.of(), EPOCH, 100, false))
+                .thenReturn(new ChangeBatch(List.of(), EPOCH, 9000, true));
+        when(changeFeedService.awaitChanges(eq(100L), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+
+        MvcResult open = mockMvc.perform(get("/people/changes/stream").param("since", EPOCH + "-100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(get("/people/changes/stream").param("since", EPOCH + "-100"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorCode").value("SERVICE_UNAVAILABLE"));
+
+        release.countDown();
+        assertTrue(awaitContent(open, "event:resync").contains("event:resync"));
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+}
@@ -1,11 +1,23 @@
 package com.sccon.geocore.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateField;
+import com.sccon.geocore.repository.DateKey;
+import com.sccon.geocore.repository.DateRange;
+import com.sccon.geocore.repository.NameKey;
 import com.sccon.geocore.repository.InMemoryPersonRepository;
 import com.sccon.geocore.repository.PersonRepository;
+import com.sccon.geocore.repository.cdc.StoreVersion;
+import com.sccon.geocore.service.BatchLookup;
+import com.sccon.geocore.service.BatchMetrics;
 import com.sccon.geocore.service.PersonService;
+import com.sccon.geocore.service.SalaryProjection;
+import com.sccon.geocore.service.VersionConflictException;
 import com.sccon.geocore.web.dto.CreatePersonRequest;
 import com.sccon.geocore.web.dto.UpdatePersonRequest;
+import com.sccon.geocore.web.mapper.CursorMapper;
+import com.sccon.geocore.web.mapper.ETagMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,13 +26,21 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,12 +65,20 @@ class PeopleControllerTest {
 
     private Clock fixedClock;
 
+    private final Person person = new Person(1L, "João Silva", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+
     @BeforeEach
     void setUp() {
         fixedClock = Clock.fixed(
             LocalDate.of(2023, 2, 1).atStartOfDay(ZoneId.systemDefault()).toInstant(),
             ZoneId.systemDefault()
         );
+        when(personService.storeVersion()).thenReturn(new StoreVersion(1L, 7L));
+        when(personService.get(anyLong())).thenReturn(person);
+        when(personService.create(any(), any(), any())).thenReturn(person);
+        when(personService.createWithId(anyLong(), any(), any(), any())).thenReturn(person);
+        when(personService.update(anyLong(), any(), any(), any(), any())).thenReturn(person);
+        when(personService.updatePartial(anyLong(), any(), any(), any(), any())).thenReturn(person);
     }
 
     @Test
@@ -59,12 +87,207 @@ class PeopleControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testGetAllPeople_FullPage_ShouldReturnNextCursor() throws Exception {
+        Person ana = new Person(3L, "Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        Person jose = new Person(1L, "José da Silva", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 5, 10));
+        when(personService.findPage(isNull(), eq(2))).thenReturn(List.of(ana, jose));
+
+        mockMvc.perform(get("/people").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string(PeopleController.NEXT_CURSOR_HEADER,
+                        CursorMapper.encode(NameKey.of(jose))));
+    }
+
+    @Test
+    void testGetAllPeople_WithCursor_ShouldResumeAfterCursor() throws Exception {
+        NameKey cursor = new NameKey("José da Silva", 1L);
+        Person maria = new Person(2L, "Maria Santos", LocalDate.of(1995, 8, 15), LocalDate.of(2019, 3, 20));
+        when(personService.findPage(eq(cursor), eq(2))).thenReturn(List.of(maria));
+
+        mockMvc.perform(get("/people")
+                        .param("limit", "2")
+                        .param("after", CursorMapper.encode(cursor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(header().doesNotExist(PeopleController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testGetAllPeople_WithFields_ShouldOmitUnselectedFields() throws Exception {
+        Person jose = new Person(1L, "José da Silva", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 5, 10));
+        when(personService.findAll()).thenReturn(List.of(jose));
+
+        mockMvc.perform(get("/people").param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("José da Silva"))
+                .andExpect(jsonPath("$[0].birthDate").doesNotExist())
+                .andExpect(jsonPath("$[0].admissionDate").doesNotExist());
+    }
+
+    @Test
+    void testGetAllPeople_InvalidField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/people").param("fields", "salary"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllPeople_InvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/people").param("after", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllPeople_WithAdmissionRange_ShouldQueryDates() throws Exception {
+        Person maria = new Person(2L, "Maria Santos", LocalDate.of(1995, 8, 15), LocalDate.of(2019, 3, 20));
+        DateRange admitted = new DateRange(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 12, 31));
+        when(personService.findByDates(eq(admitted), eq(DateRange.UNBOUNDED))).thenReturn(List.of(maria));
+
+        mockMvc.perform(get("/people")
+                        .param("admittedFrom", "2019-01-01")
+                        .param("admittedTo", "2019-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(2));
+    }
+
+    @Test
+    void testGetAllPeople_DateRangeFullPage_ShouldReturnDateCursor() throws Exception {
+        Person joao = new Person(3L, "João Oliveira", LocalDate.of(1988, 12, 3), LocalDate.of(2021, 1, 15));
+        DateRange born = new DateRange(null, LocalDate.of(1990, 1, 1));
+        when(personService.findPageByDates(eq(DateRange.UNBOUNDED), eq(born), isNull(), eq(1))).thenReturn(List.of(joao));
+
+        mockMvc.perform(get("/people").param("bornTo", "1990-01-01").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PeopleController.NEXT_CURSOR_HEADER,
+                        CursorMapper.encode(DateKey.of(DateField.BIRTH_DATE, joao))));
+    }
+
+    @Test
+    void testGetAllPeople_InvertedDateRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/people")
+                        .param("admittedFrom", "2020-01-01")
+                        .param("admittedTo", "2019-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllPeople_InvalidDate_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/people").param("bornFrom", "01/01/1990"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchPeople_ShouldUseDefaultModeAndLimit() throws Exception {
+        Person joao = new Person(3L, "João Oliveira", LocalDate.of(1988, 12, 3), LocalDate.of(2021, 1, 15));
+        when(personService.search(eq("joao"), eq("prefix"), eq(20))).thenReturn(List.of(joao));
+
+        mockMvc.perform(get("/people/search").param("q", "joao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("João Oliveira"));
+    }
+
+    @Test
+    void testSearchPeople_InvalidMode_ShouldReturnBadRequest() throws Exception {
+        when(personService.search(any(), eq("regex"), anyInt()))
+                .thenThrow(new IllegalArgumentException("Modo de busca inválido: regex"));
+
+        mockMvc.perform(get("/people/search").param("q", "jo").param("mode", "regex"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchPeople_MissingQuery_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/people/search"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetPersonById_ShouldReturnOk() throws Exception {
         mockMvc.perform(get("/people/1"))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testGetPersonById_ShouldReturnVersionAsETag() throws Exception {
+        mockMvc.perform(get("/people/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETagMapper.forPerson(person)));
+    }
+
+    @Test
+    void testGetPersonById_IfNoneMatchCurrent_ShouldReturnNotModified() throws Exception {
+        String etag = ETagMapper.forPerson(person);
+
+        mockMvc.perform(get("/people/1").header("If-None-Match", "W/\"0\", " + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetAllPeople_IfNoneMatchCurrent_ShouldNotQueryPeople() throws Exception {
+        String etag = mockMvc.perform(get("/people"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/people").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/people").param("limit", "5").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(personService).findAll();
+    }
+
+    @Test
+    void testGetAllPeople_StoreChanged_ShouldReturnOk() throws Exception {
+        String etag = mockMvc.perform(get("/people"))
+                .andReturn().getResponse().getHeader("ETag");
+        when(personService.storeVersion()).thenReturn(new StoreVersion(1L, 8L));
+
+        mockMvc.perform(get("/people").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testUpdatePerson_WithIfMatch_ShouldPassExpectedVersion() throws Exception {
+        CreatePersonRequest request = new CreatePersonRequest(
+                "João Silva Atualizado",
+                LocalDate.of(1990, 1, 1),
+                LocalDate.of(2020, 1, 1)
+        );
+
+        mockMvc.perform(put("/people/1")
+                        .header("If-Match", ETagMapper.forPerson(person))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
+
+        verify(personService).update(eq(1L), eq("João Silva Atualizado"), any(), any(),
+                eq(Set.of(person.contentVersion())));
+    }
+
+    @Test
+    void testPatchPerson_StaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        when(personService.updatePartial(eq(1L), any(), any(), any(), eq(Set.of(0L))))
+                .thenThrow(new VersionConflictException(1L, person.contentVersion()));
+        UpdatePersonRequest request = new UpdatePersonRequest(
+                Optional.of("João Silva Atualizado"),
+                Optional.empty(),
+                Optional.empty()
+        );
+
+        mockMvc.perform(patch("/people/1")
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorCode").value("VERSION_CONFLICT"));
+    }
+
     @Test
     void testCreatePerson_ShouldReturnCreated() throws Exception {
         CreatePersonRequest request = new CreatePersonRequest(
@@ -147,6 +370,31 @@ class PeopleControllerTest {
                 .andExpect(content().string("3250.36"));
     }
 
+    @Test
+    void testGetPersonSalary_Exact_ShouldReturnDecimalWithCents() throws Exception {
+        when(personService.calculateExactSalary(anyLong(), any())).thenReturn(new BigDecimal("1558.00"));
+
+        mockMvc.perform(get("/people/1/salary")
+                        .param("output", "full")
+                        .param("exact", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1558.00"));
+    }
+
+    @Test
+    void testGetPersonSalaryProjection_ShouldReturnSalaryPerDate() throws Exception {
+        when(personService.projectSalary(1L, "full", 2)).thenReturn(new SalaryProjection(1L,
+                List.of(LocalDate.of(2024, 2, 1), LocalDate.of(2025, 2, 1)), new double[] {4346.05, 5628.34}));
+
+        mockMvc.perform(get("/people/1/salary/projection")
+                        .param("years", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.projection[0].date").value("2024-02-01"))
+                .andExpect(jsonPath("$.projection[0].salary").value(4346.05))
+                .andExpect(jsonPath("$.projection[1].salary").value(5628.34));
+    }
+
     @Test
     void testCreatePerson_InvalidData_ShouldReturnBadRequest() throws Exception {
         CreatePersonRequest request = new CreatePersonRequest(
@@ -161,6 +409,71 @@ class PeopleControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testBatchGet_ShouldReturnFoundAndMissing() throws Exception {
+        when(personService.findAllById(List.of(1L, 42L))).thenReturn(new BatchLookup(List.of(person), List.of(42L)));
+
+        mockMvc.perform(post("/people/batch-get")
+                        .param("fields", "id,name")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1, 42]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].id").value(1))
+                .andExpect(jsonPath("$.found[0].name").value("João Silva"))
+                .andExpect(jsonPath("$.found[0].birthDate").doesNotExist())
+                .andExpect(jsonPath("$.missing[0]").value(42));
+    }
+
+    @Test
+    void testBatchGet_WithoutIds_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/people/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testBatchMetrics_ShouldReturnColumns() throws Exception {
+        when(personService.computeMetrics(eq(List.of(1L, 42L)), any(), any(), any(), anyInt(),
+                eq(List.of("years")), eq(List.of("min"))))
+                .thenReturn(new BatchMetrics(LocalDate.of(2023, 2, 1), new long[]{1L},
+                        Map.of("years", new long[]{33L}), Map.of("min", new double[]{1.2}), List.of(42L), null));
+
+        mockMvc.perform(post("/people/batch-metrics")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1, 42], \"age\": [\"years\"], \"salary\": [\"min\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2023-02-01"))
+                .andExpect(jsonPath("$.ids[0]").value(1))
+                .andExpect(jsonPath("$.age.years[0]").value(33))
+                .andExpect(jsonPath("$.salary.min[0]").value(1.2))
+                .andExpect(jsonPath("$.missing[0]").value(42));
+    }
+
+    @Test
+    void testBatchMetrics_FullPageByDates_ShouldReturnNextCursor() throws Exception {
+        DateKey cursor = new DateKey(LocalDate.of(1990, 1, 1).toEpochDay(), 7L);
+        DateKey next = new DateKey(LocalDate.of(1995, 1, 1).toEpochDay(), 9L);
+        when(personService.computeMetrics(isNull(), any(), any(), eq(cursor), eq(1), eq(List.of("years")), isNull()))
+                .thenReturn(new BatchMetrics(LocalDate.of(2023, 2, 1), new long[]{9L},
+                        Map.of("years", new long[]{28L}), Map.of(), List.of(), next));
+
+        mockMvc.perform(post("/people/batch-metrics")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"limit\": 1, \"after\": \"" + CursorMapper.encode(cursor) + "\", \"age\": [\"years\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PeopleController.NEXT_CURSOR_HEADER, CursorMapper.encode(next)))
+                .andExpect(jsonPath("$.ids[0]").value(9));
+    }
+
+    @Test
+    void testBatchMetrics_InvalidDateRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/people/batch-metrics")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"admittedFrom\": \"2020-01-01\", \"admittedTo\": \"2019-01-01\", \"age\": [\"days\"]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetPersonAge_InvalidOutput_ShouldReturnBadRequest() throws Exception {
         when(personService.calculateAge(anyLong(), any()))
@@ -0,0 +1,163 @@
+package com.sccon.geocore.controller;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.PersonSnapshot;
+import com.sccon.geocore.service.PersonService;
+import com.sccon.geocore.service.SalaryProjection;
+import com.sccon.geocore.service.SalaryProjector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para o PeopleExportController.
+ */
+@WebMvcTest(PeopleExportController.class)
+class PeopleExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PersonService personService;
+
+    private final PersonSnapshot snapshot = mock(PersonSnapshot.class);
+
+    @BeforeEach
+    void setUp() {
+        when(snapshot.version()).thenReturn(PersonSnapshot.UNVERSIONED);
+        when(snapshot.stream()).thenAnswer(invocation -> Stream.of(
+                new Person(1L, "José da Silva", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 5, 10)),
+                new Person(2L, "Souza, \"Ana\"", LocalDate.of(1990, 1, 1), LocalDate.of(2019, 3, 20))));
+        when(personService.snapshot()).thenReturn(snapshot);
+    }
+
+    @Test
+    void testExport_DefaultFormat_ShouldStreamNdjson() throws Exception {
+        mockMvc.perform(get("/people/export"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"people.ndjson\""))
+                .andExpect(header().doesNotExist("X-Snapshot-Version"))
+                .andExpect(content().string("""
+                        {"id":1,"name":"José da Silva","birthDate":"2000-04-06","admissionDate":"2020-05-10"}
+                        {"id":2,"name":"Souza, \\"Ana\\"","birthDate":"1990-01-01","admissionDate":"2019-03-20"}
+                        """));
+    }
+
+    @Test
+    void testExport_CsvWithFields_ShouldQuoteValuesAndKeepFieldOrder() throws Exception {
+        mockMvc.perform(get("/people/export").param("format", "csv").param("fields", "name,id"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        id,name
+                        1,José da Silva
+                        2,"Souza, ""Ana\"""
+                        """));
+    }
+
+    @Test
+    void testExport_AcceptGzip_ShouldCompressBody() throws Exception {
+        byte[] body = mockMvc.perform(get("/people/export").param("format", "csv")
+                        .header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(3, gunzip(body).split("\n").length);
+    }
+
+    @Test
+    void testExport_GzipRejected_ShouldNotCompress() throws Exception {
+        mockMvc.perform(get("/people/export").header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    void testExport_VersionedSnapshot_ShouldReportVersion() throws Exception {
+        when(snapshot.version()).thenReturn(42L);
+
+        mockMvc.perform(get("/people/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Snapshot-Version", "42"));
+    }
+
+    @Test
+    void testExport_InvalidFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/people/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExportSalaryProjection_Csv_ShouldWriteDatesInHeader() throws Exception {
+        SalaryProjector projector = mock(SalaryProjector.class);
+        List<LocalDate> dates = List.of(LocalDate.of(2024, 2, 1), LocalDate.of(2025, 2, 1));
+        when(projector.dates()).thenReturn(dates);
+        when(projector.project(any())).thenAnswer(invocation -> {
+            Person person = invocation.getArgument(0);
+            return new SalaryProjection(person.id(), dates, new double[] {person.id() * 1000.5, person.id() * 2000.25});
+        });
+        when(personService.salaryProjector("full", 2)).thenReturn(projector);
+
+        mockMvc.perform(get("/people/export/salary-projection")
+                        .param("years", "2").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"salary-projection.csv\""))
+                .andExpect(content().string("""
+                        id,2024-02-01,2025-02-01
+                        1,1000.5,2000.25
+                        2,2001.0,4000.5
+                        """));
+    }
+
+    @Test
+    void testExportSalaryProjection_Ndjson_ShouldWriteOneLinePerPerson() throws Exception {
+        SalaryProjector projector = mock(SalaryProjector.class);
+        when(projector.project(any())).thenAnswer(invocation -> new SalaryProjection(
+                invocation.<Person>getArgument(0).id(), List.of(LocalDate.of(2024, 2, 1)), new double[] {1558.0}));
+        when(personService.salaryProjector("min", 1)).thenReturn(projector);
+
+        mockMvc.perform(get("/people/export/salary-projection")
+                        .param("years", "1").param("output", "min"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"id":1,"salaries":[1558.0]}
+                        {"id":2,"salaries":[1558.0]}
+                        """));
+    }
+
+    @Test
+    void testExportSalaryProjection_InvalidYears_ShouldReturnBadRequest() throws Exception {
+        when(personService.salaryProjector("full", 0))
+                .thenThrow(new IllegalArgumentException("A quantidade de anos deve estar entre 1 e 50"));
+
+        mockMvc.perform(get("/people/export/salary-projection").param("years", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
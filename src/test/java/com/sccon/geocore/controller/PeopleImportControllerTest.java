@@ -0,0 +1,122 @@
+package com.sccon.geocore.controller;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.service.PersonImport;
+import com.sccon.geocore.service.PersonService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para o PeopleImportController, sobre um repositório em memória real.
+ */
+@WebMvcTest(PeopleImportController.class)
+class PeopleImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PersonService personService;
+
+    private InMemoryPersonRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPersonRepository();
+        repository.save(new Person(1L, "José da Silva", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 5, 10)));
+        PersonService realService = new PersonService(repository, Clock.systemDefaultZone());
+        when(personService.startImport()).thenAnswer(invocation -> realService.startImport());
+    }
+
+    @Test
+    void testImportCsv_ShouldSaveValidRowsAndReportInvalidOnes() throws Exception {
+        String csv = """
+                name,birthDate,admissionDate,id
+                "Souza, Ana",1990-01-01,2020-01-01,10
+                Bruno Lima,1985-05-05,2015-03-01,
+
+                ,1985-05-05,2015-03-01,
+                Carla,1990-01-01,2020-01-01,1
+                Daniel,1990-01-01,1980-01-01,
+                Elisa,01/01/1990,2020-01-01,
+                """;
+
+        mockMvc.perform(post("/people/bulk").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(6))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.errorsTruncated").value(false))
+                .andExpect(jsonPath("$.errors[0].line").value(5))
+                .andExpect(jsonPath("$.errors[0].message").value("name: Nome é obrigatório"))
+                .andExpect(jsonPath("$.errors[1].line").value(6))
+                .andExpect(jsonPath("$.errors[1].message").value("Pessoa com ID 1 já existe no sistema"))
+                .andExpect(jsonPath("$.errors[2].line").value(7))
+                .andExpect(jsonPath("$.errors[3].line").value(8));
+
+        assertEquals("Souza, Ana", repository.findById(10L).orElseThrow().name());
+        assertEquals(3, repository.count());
+    }
+
+    @Test
+    void testImportCsv_InvalidHeader_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/people/bulk").contentType("text/csv").content("name,birthDate\nAna,1990-01-01\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testImportNdjson_ShouldSaveValidRowsAndReportInvalidOnes() throws Exception {
+        String ndjson = """
+                {"id": 20, "name": "Ana Souza", "birthDate": "1990-01-01", "admissionDate": "2020-01-01"}
+                {"id": 20, "name": "Ana Lima", "birthDate": "1990-01-01", "admissionDate": "2020-01-01"}
+                {"name": "Bruno", "birthDate": "2999-01-01", "admissionDate": "2999-01-01"}
+                {"name": "Carla", "birthDate": "1990-01-01"
+                {"name": "Daniel", "birthDate": "1990-01-01", "admissionDate": "2020-01-01"}
+                """;
+
+        mockMvc.perform(post("/people/bulk").contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(5))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[1].line").value(3))
+                .andExpect(jsonPath("$.errors[1].message")
+                        .value("admissionDate: Data de admissão deve ser no passado ou presente"))
+                .andExpect(jsonPath("$.errors[2].line").value(4));
+
+        assertEquals("Ana Souza", repository.findById(20L).orElseThrow().name());
+        assertTrue(repository.streamOrderedByName().anyMatch(person -> person.name().equals("Daniel")));
+    }
+
+    @Test
+    void testImportNdjson_MoreRowsThanBatch_ShouldSaveAllBatches() throws Exception {
+        int rows = PersonImport.BATCH_SIZE * 2 + 7;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            ndjson.append("{\"name\":\"Pessoa ").append(i)
+                    .append("\",\"birthDate\":\"1990-01-01\",\"admissionDate\":\"2020-01-01\"}\n");
+        }
+
+        mockMvc.perform(post("/people/bulk").contentType(MediaType.APPLICATION_NDJSON).content(ndjson.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(rows))
+                .andExpect(jsonPath("$.failed").value(0));
+
+        assertEquals(rows + 1, repository.count());
+    }
+}
@@ -0,0 +1,141 @@
+package com.sccon.geocore.controller;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.service.AgeDistribution;
+import com.sccon.geocore.service.PayrollAggregates;
+import com.sccon.geocore.service.PayrollSimulation;
+import com.sccon.geocore.service.PayrollSummary;
+import com.sccon.geocore.service.PersonService;
+import com.sccon.geocore.service.Ranking;
+import com.sccon.geocore.service.RankingMetric;
+import com.sccon.geocore.service.SalaryPolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para o PeopleStatsController.
+ */
+@WebMvcTest(PeopleStatsController.class)
+class PeopleStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PersonService personService;
+
+    @MockBean
+    private PayrollAggregates payrollAggregates;
+
+    @Test
+    void testGetPayroll_ShouldReturnSummary() throws Exception {
+        when(payrollAggregates.summary()).thenReturn(new PayrollSummary(LocalDate.of(2023, 2, 1), 2,
+                new BigDecimal("9280.58"), new BigDecimal("4640.29"), List.of(
+                new PayrollSummary.TenureBucket(0, 0, 1, new BigDecimal("3259.36"), new BigDecimal("3259.36")),
+                new PayrollSummary.TenureBucket(30, null, 1, new BigDecimal("6021.22"), new BigDecimal("6021.22")))));
+
+        mockMvc.perform(get("/people/stats/payroll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2023-02-01"))
+                .andExpect(jsonPath("$.headcount").value(2))
+                .andExpect(jsonPath("$.totalPayroll").value(9280.58))
+                .andExpect(jsonPath("$.averageSalary").value(4640.29))
+                .andExpect(jsonPath("$.tenureBuckets[0].maxYears").value(0))
+                .andExpect(jsonPath("$.tenureBuckets[1].minYears").value(30))
+                .andExpect(jsonPath("$.tenureBuckets[1].maxYears").doesNotExist());
+    }
+
+    @Test
+    void testGetTop_ShouldReturnRankedPeople() throws Exception {
+        Person person = new Person(7L, "Ana Souza", LocalDate.of(1940, 1, 1), LocalDate.of(1960, 1, 1));
+        when(personService.rank("salary", "top", 1)).thenReturn(new Ranking(LocalDate.of(2023, 2, 1),
+                RankingMetric.SALARY, true, List.of(new Ranking.RankedPerson(person, 83, 63, 1.5E8))));
+
+        mockMvc.perform(get("/people/stats/top").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metric").value("salary"))
+                .andExpect(jsonPath("$.order").value("top"))
+                .andExpect(jsonPath("$.people[0].id").value(7))
+                .andExpect(jsonPath("$.people[0].admissionDate").value("1960-01-01"))
+                .andExpect(jsonPath("$.people[0].age").value(83))
+                .andExpect(jsonPath("$.people[0].yearsOfService").value(63))
+                .andExpect(jsonPath("$.people[0].salary").value(1.5E8));
+    }
+
+    @Test
+    void testGetTop_InvalidMetric_ShouldReturnBadRequest() throws Exception {
+        when(personService.rank("height", "top", 100))
+                .thenThrow(new IllegalArgumentException("Métrica inválida: height"));
+
+        mockMvc.perform(get("/people/stats/top").param("metric", "height"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAgeDistribution_ShouldReturnBands() throws Exception {
+        when(personService.ageDistribution(20)).thenReturn(new AgeDistribution(LocalDate.of(2023, 2, 1), 3, 20,
+                List.of(new AgeDistribution.AgeBand(0, 19, 0), new AgeDistribution.AgeBand(20, 39, 3))));
+
+        mockMvc.perform(get("/people/stats/age-distribution").param("bandYears", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.headcount").value(3))
+                .andExpect(jsonPath("$.bandYears").value(20))
+                .andExpect(jsonPath("$.bands[1].minYears").value(20))
+                .andExpect(jsonPath("$.bands[1].maxYears").value(39))
+                .andExpect(jsonPath("$.bands[1].headcount").value(3));
+    }
+
+    @Test
+    void testGetAgeDistribution_InvalidBand_ShouldReturnBadRequest() throws Exception {
+        when(personService.ageDistribution(0)).thenThrow(new IllegalArgumentException("A largura da faixa deve estar entre 1 e 100"));
+
+        mockMvc.perform(get("/people/stats/age-distribution").param("bandYears", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSimulatePayroll_MissingFields_ShouldUseCurrentPolicy() throws Exception {
+        SalaryPolicy raise = new SalaryPolicy(SalaryPolicy.CURRENT.baseSalary(), SalaryPolicy.CURRENT.minimumWage(),
+                new BigDecimal("0.20"), SalaryPolicy.CURRENT.annualFixedIncrease());
+        PayrollSimulation.PolicyResult current = new PayrollSimulation.PolicyResult(SalaryPolicy.CURRENT,
+                new BigDecimal("3259.36"), new BigDecimal("3259.36"), new BigDecimal("2.50"), new BigDecimal("0.00"));
+        PayrollSimulation.PolicyResult candidate = new PayrollSimulation.PolicyResult(raise,
+                new BigDecimal("3329.60"), new BigDecimal("3329.60"), new BigDecimal("2.56"), new BigDecimal("70.24"));
+        when(payrollAggregates.simulate(List.of(raise)))
+                .thenReturn(new PayrollSimulation(LocalDate.of(2023, 2, 1), 1, current, List.of(candidate)));
+
+        mockMvc.perform(post("/people/stats/payroll/simulations").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"policies\": [{\"annualIncreasePercentage\": 0.20}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.headcount").value(1))
+                .andExpect(jsonPath("$.current.policy.baseSalary").value(1558.00))
+                .andExpect(jsonPath("$.candidates[0].policy.annualIncreasePercentage").value(0.20))
+                .andExpect(jsonPath("$.candidates[0].policy.annualFixedIncrease").value(500.00))
+                .andExpect(jsonPath("$.candidates[0].difference").value(70.24));
+    }
+
+    @Test
+    void testSimulatePayroll_NegativeIncrease_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/people/stats/payroll/simulations").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"policies\": [{\"annualFixedIncrease\": -1}]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(payrollAggregates, never()).simulate(anyList());
+    }
+}
@@ -0,0 +1,178 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPersonRepositoryTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2020, 1, 1);
+
+    private InMemoryPersonRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPersonRepository();
+        repository.save(person(1L, "Maria Santos"));
+        repository.save(person(2L, "José da Silva"));
+        repository.save(person(3L, "Ana Souza"));
+    }
+
+    @Test
+    void testStreamOrderedByName_ShouldReturnPeopleSortedByName() {
+        assertEquals(List.of(3L, 2L, 1L), orderedIds());
+    }
+
+    @Test
+    void testStreamOrderedByName_SameName_ShouldUseIdAsTiebreaker() {
+        // Arrange
+        repository.save(person(10L, "Ana Souza"));
+
+        // Act & Assert
+        assertEquals(List.of(3L, 10L, 2L, 1L), orderedIds());
+    }
+
+    @Test
+    void testStreamOrderedByNameAfter_ShouldStartAfterCursor() {
+        // Arrange
+        NameKey cursor = new NameKey("José da Silva", 2L);
+
+        // Act
+        List<Long> ids = repository.streamOrderedByName(cursor).map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(1L), ids);
+    }
+
+    @Test
+    void testStreamOrderedByNameAfter_RemovedCursor_ShouldResumeAtNextPosition() {
+        // Arrange
+        NameKey cursor = NameKey.of(repository.findById(3L).orElseThrow());
+        repository.deleteById(3L);
+
+        // Act
+        List<Long> ids = repository.streamOrderedByName(cursor).map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(2L, 1L), ids);
+    }
+
+    @Test
+    void testUpdate_Rename_ShouldReorderIndex() {
+        // Act
+        repository.update(1L, current -> current.withName("Aaron Lima"));
+
+        // Assert
+        assertEquals(List.of(1L, 3L, 2L), orderedIds());
+        assertEquals("Aaron Lima", repository.findById(1L).orElseThrow().name());
+    }
+
+    @Test
+    void testSave_ExistingId_ShouldReplaceIndexEntry() {
+        // Act
+        repository.save(person(2L, "Zeca Pagodinho"));
+
+        // Assert
+        assertEquals(List.of(3L, 1L, 2L), orderedIds());
+    }
+
+    @Test
+    void testInsert_ExistingId_ShouldThrowAndKeepPerson() {
+        // Act
+        repository.insert(person(4L, "Bruno Lima"));
+
+        // Assert
+        assertThrows(DuplicateIdException.class, () -> repository.insert(person(2L, "Zeca Pagodinho")));
+        assertEquals("José da Silva", repository.findById(2L).orElseThrow().name());
+        assertEquals(List.of(3L, 4L, 2L, 1L), orderedIds());
+    }
+
+    @Test
+    void testDeleteById_ShouldRemoveFromIndex() {
+        // Act
+        repository.deleteById(2L);
+
+        // Assert
+        assertEquals(List.of(3L, 1L), orderedIds());
+        assertFalse(repository.existsById(2L));
+    }
+
+    @Test
+    void testDeleteById_NonExistent_ShouldThrowException() {
+        assertThrows(NoSuchElementException.class, () -> repository.deleteById(99L));
+        assertEquals(3, orderedIds().size());
+    }
+
+    @Test
+    void testStreamByDate_ShouldReturnOnlyPeopleInRangeOrderedByDate() {
+        // Arrange
+        repository.save(new Person(4L, "Pedro Alves", BIRTH_DATE, LocalDate.of(2021, 6, 1)));
+        repository.save(new Person(5L, "Lucas Lima", BIRTH_DATE, LocalDate.of(2019, 12, 31)));
+        repository.save(new Person(6L, "Rita Costa", BIRTH_DATE, LocalDate.of(2020, 3, 1)));
+        DateRange range = new DateRange(ADMISSION_DATE, LocalDate.of(2020, 12, 31));
+
+        // Act
+        List<Long> ids = repository.streamByDate(DateField.ADMISSION_DATE, range).map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L, 6L), ids);
+    }
+
+    @Test
+    void testStreamByDateAfter_ShouldStartAfterCursor() {
+        // Arrange
+        repository.save(new Person(4L, "Pedro Alves", LocalDate.of(1980, 5, 5), ADMISSION_DATE));
+        DateKey cursor = new DateKey(BIRTH_DATE.toEpochDay(), 2L);
+
+        // Act
+        List<Long> ids = repository.streamByDate(DateField.BIRTH_DATE, DateRange.UNBOUNDED, cursor)
+                .map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(3L), ids);
+    }
+
+    @Test
+    void testFindFirstByDate_ShouldReadBothEndsOfIndex() {
+        // Arrange
+        repository.save(new Person(4L, "Pedro Alves", BIRTH_DATE, LocalDate.of(2010, 6, 1)));
+        repository.save(new Person(5L, "Lucas Lima", BIRTH_DATE, LocalDate.of(2022, 12, 31)));
+
+        // Act
+        List<Long> earliest = repository.findFirstByDate(DateField.ADMISSION_DATE, false, 2).stream()
+                .map(Person::id).toList();
+        List<Long> latest = repository.findFirstByDate(DateField.ADMISSION_DATE, true, 3).stream()
+                .map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(4L, 1L), earliest);
+        assertEquals(List.of(5L, 3L, 2L), latest);
+    }
+
+    @Test
+    void testUpdate_ChangeBirthDate_ShouldMoveIndexEntry() {
+        // Act
+        repository.update(1L, current -> current.withBirthDate(LocalDate.of(1970, 1, 1)));
+
+        // Assert
+        DateRange seventies = new DateRange(LocalDate.of(1970, 1, 1), LocalDate.of(1979, 12, 31));
+        assertEquals(List.of(1L), repository.streamByDate(DateField.BIRTH_DATE, seventies).map(Person::id).toList());
+        assertEquals(List.of(2L, 3L), repository.streamByDate(DateField.BIRTH_DATE, new DateRange(BIRTH_DATE, null))
+                .map(Person::id).toList());
+    }
+
+    private List<Long> orderedIds() {
+        return repository.streamOrderedByName().map(Person::id).toList();
+    }
+
+    private static Person person(Long id, String name) {
+        return new Person(id, name, BIRTH_DATE, ADMISSION_DATE);
+    }
+}
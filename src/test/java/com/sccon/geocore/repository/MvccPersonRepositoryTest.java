@@ -0,0 +1,198 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MvccPersonRepositoryTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2020, 1, 1);
+
+    private MvccPersonRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MvccPersonRepository();
+    }
+
+    @Test
+    void testWrites_ShouldAdvanceVersion() {
+        // Act
+        repository.save(person(1L, "Ana"));
+        repository.save(person(2L, "Bruno"));
+        repository.update(1L, current -> current.withName("Ana Souza"));
+        repository.deleteById(2L);
+
+        // Assert
+        assertEquals(4, repository.version());
+        assertEquals("Ana Souza", repository.findById(1L).orElseThrow().name());
+        assertFalse(repository.existsById(2L));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testSaveAll_ShouldPublishBatchAsOneSnapshot() {
+        // Arrange
+        repository.save(person(1L, "Ana"));
+        PersonSnapshot before = repository.snapshot();
+        List<Person> notified = new ArrayList<>();
+        repository.addChangeListener((previous, current) -> notified.add(current));
+
+        // Act
+        repository.saveAll(List.of(person(2L, "Bruno"), person(3L, "Carla"), person(1L, "Ana Souza")));
+
+        // Assert
+        assertEquals(1, before.size());
+        assertEquals(4, repository.version());
+        assertEquals(3, repository.count());
+        assertEquals("Ana Souza", repository.findById(1L).orElseThrow().name());
+        assertEquals(List.of(2L, 3L, 1L), notified.stream().map(Person::id).toList());
+    }
+
+    @Test
+    void testFailedWrite_ShouldNotPublishVersion() {
+        // Arrange
+        repository.save(person(1L, "Ana"));
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> repository.update(2L, current -> current));
+        assertThrows(NoSuchElementException.class, () -> repository.deleteById(2L));
+        assertThrows(DuplicateIdException.class, () -> repository.insert(person(1L, "Bruno")));
+        assertEquals(1, repository.version());
+        assertEquals("Ana", repository.findById(1L).orElseThrow().name());
+    }
+
+    @Test
+    void testSnapshot_ShouldNotSeeLaterWrites() {
+        // Arrange
+        repository.save(person(1L, "Ana"));
+        repository.save(person(2L, "Bruno"));
+        PersonSnapshot snapshot = repository.snapshot();
+
+        // Act
+        repository.update(1L, current -> current.withName("Ana Souza"));
+        repository.deleteById(2L);
+        repository.save(person(3L, "Carla"));
+
+        // Assert
+        assertEquals(2, snapshot.version());
+        assertEquals(2, snapshot.size());
+        assertEquals("Ana", snapshot.findById(1L).orElseThrow().name());
+        assertTrue(snapshot.findById(2L).isPresent());
+        assertTrue(snapshot.findById(3L).isEmpty());
+        assertEquals(List.of("Ana", "Bruno"), snapshot.stream().map(Person::name).sorted().toList());
+        assertEquals(List.of("Ana Souza", "Carla"), repository.streamOrderedByName().map(Person::name).toList());
+    }
+
+    @Test
+    void testSnapshot_ConcurrentWriter_ShouldStayConsistent() throws InterruptedException {
+        // Arrange
+        for (long id = 1; id <= 1_000; id++) {
+            repository.save(person(id, "Pessoa"));
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            // Troca pares de pessoas: o total de cada versão permanece 1000
+            for (long id = 1; running.get(); id = id % 1_000 + 1) {
+                repository.deleteById(id);
+                repository.save(person(id + 1_000, "Pessoa"));
+                repository.deleteById(id + 1_000);
+                repository.save(person(id, "Pessoa"));
+            }
+        });
+        writer.start();
+
+        // Act & Assert
+        try {
+            for (int i = 0; i < 200; i++) {
+                PersonSnapshot snapshot = repository.snapshot();
+                assertEquals(snapshot.size(), snapshot.stream().count());
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    void testStreamByDate_ShouldFilterAndOrder() {
+        // Arrange
+        repository.save(new Person(1L, "Ana", LocalDate.of(1995, 5, 1), ADMISSION_DATE));
+        repository.save(new Person(2L, "Bruno", LocalDate.of(1980, 5, 1), ADMISSION_DATE));
+        repository.save(new Person(3L, "Carla", LocalDate.of(1990, 5, 1), ADMISSION_DATE));
+        DateRange range = new DateRange(LocalDate.of(1985, 1, 1), null);
+
+        // Act
+        List<Long> ids = repository.streamByDate(DateField.BIRTH_DATE, range).map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(3L, 1L), ids);
+    }
+
+    @Test
+    void testStreamByDate_WithCursorAndBothBounds_ShouldResumeInsideRange() {
+        // Arrange
+        repository.save(new Person(1L, "Ana", LocalDate.of(1995, 5, 1), ADMISSION_DATE));
+        repository.save(new Person(2L, "Bruno", LocalDate.of(1980, 5, 1), ADMISSION_DATE));
+        repository.save(new Person(3L, "Carla", LocalDate.of(1990, 5, 1), ADMISSION_DATE));
+        repository.save(new Person(4L, "Davi", LocalDate.of(1990, 5, 1), ADMISSION_DATE));
+        repository.save(new Person(5L, "Eva", LocalDate.of(2001, 5, 1), ADMISSION_DATE));
+        DateRange range = new DateRange(LocalDate.of(1985, 1, 1), LocalDate.of(1995, 5, 1));
+        DateKey after = new DateKey(LocalDate.of(1990, 5, 1).toEpochDay(), 3L);
+
+        // Act
+        List<Long> ids = repository.streamByDate(DateField.BIRTH_DATE, range, after).map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(4L, 1L), ids);
+    }
+
+    @Test
+    void testStreamOrderedByName_AfterWrite_ShouldSeeNewVersion() {
+        // Arrange
+        repository.save(person(1L, "Carla"));
+        repository.save(person(2L, "Ana"));
+        NameKey afterAna = NameKey.of(person(2L, "Ana"));
+        assertEquals(List.of(1L), repository.streamOrderedByName(afterAna).map(Person::id).toList());
+
+        // Act
+        repository.save(person(3L, "Bruno"));
+        List<Long> ids = repository.streamOrderedByName(afterAna).map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(3L, 1L), ids);
+        assertEquals(List.of(2L, 3L, 1L), repository.streamOrderedByName().map(Person::id).toList());
+    }
+
+    @Test
+    void testRenameAndDelete_ShouldKeepOrdersInSync() {
+        // Arrange
+        repository.save(new Person(1L, "Carla", BIRTH_DATE, LocalDate.of(2015, 1, 1)));
+        repository.save(new Person(2L, "Ana", BIRTH_DATE, LocalDate.of(2010, 1, 1)));
+        repository.save(new Person(3L, "Bruno", BIRTH_DATE, LocalDate.of(2020, 1, 1)));
+
+        // Act
+        repository.update(2L, current -> current.withName("Zeca"));
+        repository.deleteById(3L);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), repository.streamOrderedByName().map(Person::id).toList());
+        assertEquals(List.of(2L), repository.findFirstByDate(DateField.ADMISSION_DATE, false, 1).stream()
+                .map(Person::id).toList());
+        assertEquals(List.of(1L, 2L), repository.findFirstByDate(DateField.ADMISSION_DATE, true, 5).stream()
+                .map(Person::id).toList());
+    }
+
+    private static Person person(long id, String name) {
+        return new Person(id, name, BIRTH_DATE, ADMISSION_DATE);
+    }
+}
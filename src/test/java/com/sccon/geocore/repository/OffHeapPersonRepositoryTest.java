@@ -0,0 +1,269 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapPersonRepositoryTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2020, 1, 1);
+
+    private OffHeapPersonRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OffHeapPersonRepository();
+    }
+
+    @Test
+    void testSaveAndFindById_ShouldRoundTripAllFields() {
+        // Arrange
+        Person jose = new Person(1L, "José da Silva", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 5, 10));
+        Person chen = new Person(2L, "陈伟 Ωmega", LocalDate.of(1985, 2, 28), LocalDate.of(2010, 7, 1));
+
+        // Act
+        repository.save(jose);
+        repository.save(chen);
+
+        // Assert
+        assertEquals(jose, repository.findById(1L).orElseThrow());
+        assertEquals(chen, repository.findById(2L).orElseThrow());
+        assertTrue(repository.findById(3L).isEmpty());
+    }
+
+    @Test
+    void testUpdate_ShouldReplaceRow() {
+        // Arrange
+        repository.save(person(1L, "Maria Santos"));
+
+        // Act
+        Person updated = repository.update(1L, current -> current.withName("Maria Santos Oliveira"));
+
+        // Assert
+        assertEquals(updated, repository.findById(1L).orElseThrow());
+        assertEquals(1, repository.findAll().size());
+    }
+
+    @Test
+    void testDeleteById_ShouldFreeRowForReuse() {
+        // Arrange
+        repository.save(person(1L, "Ana"));
+        repository.save(person(2L, "Bruno"));
+
+        // Act
+        repository.deleteById(1L);
+        repository.save(person(3L, "Carla"));
+
+        // Assert
+        assertFalse(repository.existsById(1L));
+        assertEquals(List.of(2L, 3L), repository.streamOrderedByName().map(Person::id).toList());
+        assertThrows(NoSuchElementException.class, () -> repository.deleteById(1L));
+    }
+
+    @Test
+    void testInsert_ExistingId_ShouldThrowAndKeepRow() {
+        // Arrange
+        repository.insert(person(1L, "Ana"));
+
+        // Act & Assert
+        assertThrows(DuplicateIdException.class, () -> repository.insert(person(1L, "Bruno")));
+        assertEquals("Ana", repository.findById(1L).orElseThrow().name());
+        assertEquals(List.of(1L), repository.streamOrderedByName().map(Person::id).toList());
+    }
+
+    @Test
+    void testStreamAll_ShouldReturnLivePeopleInRowOrder() {
+        // Arrange
+        repository.save(person(1L, "Carla"));
+        repository.save(person(2L, "Ana"));
+        repository.save(person(3L, "Bruno"));
+        repository.deleteById(2L);
+
+        // Act
+        List<Long> ids = repository.streamAll().map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(1L, 3L), ids);
+    }
+
+    @Test
+    void testStreamOrderedByName_ShouldMatchStringOrder() {
+        // Arrange
+        List<String> names = List.of("Ágata", "ana", "Ana", "Zé", "Ana Souza", "Ωmega", "Álvaro");
+        for (int i = 0; i < names.size(); i++) {
+            repository.save(person((long) i, names.get(i)));
+        }
+        List<String> expected = names.stream().sorted(Comparator.naturalOrder()).toList();
+
+        // Act
+        List<String> ordered = repository.streamOrderedByName().map(Person::name).toList();
+
+        // Assert
+        assertEquals(expected, ordered);
+    }
+
+    @Test
+    void testStreamOrderedByNameAfter_ShouldStartAfterCursor() {
+        // Arrange
+        repository.save(person(1L, "Carla"));
+        repository.save(person(2L, "Ana"));
+        repository.save(person(3L, "Bruno"));
+
+        // Act
+        List<Long> ids = repository.streamOrderedByName(new NameKey("Ana", 2L)).map(Person::id).toList();
+
+        // Assert
+        assertEquals(List.of(3L, 1L), ids);
+    }
+
+    @Test
+    void testStreamOrderedByName_WriteBetweenBatches_ShouldNotExposeReusedRow() {
+        // Arrange
+        for (long id = 0; id < 100; id++) {
+            repository.save(person(id, "Pessoa %03d".formatted(id)));
+        }
+        Iterator<Person> ordered = repository.streamOrderedByName().iterator();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(ordered.next().id());
+        }
+
+        // Act
+        repository.deleteById(50L);
+        repository.save(person(500L, "Aaa"));
+        repository.update(10L, current -> current.withName("Zzz"));
+        ordered.forEachRemaining(person -> ids.add(person.id()));
+
+        // Assert
+        List<Long> expected = new ArrayList<>();
+        for (long id = 0; id < 100; id++) {
+            if (id != 50L && (id < 20 || id != 10L)) {
+                expected.add(id);
+            }
+        }
+        expected.add(10L);
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void testSortedStreams_AfterManyWrites_ShouldMatchFullSort() {
+        // Arrange
+        Random random = new Random(7);
+        Map<Long, Person> expected = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(2_000);
+            if (expected.containsKey(id) && random.nextInt(4) == 0) {
+                repository.deleteById(id);
+                expected.remove(id);
+            } else {
+                Person person = new Person(id, "Pessoa " + random.nextInt(300),
+                        BIRTH_DATE.plusDays(random.nextInt(90)), ADMISSION_DATE.plusDays(random.nextInt(90)));
+                repository.save(person);
+                expected.put(id, person);
+            }
+        }
+
+        // Act
+        List<Person> byName = repository.streamOrderedByName().toList();
+        List<Person> byAdmission = repository.streamByDate(DateField.ADMISSION_DATE, new DateRange(null, null)).toList();
+
+        // Assert
+        assertEquals(expected.values().stream().sorted(Comparator.comparing(NameKey::of)).toList(), byName);
+        assertEquals(expected.values().stream()
+                .sorted(Comparator.comparing(person -> DateKey.of(DateField.ADMISSION_DATE, person))).toList(), byAdmission);
+    }
+
+    @Test
+    void testRepeatedRenames_ShouldCompactArenaAndKeepNames() {
+        // Arrange
+        for (long id = 0; id < 100; id++) {
+            repository.save(person(id, "Pessoa " + id));
+        }
+
+        // Act
+        for (int round = 0; round < 200; round++) {
+            final int suffix = round;
+            repository.update(7L, current -> current.withName("Renomeada " + suffix));
+        }
+
+        // Assert
+        assertEquals("Renomeada 199", repository.findById(7L).orElseThrow().name());
+        assertEquals("Pessoa 42", repository.findById(42L).orElseThrow().name());
+        assertEquals(100, repository.findAll().size());
+    }
+
+    @Test
+    void testStreamByDate_ShouldMatchDefaultImplementation() {
+        // Arrange
+        PersonRepository reference = new PersonRepository() {
+            @Override public Person save(Person person) { return person; }
+            @Override public Person insert(Person person) { return person; }
+            @Override public java.util.Optional<Person> findById(long id) { return repository.findById(id); }
+            @Override public Person update(long id, java.util.function.UnaryOperator<Person> updater) { return null; }
+            @Override public List<Person> findAll() { return repository.findAll(); }
+            @Override public void deleteById(long id) { }
+            @Override public void addChangeListener(PersonChangeListener listener) { }
+            @Override public boolean existsById(long id) { return repository.existsById(id); }
+        };
+        for (long id = 0; id < 500; id++) {
+            repository.save(new Person(id, "Pessoa " + id, BIRTH_DATE.plusDays(id * 7 % 61),
+                    ADMISSION_DATE.plusDays(id * 13 % 97)));
+        }
+        for (long id = 0; id < 500; id += 5) {
+            repository.deleteById(id);
+        }
+        DateRange range = new DateRange(ADMISSION_DATE.plusDays(10), ADMISSION_DATE.plusDays(40));
+        DateKey cursor = new DateKey(ADMISSION_DATE.plusDays(20).toEpochDay(), 250L);
+
+        // Act & Assert
+        assertEquals(reference.streamByDate(DateField.ADMISSION_DATE, range).toList(),
+                repository.streamByDate(DateField.ADMISSION_DATE, range).toList());
+        assertEquals(reference.streamByDate(DateField.ADMISSION_DATE, range, cursor).toList(),
+                repository.streamByDate(DateField.ADMISSION_DATE, range, cursor).toList());
+        assertEquals(reference.streamByDate(DateField.BIRTH_DATE, new DateRange(null, BIRTH_DATE.plusDays(3))).toList(),
+                repository.streamByDate(DateField.BIRTH_DATE, new DateRange(null, BIRTH_DATE.plusDays(3))).toList());
+        for (boolean descending : new boolean[] {false, true}) {
+            assertEquals(reference.findFirstByDate(DateField.ADMISSION_DATE, descending, 30),
+                    repository.findFirstByDate(DateField.ADMISSION_DATE, descending, 30));
+            assertEquals(reference.findFirstByDate(DateField.BIRTH_DATE, descending, 1_000),
+                    repository.findFirstByDate(DateField.BIRTH_DATE, descending, 1_000));
+        }
+    }
+
+    @Test
+    void testChangeListener_ShouldReceivePreviousAndCurrentState() {
+        // Arrange
+        List<List<Person>> changes = new ArrayList<>();
+        repository.addChangeListener((previous, current) -> changes.add(Arrays.asList(previous, current)));
+        Person ana = person(1L, "Ana");
+        Person renamed = person(1L, "Ana Souza");
+
+        // Act
+        repository.save(ana);
+        repository.update(1L, current -> current.withName("Ana Souza"));
+        repository.save(ana);
+        repository.deleteById(1L);
+
+        // Assert
+        assertEquals(List.of(Arrays.asList(null, ana), Arrays.asList(ana, renamed),
+                Arrays.asList(renamed, ana), Arrays.asList(ana, null)), changes);
+    }
+
+    private static Person person(Long id, String name) {
+        return new Person(id, name, BIRTH_DATE, ADMISSION_DATE);
+    }
+}
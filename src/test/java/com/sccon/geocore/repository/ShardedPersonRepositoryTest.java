@@ -0,0 +1,200 @@
+package com.sccon.geocore.repository;
+
+import com.sccon.geocore.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedPersonRepositoryTest {
+
+    private static final int SHARDS = 4;
+    private static final String[] NAMES = {"Ana", "Ana Souza", "Bruno", "Carla Lima", "José", "João Silva",
+            "Maria Santos", "Márcia", "Zé"};
+
+    private ShardedPersonRepository repository;
+    private InMemoryPersonRepository reference;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ShardedPersonRepository(SHARDS, InMemoryPersonRepository::new);
+        reference = new InMemoryPersonRepository();
+    }
+
+    @Test
+    void testShardOf_ShouldSpreadSequentialIds() {
+        // Arrange
+        int[] perShard = new int[SHARDS];
+
+        // Act
+        for (long id = 1; id <= 10_000; id++) {
+            perShard[ShardedPersonRepository.shardOf(id, SHARDS)]++;
+        }
+
+        // Assert
+        for (int count : perShard) {
+            assertTrue(count > 2_000, "shard com " + count + " de 10000 IDs");
+        }
+    }
+
+    @Test
+    void testInsertAll_ExistingIds_ShouldReturnThemInListOrderAndKeepStore() {
+        // Arrange
+        for (long id = 1; id <= 20; id += 3) {
+            repository.save(person(id, "Ana", 1990));
+        }
+        List<Person> batch = LongStream.rangeClosed(1, 20).mapToObj(id -> person(id, "Bruno", 1985)).toList();
+
+        // Act
+        List<Person> rejected = repository.insertAll(batch);
+
+        // Assert
+        assertEquals(LongStream.iterate(1, id -> id <= 20, id -> id + 3).boxed().toList(),
+                rejected.stream().map(Person::id).toList());
+        assertEquals("Ana", repository.findById(4L).orElseThrow().name());
+        assertEquals("Bruno", repository.findById(5L).orElseThrow().name());
+        assertEquals(20, repository.count());
+    }
+
+    @Test
+    void testPointOperations_ShouldRouteToOwningShard() {
+        // Arrange
+        repository.save(person(1L, "Ana", 1990));
+        repository.save(person(2L, "Bruno", 1985));
+
+        // Act
+        Person updated = repository.update(2L, current -> current.withName("Bruno Lima"));
+        repository.deleteById(1L);
+
+        // Assert
+        assertEquals(updated, repository.findById(2L).orElseThrow());
+        assertFalse(repository.existsById(1L));
+        assertEquals(1, repository.count());
+        assertThrows(NoSuchElementException.class, () -> repository.deleteById(1L));
+        assertThrows(NoSuchElementException.class, () -> repository.update(1L, current -> current));
+    }
+
+    @Test
+    void testSaveAll_ShouldRouteEachPersonToOwningShard() {
+        // Arrange
+        List<Person> people = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            people.add(person(id, NAMES[(int) (id % NAMES.length)], 1980 + (int) (id % 20)));
+        }
+
+        // Act
+        repository.saveAll(people);
+
+        // Assert
+        assertEquals(100, repository.count());
+        for (Person person : people) {
+            assertEquals(person, repository.findById(person.id()).orElseThrow());
+        }
+    }
+
+    @Test
+    void testScans_ShouldMatchSingleRepository() {
+        // Arrange
+        Random random = new Random(42);
+        for (int i = 0; i < 3_000; i++) {
+            long id = random.nextInt(500) + 1;
+            if (random.nextInt(5) == 0) {
+                if (reference.existsById(id)) {
+                    reference.deleteById(id);
+                    repository.deleteById(id);
+                }
+            } else {
+                Person person = person(id, NAMES[random.nextInt(NAMES.length)] + " " + random.nextInt(50),
+                        1950 + random.nextInt(50));
+                reference.save(person);
+                repository.save(person);
+            }
+        }
+        DateRange nineties = new DateRange(LocalDate.of(1990, 1, 1), LocalDate.of(1999, 12, 31));
+        NameKey nameCursor = new NameKey("Carla", 0);
+        DateKey dateCursor = new DateKey(LocalDate.of(1980, 1, 1).toEpochDay(), 250);
+
+        // Act & Assert
+        assertEquals(reference.count(), repository.count());
+        assertEquals(ids(reference.streamOrderedByName()), ids(repository.findAll().stream()
+                .sorted(Comparator.comparing(NameKey::of))));
+        assertEquals(ids(reference.streamOrderedByName()), ids(repository.streamOrderedByName()));
+        assertEquals(ids(reference.streamOrderedByName(nameCursor)), ids(repository.streamOrderedByName(nameCursor)));
+        assertEquals(ids(reference.streamByDate(DateField.BIRTH_DATE, nineties)),
+                ids(repository.streamByDate(DateField.BIRTH_DATE, nineties)));
+        assertEquals(ids(reference.streamByDate(DateField.BIRTH_DATE, DateRange.UNBOUNDED, dateCursor)),
+                ids(repository.streamByDate(DateField.BIRTH_DATE, DateRange.UNBOUNDED, dateCursor)));
+        for (boolean descending : new boolean[] {false, true}) {
+            assertEquals(ids(reference.findFirstByDate(DateField.BIRTH_DATE, descending, 20).stream()),
+                    ids(repository.findFirstByDate(DateField.BIRTH_DATE, descending, 20).stream()));
+        }
+        for (String query : List.of("jo", "maria s", "ana")) {
+            assertEquals(ids(reference.searchByName(query, NameMatch.PREFIX, 15).stream()),
+                    ids(repository.searchByName(query, NameMatch.PREFIX, 15).stream()), query);
+        }
+        assertEquals(ids(reference.searchByName("silva", NameMatch.CONTAINS, 1_000).stream()),
+                ids(repository.searchByName("silva", NameMatch.CONTAINS, 1_000).stream()));
+        assertEquals(ids(reference.searchByName("Marcia 7", NameMatch.FUZZY, 10).stream()),
+                ids(repository.searchByName("Marcia 7", NameMatch.FUZZY, 10).stream()));
+    }
+
+    @Test
+    void testStreamOrderedByName_ShouldInterleaveShards() {
+        // Arrange
+        for (long id = 1; id <= 100; id++) {
+            repository.save(person(id, "Pessoa %03d".formatted(id), 1990));
+        }
+
+        // Act
+        List<Long> firstPage = ids(repository.streamOrderedByName().limit(5));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), firstPage);
+    }
+
+    @Test
+    void testStreamAll_ShouldVisitEveryShard() {
+        // Arrange
+        for (long id = 1; id <= 100; id++) {
+            repository.save(person(id, "Pessoa %03d".formatted(id), 1990));
+        }
+
+        // Act
+        List<Long> all = ids(repository.streamAll()).stream().sorted().toList();
+
+        // Assert
+        assertEquals(LongStream.rangeClosed(1, 100).boxed().toList(), all);
+    }
+
+    @Test
+    void testFindAllById_ShouldKeepIdOrderAcrossShardsAndSkipMissing() {
+        // Arrange
+        for (long id = 1; id <= 100; id++) {
+            repository.save(person(id, "Pessoa %03d".formatted(id), 1990));
+        }
+        long[] wanted = LongStream.rangeClosed(51, 150).map(id -> 201 - id).toArray();
+
+        // Act
+        List<Long> found = ids(repository.findAllById(wanted).stream());
+
+        // Assert
+        assertEquals(LongStream.rangeClosed(51, 100).map(id -> 151 - id).boxed().toList(), found);
+    }
+
+    private static List<Long> ids(Stream<Person> people) {
+        return people.map(Person::id).toList();
+    }
+
+    private static Person person(long id, String name, int birthYear) {
+        return new Person(id, name, LocalDate.of(birthYear, 1 + (int) (id % 12), 1), LocalDate.of(2020, 1, 1));
+    }
+}
@@ -0,0 +1,150 @@
+package com.sccon.geocore.repository.cdc;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeLogTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2020, 1, 1);
+
+    private InMemoryPersonRepository repository;
+    private ChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPersonRepository();
+        changeLog = new ChangeLog(4);
+        repository.addChangeListener(changeLog);
+    }
+
+    @Test
+    void testRead_ShouldReturnSequencedMutations() {
+        // Arrange
+        repository.save(person(1L, "Ana"));
+        repository.update(1L, current -> current.withName("Ana Souza"));
+        repository.deleteById(1L);
+
+        // Act
+        ChangeBatch all = changeLog.read(0, 10);
+        ChangeBatch afterFirst = changeLog.read(1, 1);
+
+        // Assert
+        assertFalse(all.resyncRequired());
+        assertEquals(3, all.lastSequence());
+        assertEquals(List.of(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.DELETED),
+                all.events().stream().map(ChangeEvent::type).toList());
+        assertEquals(new ChangeEvent(2, ChangeType.UPDATED, 1L, person(1L, "Ana Souza")), afterFirst.events().get(0));
+        assertEquals(1, afterFirst.events().size());
+        assertNull(all.events().get(2).person());
+        assertTrue(changeLog.read(3, 10).events().isEmpty());
+    }
+
+    @Test
+    void testRead_BehindBuffer_ShouldRequireResync() {
+        // Arrange
+        for (long id = 1; id <= 6; id++) {
+            repository.save(person(id, "Pessoa " + id));
+        }
+
+        // Act
+        ChangeBatch behind = changeLog.read(1, 10);
+        ChangeBatch oldestKept = changeLog.read(2, 10);
+        ChangeBatch ahead = changeLog.read(7, 10);
+
+        // Assert
+        assertTrue(behind.resyncRequired());
+        assertTrue(behind.events().isEmpty());
+        assertEquals(6, behind.lastSequence());
+        assertFalse(oldestKept.resyncRequired());
+        assertEquals(List.of(3L, 4L, 5L, 6L), oldestKept.events().stream().map(ChangeEvent::id).toList());
+        assertTrue(ahead.resyncRequired());
+    }
+
+    @Test
+    void testRead_PositionFromOtherEpoch_ShouldRequireResyncUnlessAtStart() {
+        // Arrange
+        repository.save(person(1L, "Ana"));
+        repository.save(person(2L, "Bruno"));
+        long epoch = changeLog.currentVersion().epoch();
+
+        // Act
+        ChangeBatch sameEpoch = changeLog.read(new StoreVersion(epoch, 1), 10);
+        ChangeBatch otherEpoch = changeLog.read(new StoreVersion(epoch - 1, 1), 10);
+        ChangeBatch fromStart = changeLog.read(new StoreVersion(0, 0), 10);
+
+        // Assert
+        assertEquals(List.of(2L), sameEpoch.events().stream().map(ChangeEvent::id).toList());
+        assertTrue(otherEpoch.resyncRequired());
+        assertEquals(epoch, otherEpoch.epoch());
+        assertEquals(2, otherEpoch.lastSequence());
+        assertEquals(2, fromStart.events().size());
+    }
+
+    @Test
+    void testFailedWrite_ShouldNotAppend() {
+        // Act
+        assertThrows(RuntimeException.class, () -> repository.deleteById(1L));
+
+        // Assert
+        assertEquals(0, changeLog.lastSequence());
+    }
+
+    @Test
+    void testAwaitAfter_ShouldWakeOnWrite() throws InterruptedException {
+        // Arrange
+        Thread writer = new Thread(() -> repository.save(person(1L, "Ana")));
+
+        // Act
+        writer.start();
+        boolean changed = changeLog.awaitAfter(0, Duration.ofSeconds(10));
+        writer.join();
+
+        // Assert
+        assertTrue(changed);
+        assertFalse(changeLog.awaitAfter(1, Duration.ofMillis(10)));
+    }
+
+    @Test
+    void testOnChange_ConcurrentWriters_ShouldPublishGaplessSequence() throws InterruptedException {
+        // Arrange
+        ChangeLog log = new ChangeLog(100_000);
+        int writers = 4;
+        int writesPerWriter = 5_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            long base = w * 1_000_000L;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < writesPerWriter; i++) {
+                    log.onChange(null, person(base + i, "Pessoa"));
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        ChangeBatch all = log.read(0, writers * writesPerWriter);
+
+        // Assert
+        assertEquals(writers * writesPerWriter, log.lastSequence());
+        assertEquals(LongStream.rangeClosed(1, writers * writesPerWriter).boxed().toList(),
+                all.events().stream().map(ChangeEvent::sequence).toList());
+    }
+
+    private static Person person(long id, String name) {
+        return new Person(id, name, BIRTH_DATE, ADMISSION_DATE);
+    }
+}
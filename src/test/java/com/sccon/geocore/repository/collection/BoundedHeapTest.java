@@ -0,0 +1,51 @@
+package com.sccon.geocore.repository.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedHeapTest {
+
+    @Test
+    void testOffer_ShouldKeepFirstElementsInOrder() {
+        // Arrange
+        Random random = new Random(42);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(random.nextInt(1_000));
+        }
+
+        for (Comparator<Integer> order : List.of(Comparator.<Integer>naturalOrder(), Comparator.<Integer>reverseOrder())) {
+            BoundedHeap<Integer> heap = new BoundedHeap<>(25, order);
+
+            // Act
+            values.forEach(heap::offer);
+
+            // Assert
+            assertEquals(values.stream().sorted(order).limit(25).toList(), heap.toSortedList());
+        }
+    }
+
+    @Test
+    void testOffer_FewerElementsThanCapacityOrZeroCapacity_ShouldKeepWhatFits() {
+        // Arrange
+        BoundedHeap<Integer> large = new BoundedHeap<>(10, Comparator.naturalOrder());
+        BoundedHeap<Integer> empty = new BoundedHeap<>(0, Comparator.naturalOrder());
+
+        // Act
+        for (int value : new int[] {3, 1, 2}) {
+            large.offer(value);
+            empty.offer(value);
+        }
+
+        // Assert
+        assertEquals(List.of(1, 2, 3), large.toSortedList());
+        assertTrue(empty.toSortedList().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new BoundedHeap<Integer>(-1, Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.sccon.geocore.repository.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLongObjectMapTest {
+
+    @Test
+    void testPutGetRemove_ShouldHandleZeroAndNegativeKeys() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+
+        // Act
+        map.put(0L, "zero");
+        map.put(-1L, "menos um");
+        map.put(Long.MAX_VALUE, "máximo");
+
+        // Assert
+        assertEquals("zero", map.get(0L));
+        assertEquals("menos um", map.get(-1L));
+        assertEquals("máximo", map.get(Long.MAX_VALUE));
+        assertEquals("zero", map.remove(0L));
+        assertNull(map.get(0L));
+        assertFalse(map.containsKey(0L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testReinsertAfterRemove_ShouldReuseSlot() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>(1);
+
+        // Act
+        for (int round = 0; round < 1_000; round++) {
+            map.put(42L, "v" + round);
+            map.remove(42L);
+        }
+        map.put(42L, "final");
+
+        // Assert
+        assertEquals("final", map.get(42L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testCompute_ThrowingRemapper_ShouldLeaveMapUnchanged() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        map.put(1L, "original");
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> map.compute(1L, (key, current) -> {
+            throw new IllegalStateException("falha");
+        }));
+
+        // Assert
+        assertEquals("original", map.get(1L));
+    }
+
+    @Test
+    void testManyKeys_ShouldSurviveRehashWithTombstones() {
+        // Arrange
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(4);
+
+        // Act
+        for (long key = 0; key < 100_000; key++) {
+            map.put(key, key * 2);
+        }
+        for (long key = 0; key < 100_000; key += 2) {
+            map.remove(key);
+        }
+
+        // Assert
+        assertEquals(50_000, map.size());
+        assertEquals(50_000, map.values().count());
+        for (long key = 0; key < 100_000; key++) {
+            assertEquals(key % 2 == 0 ? null : key * 2, map.get(key));
+        }
+    }
+
+    @Test
+    void testConcurrentCompute_ShouldNotLoseUpdates() throws Exception {
+        // Arrange
+        ConcurrentLongObjectMap<Integer> map = new ConcurrentLongObjectMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (long key = 0; key < 10_000; key++) {
+                    map.compute(key, (k, current) -> current == null ? 1 : current + 1);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(10_000, map.size());
+        for (long key = 0; key < 10_000; key++) {
+            assertEquals(8, map.get(key));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.sccon.geocore.repository.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentLongMapTest {
+
+    @Test
+    void testPutGetRemove_ShouldHandleZeroAndNegativeKeys() {
+        // Arrange
+        PersistentLongMap<String> map = PersistentLongMap.empty();
+
+        // Act
+        map = map.put(0L, "zero").put(-1L, "menos um").put(Long.MAX_VALUE, "máximo");
+        PersistentLongMap<String> removed = map.remove(0L);
+
+        // Assert
+        assertEquals("zero", map.get(0L));
+        assertEquals("menos um", map.get(-1L));
+        assertEquals("máximo", map.get(Long.MAX_VALUE));
+        assertEquals(3, map.size());
+        assertNull(removed.get(0L));
+        assertEquals(2, removed.size());
+        assertSame(removed, removed.remove(0L));
+    }
+
+    @Test
+    void testOldVersions_ShouldRemainUnchanged() {
+        // Arrange
+        List<PersistentLongMap<Long>> versions = new ArrayList<>();
+        PersistentLongMap<Long> map = PersistentLongMap.empty();
+
+        // Act
+        for (long key = 0; key < 1_000; key++) {
+            versions.add(map);
+            map = map.put(key, key);
+        }
+        PersistentLongMap<Long> emptied = map;
+        for (long key = 0; key < 1_000; key++) {
+            emptied = emptied.remove(key);
+        }
+
+        // Assert
+        for (int version = 0; version < versions.size(); version++) {
+            PersistentLongMap<Long> old = versions.get(version);
+            assertEquals(version, old.size());
+            assertEquals(version, old.values().count());
+            assertNull(old.get(version));
+        }
+        assertEquals(1_000, map.values().distinct().count());
+        assertEquals(0, emptied.size());
+        assertEquals(0, emptied.values().count());
+    }
+
+    @Test
+    void testRandomOperations_ShouldMatchHashMap() {
+        // Arrange
+        Random random = new Random(42);
+        Map<Long, Integer> expected = new HashMap<>();
+        PersistentLongMap<Integer> map = PersistentLongMap.empty();
+
+        // Act
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(5_000) - 2_500L;
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        List<Integer> iterated = new ArrayList<>();
+        map.forEachValue(iterated::add);
+        assertEquals(expected.values().stream().sorted().toList(), iterated.stream().sorted().toList());
+        assertEquals(iterated, map.values().toList());
+    }
+}
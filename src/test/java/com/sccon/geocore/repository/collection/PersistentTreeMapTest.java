@@ -0,0 +1,84 @@
+package com.sccon.geocore.repository.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentTreeMapTest {
+
+    @Test
+    void testRandomOperations_ShouldMatchTreeMap() {
+        // Arrange
+        Random random = new Random(42);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+
+        // Act
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        assertEquals(List.copyOf(expected.values()), map.values().toList());
+        assertEquals(List.copyOf(expected.descendingMap().values()), map.descendingValues().toList());
+        assertEquals(List.copyOf(expected.tailMap(1_000, true).values()), map.valuesFrom(1_000, true).toList());
+        assertEquals(List.copyOf(expected.tailMap(1_000, false).values()), map.valuesFrom(1_000, false).toList());
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    void testOldVersions_ShouldRemainUnchanged() {
+        // Arrange
+        List<PersistentTreeMap<Integer, Integer>> versions = new ArrayList<>();
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+
+        // Act
+        for (int key = 0; key < 1_000; key++) {
+            versions.add(map);
+            map = map.put(key, key);
+        }
+        PersistentTreeMap<Integer, Integer> emptied = map;
+        for (int key = 0; key < 1_000; key++) {
+            emptied = emptied.remove(key);
+        }
+
+        // Assert
+        for (int version = 0; version < versions.size(); version++) {
+            PersistentTreeMap<Integer, Integer> old = versions.get(version);
+            assertEquals(version, old.size());
+            assertEquals(version, old.values().count());
+            assertNull(old.get(version));
+        }
+        assertEquals(0, emptied.size());
+        assertEquals(0, emptied.values().count());
+    }
+
+    @Test
+    void testValuesFrom_ShouldBeLazyAndPositionAfterMissingKey() {
+        // Arrange
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.empty();
+        map = map.put(10, "dez").put(20, "vinte").put(30, "trinta");
+
+        // Act & Assert
+        assertEquals(List.of("vinte", "trinta"), map.valuesFrom(15, true).toList());
+        assertEquals(List.of("vinte"), map.valuesFrom(10, false).limit(1).toList());
+        assertEquals(List.of(), map.valuesFrom(30, false).toList());
+        assertSame(map, map.put(20, map.get(20)));
+        assertSame(map, map.remove(25));
+    }
+}
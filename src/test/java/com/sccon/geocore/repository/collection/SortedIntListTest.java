@@ -0,0 +1,85 @@
+package com.sccon.geocore.repository.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedIntListTest {
+
+    @Test
+    void testAddAndRemove_ShouldKeepValuesSortedAcrossBlocks() {
+        // Arrange
+        int[] keys = new int[20_000];
+        Random random = new Random(42);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(500);
+        }
+        Comparator<Integer> byKey = Comparator.<Integer>comparingInt(value -> keys[value]).thenComparingInt(value -> value);
+        SortedIntList list = new SortedIntList((a, b) -> byKey.compare(a, b));
+        List<Integer> expected = new ArrayList<>();
+
+        // Act
+        for (int value = 0; value < keys.length; value++) {
+            list.add(value);
+            expected.add(value);
+        }
+        for (int value = 0; value < keys.length; value += 3) {
+            assertTrue(list.remove(value));
+            expected.remove(Integer.valueOf(value));
+        }
+        expected.sort(byKey);
+
+        // Assert
+        assertEquals(expected, collect(list, value -> true));
+        assertEquals(expected.size(), list.size());
+        assertFalse(list.remove(0));
+    }
+
+    @Test
+    void testForEachFrom_ShouldStartAtFirstMatchingValue() {
+        // Arrange
+        SortedIntList list = new SortedIntList(Integer::compare);
+        for (int value = 2_000; value > 0; value--) {
+            list.add(value * 2);
+        }
+
+        // Act
+        List<Integer> fromMiddle = collect(list, value -> value > 1_001);
+        List<Integer> pastEnd = collect(list, value -> value > 4_000);
+
+        // Assert
+        assertEquals(1_002, fromMiddle.get(0));
+        assertEquals(1_500, fromMiddle.size());
+        assertTrue(pastEnd.isEmpty());
+    }
+
+    @Test
+    void testForEachDescending_ShouldStopWhenActionReturnsFalse() {
+        // Arrange
+        SortedIntList list = new SortedIntList(Integer::compare);
+        for (int value = 0; value < 1_500; value++) {
+            list.add(value);
+        }
+        List<Integer> visited = new ArrayList<>();
+
+        // Act
+        list.forEachDescending(value -> {
+            visited.add(value);
+            return visited.size() < 3;
+        });
+
+        // Assert
+        assertEquals(List.of(1_499, 1_498, 1_497), visited);
+    }
+
+    private static List<Integer> collect(SortedIntList list, java.util.function.IntPredicate from) {
+        List<Integer> values = new ArrayList<>();
+        list.forEachFrom(from, value -> values.add(value));
+        return values;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sccon.geocore.repository.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdAllocatorTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void testSequential_Advance_ShouldSkipUsedIds() {
+        // Arrange
+        SequentialIdAllocator allocator = new SequentialIdAllocator();
+
+        // Act
+        allocator.advance(3);
+        allocator.advance(1);
+
+        // Assert
+        assertEquals(4, allocator.nextId());
+        assertEquals(5, allocator.nextId());
+    }
+
+    @Test
+    void testSequential_ConcurrentAllocation_ShouldNeverRepeatIds() throws InterruptedException {
+        assertUniqueUnderContention(new SequentialIdAllocator());
+    }
+
+    @Test
+    void testSnowflake_ConcurrentAllocation_ShouldNeverRepeatIds() throws InterruptedException {
+        // Um relógio parado obriga o alocador a arrendar blocos à frente do tempo
+        assertUniqueUnderContention(new SnowflakeIdAllocator(7, FIXED_CLOCK));
+    }
+
+    @Test
+    void testSnowflake_DifferentNodes_ShouldNotCollide() {
+        // Arrange
+        SnowflakeIdAllocator nodeA = new SnowflakeIdAllocator(1, FIXED_CLOCK);
+        SnowflakeIdAllocator nodeB = new SnowflakeIdAllocator(2, FIXED_CLOCK);
+
+        // Act
+        long idA = nodeA.nextId();
+        long idB = nodeB.nextId();
+
+        // Assert
+        assertNotEquals(idA, idB);
+        assertEquals(1, SnowflakeIdAllocator.nodeOf(idA));
+        assertEquals(2, SnowflakeIdAllocator.nodeOf(idB));
+        assertTrue(idA > 0 && idB > 0);
+    }
+
+    @Test
+    void testSnowflake_AdvancePastCurrentBlock_ShouldLeaseLaterBlock() {
+        // Arrange
+        SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(3, FIXED_CLOCK);
+        long first = allocator.nextId();
+        long explicitId = first + (1_000L << (SnowflakeIdAllocator.NODE_BITS + SnowflakeIdAllocator.OFFSET_BITS));
+
+        // Act
+        allocator.advance(explicitId);
+        long next = allocator.nextId();
+
+        // Assert
+        assertTrue(next > explicitId);
+    }
+
+    @Test
+    void testSnowflake_InvalidNodeId_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdAllocator(SnowflakeIdAllocator.MAX_NODE_ID + 1, FIXED_CLOCK));
+    }
+
+    private static void assertUniqueUnderContention(IdAllocator allocator) throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(allocator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(threads * perThread, ids.size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.sccon.geocore.repository.index;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnniversaryWheelTest {
+
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2020, 1, 1);
+
+    private AnniversaryWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new AnniversaryWheel(DateField.BIRTH_DATE);
+        wheel.onChange(null, person(1L, LocalDate.of(1990, 3, 1)));
+        wheel.onChange(null, person(2L, LocalDate.of(1992, 2, 29)));
+        wheel.onChange(null, person(3L, LocalDate.of(1985, 2, 28)));
+        wheel.onChange(null, person(4L, LocalDate.of(1970, 12, 31)));
+    }
+
+    @Test
+    void testOn_LeapYear_ShouldKeepFebruary29OnItsOwnDay() {
+        assertEquals(List.of(3L), ids(LocalDate.of(2024, 2, 28)));
+        assertEquals(List.of(2L), ids(LocalDate.of(2024, 2, 29)));
+        assertEquals(List.of(1L), ids(LocalDate.of(2024, 3, 1)));
+        assertEquals(List.of(4L), ids(LocalDate.of(2024, 12, 31)));
+    }
+
+    @Test
+    void testOn_NonLeapYear_ShouldListFebruary29OnMarch1() {
+        assertEquals(List.of(3L), ids(LocalDate.of(2023, 2, 28)));
+        assertEquals(List.of(1L, 2L), ids(LocalDate.of(2023, 3, 1)));
+        assertEquals(List.of(4L), ids(LocalDate.of(2023, 12, 31)));
+    }
+
+    @Test
+    void testOnChange_UpdateAndDelete_ShouldMoveAndRemovePerson() {
+        // Arrange
+        Person previous = person(1L, LocalDate.of(1990, 3, 1));
+        Person moved = person(1L, LocalDate.of(1990, 2, 28));
+
+        // Act
+        wheel.onChange(previous, moved);
+        wheel.onChange(person(4L, LocalDate.of(1970, 12, 31)), null);
+
+        // Assert
+        assertEquals(List.of(1L, 3L), ids(LocalDate.of(2024, 2, 28)));
+        assertTrue(ids(LocalDate.of(2024, 3, 1)).isEmpty());
+        assertTrue(ids(LocalDate.of(2024, 12, 31)).isEmpty());
+    }
+
+    private List<Long> ids(LocalDate date) {
+        return wheel.on(date).map(Person::id).toList();
+    }
+
+    private static Person person(long id, LocalDate birthDate) {
+        return new Person(id, "Pessoa " + id, birthDate, ADMISSION_DATE);
+    }
+}
@@ -0,0 +1,176 @@
+package com.sccon.geocore.repository.index;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.MvccPersonRepository;
+import com.sccon.geocore.repository.NameMatch;
+import com.sccon.geocore.repository.OffHeapPersonRepository;
+import com.sccon.geocore.repository.PersonChangeListener;
+import com.sccon.geocore.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSearchIndexTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2020, 1, 1);
+
+    private InMemoryPersonRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPersonRepository();
+        repository.save(person(1L, "José da Silva"));
+        repository.save(person(2L, "Maria Santos"));
+        repository.save(person(3L, "João Oliveira"));
+        repository.save(person(4L, "Joana D'Ávila"));
+    }
+
+    @Test
+    void testNormalize_ShouldRemoveAccentsCaseAndPunctuation() {
+        assertEquals("joana d avila", NameNormalizer.normalize("  Joana D'Ávila "));
+        assertEquals("joao", NameNormalizer.normalize("JOÃO"));
+    }
+
+    @Test
+    void testPrefix_ShouldMatchAnyWordIgnoringAccents() {
+        assertEquals(List.of(4L, 3L, 1L), ids("jo", NameMatch.PREFIX));
+        assertEquals(List.of(3L), ids("João", NameMatch.PREFIX));
+        assertEquals(List.of(3L), ids("joao oli", NameMatch.PREFIX));
+        assertEquals(List.of(4L), ids("avi", NameMatch.PREFIX));
+        assertEquals(List.of(), ids("ilva", NameMatch.PREFIX));
+    }
+
+    @Test
+    void testContains_ShouldMatchInsideWordsOrderedByName() {
+        assertEquals(List.of(3L), ids("LIV", NameMatch.CONTAINS));
+        assertEquals(List.of(1L, 2L), ids("a s", NameMatch.CONTAINS));
+    }
+
+    @Test
+    void testFuzzy_ShouldTolerateTypos() {
+        assertEquals(2L, ids("Maria Santis", NameMatch.FUZZY).get(0));
+        assertEquals(3L, ids("joao oliveria", NameMatch.FUZZY).get(0));
+    }
+
+    @Test
+    void testRenameAndDelete_ShouldUpdateAllModes() {
+        // Act
+        repository.update(2L, current -> current.withName("Mariana Souza"));
+        repository.deleteById(1L);
+
+        // Assert
+        assertEquals(List.of(), ids("santos", NameMatch.PREFIX));
+        assertEquals(List.of(2L), ids("souza", NameMatch.PREFIX));
+        assertEquals(List.of(), ids("silva", NameMatch.CONTAINS));
+        assertTrue(ids("Maria Santos", NameMatch.FUZZY).isEmpty());
+    }
+
+    @Test
+    void testManyRenames_ShouldMatchDefaultImplementation() {
+        // Arrange
+        String[] first = {"Ana", "João", "José", "Maria", "Antônio", "Lúcia", "Mário"};
+        String[] last = {"Silva", "Santos", "Oliveira", "Souza", "Conceição", "Araújo"};
+        PersonRepository reference = new ScanningRepository();
+        List<PersonRepository> indexed = List.of(repository, new OffHeapPersonRepository(),
+                new MvccPersonRepository());
+        for (PersonRepository target : List.of(reference, indexed.get(1), indexed.get(2))) {
+            repository.findAll().forEach(target::save);
+        }
+        Random random = new Random(42);
+        for (int round = 0; round < 5_000; round++) {
+            long id = random.nextInt(300);
+            String name = first[random.nextInt(first.length)] + " " + last[random.nextInt(last.length)]
+                    + " " + last[random.nextInt(last.length)];
+            boolean delete = round % 7 == 0 && repository.existsById(id);
+            for (PersonRepository target : List.of(reference, indexed.get(0), indexed.get(1), indexed.get(2))) {
+                if (delete) {
+                    target.deleteById(id);
+                } else {
+                    target.save(person(id, name));
+                }
+            }
+        }
+
+        // Act & Assert
+        for (PersonRepository target : indexed) {
+            for (String query : List.of("jo", "mario s", "concei", "SOUZA ARAUJO", "lucia")) {
+                for (NameMatch match : NameMatch.values()) {
+                    assertEquals(reference.searchByName(query, match, 1000), target.searchByName(query, match, 1000),
+                            target.getClass().getSimpleName() + " / " + query + " / " + match);
+                }
+            }
+        }
+    }
+
+    private List<Long> ids(String query, NameMatch match) {
+        return repository.searchByName(query, match, 10).stream().map(Person::id).toList();
+    }
+
+    private static Person person(Long id, String name) {
+        return new Person(id, name, BIRTH_DATE, ADMISSION_DATE);
+    }
+
+    /**
+     * Repositório que mantém a busca por nome da implementação padrão, sem índice, como
+     * referência para os repositórios indexados.
+     */
+    private static final class ScanningRepository implements PersonRepository {
+
+        private final MvccPersonRepository delegate = new MvccPersonRepository();
+
+        @Override
+        public Person save(Person person) {
+            return delegate.save(person);
+        }
+
+        @Override
+        public Person insert(Person person) {
+            return delegate.insert(person);
+        }
+
+        @Override
+        public Optional<Person> findById(long id) {
+            return delegate.findById(id);
+        }
+
+        @Override
+        public Person update(long id, UnaryOperator<Person> updater) {
+            return delegate.update(id, updater);
+        }
+
+        @Override
+        public List<Person> findAll() {
+            return delegate.findAll();
+        }
+
+        @Override
+        public Stream<Person> streamAll() {
+            return delegate.streamAll();
+        }
+
+        @Override
+        public void addChangeListener(PersonChangeListener listener) {
+            delegate.addChangeListener(listener);
+        }
+
+        @Override
+        public void deleteById(long id) {
+            delegate.deleteById(id);
+        }
+
+        @Override
+        public boolean existsById(long id) {
+            return delegate.existsById(id);
+        }
+    }
+}
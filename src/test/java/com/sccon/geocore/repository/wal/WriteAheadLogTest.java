@@ -0,0 +1,455 @@
+package com.sccon.geocore.repository.wal;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAheadLogTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate ADMISSION_DATE = LocalDate.of(2020, 1, 1);
+    private static final String FIRST_SEGMENT = "wal-0000000000000001.log";
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(DurabilityMode.class)
+    void testRestart_ShouldRecoverAllMutations(DurabilityMode mode) throws IOException {
+        // Arrange
+        try (WriteAheadLog wal = open(mode)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            repository.save(person(1L, "José da Silva"));
+            repository.save(person(2L, "Maria Santos"));
+            repository.save(person(3L, "João Oliveira"));
+            repository.update(2L, current -> current.withName("Maria Santos Lima"));
+            repository.deleteById(3L);
+        }
+
+        // Act
+        try (WriteAheadLog wal = open(mode)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+
+            // Assert
+            assertEquals(List.of("José da Silva", "Maria Santos Lima"),
+                    recovered.streamOrderedByName().map(Person::name).toList());
+            assertFalse(recovered.existsById(3L));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DurabilityMode.class)
+    void testSaveAll_ShouldRecoverWholeBatch(DurabilityMode mode) throws IOException {
+        // Arrange
+        try (WriteAheadLog wal = open(mode)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            repository.saveAll(List.of(person(1L, "José da Silva"), person(2L, "Maria Santos"),
+                    person(1L, "José da Silva Lima")));
+        }
+
+        // Act
+        try (WriteAheadLog wal = open(mode)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+
+            // Assert
+            assertEquals(List.of("José da Silva Lima", "Maria Santos"),
+                    recovered.streamOrderedByName().map(Person::name).toList());
+        }
+    }
+
+    @Test
+    void testTornTail_ShouldBeDiscardedOnOpen() throws IOException {
+        // Arrange
+        try (WriteAheadLog wal = open(DurabilityMode.PER_WRITE)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            repository.save(person(1L, "José da Silva"));
+            repository.save(person(2L, "Maria Santos"));
+        }
+        Path segment = tempDir.resolve(FIRST_SEGMENT);
+        long sizeBeforeTear = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(sizeBeforeTear - 3);
+        }
+
+        // Act
+        try (WriteAheadLog wal = open(DurabilityMode.PER_WRITE)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+            recovered.save(person(4L, "Ana Souza"));
+
+            // Assert
+            assertTrue(recovered.existsById(1L));
+            assertFalse(recovered.existsById(2L));
+        }
+        try (WriteAheadLog wal = open(DurabilityMode.PER_WRITE)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+            assertTrue(recovered.existsById(4L));
+            assertEquals(2, recovered.count());
+        }
+    }
+
+    @Test
+    void testConcurrentWriters_Batched_ShouldBeDurableWhenCommitReturns() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        try (WriteAheadLog wal = open(DurabilityMode.BATCHED)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+
+            // Act
+            for (int t = 0; t < 8; t++) {
+                final long base = t * 1_000L;
+                futures.add(executor.submit(() -> {
+                    for (long id = base; id < base + 250; id++) {
+                        repository.save(person(id, "Pessoa " + id));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            // Assert
+            assertEquals(Files.size(tempDir.resolve(FIRST_SEGMENT)), wal.durableLsn());
+        } finally {
+            executor.shutdown();
+        }
+        try (WriteAheadLog wal = open(DurabilityMode.BATCHED)) {
+            assertEquals(2_000, new InMemoryPersonRepository(wal).count());
+        }
+    }
+
+    @Test
+    void testCheckpoint_ShouldRecoverFromSnapshotAndNewerSegments() throws IOException {
+        // Arrange
+        try (WriteAheadLog wal = open(DurabilityMode.PER_WRITE)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            repository.save(person(1L, "José da Silva"));
+            repository.save(person(2L, "Maria Santos"));
+            repository.save(person(3L, "João Oliveira"));
+
+            // Act
+            repository.checkpoint();
+            repository.update(1L, current -> current.withName("José da Silva Filho"));
+            repository.deleteById(2L);
+            repository.save(person(4L, "Ana Souza"));
+        }
+
+        // Assert
+        assertFalse(Files.exists(tempDir.resolve(FIRST_SEGMENT)));
+        assertTrue(Files.exists(tempDir.resolve("snapshot.bin")));
+        try (WriteAheadLog wal = open(DurabilityMode.PER_WRITE)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+            assertEquals(List.of("Ana Souza", "José da Silva Filho", "João Oliveira"),
+                    recovered.streamOrderedByName().map(Person::name).toList());
+        }
+    }
+
+    @Test
+    void testCheckpoint_WithConcurrentWriters_ShouldNotLoseMutations() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        try (WriteAheadLog wal = open(DurabilityMode.BATCHED)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            for (int t = 0; t < 4; t++) {
+                final long base = t * 10_000L;
+                futures.add(executor.submit(() -> {
+                    for (long id = base; id < base + 2_000; id++) {
+                        repository.save(person(id, "Pessoa " + id));
+                        if ((id - base) % 3 == 0) {
+                            repository.deleteById(id);
+                        }
+                    }
+                }));
+            }
+
+            // Act
+            for (int i = 0; i < 5; i++) {
+                repository.checkpoint();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertEquals(4 * (2_000 - 667), repository.count());
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        try (WriteAheadLog wal = open(DurabilityMode.BATCHED)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+            assertEquals(4 * (2_000 - 667), recovered.count());
+            assertFalse(recovered.existsById(10_003L));
+            assertTrue(recovered.existsById(10_001L));
+        }
+    }
+
+    @Test
+    void testFailedWrite_ShouldDiscardBatchWithoutLeavingTornRecord() throws IOException {
+        // Arrange
+        List<FailingChannel> channels = new ArrayList<>();
+        try (WriteAheadLog wal = openFailing(DurabilityMode.PER_WRITE, channels)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            repository.save(person(1L, "José da Silva"));
+            channels.get(0).failNextWrite = true;
+
+            // Act
+            assertThrows(UncheckedIOException.class, () -> repository.save(person(2L, "Maria Santos")));
+
+            // Assert
+            assertFalse(repository.existsById(2L));
+            assertThrows(UncheckedIOException.class, () -> repository.save(person(3L, "João Oliveira")));
+            assertFalse(repository.existsById(3L));
+        }
+        try (WriteAheadLog wal = open(DurabilityMode.PER_WRITE)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+            assertEquals(List.of(1L), recovered.findAll().stream().map(Person::id).toList());
+            recovered.save(person(4L, "Ana Souza"));
+            assertTrue(recovered.existsById(4L));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DurabilityMode.class, names = {"PER_WRITE", "BATCHED"})
+    void testFailedFsync_ShouldNotApplyNorPublishWrite(DurabilityMode mode) throws IOException {
+        // Arrange
+        List<FailingChannel> channels = new ArrayList<>();
+        List<Person> published = new ArrayList<>();
+        try (WriteAheadLog wal = openFailing(mode, channels)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            repository.save(person(1L, "José da Silva"));
+            repository.addChangeListener((previous, current) -> published.add(current));
+            channels.get(0).failNextForce = true;
+
+            // Act
+            assertThrows(UncheckedIOException.class, () -> repository.update(1L,
+                    existing -> person(1L, "José da Silva Santos")));
+            assertThrows(UncheckedIOException.class, () -> repository.saveAll(List.of(
+                    person(2L, "Maria Santos"), person(3L, "João Oliveira"))));
+
+            // Assert
+            assertEquals("José da Silva", repository.findById(1L).orElseThrow().name());
+            assertFalse(repository.existsById(2L));
+            assertFalse(repository.existsById(3L));
+            assertEquals(1, repository.count());
+            assertTrue(published.isEmpty());
+        }
+        try (WriteAheadLog wal = open(mode)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+            assertEquals(List.of(person(1L, "José da Silva")), recovered.findAll());
+        }
+    }
+
+    @Test
+    void testFailedWrite_Async_ShouldBeRetriedByNextFlush() throws Exception {
+        // Arrange
+        List<FailingChannel> channels = new ArrayList<>();
+        try (WriteAheadLog wal = openFailing(DurabilityMode.ASYNC, channels)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            channels.get(0).failNextWrite = true;
+
+            // Act
+            repository.save(person(1L, "José da Silva"));
+            repository.save(person(2L, "Maria Santos"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while ((channels.get(0).failures == 0 || wal.durableLsn() == 0) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, channels.get(0).failures);
+        }
+
+        // Assert
+        try (WriteAheadLog wal = open(DurabilityMode.ASYNC)) {
+            InMemoryPersonRepository recovered = new InMemoryPersonRepository(wal);
+            assertEquals(2, recovered.count());
+        }
+    }
+
+    @Test
+    void testFailedWrite_TruncateAlsoFails_ShouldRejectLaterCommits() throws IOException {
+        // Arrange
+        List<FailingChannel> channels = new ArrayList<>();
+        try (WriteAheadLog wal = openFailing(DurabilityMode.BATCHED, channels)) {
+            InMemoryPersonRepository repository = new InMemoryPersonRepository(wal);
+            channels.get(0).failNextWrite = true;
+            channels.get(0).failTruncate = true;
+            assertThrows(UncheckedIOException.class, () -> repository.save(person(1L, "José da Silva")));
+            channels.get(0).failTruncate = false;
+
+            // Act & Assert
+            assertThrows(UncheckedIOException.class, () -> repository.save(person(2L, "Maria Santos")));
+            assertThrows(UncheckedIOException.class, wal::commit);
+            assertEquals(0, repository.count());
+        }
+    }
+
+    @Test
+    void testCheckpoint_WithoutWriteAheadLog_ShouldThrow() {
+        InMemoryPersonRepository repository = new InMemoryPersonRepository();
+
+        assertThrows(IllegalStateException.class, repository::checkpoint);
+    }
+
+    private WriteAheadLog open(DurabilityMode mode) throws IOException {
+        return new WriteAheadLog(tempDir, mode, Duration.ofMillis(5));
+    }
+
+    private WriteAheadLog openFailing(DurabilityMode mode, List<FailingChannel> channels) throws IOException {
+        return new WriteAheadLog(tempDir, mode, Duration.ofMillis(5), path -> {
+            FailingChannel channel = new FailingChannel(FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE));
+            channels.add(channel);
+            return channel;
+        });
+    }
+
+    /**
+     * Canal que delega a um arquivo real e, quando armado, grava metade do buffer e falha,
+     * como um disco cheio no meio de um registro, ou falha no próximo fsync.
+     */
+    private static class FailingChannel extends FileChannel {
+
+        private final FileChannel delegate;
+        volatile boolean failNextWrite;
+        volatile boolean failTruncate;
+        volatile boolean failNextForce;
+        volatile int failures;
+
+        FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failNextWrite) {
+                failNextWrite = false;
+                failures++;
+                ByteBuffer half = src.duplicate();
+                half.limit(src.position() + src.remaining() / 2);
+                int written = delegate.write(half);
+                src.position(src.position() + written);
+                throw new IOException("Sem espaço no dispositivo");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            if (failTruncate) {
+                throw new IOException("Falha ao truncar");
+            }
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (failNextForce) {
+                failNextForce = false;
+                failures++;
+                throw new IOException("Erro de E/S no fsync");
+            }
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static Person person(Long id, String name) {
+        return new Person(id, name, BIRTH_DATE, ADMISSION_DATE);
+    }
+}
@@ -114,4 +114,49 @@ class AgeServiceTest {
         
         assertTrue(exception.getMessage().contains("Data de admissão não pode ser no futuro"));
     }
+
+    @Test
+    void testDiffAll_ShouldMatchDiffIncludingMonthEndsAndLeapDays() {
+        // Arrange
+        LocalDate[] referenceDates = {
+                LocalDate.of(2023, 2, 1), LocalDate.of(2023, 2, 28), LocalDate.of(2024, 2, 28),
+                LocalDate.of(2024, 2, 29), LocalDate.of(2023, 3, 1), LocalDate.of(2024, 3, 1),
+                LocalDate.of(2023, 3, 31), LocalDate.of(2023, 4, 30), LocalDate.of(2023, 12, 31),
+                LocalDate.of(2100, 3, 1), LocalDate.of(1970, 1, 1)
+        };
+        LocalDate firstBirthDate = LocalDate.of(1760, 12, 25);
+
+        for (LocalDate today : referenceDates) {
+            int count = (int) (today.toEpochDay() - firstBirthDate.toEpochDay()) + 1;
+            int[] birthEpochDays = new int[count];
+            for (int i = 0; i < count; i++) {
+                birthEpochDays[i] = (int) firstBirthDate.toEpochDay() + i;
+            }
+            int[] years = new int[count];
+            int[] months = new int[count];
+            int[] days = new int[count];
+
+            // Act
+            ageService.diffAll(birthEpochDays, count, today, years, months, days);
+
+            // Assert
+            for (int i = 0; i < count; i++) {
+                LocalDate birthDate = LocalDate.ofEpochDay(birthEpochDays[i]);
+                AgeService.Age expected = ageService.diff(birthDate, today);
+                assertEquals(expected, new AgeService.Age(years[i], months[i], days[i]),
+                        () -> birthDate + " até " + today);
+            }
+        }
+    }
+
+    @Test
+    void testDiffAll_FutureBirthDate_ShouldThrowException() {
+        // Arrange
+        int[] birthEpochDays = {(int) LocalDate.of(2000, 1, 1).toEpochDay(), (int) LocalDate.of(2023, 2, 2).toEpochDay()};
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ageService.diffAll(birthEpochDays, 2, LocalDate.of(2023, 2, 1), new int[2], null, null));
+        assertEquals("Data de nascimento não pode ser no futuro", exception.getMessage());
+    }
 }
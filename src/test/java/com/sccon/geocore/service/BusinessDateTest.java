@@ -0,0 +1,86 @@
+package com.sccon.geocore.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessDateTest {
+
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    void testToday_ShouldRollOverAtMidnightInClockZone() {
+        // Arrange
+        MutableClock clock = new MutableClock(at(LocalDateTime.of(2024, 2, 28, 23, 59, 59)));
+        BusinessDate businessDate = new BusinessDate(clock);
+
+        // Act
+        LocalDate beforeMidnight = businessDate.today();
+        clock.set(at(LocalDateTime.of(2024, 2, 29, 0, 0)));
+        LocalDate afterMidnight = businessDate.today();
+
+        // Assert
+        assertEquals(LocalDate.of(2024, 2, 28), beforeMidnight);
+        assertEquals(LocalDate.of(2024, 2, 29), afterMidnight);
+    }
+
+    @Test
+    void testToday_ClockMovedBack_ShouldRecalculate() {
+        // Arrange
+        MutableClock clock = new MutableClock(at(LocalDateTime.of(2024, 3, 1, 8, 0)));
+        BusinessDate businessDate = new BusinessDate(clock);
+        businessDate.today();
+
+        // Act
+        clock.set(at(LocalDateTime.of(2024, 2, 29, 23, 0)));
+
+        // Assert
+        assertEquals(LocalDate.of(2024, 2, 29), businessDate.today());
+    }
+
+    private static long at(LocalDateTime dateTime) {
+        return dateTime.atZone(SAO_PAULO).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Relógio ajustável, para simular a passagem do tempo.
+     */
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis;
+
+        MutableClock(long millis) {
+            this.millis = new AtomicLong(millis);
+        }
+
+        void set(long millis) {
+            this.millis.set(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SAO_PAULO;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CelebrationCalendarTest {
+
+    private static final Comparator<UpcomingCelebrations.Celebration> ORDER =
+            Comparator.comparing(UpcomingCelebrations.Celebration::date)
+                    .thenComparingLong(celebration -> celebration.person().id());
+
+    private InMemoryPersonRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPersonRepository();
+        Random random = new Random(42);
+        LocalDate firstBirth = LocalDate.of(1950, 1, 1);
+        for (long id = 1; id <= 2_000; id++) {
+            LocalDate birthDate = firstBirth.plusDays(random.nextInt(18_000));
+            repository.save(new Person(id, "Pessoa " + id, birthDate, birthDate.plusDays(6_600 + random.nextInt(8_000))));
+        }
+        repository.save(new Person(3_000L, "Bissexta", LocalDate.of(1988, 2, 29), LocalDate.of(2020, 2, 29)));
+    }
+
+    @Test
+    void testUpcoming_ShouldListDaysWhenCompletedYearsIncrease() {
+        for (LocalDate today : List.of(LocalDate.of(2023, 2, 25), LocalDate.of(2024, 2, 26),
+                LocalDate.of(2023, 12, 28), LocalDate.of(2024, 6, 10))) {
+            // Arrange
+            CelebrationCalendar calendar = calendarOn(today);
+
+            for (CelebrationType type : CelebrationType.values()) {
+                // Act
+                UpcomingCelebrations upcoming = calendar.upcoming(
+                        type == CelebrationType.BIRTHDAY ? "birthday" : "anniversary", 10);
+
+                // Assert
+                List<UpcomingCelebrations.Celebration> expected = new ArrayList<>();
+                for (int offset = 0; offset < 10; offset++) {
+                    LocalDate date = today.plusDays(offset);
+                    for (Person person : repository.findAll()) {
+                        LocalDate celebrated = type.field().of(person);
+                        int years = SalaryService.calculateYearsWorked(celebrated, date);
+                        if (years > 0 && years > SalaryService.calculateYearsWorked(celebrated, date.minusDays(1))) {
+                            expected.add(new UpcomingCelebrations.Celebration(person, date, years));
+                        }
+                    }
+                }
+                expected.sort(ORDER);
+                assertEquals(today, upcoming.date());
+                assertEquals(expected, upcoming.celebrations().stream().sorted(ORDER).toList(), today + " " + type);
+            }
+        }
+    }
+
+    @Test
+    void testUpcoming_ShouldFollowRepositoryWritesAndSkipZeroYears() {
+        // Arrange
+        CelebrationCalendar calendar = calendarOn(LocalDate.of(2023, 3, 1));
+        repository.deleteById(3_000L);
+        repository.save(new Person(4_000L, "Recém-admitida", LocalDate.of(2000, 3, 1), LocalDate.of(2023, 3, 1)));
+        repository.update(1L, person -> person.withBirthDate(LocalDate.of(1980, 3, 2)));
+
+        // Act
+        UpcomingCelebrations anniversaries = calendar.upcoming("anniversary", 1);
+        UpcomingCelebrations birthdays = calendar.upcoming("BIRTHDAY", 2);
+
+        // Assert
+        assertTrue(anniversaries.celebrations().stream()
+                .noneMatch(celebration -> celebration.person().id() >= 3_000L));
+        assertTrue(birthdays.celebrations().stream().anyMatch(celebration -> celebration.person().id() == 4_000L
+                && celebration.years() == 23));
+        assertTrue(birthdays.celebrations().stream().anyMatch(celebration -> celebration.person().id() == 1L
+                && celebration.date().equals(LocalDate.of(2023, 3, 2)) && celebration.years() == 43));
+    }
+
+    @Test
+    void testUpcoming_InvalidParameters_ShouldThrow() {
+        // Arrange
+        CelebrationCalendar calendar = calendarOn(LocalDate.of(2023, 3, 1));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> calendar.upcoming("wedding", 7));
+        assertThrows(IllegalArgumentException.class, () -> calendar.upcoming("birthday", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> calendar.upcoming("birthday", CelebrationCalendar.MAX_DAYS + 1));
+    }
+
+    private CelebrationCalendar calendarOn(LocalDate today) {
+        Clock clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        CelebrationCalendar calendar = new CelebrationCalendar(new BusinessDate(clock));
+        repository.findAll().forEach(calendar::add);
+        repository.addChangeListener(calendar);
+        return calendar;
+    }
+}
@@ -0,0 +1,120 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyResultCacheTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2023-02-01T10:00:00Z"));
+    private final AtomicInteger computations = new AtomicInteger();
+    private final Person ana = new Person(1L, "Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+    private DailyResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        cache = new DailyResultCache(new BusinessDate(clock), 10);
+    }
+
+    @Test
+    void testGet_SameDay_ShouldComputeOnce() {
+        // Act
+        long first = daysSinceBirth(ana);
+        long second = daysSinceBirth(ana);
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    void testGet_DateRollover_ShouldRecomputeWithNewDate() {
+        // Arrange
+        long before = daysSinceBirth(ana);
+
+        // Act
+        now.set(Instant.parse("2023-02-02T00:00:00Z"));
+        long after = daysSinceBirth(ana);
+
+        // Assert
+        assertEquals(before + 1, after);
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    void testGet_ChangedPerson_ShouldNotReuseStaleResult() {
+        // Arrange
+        daysSinceBirth(ana);
+        Person updated = new Person(1L, "Ana Souza", LocalDate.of(1991, 1, 1), ana.admissionDate());
+
+        // Act
+        long days = daysSinceBirth(updated);
+
+        // Assert
+        assertEquals(ChronoUnit.DAYS.between(LocalDate.of(1991, 1, 1), LocalDate.of(2023, 2, 1)), days);
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    void testOnChange_ShouldDropPersonResults() {
+        // Arrange
+        daysSinceBirth(ana);
+
+        // Act
+        cache.onChange(ana, null);
+
+        // Assert
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testGet_Full_ShouldComputeWithoutStoringNewPeople() {
+        // Arrange
+        for (long id = 100; id < 110; id++) {
+            daysSinceBirth(new Person(id, "Pessoa " + id, ana.birthDate(), ana.admissionDate()));
+        }
+
+        // Act
+        daysSinceBirth(ana);
+        daysSinceBirth(ana);
+
+        // Assert
+        assertEquals(10, cache.size());
+        assertEquals(12, computations.get());
+    }
+
+    private long daysSinceBirth(Person person) {
+        Long days = cache.get(person, "age:days", today -> {
+            computations.incrementAndGet();
+            return ChronoUnit.DAYS.between(person.birthDate(), today);
+        });
+        return days;
+    }
+}
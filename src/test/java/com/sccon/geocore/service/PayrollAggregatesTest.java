@@ -0,0 +1,280 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayrollAggregatesTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2023-02-01T10:00:00Z"));
+    private BusinessDate businessDate;
+    private SalaryService salaryService;
+    private InMemoryPersonRepository repository;
+    private PayrollAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        businessDate = new BusinessDate(clock);
+        salaryService = new SalaryService(businessDate);
+        repository = new InMemoryPersonRepository();
+        aggregates = new PayrollAggregates(businessDate);
+        repository.addChangeListener(aggregates);
+    }
+
+    @Test
+    void testSummary_Empty_ShouldReturnZeros() {
+        // Act
+        PayrollSummary summary = aggregates.summary();
+
+        // Assert
+        assertEquals(0, summary.headcount());
+        assertEquals(new BigDecimal("0.00"), summary.totalPayroll());
+        assertEquals(new BigDecimal("0.00"), summary.averageSalary());
+        assertEquals(PayrollAggregates.BUCKET_START_YEARS.length, summary.buckets().size());
+        assertNull(summary.buckets().get(summary.buckets().size() - 1).maxYears());
+    }
+
+    @Test
+    void testSummary_AfterSavesUpdatesAndDeletes_ShouldMatchFullScan() {
+        // Arrange
+        for (long id = 1; id <= 200; id++) {
+            repository.save(new Person(id, "Pessoa " + id, LocalDate.of(1980, 1, 1),
+                    LocalDate.of(1985, 1, 1).plusDays(id * 97)));
+        }
+        repository.save(new Person(5L, "Pessoa 5", LocalDate.of(1980, 1, 1), LocalDate.of(2022, 6, 1)));
+        repository.save(new Person(6L, "Pessoa Renomeada", LocalDate.of(1980, 1, 1),
+                repository.findById(6L).orElseThrow().admissionDate()));
+        repository.deleteById(7L);
+
+        // Act
+        PayrollSummary summary = aggregates.summary();
+
+        // Assert
+        assertEquals(repository.count(), summary.headcount());
+        assertEquals(fullScanTotal(), summary.totalPayroll());
+        assertEquals(summary.headcount(), summary.buckets().stream().mapToLong(PayrollSummary.TenureBucket::headcount).sum());
+    }
+
+    @Test
+    void testSummary_BucketBoundaries_ShouldGroupByCompletedYears() {
+        // Arrange
+        repository.save(new Person(1L, "Ana", LocalDate.of(1990, 1, 1), LocalDate.of(2022, 6, 1)));
+        repository.save(new Person(2L, "Bruno", LocalDate.of(1990, 1, 1), LocalDate.of(2022, 2, 1)));
+        repository.save(new Person(3L, "Carla", LocalDate.of(1960, 1, 1), LocalDate.of(1980, 1, 1)));
+
+        // Act
+        List<PayrollSummary.TenureBucket> buckets = aggregates.summary().buckets();
+
+        // Assert
+        assertEquals(1, buckets.get(0).headcount());
+        assertEquals(0, buckets.get(0).maxYears());
+        assertEquals(1, buckets.get(1).headcount());
+        assertEquals(1, buckets.get(1).minYears());
+        assertEquals(1, buckets.get(buckets.size() - 1).headcount());
+        assertEquals(BigDecimal.valueOf(Math.round(salaryService.salaryForYearsOfService(1) * 100), 2),
+                buckets.get(1).averageSalary());
+    }
+
+    @Test
+    void testSummary_DateRollover_ShouldMovePeopleAcrossBuckets() {
+        // Arrange
+        repository.save(new Person(1L, "Ana", LocalDate.of(1990, 1, 1), LocalDate.of(2022, 2, 2)));
+        PayrollSummary before = aggregates.summary();
+
+        // Act
+        now.set(now.get().plus(1, ChronoUnit.DAYS));
+        PayrollSummary after = aggregates.summary();
+
+        // Assert
+        assertEquals(1, before.buckets().get(0).headcount());
+        assertEquals(0, after.buckets().get(0).headcount());
+        assertEquals(1, after.buckets().get(1).headcount());
+        assertEquals(LocalDate.of(2023, 2, 2), after.date());
+        assertEquals(fullScanTotal(), after.totalPayroll());
+    }
+
+    @Test
+    void testSummary_SeveralDaysAndYearsLater_ShouldMatchFullScan() {
+        // Arrange
+        for (long id = 1; id <= 500; id++) {
+            repository.save(new Person(id, "Pessoa " + id, LocalDate.of(1980, 1, 1),
+                    LocalDate.of(2000, 1, 1).plusDays(id * 13)));
+        }
+        aggregates.summary();
+
+        // Act & Assert
+        for (int days : new int[]{1, 45, 400, -30, 3}) {
+            now.set(now.get().plus(days, ChronoUnit.DAYS));
+            repository.save(new Person(1_000L + days, "Nova", LocalDate.of(1980, 1, 1), LocalDate.of(2010, 3, 1)));
+            PayrollSummary summary = aggregates.summary();
+            assertEquals(businessDate.today(), summary.date());
+            assertEquals(repository.count(), summary.headcount());
+            assertEquals(fullScanTotal(), summary.totalPayroll(), "após " + days + " dias");
+        }
+    }
+
+    @Test
+    void testSummary_February29Admission_ShouldCompleteYearOnMarch1() {
+        // Arrange
+        now.set(Instant.parse("2021-02-28T10:00:00Z"));
+        PayrollAggregates leapYear = new PayrollAggregates(businessDate);
+        repository.addChangeListener(leapYear);
+        repository.save(new Person(1L, "Ana", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 2, 29)));
+        assertEquals(1, leapYear.summary().buckets().get(0).headcount());
+
+        // Act
+        now.set(Instant.parse("2021-03-01T10:00:00Z"));
+        PayrollSummary summary = leapYear.summary();
+
+        // Assert
+        assertEquals(0, summary.buckets().get(0).headcount());
+        assertEquals(1, summary.buckets().get(1).headcount());
+        assertEquals(fullScanTotal(), summary.totalPayroll());
+    }
+
+    @Test
+    void testSummary_NoWrites_ShouldReuseSummary() {
+        // Arrange
+        repository.save(new Person(1L, "Ana", LocalDate.of(1990, 1, 1), LocalDate.of(2015, 1, 1)));
+
+        // Act
+        PayrollSummary first = aggregates.summary();
+        PayrollSummary second = aggregates.summary();
+        repository.save(new Person(2L, "Bruno", LocalDate.of(1990, 1, 1), LocalDate.of(2015, 1, 1)));
+        PayrollSummary third = aggregates.summary();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(2, third.headcount());
+    }
+
+    @Test
+    void testSummary_ConcurrentWriters_ShouldMatchFullScan() {
+        // Arrange
+        LocalDate firstAdmission = LocalDate.of(2000, 1, 1);
+
+        // Act
+        IntStream.range(0, 4_000).parallel().forEach(i -> {
+            aggregates.summary();
+            repository.save(new Person(i % 1_000 + 1L, "Pessoa " + i, LocalDate.of(1990, 1, 1),
+                    firstAdmission.plusDays(i * 37L % 8_000)));
+        });
+        PayrollSummary summary = aggregates.summary();
+
+        // Assert
+        assertEquals(1_000, summary.headcount());
+        assertEquals(fullScanTotal(), summary.totalPayroll());
+    }
+
+    @Test
+    void testAdd_InitialLoad_ShouldCountExistingPeople() {
+        // Arrange
+        PayrollAggregates loaded = new PayrollAggregates(businessDate);
+        repository.save(new Person(1L, "Ana", LocalDate.of(1990, 1, 1), LocalDate.of(2015, 1, 1)));
+
+        // Act
+        repository.streamAll().forEach(loaded::add);
+
+        // Assert
+        assertEquals(aggregates.summary().totalPayroll(), loaded.summary().totalPayroll());
+    }
+
+    @Test
+    void testSimulate_ShouldMatchPerPersonCalculationAndCompareWithCurrent() {
+        // Arrange
+        for (long id = 1; id <= 300; id++) {
+            repository.save(new Person(id, "Pessoa " + id, LocalDate.of(1950, 1, 1),
+                    LocalDate.of(1970, 1, 1).plusDays(id * 61)));
+        }
+        SalaryPolicy raise = new SalaryPolicy(new BigDecimal("1700.00"), new BigDecimal("1412.00"),
+                new BigDecimal("0.15"), new BigDecimal("650.00"));
+
+        // Act
+        PayrollSimulation simulation = aggregates.simulate(List.of(SalaryPolicy.CURRENT, raise));
+
+        // Assert
+        assertEquals(300, simulation.headcount());
+        assertEquals(aggregates.summary().totalPayroll(), simulation.current().totalPayroll());
+        assertEquals(new BigDecimal("0.00"), simulation.current().difference());
+        assertEquals(simulation.current(), simulation.candidates().get(0));
+        PayrollSimulation.PolicyResult result = simulation.candidates().get(1);
+        double[] salaries = SalaryService.fullSalaryTable(raise, 100);
+        BigDecimal expected = repository.streamAll()
+                .map(person -> SalaryService.calculateYearsWorked(person.admissionDate(), businessDate.today()))
+                .map(years -> BigDecimal.valueOf(salaries[years]).setScale(2, RoundingMode.HALF_EVEN))
+                .reduce(BigDecimal.ZERO.setScale(2), BigDecimal::add);
+        assertEquals(expected, result.totalPayroll());
+        assertEquals(expected.subtract(simulation.current().totalPayroll()), result.difference());
+        assertEquals(expected.divide(new BigDecimal("1412.00"), 2, RoundingMode.HALF_EVEN), result.totalInMinimumWages());
+    }
+
+    @Test
+    void testSimulate_ManyPolicies_ShouldKeepRequestOrder() {
+        // Arrange
+        repository.save(new Person(1L, "Ana", LocalDate.of(1990, 1, 1), LocalDate.of(2015, 1, 1)));
+        List<SalaryPolicy> policies = IntStream.range(0, PayrollAggregates.MAX_SIMULATION_POLICIES)
+                .mapToObj(i -> new SalaryPolicy(BigDecimal.valueOf(1000 + i), new BigDecimal("1302.00"),
+                        new BigDecimal("0.18"), new BigDecimal("500.00")))
+                .toList();
+
+        // Act
+        PayrollSimulation simulation = aggregates.simulate(policies);
+
+        // Assert
+        for (int i = 1; i < policies.size(); i++) {
+            assertSame(policies.get(i), simulation.candidates().get(i).policy());
+            assertTrue(simulation.candidates().get(i).totalPayroll()
+                    .compareTo(simulation.candidates().get(i - 1).totalPayroll()) > 0);
+        }
+    }
+
+    @Test
+    void testSimulate_InvalidPolicyCount_ShouldThrow() {
+        // Arrange
+        List<SalaryPolicy> tooMany = Collections.nCopies(PayrollAggregates.MAX_SIMULATION_POLICIES + 1,
+                SalaryPolicy.CURRENT);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> aggregates.simulate(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> aggregates.simulate(tooMany));
+    }
+
+    private BigDecimal fullScanTotal() {
+        return repository.streamAll()
+                .map(person -> BigDecimal.valueOf(Math.round(
+                        salaryService.calculateSalary(person.admissionDate(), "full") * 100), 2))
+                .reduce(BigDecimal.ZERO.setScale(2), BigDecimal::add);
+    }
+}
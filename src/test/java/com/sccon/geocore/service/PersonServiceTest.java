@@ -0,0 +1,381 @@
+package com.sccon.geocore.service;
+
+import com.sccon.geocore.model.Person;
+import com.sccon.geocore.repository.DateField;
+import com.sccon.geocore.repository.DateKey;
+import com.sccon.geocore.repository.DateRange;
+import com.sccon.geocore.repository.DuplicateIdException;
+import com.sccon.geocore.repository.InMemoryPersonRepository;
+import com.sccon.geocore.repository.cdc.StoreVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersonServiceTest {
+
+    private PersonService personService;
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(
+                LocalDate.of(2023, 2, 1).atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault());
+        personService = new PersonService(new InMemoryPersonRepository(), clock);
+    }
+
+    @Test
+    void testUpdate_MatchingVersion_ShouldApplyUpdate() {
+        // Arrange
+        Person created = personService.create("Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+
+        // Act
+        Person updated = personService.update(created.id(), "Ana Lima", created.birthDate(),
+                created.admissionDate(), Set.of(created.contentVersion()));
+
+        // Assert
+        assertEquals("Ana Lima", updated.name());
+        assertNotEquals(created.contentVersion(), updated.contentVersion());
+    }
+
+    @Test
+    void testUpdatePartial_StaleVersion_ShouldRejectAndKeepPerson() {
+        // Arrange
+        Person created = personService.create("Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        personService.updatePartial(created.id(), Optional.of("Ana Lima"), Optional.empty(), Optional.empty());
+
+        // Act & Assert
+        VersionConflictException ex = assertThrows(VersionConflictException.class,
+                () -> personService.updatePartial(created.id(), Optional.of("Ana Costa"), Optional.empty(),
+                        Optional.empty(), Set.of(created.contentVersion())));
+        assertEquals("Ana Lima", personService.get(created.id()).name());
+        assertEquals(personService.get(created.id()).contentVersion(), ex.getCurrentVersion());
+    }
+
+    @Test
+    void testStoreVersion_ShouldAdvanceOnEachWrite() {
+        // Arrange
+        StoreVersion initial = personService.storeVersion();
+
+        // Act
+        Person created = personService.create("Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        StoreVersion afterCreate = personService.storeVersion();
+        personService.delete(created.id());
+
+        // Assert
+        assertEquals(initial.sequence() + 1, afterCreate.sequence());
+        assertEquals(initial.sequence() + 2, personService.storeVersion().sequence());
+        assertEquals(initial.epoch(), afterCreate.epoch());
+    }
+
+    @Test
+    void testCreateWithId_ConcurrentSameId_ShouldAcceptOnlyOne() throws InterruptedException {
+        // Arrange
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String name = "Pessoa " + i;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    personService.createWithId(100L, name, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+                    created.incrementAndGet();
+                } catch (DuplicateIdException | InterruptedException ignored) {
+                    // outra criação ficou com o ID
+                }
+            }));
+        }
+
+        // Act
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        Person next = personService.create("Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+
+        // Assert
+        assertEquals(1, created.get());
+        assertTrue(next.id() > 100L);
+    }
+
+    @Test
+    void testCreateWithId_ExistingId_ShouldThrowAndKeepPerson() {
+        // Arrange
+        Person existing = personService.create("Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+
+        // Act & Assert
+        assertThrows(DuplicateIdException.class, () -> personService.createWithId(existing.id(), "Bruno Lima",
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1)));
+        assertEquals(existing, personService.get(existing.id()));
+    }
+
+    @Test
+    void testImport_IdTakenBeforeFlush_ShouldRejectRowOrRenumberAllocatedId() {
+        // Arrange
+        PersonImport personImport = personService.startImport();
+        personImport.add(1, 50L, "Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        personImport.add(2, null, "Bruno Lima", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        personService.createWithId(50L, "Carla Dias", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        personService.createWithId(51L, "Daniel Reis", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+
+        // Act
+        ImportReport report = personImport.finish();
+
+        // Assert
+        assertEquals(1, report.imported());
+        assertEquals(List.of(new ImportError(1, "Pessoa com ID 50 já existe no sistema")), report.errors());
+        assertEquals("Carla Dias", personService.get(50L).name());
+        assertEquals("Daniel Reis", personService.get(51L).name());
+        assertEquals("Bruno Lima", personService.get(52L).name());
+    }
+
+    @Test
+    void testFindAllById_ShouldKeepRequestOrderAndReportMissing() {
+        // Arrange
+        Person ana = personService.create("Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        Person bruno = personService.create("Bruno Lima", LocalDate.of(1985, 5, 5), LocalDate.of(2015, 3, 1));
+
+        // Act
+        BatchLookup lookup = personService.findAllById(List.of(bruno.id(), 9_999L, ana.id(), 9_998L, bruno.id()));
+
+        // Assert
+        assertEquals(List.of(bruno, ana, bruno), lookup.found());
+        assertEquals(List.of(9_999L, 9_998L), lookup.missing());
+    }
+
+    @Test
+    void testFindAllById_TooManyIds_ShouldThrow() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, PersonService.MAX_BATCH_GET_SIZE + 1).boxed().toList();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> personService.findAllById(ids));
+    }
+
+    @Test
+    void testComputeMetrics_ByIds_ShouldReturnAlignedColumns() {
+        // Arrange
+        Person ana = personService.create("Ana Souza", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 1, 1));
+        Person bruno = personService.create("Bruno Lima", LocalDate.of(1990, 2, 1), LocalDate.of(2022, 2, 2));
+
+        // Act
+        BatchMetrics metrics = personService.computeMetrics(List.of(bruno.id(), 9_999L, ana.id()),
+                DateRange.UNBOUNDED, DateRange.UNBOUNDED, null, 0, List.of("YEARS", "days"), List.of("full"));
+
+        // Assert
+        assertEquals(LocalDate.of(2023, 2, 1), metrics.date());
+        assertArrayEquals(new long[]{bruno.id(), ana.id()}, metrics.ids());
+        assertEquals(List.of("years", "days"), List.copyOf(metrics.ages().keySet()));
+        assertArrayEquals(new long[]{33, 22}, metrics.ages().get("years"));
+        assertArrayEquals(new long[]{12_053, 8_336}, metrics.ages().get("days"));
+        assertArrayEquals(new double[]{1558.00, 4346.05}, metrics.salaries().get("full"), 0.001);
+        assertEquals(List.of(9_999L), metrics.missing());
+    }
+
+    @Test
+    void testComputeMetrics_LargeFilteredBatch_ShouldMatchSingleCalculations() {
+        // Arrange
+        InMemoryPersonRepository repository = new InMemoryPersonRepository();
+        for (int i = 0; i < PersonService.PARALLEL_METRICS_THRESHOLD + 100; i++) {
+            repository.save(new Person(1_000L + i, "Pessoa " + i,
+                    LocalDate.of(1960, 1, 1).plusDays(i), LocalDate.of(1990, 1, 1).plusDays(i)));
+        }
+        PersonService service = new PersonService(repository, clock);
+        DateRange admitted = new DateRange(LocalDate.of(1990, 1, 1), null);
+        SalaryService salaryService = new SalaryService();
+        AgeService ageService = new AgeService(clock);
+
+        // Act
+        BatchMetrics metrics = service.computeMetrics(null, admitted, DateRange.UNBOUNDED,
+                null, PersonService.MAX_METRICS_PAGE_SIZE, List.of("years"), List.of("min"));
+
+        // Assert
+        assertEquals(PersonService.PARALLEL_METRICS_THRESHOLD + 100, metrics.ids().length);
+        assertNull(metrics.next());
+        for (int row = 0; row < metrics.ids().length; row++) {
+            Person person = repository.findById(metrics.ids()[row]).orElseThrow();
+            assertEquals(ageService.diff(person.birthDate()).years(), metrics.ages().get("years")[row]);
+            assertEquals(salaryService.calculateSalary(person.admissionDate(), "min", metrics.date()),
+                    metrics.salaries().get("min")[row]);
+        }
+    }
+
+    @Test
+    void testComputeMetrics_InvalidOrMissingOutput_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> personService.computeMetrics(List.of(1L),
+                DateRange.UNBOUNDED, DateRange.UNBOUNDED, null, 0, List.of("weeks"), null));
+        assertThrows(IllegalArgumentException.class, () -> personService.computeMetrics(List.of(1L),
+                DateRange.UNBOUNDED, DateRange.UNBOUNDED, null, 0, null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> personService.computeMetrics(null,
+                DateRange.UNBOUNDED, DateRange.UNBOUNDED, null, PersonService.MAX_METRICS_PAGE_SIZE + 1,
+                List.of("years"), null));
+    }
+
+    @Test
+    void testComputeMetrics_WholeStore_ShouldPageByBirthDate() {
+        // Arrange
+        InMemoryPersonRepository repository = new InMemoryPersonRepository();
+        Person ana = repository.save(new Person(1_000L, "Ana Souza", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 1, 1)));
+        Person bruno = repository.save(new Person(1_001L, "Bruno Lima", LocalDate.of(1990, 2, 1), LocalDate.of(2022, 2, 2)));
+        Person carla = repository.save(new Person(1_002L, "Carla Dias", LocalDate.of(1995, 7, 3), LocalDate.of(2021, 3, 4)));
+        PersonService service = new PersonService(repository, clock);
+
+        // Act
+        BatchMetrics first = service.computeMetrics(null, DateRange.UNBOUNDED, DateRange.UNBOUNDED,
+                null, 2, List.of("years"), null);
+        BatchMetrics second = service.computeMetrics(null, DateRange.UNBOUNDED, DateRange.UNBOUNDED,
+                first.next(), 2, List.of("years"), null);
+
+        // Assert
+        assertArrayEquals(new long[]{bruno.id(), carla.id()}, first.ids());
+        assertEquals(DateKey.of(DateField.BIRTH_DATE, carla), first.next());
+        assertArrayEquals(new long[]{ana.id()}, second.ids());
+        assertNull(second.next());
+    }
+
+    @Test
+    void testProjectSalary_ShouldProjectOnFutureAnniversaries() {
+        // Arrange
+        Person created = personService.create("Ana Souza", LocalDate.of(1990, 1, 1), LocalDate.of(2021, 2, 1));
+        SalaryService salaryService = new SalaryService(new BusinessDate(clock));
+
+        // Act
+        SalaryProjection projection = personService.projectSalary(created.id(), "FULL", 3);
+
+        // Assert
+        assertEquals(List.of(LocalDate.of(2024, 2, 1), LocalDate.of(2025, 2, 1), LocalDate.of(2026, 2, 1)),
+                projection.dates());
+        assertEquals(salaryService.salaryForYearsOfService(3), projection.salaries()[0]);
+        assertEquals(salaryService.salaryForYearsOfService(5), projection.salaries()[2]);
+    }
+
+    @Test
+    void testSalaryProjector_InvalidYearsOrOutput_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> personService.salaryProjector("full", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> personService.salaryProjector("full", PersonService.MAX_PROJECTION_YEARS + 1));
+        assertThrows(IllegalArgumentException.class, () -> personService.salaryProjector("gross", 10));
+    }
+
+    @Test
+    void testAgeDistribution_ShouldCountPeopleByAgeBand() {
+        // Arrange
+        personService.create("Ana Souza", LocalDate.of(2003, 2, 1), LocalDate.of(2020, 1, 1));
+        personService.create("Bruno Lima", LocalDate.of(2003, 2, 2), LocalDate.of(2020, 1, 1));
+        personService.create("Carla Dias", LocalDate.of(1960, 2, 29), LocalDate.of(1990, 1, 1));
+        AgeService ageService = new AgeService(clock);
+
+        // Act
+        AgeDistribution distribution = personService.ageDistribution(10);
+
+        // Assert
+        assertEquals(LocalDate.of(2023, 2, 1), distribution.date());
+        assertEquals(personService.findAll().size(), distribution.headcount());
+        for (AgeDistribution.AgeBand band : distribution.bands()) {
+            long expected = personService.findAll().stream()
+                    .map(person -> ageService.diff(person.birthDate()).years())
+                    .filter(years -> years >= band.minYears() && years <= band.maxYears())
+                    .count();
+            assertEquals(expected, band.headcount(), () -> "faixa " + band.minYears());
+        }
+        assertEquals(1, distribution.bands().get(1).headcount());
+        assertEquals(20, distribution.bands().get(2).minYears());
+        assertTrue(distribution.bands().get(2).headcount() >= 1);
+        assertTrue(distribution.bands().get(distribution.bands().size() - 1).headcount() > 0);
+    }
+
+    @Test
+    void testRank_ShouldReadHighestAndLowestValuesFromDateOrder() {
+        // Arrange
+        Person veteran = personService.create("Ana Souza", LocalDate.of(1940, 1, 1), LocalDate.of(1960, 1, 1));
+        Person senior = personService.create("Bruno Lima", LocalDate.of(1941, 1, 1), LocalDate.of(1961, 1, 1));
+        Person newcomer = personService.create("Carla Dias", LocalDate.of(2004, 1, 1), LocalDate.of(2023, 2, 1));
+
+        // Act
+        Ranking topSalaries = personService.rank("salary", "top", 2);
+        Ranking newest = personService.rank("TENURE", "bottom", 1);
+        Ranking oldest = personService.rank("age", "top", 1);
+
+        // Assert
+        assertEquals(LocalDate.of(2023, 2, 1), topSalaries.date());
+        assertEquals(List.of(veteran.id(), senior.id()),
+                topSalaries.people().stream().map(ranked -> ranked.person().id()).toList());
+        assertEquals(63, topSalaries.people().get(0).yearsOfService());
+        assertEquals(personService.calculateSalary(veteran.id(), "full"), topSalaries.people().get(0).salary());
+        assertTrue(topSalaries.people().get(0).salary() > topSalaries.people().get(1).salary());
+        assertEquals(newcomer.id(), newest.people().get(0).person().id());
+        assertEquals(0, newest.people().get(0).yearsOfService());
+        assertEquals(veteran.id(), oldest.people().get(0).person().id());
+        assertEquals(83, oldest.people().get(0).age());
+    }
+
+    @Test
+    void testRank_InvalidParameters_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> personService.rank("height", "top", 10));
+        assertThrows(IllegalArgumentException.class, () -> personService.rank("salary", "middle", 10));
+        assertThrows(IllegalArgumentException.class, () -> personService.rank("salary", "top", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> personService.rank("salary", "top", PersonService.MAX_RANKING_SIZE + 1));
+    }
+
+    @Test
+    void testAgeDistribution_FutureBirthDate_ShouldCountInFirstBand() {
+        // Arrange
+        InMemoryPersonRepository repository = new InMemoryPersonRepository();
+        repository.save(new Person(1L, "Ana Souza", LocalDate.of(2023, 2, 2), LocalDate.of(2023, 2, 2)));
+        repository.save(new Person(2L, "Bruno Lima", LocalDate.of(2010, 1, 1), LocalDate.of(2020, 1, 1)));
+        PersonService service = new PersonService(repository, clock);
+
+        // Act
+        AgeDistribution distribution = service.ageDistribution(10);
+
+        // Assert
+        assertEquals(2, distribution.headcount());
+        assertEquals(1, distribution.bands().get(0).headcount());
+        assertEquals(1, distribution.bands().get(1).headcount());
+    }
+
+    @Test
+    void testAgeDistribution_InvalidBand_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> personService.ageDistribution(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> personService.ageDistribution(PersonService.MAX_AGE_BAND_YEARS + 1));
+    }
+
+    @Test
+    void testCalculateAge_ShouldUseClockAndRefreshAfterUpdate() {
+        // Arrange
+        Person created = personService.create("Ana Souza", LocalDate.of(2000, 4, 6), LocalDate.of(2020, 1, 1));
+        long days = personService.calculateAge(created.id(), "days");
+
+        // Act
+        personService.updatePartial(created.id(), Optional.empty(), Optional.of(LocalDate.of(2000, 4, 5)),
+                Optional.empty());
+
+        // Assert
+        assertEquals(ChronoUnit.DAYS.between(LocalDate.of(2000, 4, 6), LocalDate.of(2023, 2, 1)), days);
+        assertEquals(days + 1, personService.calculateAge(created.id(), "DAYS"));
+        assertEquals(22, personService.calculateAge(created.id(), "years"));
+        assertThrows(IllegalArgumentException.class, () -> personService.calculateAge(created.id(), "weeks"));
+    }
+}
@@ -3,7 +3,13 @@ package com.sccon.geocore.service;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -193,4 +199,124 @@ class SalaryServiceTest {
         assertTrue(salary <= 6000.0, 
             "Salário deve ser no máximo R$ 6000 para ~3 anos. Valor atual: " + salary);
     }
+
+    @Test
+    void testCalculateSalary_PrecomputedTable_ShouldMatchYearByYearCalculation() {
+        // Arrange
+        LocalDate today = LocalDate.of(2023, 2, 1);
+
+        for (int years = 0; years <= SalaryService.TABLE_YEARS + 5; years++) {
+            double expected = 1558.00;
+            for (int year = 0; year < years; year++) {
+                expected = expected * (1 + 0.18) + 500.00;
+            }
+            LocalDate admissionDate = today.minusYears(years);
+
+            // Act
+            double full = salaryService.calculateSalary(admissionDate, "full", today);
+            double min = salaryService.calculateSalary(admissionDate, "MIN", today);
+
+            // Assert
+            assertEquals(Math.ceil(expected * 100) / 100, full, 0.0, "full com " + years + " anos");
+            assertEquals(Math.ceil(expected / 1302.00 * 100) / 100, min, 0.0, "min com " + years + " anos");
+        }
+    }
+
+    @Test
+    void testCalculateYearsWorked_ShouldMatchPeriodBetween() {
+        // Arrange
+        Random random = new Random(42);
+        LocalDate today = LocalDate.of(2024, 2, 29);
+
+        for (int i = 0; i < 10_000; i++) {
+            LocalDate admissionDate = today.minusDays(random.nextInt(40_000));
+
+            // Act
+            int years = SalaryService.calculateYearsWorked(admissionDate, today);
+
+            // Assert
+            assertEquals(Period.between(admissionDate, today).getYears(), years, admissionDate.toString());
+        }
+        assertEquals(0, SalaryService.calculateYearsWorked(LocalDate.of(2020, 2, 29), LocalDate.of(2021, 2, 28)));
+    }
+
+    @Test
+    void testCalculateExactSalary_ShouldUseDecimalArithmetic() {
+        // Arrange
+        LocalDate today = LocalDate.of(2023, 2, 1);
+
+        // Act
+        BigDecimal twoYears = salaryService.calculateExactSalary(today.minusYears(2), "full", today);
+        BigDecimal oneYearInMin = salaryService.calculateExactSalary(today.minusYears(1), "min", today);
+        BigDecimal longCareer = salaryService.calculateExactSalary(today.minusYears(200), "full", today);
+
+        // Assert
+        // 1558 * 1,18 + 500 = 2338,44; 2338,44 * 1,18 + 500 = 3259,3592
+        assertEquals(new BigDecimal("3259.36"), twoYears);
+        // 2338,44 / 1302 = 1,7960...
+        assertEquals(new BigDecimal("1.80"), oneYearInMin);
+        assertEquals(2, longCareer.scale());
+    }
+
+    @Test
+    void testFullSalaryTable_CurrentPolicy_ShouldMatchCalculateSalary() {
+        // Act
+        double[] table = SalaryService.fullSalaryTable(SalaryPolicy.CURRENT, 200);
+
+        // Assert
+        for (int years = 0; years <= 200; years++) {
+            assertEquals(salaryService.salaryForYearsOfService(years), table[years], "anos: " + years);
+        }
+    }
+
+    @Test
+    void testFullSalaryTable_OtherPolicy_ShouldApplyItsIncreases() {
+        // Arrange
+        SalaryPolicy policy = new SalaryPolicy(new BigDecimal("2000.00"), new BigDecimal("1412.00"),
+                new BigDecimal("0.10"), new BigDecimal("100.00"));
+
+        // Act
+        double[] table = SalaryService.fullSalaryTable(policy, 2);
+
+        // Assert
+        // 2000 * 1,10 + 100 = 2300; 2300 * 1,10 + 100 = 2630
+        assertArrayEquals(new double[] {2000.00, 2300.00, 2630.00}, table, 0.001);
+    }
+
+    @Test
+    void testSalaryPolicy_InvalidValues_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new SalaryPolicy(BigDecimal.ZERO,
+                new BigDecimal("1302.00"), new BigDecimal("0.18"), new BigDecimal("500.00")));
+        assertThrows(IllegalArgumentException.class, () -> new SalaryPolicy(new BigDecimal("1558.00"),
+                new BigDecimal("1302.00"), new BigDecimal("-0.01"), new BigDecimal("500.00")));
+    }
+
+    @Test
+    void testProjectSalary_ShouldMatchCalculateSalaryOnEachDate() {
+        // Arrange
+        LocalDate today = LocalDate.of(2024, 2, 29);
+        List<LocalDate> dates = IntStream.rangeClosed(1, 30).mapToObj(today::plusYears).toList();
+        Random random = new Random(7);
+        List<LocalDate> admissions = new ArrayList<>(List.of(LocalDate.of(2020, 2, 29), LocalDate.of(1870, 3, 1),
+                today, LocalDate.of(2024, 3, 1)));
+        for (int i = 0; i < 500; i++) {
+            admissions.add(today.minusDays(random.nextInt(60_000)));
+        }
+
+        for (LocalDate admissionDate : admissions) {
+            for (String output : List.of("full", "min")) {
+                double[] salaries = new double[dates.size()];
+
+                // Act
+                salaryService.projectSalary(admissionDate, output, today, dates, salaries);
+
+                // Assert
+                for (int i = 0; i < dates.size(); i++) {
+                    assertEquals(salaryService.calculateSalary(admissionDate, output, dates.get(i)), salaries[i],
+                            admissionDate + " em " + dates.get(i));
+                }
+            }
+        }
+    }
 }